@@ -0,0 +1,129 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.transform.Transform;
+import org.girod.javafx.svgimage.Viewport;
+import org.girod.javafx.svgimage.xml.builders.SVGStyleBuilder;
+import org.girod.javafx.svgimage.xml.parsers.LengthParser;
+import org.girod.javafx.svgimage.xml.parsers.TransformUtils;
+import org.girod.javafx.svgimage.xml.specs.Styles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the parsing of the attributes values: the lengths, the transforms, and the CSS content of the <code>style</code> elements.
+ *
+ * @since 1.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributesBenchmark {
+   private static final String TRANSFORMS = "translate(10.5,20) rotate(45 50 50) scale(2,1.5) skewX(10) matrix(1 0 0 1 5 5)";
+   // the style content as it is written by the drawing tools
+   private static final String STYLE = ".st0{fill:#FF0000;stroke:#000000;stroke-width:2px;}\n"
+      + ".st1{fill:none;stroke:#1A1A1A;stroke-miterlimit:10;stroke-dasharray:4,2;}\n"
+      + "rect{opacity:0.5;}\n"
+      + ".title{font-family:Arial;font-size:12pt;fill:blue;}\n"
+      + ".st2, .st3{fill:#00FF00;fill-opacity:0.8;}\n";
+   private Viewport viewport;
+
+   @Setup
+   public void setup() {
+      viewport = new Viewport(800, 600);
+   }
+
+   /**
+    * Parse a length without unit.
+    *
+    * @return the length
+    */
+   @Benchmark
+   public double parseLength() {
+      return LengthParser.parseLength("125.75", true, viewport);
+   }
+
+   /**
+    * Parse a length with a unit.
+    *
+    * @return the length
+    */
+   @Benchmark
+   public double parseLengthWithUnit() {
+      return LengthParser.parseLength("12.5mm", true, viewport);
+   }
+
+   /**
+    * Parse a percentage length.
+    *
+    * @return the length
+    */
+   @Benchmark
+   public double parsePercentLength() {
+      return LengthParser.parseLength("50%", true, viewport);
+   }
+
+   /**
+    * Parse a list of transforms.
+    *
+    * @return the transforms
+    */
+   @Benchmark
+   public List<Transform> extractTransforms() {
+      return TransformUtils.extractTransforms(TRANSFORMS, viewport);
+   }
+
+   /**
+    * Parse the content of a <code>style</code> element.
+    *
+    * @return the styles
+    */
+   @Benchmark
+   public Styles parseStyle() {
+      return SVGStyleBuilder.parseStyle(new Styles(), STYLE, viewport);
+   }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Gives access to the SVG files of the sample corpus of the repository. The directory of the corpus can be set with the
+ * <code>fxsvgimage.corpus</code> System property, and is by default the <code>samples/complex</code> directory of the repository,
+ * relative to the <code>benchmarks</code> directory.
+ *
+ * @since 1.6
+ */
+class Corpus {
+   private static final String CORPUS_PROPERTY = "fxsvgimage.corpus";
+   private static final String DEFAULT_CORPUS = "../samples/complex";
+
+   private Corpus() {
+   }
+
+   /**
+    * Return a file of the corpus.
+    *
+    * @param name the name of the file
+    * @return the file
+    * @throws IOException if the file does not exist
+    */
+   static File getFile(String name) throws IOException {
+      File dir = new File(System.getProperty(CORPUS_PROPERTY, DEFAULT_CORPUS));
+      File file = new File(dir, name);
+      if (!file.exists()) {
+         throw new IOException("The " + file.getAbsolutePath() + " file does not exist, set the " + CORPUS_PROPERTY
+            + " System property to the samples directory");
+      }
+      return file;
+   }
+
+   /**
+    * Return the content of a file of the corpus.
+    *
+    * @param name the name of the file
+    * @return the content
+    * @throws IOException if the file could not be read
+    */
+   static String getContent(String name) throws IOException {
+      File file = getFile(name);
+      return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+   }
+}
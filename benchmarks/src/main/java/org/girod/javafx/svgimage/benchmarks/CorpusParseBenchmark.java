@@ -0,0 +1,104 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.girod.javafx.svgimage.GlobalConfig;
+import org.girod.javafx.svgimage.SVGCompiler;
+import org.girod.javafx.svgimage.SVGDocument;
+import org.girod.javafx.svgimage.SVGLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the XML parsing of the files of the sample corpus, without the build of the JavaFX Nodes tree, and the reading of
+ * the same documents from their compiled form.
+ *
+ * @since 1.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CorpusParseBenchmark {
+   @Param({"Ghostscript_Tiger.svg", "Bmw_Z_Top_View_clip_art.svg", "Gallium3D_example_matrix.svg", "Hammer.svg", "bacon.svg",
+      "cowboynofilter.svg"})
+   public String file;
+   private String content;
+   private ByteBuffer compiled;
+
+   @Setup
+   public void setup() throws Exception {
+      content = Corpus.getContent(file);
+      // the documents cache would skip the parsing
+      GlobalConfig.getInstance().setDocumentCache(null);
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      SVGCompiler.compile(SVGLoader.parse(content), stream);
+      compiled = ByteBuffer.wrap(stream.toByteArray());
+   }
+
+   /**
+    * Parse the SVG content.
+    *
+    * @return the parsed document
+    */
+   @Benchmark
+   public SVGDocument parse() {
+      return SVGLoader.parse(content);
+   }
+
+   /**
+    * Read the same document from its compiled form.
+    *
+    * @return the document
+    * @throws IOException if the compiled form could not be read
+    */
+   @Benchmark
+   public SVGDocument readCompiled() throws IOException {
+      return SVGCompiler.read(compiled);
+   }
+}
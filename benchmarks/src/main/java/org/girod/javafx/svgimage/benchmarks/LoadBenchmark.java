@@ -0,0 +1,111 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.benchmarks;
+
+import java.io.File;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.image.Image;
+import org.girod.javafx.svgimage.GlobalConfig;
+import org.girod.javafx.svgimage.LoaderParameters;
+import org.girod.javafx.svgimage.SVGImage;
+import org.girod.javafx.svgimage.SVGLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the loading of the files of the sample corpus from end to end, from the parsing to the snapshot of the image.
+ * <p>
+ * This benchmark needs the JavaFX Platform. On a machine without display, it can be run with the Monocle headless platform, by
+ * adding the Monocle jar to the classpath and setting the <code>-Dglass.platform=Monocle -Dmonocle.platform=Headless
+ * -Dprism.order=sw</code> JVM arguments.</p>
+ *
+ * @since 1.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+   @Param({"Ghostscript_Tiger.svg", "Bmw_Z_Top_View_clip_art.svg", "Hammer.svg"})
+   public String file;
+   @Param({"false", "true"})
+   public boolean buildOnCallingThread;
+   private URL url;
+
+   @Setup
+   public void setup() throws Exception {
+      File svgFile = Corpus.getFile(file);
+      url = svgFile.toURI().toURL();
+      // the documents cache would skip the parsing
+      GlobalConfig.getInstance().setDocumentCache(null);
+   }
+
+   private SVGImage loadImpl() {
+      LoaderParameters params = new LoaderParameters();
+      params.buildOnCallingThread = buildOnCallingThread;
+      return SVGLoader.load(url, params);
+   }
+
+   /**
+    * Load the SVG file.
+    *
+    * @return the image
+    */
+   @Benchmark
+   public SVGImage load() {
+      return loadImpl();
+   }
+
+   /**
+    * Load the SVG file and create a snapshot of the image.
+    *
+    * @return the snapshot
+    */
+   @Benchmark
+   public Image loadAndSnapshot() {
+      SVGImage image = loadImpl();
+      return image.toImage();
+   }
+}
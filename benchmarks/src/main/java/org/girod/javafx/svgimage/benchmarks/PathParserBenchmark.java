@@ -0,0 +1,138 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.girod.javafx.svgimage.SVGPathCache;
+import org.girod.javafx.svgimage.Viewport;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the parsing of long path contents by the {@link SVGPathParser}.
+ * <p>
+ * The path contains a mix of absolute and relative commands, with the implicit commands, exponents and compact number
+ * separators which are common in the paths generated by drawing tools.</p>
+ *
+ * @since 1.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathParserBenchmark {
+   @Param({"100", "10000"})
+   public int segments;
+   private String content;
+   private Viewport viewport;
+   private SVGPathCache cache;
+
+   @Setup
+   public void setup() {
+      viewport = new Viewport(800, 600);
+      StringBuilder buf = new StringBuilder();
+      buf.append("M 10.5,20.25");
+      for (int i = 0; i < segments; i++) {
+         switch (i % 6) {
+            case 0:
+               buf.append(" L ").append(i % 800).append(',').append(i % 600);
+               break;
+            case 1:
+               buf.append(" c1.5-2.25 3.75,4 5e-1.5");
+               break;
+            case 2:
+               buf.append(" h12.5v-3.25");
+               break;
+            case 3:
+               buf.append(" Q").append(i % 400).append(' ').append(i % 300).append(' ').append(i % 500).append(' ').append(i % 200);
+               break;
+            case 4:
+               buf.append(" l.5.5.25-.25");
+               break;
+            default:
+               buf.append(" a5 5 0 0 1 10 10");
+               break;
+         }
+      }
+      buf.append(" Z");
+      content = buf.toString();
+      cache = new SVGPathCache();
+   }
+
+   /**
+    * Parse the path content.
+    *
+    * @return the resolved content
+    */
+   @Benchmark
+   public String parse() {
+      SVGPathParser parser = new SVGPathParser();
+      parser.parse(content, viewport);
+      return parser.getContent();
+   }
+
+   /**
+    * Get the parser of the path content from a path cache, as for a path which appears several times.
+    *
+    * @return the resolved content
+    */
+   @Benchmark
+   public String parseCached() {
+      SVGPathParser parser = cache.getParser(content, viewport);
+      return parser.getContent();
+   }
+
+   /**
+    * Parse the path content and simplify it for a tolerance of one pixel, as for a large geometry displayed at a small scale.
+    *
+    * @return the simplified content
+    */
+   @Benchmark
+   public String parseSimplified() {
+      SVGPathParser parser = new SVGPathParser();
+      parser.parse(content, viewport);
+      return parser.getContent(1);
+   }
+}
@@ -0,0 +1,137 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.SAXParser;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.SAXParserProvider;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLRoot;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLTreeHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the per-document overhead of the XML parsing, by comparing the creation of a new SAXParserFactory for each document
+ * (which was the behavior of the library up to version 1.5) with the reuse of the per-thread parsers.
+ * <p>
+ * The number of elements in the document can be set with the <code>elements</code> parameter. The overhead of the creation of the
+ * factory is mostly visible on small documents such as icons.</p>
+ *
+ * @since 1.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SAXParserBenchmark {
+   @Param({"1", "100", "10000"})
+   public int elements;
+   private byte[] content;
+
+   @Setup
+   public void setup() {
+      StringBuilder buf = new StringBuilder();
+      buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+      buf.append("<!DOCTYPE svg PUBLIC \"-//W3C//DTD SVG 1.1//EN\" \"http://www.w3.org/Graphics/SVG/1.1/DTD/svg11.dtd\">\n");
+      buf.append("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"100\" height=\"100\">\n");
+      for (int i = 0; i < elements; i++) {
+         buf.append("<rect x=\"").append(i % 90).append("\" y=\"").append(i % 80);
+         buf.append("\" width=\"10\" height=\"20\" style=\"fill:blue;stroke:black\"/>\n");
+      }
+      buf.append("</svg>");
+      content = buf.toString().getBytes(StandardCharsets.UTF_8);
+   }
+
+   private XMLRoot parse(SAXParser parser) throws Exception {
+      XMLTreeHandler handler = new XMLTreeHandler(null);
+      parser.parse(new ByteArrayInputStream(content), handler);
+      return handler.getRoot();
+   }
+
+   /**
+    * Create a new factory and parser for each document.
+    *
+    * @return the root of the parsed document
+    * @throws Exception if the document could not be parsed
+    */
+   @Benchmark
+   public XMLRoot newFactoryPerDocument() throws Exception {
+      SAXParser parser = SAXParserProvider.createFactory(false).newSAXParser();
+      return parse(parser);
+   }
+
+   /**
+    * Reuse the per-thread parser.
+    *
+    * @return the root of the parsed document
+    * @throws Exception if the document could not be parsed
+    */
+   @Benchmark
+   public XMLRoot reusedParser() throws Exception {
+      SAXParser parser = SAXParserProvider.getParser(false);
+      try {
+         return parse(parser);
+      } finally {
+         SAXParserProvider.release(parser);
+      }
+   }
+
+   /**
+    * Reuse the per-thread parser for trusted inputs.
+    *
+    * @return the root of the parsed document
+    * @throws Exception if the document could not be parsed
+    */
+   @Benchmark
+   public XMLRoot reusedTrustedParser() throws Exception {
+      SAXParser parser = SAXParserProvider.getParser(true);
+      try {
+         return parse(parser);
+      } finally {
+         SAXParserProvider.release(parser);
+      }
+   }
+}
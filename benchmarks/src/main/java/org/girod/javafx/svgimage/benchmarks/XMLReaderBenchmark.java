@@ -0,0 +1,120 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.SAXTreeReader;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.StAXTreeReader;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLRoot;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLTreeHandler;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLTreeReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.InputSource;
+
+/**
+ * Compare the SAX and StAX readers of the XML content on the files of the sample corpus. The <code>stax-all</code> reader does
+ * not skip the elements which are not used for the rendering.
+ *
+ * @since 1.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XMLReaderBenchmark {
+   private static final XMLTreeReader ROOT_READER = new StAXTreeReader(true, true);
+   @Param({"Ghostscript_Tiger.svg", "Bmw_Z_Top_View_clip_art.svg", "Gallium3D_example_matrix.svg", "Hammer.svg", "bacon.svg",
+      "cowboynofilter.svg"})
+   public String file;
+   @Param({"sax", "stax", "stax-all"})
+   public String reader;
+   private String content;
+   private XMLTreeReader xmlReader;
+
+   @Setup
+   public void setup() throws Exception {
+      content = Corpus.getContent(file);
+      switch (reader) {
+         case "stax":
+            xmlReader = new StAXTreeReader();
+            break;
+         case "stax-all":
+            xmlReader = new StAXTreeReader(false, false);
+            break;
+         default:
+            xmlReader = SAXTreeReader.INSTANCE;
+            break;
+      }
+   }
+
+   private XMLRoot read(XMLTreeReader theReader) throws Exception {
+      XMLTreeHandler handler = new XMLTreeHandler(null);
+      theReader.read(new InputSource(new StringReader(content)), handler, false);
+      return handler.getRoot();
+   }
+
+   /**
+    * Read the whole XML content.
+    *
+    * @return the root node
+    * @throws Exception if the content could not be read
+    */
+   @Benchmark
+   public XMLRoot read() throws Exception {
+      return read(xmlReader);
+   }
+
+   /**
+    * Read only the root element of the XML content, as for a size query. The result does not depend on the reader parameter.
+    *
+    * @return the root node
+    * @throws Exception if the content could not be read
+    */
+   @Benchmark
+   public XMLRoot readRoot() throws Exception {
+      return read(ROOT_READER);
+   }
+}
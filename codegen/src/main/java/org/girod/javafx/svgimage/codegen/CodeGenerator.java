@@ -0,0 +1,734 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.codegen;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.effect.Blend;
+import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.ColorAdjust;
+import javafx.scene.effect.ColorInput;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.effect.Light;
+import javafx.scene.effect.Lighting;
+import javafx.scene.effect.PerspectiveTransform;
+import javafx.scene.effect.Shadow;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.QuadCurveTo;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.shape.StrokeType;
+import javafx.scene.shape.VLineTo;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import javafx.scene.text.TextBoundsType;
+import javafx.scene.text.FontSmoothingType;
+import javafx.geometry.VPos;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
+import org.girod.javafx.svgimage.SVGImage;
+
+/**
+ * Generates the Java source of a class which creates a JavaFX Nodes tree equivalent to a tree built by the SVGLoader.
+ * <p>
+ * The generated class has a single public <code>create()</code> method returning a new <code>Group</code> each time it is called.
+ * Each Node is created by its own private method with straight-line code, so that the methods remain small. The supported Nodes
+ * are the same as for the cloning of images: groups, rectangles, circles, ellipses, lines, polylines, polygons, SVG paths, paths and
+ * texts, with their transforms, clips and effects. The supported paints are the colors and the linear and radial gradients. The
+ * effects created by the SVGLoader for the filters are supported, except for the effects using images. An
+ * {@link IllegalArgumentException} is thrown for any other Node, paint or effect.</p>
+ *
+ * @since 1.6
+ */
+public class CodeGenerator {
+   /**
+    * The maximum length of a String literal. Longer Strings are split, because the constant pool of a class can not contain
+    * Strings longer than 65535 bytes.
+    */
+   private static final int MAX_LITERAL_LENGTH = 8192;
+   private final Set<String> imports = new TreeSet<>();
+   private final List<String> methods = new ArrayList<>();
+   private boolean usesRelativeElements = false;
+   private String className = null;
+
+   /**
+    * Constructor.
+    */
+   public CodeGenerator() {
+   }
+
+   /**
+    * Generate the Java source of a class which creates a Nodes tree.
+    *
+    * @param root the root of the Nodes tree, typically a {@link SVGImage}
+    * @param packageName the package of the class (may be null or empty for the default package)
+    * @param className the simple name of the class
+    * @param sourceName the name of the source of the tree, written in the class documentation (may be null)
+    * @return the source
+    * @throws IllegalArgumentException if the tree contains a Node, paint or effect which is not supported
+    */
+   public String generate(Node root, String packageName, String className, String sourceName) {
+      this.className = className;
+      imports.clear();
+      methods.clear();
+      usesRelativeElements = false;
+      String group = use(Group.class);
+      String rootMethod = emitNode(root);
+      String rootExpr = root instanceof Group ? rootMethod + "()" : "new " + group + "(" + rootMethod + "())";
+
+      StringBuilder buf = new StringBuilder();
+      buf.append("// Generated by the fxsvgimage code generator");
+      if (sourceName != null) {
+         buf.append(" from ").append(escapeComment(sourceName));
+      }
+      buf.append(", do not edit.\n");
+      if (packageName != null && !packageName.isEmpty()) {
+         buf.append("package ").append(packageName).append(";\n");
+      }
+      buf.append("\n");
+      Iterator<String> it = imports.iterator();
+      while (it.hasNext()) {
+         buf.append("import ").append(it.next()).append(";\n");
+      }
+      buf.append("\n");
+      buf.append("/**\n");
+      buf.append(" * Creates the JavaFX Nodes tree");
+      if (sourceName != null) {
+         buf.append(" of ").append(escapeComment(sourceName));
+      }
+      buf.append(".\n");
+      buf.append(" */\n");
+      buf.append("public final class ").append(className).append(" {\n");
+      buf.append("   private ").append(className).append("() {\n");
+      buf.append("   }\n\n");
+      buf.append("   /**\n");
+      buf.append("    * Create a new Nodes tree.\n");
+      buf.append("    *\n");
+      buf.append("    * @return the root of the tree\n");
+      buf.append("    */\n");
+      buf.append("   public static ").append(group).append(" create() {\n");
+      buf.append("      return ").append(rootExpr).append(";\n");
+      buf.append("   }\n");
+      if (usesRelativeElements) {
+         buf.append("\n");
+         buf.append("   private static <T extends ").append(use(PathElement.class)).append("> T relative(T element) {\n");
+         buf.append("      element.setAbsolute(false);\n");
+         buf.append("      return element;\n");
+         buf.append("   }\n");
+      }
+      for (String method : methods) {
+         buf.append("\n").append(method);
+      }
+      buf.append("}\n");
+      return buf.toString();
+   }
+
+   /**
+    * Return the name to use in the source for a class. The fully qualified name is used if the simple name of the class is the
+    * same as the name of the generated class.
+    */
+   private String use(Class<?> clazz) {
+      if (clazz.getSimpleName().equals(className)) {
+         return clazz.getCanonicalName();
+      }
+      if (!clazz.getPackage().getName().equals("java.lang")) {
+         imports.add(clazz.getCanonicalName());
+      }
+      return clazz.getSimpleName();
+   }
+
+   /**
+    * Emit the method creating a Node, and return the name of the method.
+    */
+   private String emitNode(Node node) {
+      int index = methods.size();
+      String name = "node" + index;
+      methods.add(null);
+      StringBuilder body = new StringBuilder();
+      String type;
+      if (node instanceof Group) {
+         if (node.getClass() != Group.class && node.getClass() != SVGImage.class) {
+            throw unsupported("Node", node.getClass());
+         }
+         type = use(Group.class);
+         body.append("      ").append(type).append(" node = new ").append(type).append("();\n");
+         List<String> children = new ArrayList<>();
+         for (Node child : ((Group) node).getChildren()) {
+            children.add(emitNode(child));
+         }
+         if (!children.isEmpty()) {
+            body.append("      node.getChildren().addAll(");
+            for (int i = 0; i < children.size(); i++) {
+               if (i > 0) {
+                  body.append(", ");
+               }
+               body.append(children.get(i)).append("()");
+            }
+            body.append(");\n");
+         }
+      } else if (node instanceof Shape) {
+         type = emitShape((Shape) node, body);
+         emitShapeProperties((Shape) node, body);
+      } else {
+         throw unsupported("Node", node.getClass());
+      }
+      emitNodeProperties(node, body);
+      StringBuilder method = new StringBuilder();
+      method.append("   private static ").append(type).append(" ").append(name).append("() {\n");
+      method.append(body);
+      method.append("      return node;\n");
+      method.append("   }\n");
+      methods.set(index, method.toString());
+      return name;
+   }
+
+   private String emitShape(Shape shape, StringBuilder body) {
+      Class<?> clazz = shape.getClass();
+      String type = use(clazz);
+      if (clazz == Rectangle.class) {
+         Rectangle rect = (Rectangle) shape;
+         body.append("      ").append(type).append(" node = new ").append(type).append("(").append(literal(rect.getX())).append(", ").append(literal(rect.getY()))
+            .append(", ").append(literal(rect.getWidth())).append(", ").append(literal(rect.getHeight())).append(");\n");
+         if (rect.getArcWidth() != 0) {
+            body.append("      node.setArcWidth(").append(literal(rect.getArcWidth())).append(");\n");
+         }
+         if (rect.getArcHeight() != 0) {
+            body.append("      node.setArcHeight(").append(literal(rect.getArcHeight())).append(");\n");
+         }
+      } else if (clazz == Circle.class) {
+         Circle circle = (Circle) shape;
+         body.append("      ").append(type).append(" node = new ").append(type).append("(").append(literal(circle.getCenterX())).append(", ")
+            .append(literal(circle.getCenterY())).append(", ").append(literal(circle.getRadius())).append(");\n");
+      } else if (clazz == Ellipse.class) {
+         Ellipse ellipse = (Ellipse) shape;
+         body.append("      ").append(type).append(" node = new ").append(type).append("(").append(literal(ellipse.getCenterX())).append(", ")
+            .append(literal(ellipse.getCenterY())).append(", ").append(literal(ellipse.getRadiusX())).append(", ")
+            .append(literal(ellipse.getRadiusY())).append(");\n");
+      } else if (clazz == Line.class) {
+         Line line = (Line) shape;
+         body.append("      ").append(type).append(" node = new ").append(type).append("(").append(literal(line.getStartX())).append(", ").append(literal(line.getStartY()))
+            .append(", ").append(literal(line.getEndX())).append(", ").append(literal(line.getEndY())).append(");\n");
+      } else if (clazz == Polyline.class || clazz == Polygon.class) {
+         List<Double> points = clazz == Polyline.class ? ((Polyline) shape).getPoints() : ((Polygon) shape).getPoints();
+         body.append("      ").append(type).append(" node = new ").append(type).append("(");
+         for (int i = 0; i < points.size(); i++) {
+            if (i > 0) {
+               body.append(", ");
+            }
+            body.append(literal(points.get(i)));
+         }
+         body.append(");\n");
+      } else if (clazz == SVGPath.class) {
+         SVGPath path = (SVGPath) shape;
+         body.append("      ").append(type).append(" node = new ").append(type).append("();\n");
+         body.append("      node.setContent(").append(literal(path.getContent())).append(");\n");
+         emitFillRule(path.getFillRule(), body);
+      } else if (clazz == Path.class) {
+         Path path = (Path) shape;
+         body.append("      ").append(type).append(" node = new ").append(type).append("();\n");
+         List<PathElement> elements = path.getElements();
+         if (!elements.isEmpty()) {
+            body.append("      node.getElements().addAll(");
+            for (int i = 0; i < elements.size(); i++) {
+               if (i > 0) {
+                  body.append(",\n         ");
+               }
+               body.append(pathElement(elements.get(i)));
+            }
+            body.append(");\n");
+         }
+         emitFillRule(path.getFillRule(), body);
+      } else if (clazz == Text.class) {
+         emitText((Text) shape, type, body);
+      } else {
+         throw unsupported("Node", clazz);
+      }
+      return type;
+   }
+
+   private void emitFillRule(FillRule rule, StringBuilder body) {
+      if (rule != FillRule.NON_ZERO) {
+         body.append("      node.setFillRule(").append(use(FillRule.class)).append(".").append(rule.name()).append(");\n");
+      }
+   }
+
+   private void emitText(Text text, String type, StringBuilder body) {
+      body.append("      ").append(type).append(" node = new ").append(type).append("(").append(literal(text.getX())).append(", ").append(literal(text.getY())).append(", ")
+         .append(literal(text.getText())).append(");\n");
+      Font font = text.getFont();
+      body.append("      node.setFont(new ").append(use(Font.class)).append("(").append(literal(font.getName())).append(", ")
+         .append(literal(font.getSize())).append("));\n");
+      if (text.getTextAlignment() != TextAlignment.LEFT) {
+         body.append("      node.setTextAlignment(").append(use(TextAlignment.class)).append(".").append(text.getTextAlignment().name())
+            .append(");\n");
+      }
+      if (text.getTextOrigin() != VPos.BASELINE) {
+         body.append("      node.setTextOrigin(").append(use(VPos.class)).append(".").append(text.getTextOrigin().name()).append(");\n");
+      }
+      if (text.getBoundsType() != TextBoundsType.LOGICAL) {
+         body.append("      node.setBoundsType(").append(use(TextBoundsType.class)).append(".").append(text.getBoundsType().name())
+            .append(");\n");
+      }
+      if (text.getWrappingWidth() != 0) {
+         body.append("      node.setWrappingWidth(").append(literal(text.getWrappingWidth())).append(");\n");
+      }
+      if (text.isUnderline()) {
+         body.append("      node.setUnderline(true);\n");
+      }
+      if (text.isStrikethrough()) {
+         body.append("      node.setStrikethrough(true);\n");
+      }
+      if (text.getFontSmoothingType() != FontSmoothingType.GRAY) {
+         body.append("      node.setFontSmoothingType(").append(use(FontSmoothingType.class)).append(".")
+            .append(text.getFontSmoothingType().name()).append(");\n");
+      }
+      if (text.getLineSpacing() != 0) {
+         body.append("      node.setLineSpacing(").append(literal(text.getLineSpacing())).append(");\n");
+      }
+   }
+
+   private String pathElement(PathElement element) {
+      String expr;
+      if (element instanceof MoveTo) {
+         MoveTo moveTo = (MoveTo) element;
+         expr = "new " + use(MoveTo.class) + "(" + literal(moveTo.getX()) + ", " + literal(moveTo.getY()) + ")";
+      } else if (element instanceof LineTo) {
+         LineTo lineTo = (LineTo) element;
+         expr = "new " + use(LineTo.class) + "(" + literal(lineTo.getX()) + ", " + literal(lineTo.getY()) + ")";
+      } else if (element instanceof HLineTo) {
+         expr = "new " + use(HLineTo.class) + "(" + literal(((HLineTo) element).getX()) + ")";
+      } else if (element instanceof VLineTo) {
+         expr = "new " + use(VLineTo.class) + "(" + literal(((VLineTo) element).getY()) + ")";
+      } else if (element instanceof CubicCurveTo) {
+         CubicCurveTo curveTo = (CubicCurveTo) element;
+         expr = "new " + use(CubicCurveTo.class) + "(" + literal(curveTo.getControlX1()) + ", " + literal(curveTo.getControlY1()) + ", "
+            + literal(curveTo.getControlX2()) + ", " + literal(curveTo.getControlY2()) + ", " + literal(curveTo.getX()) + ", "
+            + literal(curveTo.getY()) + ")";
+      } else if (element instanceof QuadCurveTo) {
+         QuadCurveTo curveTo = (QuadCurveTo) element;
+         expr = "new " + use(QuadCurveTo.class) + "(" + literal(curveTo.getControlX()) + ", " + literal(curveTo.getControlY()) + ", "
+            + literal(curveTo.getX()) + ", " + literal(curveTo.getY()) + ")";
+      } else if (element instanceof ArcTo) {
+         ArcTo arcTo = (ArcTo) element;
+         expr = "new " + use(ArcTo.class) + "(" + literal(arcTo.getRadiusX()) + ", " + literal(arcTo.getRadiusY()) + ", "
+            + literal(arcTo.getXAxisRotation()) + ", " + literal(arcTo.getX()) + ", " + literal(arcTo.getY()) + ", "
+            + arcTo.isLargeArcFlag() + ", " + arcTo.isSweepFlag() + ")";
+      } else if (element instanceof ClosePath) {
+         expr = "new " + use(ClosePath.class) + "()";
+      } else {
+         throw unsupported("path element", element.getClass());
+      }
+      if (!element.isAbsolute()) {
+         use(PathElement.class);
+         usesRelativeElements = true;
+         expr = "relative(" + expr + ")";
+      }
+      return expr;
+   }
+
+   private void emitShapeProperties(Shape shape, StringBuilder body) {
+      body.append("      node.setFill(").append(paint(shape.getFill())).append(");\n");
+      body.append("      node.setStroke(").append(paint(shape.getStroke())).append(");\n");
+      if (shape.getStrokeWidth() != 1) {
+         body.append("      node.setStrokeWidth(").append(literal(shape.getStrokeWidth())).append(");\n");
+      }
+      if (shape.getStrokeType() != StrokeType.CENTERED) {
+         body.append("      node.setStrokeType(").append(use(StrokeType.class)).append(".").append(shape.getStrokeType().name())
+            .append(");\n");
+      }
+      if (shape.getStrokeLineCap() != StrokeLineCap.SQUARE) {
+         body.append("      node.setStrokeLineCap(").append(use(StrokeLineCap.class)).append(".").append(shape.getStrokeLineCap().name())
+            .append(");\n");
+      }
+      if (shape.getStrokeLineJoin() != StrokeLineJoin.MITER) {
+         body.append("      node.setStrokeLineJoin(").append(use(StrokeLineJoin.class)).append(".")
+            .append(shape.getStrokeLineJoin().name()).append(");\n");
+      }
+      if (shape.getStrokeMiterLimit() != 10) {
+         body.append("      node.setStrokeMiterLimit(").append(literal(shape.getStrokeMiterLimit())).append(");\n");
+      }
+      if (shape.getStrokeDashOffset() != 0) {
+         body.append("      node.setStrokeDashOffset(").append(literal(shape.getStrokeDashOffset())).append(");\n");
+      }
+      List<Double> dashes = shape.getStrokeDashArray();
+      if (!dashes.isEmpty()) {
+         body.append("      node.getStrokeDashArray().addAll(");
+         for (int i = 0; i < dashes.size(); i++) {
+            if (i > 0) {
+               body.append(", ");
+            }
+            body.append(literal(dashes.get(i)));
+         }
+         body.append(");\n");
+      }
+      if (!shape.isSmooth()) {
+         body.append("      node.setSmooth(false);\n");
+      }
+   }
+
+   private void emitNodeProperties(Node node, StringBuilder body) {
+      if (node.getId() != null) {
+         body.append("      node.setId(").append(literal(node.getId())).append(");\n");
+      }
+      if (node.getStyle() != null && !node.getStyle().isEmpty()) {
+         body.append("      node.setStyle(").append(literal(node.getStyle())).append(");\n");
+      }
+      for (String styleClass : node.getStyleClass()) {
+         body.append("      node.getStyleClass().add(").append(literal(styleClass)).append(");\n");
+      }
+      if (!node.isVisible()) {
+         body.append("      node.setVisible(false);\n");
+      }
+      if (node.getOpacity() != 1) {
+         body.append("      node.setOpacity(").append(literal(node.getOpacity())).append(");\n");
+      }
+      if (node.getBlendMode() != null) {
+         body.append("      node.setBlendMode(").append(use(BlendMode.class)).append(".").append(node.getBlendMode().name())
+            .append(");\n");
+      }
+      if (node.getEffect() != null) {
+         body.append("      node.setEffect(").append(emitEffect(node.getEffect())).append("());\n");
+      }
+      if (node.getLayoutX() != 0) {
+         body.append("      node.setLayoutX(").append(literal(node.getLayoutX())).append(");\n");
+      }
+      if (node.getLayoutY() != 0) {
+         body.append("      node.setLayoutY(").append(literal(node.getLayoutY())).append(");\n");
+      }
+      if (node.getTranslateX() != 0) {
+         body.append("      node.setTranslateX(").append(literal(node.getTranslateX())).append(");\n");
+      }
+      if (node.getTranslateY() != 0) {
+         body.append("      node.setTranslateY(").append(literal(node.getTranslateY())).append(");\n");
+      }
+      if (node.getScaleX() != 1) {
+         body.append("      node.setScaleX(").append(literal(node.getScaleX())).append(");\n");
+      }
+      if (node.getScaleY() != 1) {
+         body.append("      node.setScaleY(").append(literal(node.getScaleY())).append(");\n");
+      }
+      if (node.getRotate() != 0) {
+         body.append("      node.setRotate(").append(literal(node.getRotate())).append(");\n");
+      }
+      if (node.getClip() != null) {
+         body.append("      node.setClip(").append(emitNode(node.getClip())).append("());\n");
+      }
+      for (Transform transform : node.getTransforms()) {
+         body.append("      node.getTransforms().add(").append(transform(transform)).append(");\n");
+      }
+   }
+
+   private String transform(Transform transform) {
+      String affine = use(Affine.class);
+      if (transform.isType2D()) {
+         return "new " + affine + "(" + literal(transform.getMxx()) + ", " + literal(transform.getMxy()) + ", " + literal(transform.getTx())
+            + ", " + literal(transform.getMyx()) + ", " + literal(transform.getMyy()) + ", " + literal(transform.getTy()) + ")";
+      } else {
+         return "new " + affine + "(" + literal(transform.getMxx()) + ", " + literal(transform.getMxy()) + ", " + literal(transform.getMxz())
+            + ", " + literal(transform.getTx()) + ", " + literal(transform.getMyx()) + ", " + literal(transform.getMyy()) + ", "
+            + literal(transform.getMyz()) + ", " + literal(transform.getTy()) + ", " + literal(transform.getMzx()) + ", "
+            + literal(transform.getMzy()) + ", " + literal(transform.getMzz()) + ", " + literal(transform.getTz()) + ")";
+      }
+   }
+
+   /**
+    * Emit the method creating an effect, and return the name of the method.
+    */
+   private String emitEffect(Effect effect) {
+      int index = methods.size();
+      String name = "effect" + index;
+      methods.add(null);
+      Class<?> clazz = effect.getClass();
+      String type = use(clazz);
+      StringBuilder body = new StringBuilder();
+      body.append("      ").append(type).append(" effect = new ").append(type).append("();\n");
+      if (clazz == GaussianBlur.class) {
+         GaussianBlur blur = (GaussianBlur) effect;
+         emitProperty(body, "effect", "Radius", blur.getRadius(), 10);
+         emitInput(body, "Input", blur.getInput());
+      } else if (clazz == DropShadow.class) {
+         DropShadow shadow = (DropShadow) effect;
+         body.append("      effect.setBlurType(").append(use(BlurType.class)).append(".").append(shadow.getBlurType().name()).append(");\n");
+         body.append("      effect.setColor(").append(color(shadow.getColor())).append(");\n");
+         emitProperty(body, "effect", "Radius", shadow.getRadius(), 10);
+         emitProperty(body, "effect", "Spread", shadow.getSpread(), 0);
+         emitProperty(body, "effect", "OffsetX", shadow.getOffsetX(), 0);
+         emitProperty(body, "effect", "OffsetY", shadow.getOffsetY(), 0);
+         emitInput(body, "Input", shadow.getInput());
+      } else if (clazz == Shadow.class) {
+         Shadow shadow = (Shadow) effect;
+         body.append("      effect.setBlurType(").append(use(BlurType.class)).append(".").append(shadow.getBlurType().name()).append(");\n");
+         body.append("      effect.setColor(").append(color(shadow.getColor())).append(");\n");
+         emitProperty(body, "effect", "Radius", shadow.getRadius(), 10);
+         emitInput(body, "Input", shadow.getInput());
+      } else if (clazz == Blend.class) {
+         Blend blend = (Blend) effect;
+         body.append("      effect.setMode(").append(use(BlendMode.class)).append(".").append(blend.getMode().name()).append(");\n");
+         emitProperty(body, "effect", "Opacity", blend.getOpacity(), 1);
+         emitInput(body, "TopInput", blend.getTopInput());
+         emitInput(body, "BottomInput", blend.getBottomInput());
+      } else if (clazz == ColorAdjust.class) {
+         ColorAdjust adjust = (ColorAdjust) effect;
+         emitProperty(body, "effect", "Hue", adjust.getHue(), 0);
+         emitProperty(body, "effect", "Saturation", adjust.getSaturation(), 0);
+         emitProperty(body, "effect", "Brightness", adjust.getBrightness(), 0);
+         emitProperty(body, "effect", "Contrast", adjust.getContrast(), 0);
+         emitInput(body, "Input", adjust.getInput());
+      } else if (clazz == ColorInput.class) {
+         ColorInput input = (ColorInput) effect;
+         emitProperty(body, "effect", "X", input.getX(), 0);
+         emitProperty(body, "effect", "Y", input.getY(), 0);
+         emitProperty(body, "effect", "Width", input.getWidth(), 0);
+         emitProperty(body, "effect", "Height", input.getHeight(), 0);
+         body.append("      effect.setPaint(").append(paint(input.getPaint())).append(");\n");
+      } else if (clazz == PerspectiveTransform.class) {
+         PerspectiveTransform transform = (PerspectiveTransform) effect;
+         emitProperty(body, "effect", "Ulx", transform.getUlx(), 0);
+         emitProperty(body, "effect", "Uly", transform.getUly(), 0);
+         emitProperty(body, "effect", "Urx", transform.getUrx(), 0);
+         emitProperty(body, "effect", "Ury", transform.getUry(), 0);
+         emitProperty(body, "effect", "Lrx", transform.getLrx(), 0);
+         emitProperty(body, "effect", "Lry", transform.getLry(), 0);
+         emitProperty(body, "effect", "Llx", transform.getLlx(), 0);
+         emitProperty(body, "effect", "Lly", transform.getLly(), 0);
+         emitInput(body, "Input", transform.getInput());
+      } else if (clazz == Lighting.class) {
+         Lighting lighting = (Lighting) effect;
+         emitLight(body, lighting.getLight());
+         emitProperty(body, "effect", "DiffuseConstant", lighting.getDiffuseConstant(), 1);
+         emitProperty(body, "effect", "SpecularConstant", lighting.getSpecularConstant(), 0.3);
+         emitProperty(body, "effect", "SpecularExponent", lighting.getSpecularExponent(), 20);
+         emitProperty(body, "effect", "SurfaceScale", lighting.getSurfaceScale(), 1.5);
+         emitInput(body, "BumpInput", lighting.getBumpInput());
+         emitInput(body, "ContentInput", lighting.getContentInput());
+      } else {
+         throw unsupported("effect", clazz);
+      }
+      StringBuilder method = new StringBuilder();
+      method.append("   private static ").append(type).append(" ").append(name).append("() {\n");
+      method.append(body);
+      method.append("      return effect;\n");
+      method.append("   }\n");
+      methods.set(index, method.toString());
+      return name;
+   }
+
+   private void emitProperty(StringBuilder body, String variable, String property, double value, double defaultValue) {
+      if (value != defaultValue) {
+         body.append("      ").append(variable).append(".set").append(property).append("(").append(literal(value)).append(");\n");
+      }
+   }
+
+   private void emitInput(StringBuilder body, String property, Effect input) {
+      if (input != null) {
+         body.append("      effect.set").append(property).append("(").append(emitEffect(input)).append("());\n");
+      }
+   }
+
+   private void emitLight(StringBuilder body, Light light) {
+      Class<?> clazz = light.getClass();
+      String type = use(clazz);
+      body.append("      ").append(type).append(" light = new ").append(type).append("();\n");
+      body.append("      light.setColor(").append(color(light.getColor())).append(");\n");
+      if (clazz == Light.Distant.class) {
+         Light.Distant distant = (Light.Distant) light;
+         emitProperty(body, "light", "Azimuth", distant.getAzimuth(), 45);
+         emitProperty(body, "light", "Elevation", distant.getElevation(), 45);
+      } else if (clazz == Light.Point.class || clazz == Light.Spot.class) {
+         Light.Point point = (Light.Point) light;
+         emitProperty(body, "light", "X", point.getX(), 0);
+         emitProperty(body, "light", "Y", point.getY(), 0);
+         emitProperty(body, "light", "Z", point.getZ(), 0);
+         if (clazz == Light.Spot.class) {
+            Light.Spot spot = (Light.Spot) light;
+            emitProperty(body, "light", "PointsAtX", spot.getPointsAtX(), 0);
+            emitProperty(body, "light", "PointsAtY", spot.getPointsAtY(), 0);
+            emitProperty(body, "light", "PointsAtZ", spot.getPointsAtZ(), 0);
+            emitProperty(body, "light", "SpecularExponent", spot.getSpecularExponent(), 1);
+         }
+      } else {
+         throw unsupported("light", clazz);
+      }
+      body.append("      effect.setLight(light);\n");
+   }
+
+   private String paint(Paint paint) {
+      if (paint == null) {
+         return "null";
+      } else if (paint instanceof Color) {
+         return color((Color) paint);
+      } else if (paint instanceof LinearGradient) {
+         LinearGradient gradient = (LinearGradient) paint;
+         return "new " + use(LinearGradient.class) + "(" + literal(gradient.getStartX()) + ", " + literal(gradient.getStartY()) + ", "
+            + literal(gradient.getEndX()) + ", " + literal(gradient.getEndY()) + ", " + gradient.isProportional() + ", "
+            + use(gradient.getCycleMethod().getClass()) + "." + gradient.getCycleMethod().name() + stops(gradient.getStops()) + ")";
+      } else if (paint instanceof RadialGradient) {
+         RadialGradient gradient = (RadialGradient) paint;
+         return "new " + use(RadialGradient.class) + "(" + literal(gradient.getFocusAngle()) + ", " + literal(gradient.getFocusDistance())
+            + ", " + literal(gradient.getCenterX()) + ", " + literal(gradient.getCenterY()) + ", " + literal(gradient.getRadius()) + ", "
+            + gradient.isProportional() + ", " + use(gradient.getCycleMethod().getClass()) + "." + gradient.getCycleMethod().name()
+            + stops(gradient.getStops()) + ")";
+      } else {
+         throw unsupported("paint", paint.getClass());
+      }
+   }
+
+   private String stops(List<Stop> stops) {
+      StringBuilder buf = new StringBuilder();
+      for (Stop stop : stops) {
+         buf.append(", new ").append(use(Stop.class)).append("(").append(literal(stop.getOffset())).append(", ")
+            .append(color(stop.getColor())).append(")");
+      }
+      return buf.toString();
+   }
+
+   private String color(Color color) {
+      return "new " + use(Color.class) + "(" + literal(color.getRed()) + ", " + literal(color.getGreen()) + ", " + literal(color.getBlue())
+         + ", " + literal(color.getOpacity()) + ")";
+   }
+
+   private static IllegalArgumentException unsupported(String kind, Class<?> clazz) {
+      return new IllegalArgumentException("Unsupported " + kind + ": " + clazz.getName());
+   }
+
+   private String literal(double value) {
+      if (Double.isNaN(value)) {
+         return use(Double.class) + ".NaN";
+      } else if (value == Double.POSITIVE_INFINITY) {
+         return use(Double.class) + ".POSITIVE_INFINITY";
+      } else if (value == Double.NEGATIVE_INFINITY) {
+         return use(Double.class) + ".NEGATIVE_INFINITY";
+      } else {
+         return Double.toString(value);
+      }
+   }
+
+   private String literal(String value) {
+      if (value == null) {
+         return "null";
+      }
+      if (value.length() <= MAX_LITERAL_LENGTH) {
+         return quote(value, 0, value.length());
+      }
+      StringBuilder buf = new StringBuilder();
+      buf.append("new ").append(use(StringBuilder.class)).append("(").append(value.length()).append(")");
+      for (int start = 0; start < value.length(); start += MAX_LITERAL_LENGTH) {
+         int end = Math.min(value.length(), start + MAX_LITERAL_LENGTH);
+         buf.append("\n         .append(").append(quote(value, start, end)).append(")");
+      }
+      buf.append(".toString()");
+      return buf.toString();
+   }
+
+   private static String quote(String value, int start, int end) {
+      StringBuilder buf = new StringBuilder(end - start + 2);
+      buf.append('"');
+      for (int i = start; i < end; i++) {
+         char c = value.charAt(i);
+         switch (c) {
+            case '"':
+               buf.append("\\\"");
+               break;
+            case '\\':
+               buf.append("\\\\");
+               break;
+            case '\n':
+               buf.append("\\n");
+               break;
+            case '\r':
+               buf.append("\\r");
+               break;
+            case '\t':
+               buf.append("\\t");
+               break;
+            default:
+               if (c < 0x20 || c > 0x7e) {
+                  buf.append(String.format("\\u%04x", (int) c));
+               } else {
+                  buf.append(c);
+               }
+         }
+      }
+      buf.append('"');
+      return buf.toString();
+   }
+
+   /**
+    * Make a String safe to be written in a comment. The backslashes are replaced because the compiler would interpret a
+    * backslash followed by an <code>u</code> in a comment as an unicode escape.
+    */
+   private static String escapeComment(String value) {
+      StringBuilder buf = new StringBuilder(value.length());
+      for (int i = 0; i < value.length(); i++) {
+         char c = value.charAt(i);
+         if (c == '\\') {
+            buf.append('/');
+         } else if (c < 0x20) {
+            buf.append(' ');
+         } else {
+            buf.append(c);
+         }
+      }
+      return buf.toString().replace("*/", "*&#47;");
+   }
+}
@@ -0,0 +1,142 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import org.girod.javafx.svgimage.LoaderParameters;
+import org.girod.javafx.svgimage.SVGImage;
+import org.girod.javafx.svgimage.SVGLoader;
+import org.girod.javafx.svgimage.xml.parsers.SVGParsingException;
+
+/**
+ * Generates a Java class for each SVG file of a directory.
+ * <p>
+ * Usage: <code>SVGCodeGen &lt;SVG directory&gt; &lt;output directory&gt; &lt;package&gt;</code>. The classes are written
+ * in the sub-directory of the output directory corresponding to the package. A class which is more recent than its SVG file
+ * is not generated again. The name of each class is derived from the name of its SVG file, for example <code>my-icon.svg</code>
+ * gives <code>MyIcon</code>.</p>
+ * <p>
+ * The process exits with the status 1 if at least one file could not be generated.</p>
+ *
+ * @since 1.6
+ */
+public class SVGCodeGen {
+   /**
+    * Create the entry-point class.
+    */
+   public SVGCodeGen() {
+   }
+
+   /**
+    * Generate the classes.
+    *
+    * @param args the SVG directory, the output directory, and the package of the generated classes
+    */
+   public static void main(String[] args) {
+      if (args.length != 3) {
+         System.err.println("Usage: SVGCodeGen <SVG directory> <output directory> <package>");
+         System.exit(2);
+      }
+      File svgDir = new File(args[0]);
+      File packageDir = new File(args[1], args[2].replace('.', File.separatorChar));
+      String packageName = args[2];
+      File[] files = svgDir.listFiles((dir, name) -> name.endsWith(".svg") || name.endsWith(".svgz"));
+      if (files == null) {
+         System.err.println("Not a directory: " + svgDir);
+         System.exit(2);
+      }
+      Arrays.sort(files);
+      int errors = 0;
+      for (File file : files) {
+         String className = getClassName(file.getName());
+         File target = new File(packageDir, className + ".java");
+         if (target.exists() && target.lastModified() >= file.lastModified()) {
+            continue;
+         }
+         try {
+            generate(file, target, packageName, className);
+         } catch (IOException | SVGParsingException | IllegalArgumentException ex) {
+            System.err.println("Could not generate " + className + " from " + file.getName() + ": " + ex.getMessage());
+            errors++;
+         }
+      }
+      System.exit(errors == 0 ? 0 : 1);
+   }
+
+   private static void generate(File file, File target, String packageName, String className) throws IOException, SVGParsingException {
+      LoaderParameters params = new LoaderParameters();
+      params.buildOnCallingThread = true;
+      params.retainDocument = false;
+      SVGImage image = SVGLoader.load(file, params);
+      if (image == null) {
+         // the default exceptions handling returns no image for an invalid SVG content
+         throw new SVGParsingException("The SVG content could not be parsed");
+      }
+      String source = new CodeGenerator().generate(image, packageName, className, file.getName());
+      target.getParentFile().mkdirs();
+      Files.write(target.toPath(), source.getBytes(StandardCharsets.UTF_8));
+   }
+
+   /**
+    * Return the name of the class generated for a SVG file.
+    *
+    * @param fileName the name of the SVG file
+    * @return the class name
+    */
+   public static String getClassName(String fileName) {
+      int dot = fileName.lastIndexOf('.');
+      String name = dot > 0 ? fileName.substring(0, dot) : fileName;
+      StringBuilder buf = new StringBuilder(name.length() + 1);
+      boolean upper = true;
+      for (int i = 0; i < name.length(); i++) {
+         char c = name.charAt(i);
+         if (Character.isJavaIdentifierPart(c) && c != '_' && c != '$') {
+            if (buf.length() == 0 && !Character.isJavaIdentifierStart(c)) {
+               buf.append('_');
+            }
+            buf.append(upper ? Character.toUpperCase(c) : c);
+            upper = false;
+         } else {
+            upper = true;
+         }
+      }
+      if (buf.length() == 0) {
+         buf.append("SVG");
+      }
+      return buf.toString();
+   }
+}
@@ -0,0 +1,193 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.text.Text;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.girod.javafx.svgimage.SVGImage;
+import org.girod.javafx.svgimage.SVGLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the CodeGenerator class.
+ *
+ * @since 1.6
+ */
+public class CodeGeneratorTest {
+   private static final double DELTA = 1E-6;
+   private Path dir = null;
+
+   public CodeGeneratorTest() {
+   }
+
+   @Before
+   public void setUp() throws IOException {
+      dir = Files.createTempDirectory("fxsvgimage");
+   }
+
+   @After
+   public void tearDown() throws IOException {
+      try (Stream<Path> files = Files.walk(dir)) {
+         List<Path> list = files.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+         for (Path file : list) {
+            Files.delete(file);
+         }
+      }
+   }
+
+   /**
+    * Compile the generated source and return the result of the <code>create()</code> method.
+    */
+   private Group compileAndCreate(String source, String className) throws Exception {
+      JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      assertNotNull("Java compiler", compiler);
+      File file = new File(dir.toFile(), className + ".java");
+      Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+      int result = compiler.run(null, null, null, "-nowarn", "-encoding", "UTF-8", "-d", dir.toString(), "-cp",
+         System.getProperty("java.class.path"), file.getPath());
+      assertEquals("compilation of " + className, 0, result);
+      try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, this.getClass().getClassLoader())) {
+         Class<?> clazz = loader.loadClass(className);
+         return (Group) clazz.getMethod("create").invoke(null);
+      }
+   }
+
+   /**
+    * Return true if a Node contains a Text. The bounds of the texts are not compared, because they depend on the fonts
+    * available on the platform.
+    */
+   private static boolean containsText(Node node) {
+      if (node instanceof Text) {
+         return true;
+      } else if (node instanceof Parent) {
+         for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+            if (containsText(child)) {
+               return true;
+            }
+         }
+      }
+      return false;
+   }
+
+   private static void assertSameTree(Node expected, Node actual) {
+      assertEquals("class", expected.getClass() == SVGImage.class ? Group.class : expected.getClass(), actual.getClass());
+      if (expected instanceof Text) {
+         Text expectedText = (Text) expected;
+         Text actualText = (Text) actual;
+         assertEquals("text", expectedText.getText(), actualText.getText());
+         assertEquals("x", expectedText.getX(), actualText.getX(), DELTA);
+         assertEquals("y", expectedText.getY(), actualText.getY(), DELTA);
+         assertEquals("font size", expectedText.getFont().getSize(), actualText.getFont().getSize(), DELTA);
+      } else if (!containsText(expected)) {
+         assertSameBounds(expected.getBoundsInParent(), actual.getBoundsInParent());
+      }
+      assertEquals("transforms", expected.getTransforms().size(), actual.getTransforms().size());
+      assertEquals("clip", expected.getClip() == null, actual.getClip() == null);
+      if (expected instanceof Parent) {
+         List<Node> expectedChildren = ((Parent) expected).getChildrenUnmodifiable();
+         List<Node> actualChildren = ((Parent) actual).getChildrenUnmodifiable();
+         assertEquals("children", expectedChildren.size(), actualChildren.size());
+         for (int i = 0; i < expectedChildren.size(); i++) {
+            assertSameTree(expectedChildren.get(i), actualChildren.get(i));
+         }
+      }
+   }
+
+   private static void assertSameBounds(Bounds expected, Bounds actual) {
+      assertEquals("minX", expected.getMinX(), actual.getMinX(), DELTA);
+      assertEquals("minY", expected.getMinY(), actual.getMinY(), DELTA);
+      assertEquals("width", expected.getWidth(), actual.getWidth(), DELTA);
+      assertEquals("height", expected.getHeight(), actual.getHeight(), DELTA);
+   }
+
+   /**
+    * Test that the generated classes create the same trees as the SVGLoader.
+    */
+   @Test
+   public void testGenerate() throws Exception {
+      System.out.println("CodeGeneratorTest : testGenerate");
+      String[] resources = {"Ghostscript_Tiger.svg", "clip-path-group.svg", "space-transforms.svg", "strokeDashed.svg",
+         "polygon.svg", "ellipse.svg", "feMerge2.svg"};
+      for (String resource : resources) {
+         URL url = SVGImage.class.getResource(resource);
+         SVGImage image = SVGLoader.load(url);
+         String className = SVGCodeGen.getClassName(resource);
+         String source = new CodeGenerator().generate(image, null, className, resource);
+         Group group = compileAndCreate(source, className);
+         assertSameTree(image, group);
+      }
+   }
+
+   /**
+    * Test the escaping of the String literals.
+    */
+   @Test
+   public void testStringLiterals() throws Exception {
+      System.out.println("CodeGeneratorTest : testStringLiterals");
+      Group root = new Group();
+      root.setId("a \"quoted\" \\u0041 \u00e9\n");
+      String source = new CodeGenerator().generate(root, null, "Literals", "C:\\users\\*/icon.svg");
+      Group group = compileAndCreate(source, "Literals");
+      assertEquals("id", root.getId(), group.getId());
+   }
+
+   /**
+    * Test the class names derived from the SVG file names.
+    */
+   @Test
+   public void testGetClassName() {
+      System.out.println("CodeGeneratorTest : testGetClassName");
+      assertEquals("MyIcon", SVGCodeGen.getClassName("my-icon.svg"));
+      assertEquals("Ghostscript_Tiger".replace("_", ""), SVGCodeGen.getClassName("Ghostscript_Tiger.svg"));
+      assertEquals("_24pxArrow", SVGCodeGen.getClassName("24px arrow.svgz"));
+   }
+}
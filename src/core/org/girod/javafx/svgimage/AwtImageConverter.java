@@ -47,18 +47,20 @@ import javafx.embed.swing.SwingFXUtils;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.image.WritableImage;
 import javax.imageio.ImageIO;
+import org.girod.javafx.svgimage.jfr.SVGEvents;
 import org.girod.javafx.svgimage.xml.parsers.SVGLibraryException;
 
 /**
  * Converts a JPG image to handle the transparent background.
  *
- * @version 1.0
+ * @version 1.6
  */
 class AwtImageConverter {
    private static Object colorModel = null;
    private static final int[] RGB_MASKS = { 0xFF0000, 0xFF00, 0xFF };
 
    static boolean snapshot(WritableImage image, SnapshotParameters params, String format, File file) throws SVGLibraryException {
+      Object event = SVGEvents.beginImageWrite();
       RenderedImage awtImg = SwingFXUtils.fromFXImage(image, null);
       try {
          if (format.equals("jpg")) {
@@ -75,6 +77,7 @@ class AwtImageConverter {
             awtImg = new BufferedImage((ColorModel) colorModel, raster, false, null);
          }
          ImageIO.write(awtImg, format, file);
+         SVGEvents.commitImageWrite(event, format, file, awtImg.getWidth(), awtImg.getHeight());
          return true;
       } catch (IOException | InterruptedException ex) {
          throw new SVGLibraryException(ex);
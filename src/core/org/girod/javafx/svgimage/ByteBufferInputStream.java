@@ -0,0 +1,112 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An InputStream reading the remaining bytes of a ByteBuffer. It allows to parse the content of a buffer, or of a memory-mapped file,
+ * without copying it to a byte array first.
+ *
+ * @since 1.6
+ */
+class ByteBufferInputStream extends InputStream {
+   private final ByteBuffer buffer;
+   private int mark = -1;
+
+   /**
+    * Constructor. The position of the buffer is updated when reading the stream.
+    *
+    * @param buffer the buffer
+    */
+   ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+   }
+
+   @Override
+   public int read() {
+      if (!buffer.hasRemaining()) {
+         return -1;
+      }
+      return buffer.get() & 0xFF;
+   }
+
+   @Override
+   public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+         return 0;
+      }
+      int remaining = buffer.remaining();
+      if (remaining == 0) {
+         return -1;
+      }
+      int count = Math.min(length, remaining);
+      buffer.get(bytes, offset, count);
+      return count;
+   }
+
+   @Override
+   public long skip(long n) {
+      if (n <= 0) {
+         return 0;
+      }
+      int count = (int) Math.min(n, buffer.remaining());
+      buffer.position(buffer.position() + count);
+      return count;
+   }
+
+   @Override
+   public int available() {
+      return buffer.remaining();
+   }
+
+   @Override
+   public boolean markSupported() {
+      return true;
+   }
+
+   @Override
+   public synchronized void mark(int readlimit) {
+      mark = buffer.position();
+   }
+
+   @Override
+   public synchronized void reset() throws IOException {
+      if (mark < 0) {
+         throw new IOException("The stream has not been marked");
+      }
+      buffer.position(mark);
+   }
+}
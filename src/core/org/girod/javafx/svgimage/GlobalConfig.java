@@ -1,5 +1,5 @@
 /*
-Copyright (c) 2021, 2022 Hervé Girod
+Copyright (c) 2021, 2022, 2026 Hervé Girod
 All rights reserved.
 
 Redistribution and use in source and binary forms, with or without
@@ -32,17 +32,27 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
  */
 package org.girod.javafx.svgimage;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import javafx.application.ConditionalFeature;
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
 import org.girod.javafx.svgimage.xml.parsers.SVGLibraryException;
 import org.girod.javafx.svgimage.xml.parsers.SVGParsingException;
 
 /**
  * The global configuration.
  *
- * @version 1.0
+ * @version 1.6
  */
 public class GlobalConfig implements ExceptionsHandling {
    private static GlobalConfig config = null;
    private Boolean swingAvailable = null;
+   private volatile Boolean effectsSupported = null;
+   private volatile SVGDocumentCache documentCache = null;
+   private volatile SVGPathCache pathCache = null;
+   private volatile LoadListener loadListener = null;
    private short exceptionsHandling = ExceptionsHandling.PRINT_EXCEPTION_MESSAGE;
 
    private GlobalConfig() {
@@ -78,6 +88,67 @@ public class GlobalConfig implements ExceptionsHandling {
       return exceptionsHandling;
    }
 
+   /**
+    * Set the cache of parsed SVG documents. The default is null, which means that the documents are parsed each time they are loaded.
+    *
+    * @param documentCache the cache (may be null)
+    * @since 1.6
+    */
+   public void setDocumentCache(SVGDocumentCache documentCache) {
+      this.documentCache = documentCache;
+   }
+
+   /**
+    * Return the cache of parsed SVG documents. Return null if there is no cache.
+    *
+    * @return the cache
+    * @since 1.6
+    */
+   public SVGDocumentCache getDocumentCache() {
+      return documentCache;
+   }
+
+   /**
+    * Set the cache of parsed SVG path data. The default is null, which means that the path data of each "path" element is
+    * parsed.
+    *
+    * @param pathCache the cache (may be null)
+    * @since 1.6
+    */
+   public void setPathCache(SVGPathCache pathCache) {
+      this.pathCache = pathCache;
+   }
+
+   /**
+    * Return the cache of parsed SVG path data. Return null if there is no cache.
+    *
+    * @return the cache
+    * @since 1.6
+    */
+   public SVGPathCache getPathCache() {
+      return pathCache;
+   }
+
+   /**
+    * Set the listener notified of the phases of the loading for all the SVG contents. The default is null.
+    *
+    * @param loadListener the listener (may be null)
+    * @since 1.6
+    */
+   public void setLoadListener(LoadListener loadListener) {
+      this.loadListener = loadListener;
+   }
+
+   /**
+    * Return the listener notified of the phases of the loading for all the SVG contents. Return null if there is no listener.
+    *
+    * @return the listener
+    * @since 1.6
+    */
+   public LoadListener getLoadListener() {
+      return loadListener;
+   }
+
    /**
     * Return true if swing is available.
     *
@@ -95,6 +166,40 @@ public class GlobalConfig implements ExceptionsHandling {
       return swingAvailable;
    }
 
+   /**
+    * Return true if the effects are supported by the JavaFX platform. The platform is only probed the first time this method is called,
+    * and the probing is performed on the JavaFX Platform Thread.
+    *
+    * @return true if the effects are supported
+    * @since 1.6
+    */
+   public boolean isEffectsSupported() {
+      if (effectsSupported == null) {
+         if (Platform.isFxApplicationThread()) {
+            effectsSupported = Platform.isSupported(ConditionalFeature.EFFECT);
+         } else {
+            // the next instruction is only there to initialize the JavaFX platform
+            new JFXPanel();
+            FutureTask<Boolean> future = new FutureTask<>(new Callable<Boolean>() {
+               @Override
+               public Boolean call() throws Exception {
+                  return Platform.isSupported(ConditionalFeature.EFFECT);
+               }
+            });
+            Platform.runLater(future);
+            try {
+               effectsSupported = future.get();
+            } catch (InterruptedException ex) {
+               Thread.currentThread().interrupt();
+               return false;
+            } catch (ExecutionException ex) {
+               return false;
+            }
+         }
+      }
+      return effectsSupported;
+   }
+
    /**
     * Handle an error message, depending on the value of the {@link #getExceptionsHandling()}. An exception will
     * be throw only if the value for the exceptions handling is {@link ExceptionsHandling#RETROW_EXCEPTION}.
@@ -0,0 +1,65 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+/**
+ * A listener notified of the phases of the loading of SVG contents. A listener can be set for one loading on the
+ * {@link LoaderParameters#loadListener} parameter, or for all the loadings with {@link GlobalConfig#setLoadListener(LoadListener)}.
+ * <p>
+ * The listener is notified on the thread which performs the loading, which can be the JavaFX Platform Thread, so its methods
+ * should return quickly.</p>
+ *
+ * @since 1.6
+ */
+public interface LoadListener {
+   /**
+    * Called when a phase of the loading is completed. The {@link LoadPhase#GRADIENTS} and {@link LoadPhase#ANIMATIONS} phases
+    * are notified once with their accumulated duration after the {@link LoadPhase#BUILD_NODES} phase.
+    *
+    * @param content the SVG content origin
+    * @param phase the phase
+    * @param duration the duration of the phase in nanoseconds
+    */
+   public default void phaseCompleted(SVGContent content, LoadPhase phase, long duration) {
+   }
+
+   /**
+    * Called when the loading is completed. The statistics are also available on the resulting image with
+    * {@link SVGImage#getLoadStatistics()}.
+    *
+    * @param content the SVG content origin
+    * @param statistics the statistics of the loading
+    */
+   public default void loadCompleted(SVGContent content, LoadStatistics statistics) {
+   }
+}
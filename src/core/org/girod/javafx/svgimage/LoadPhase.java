@@ -0,0 +1,69 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+/**
+ * The phases of the loading of a SVG content, which are reported to a {@link LoadListener}.
+ *
+ * @since 1.6
+ */
+public enum LoadPhase {
+   /**
+    * The wait for the JavaFX Platform Thread, when the Nodes tree is built on this thread from another thread.
+    */
+   PLATFORM_WAIT,
+   /**
+    * The XML parsing of the SVG content. This phase is very short if the parsed document was retained or was in the documents cache.
+    */
+   PARSE,
+   /**
+    * The parsing of the <code>style</code> elements.
+    */
+   PREPARSE_STYLES,
+   /**
+    * The parsing of the <code>clipPath</code> and <code>mask</code> elements.
+    */
+   PREPARSE_CLIPPING,
+   /**
+    * The build of the JavaFX Nodes tree. This phase includes the {@link #GRADIENTS} and {@link #ANIMATIONS} phases.
+    */
+   BUILD_NODES,
+   /**
+    * The build and the resolution of the gradients, which is performed during the {@link #BUILD_NODES} phase.
+    */
+   GRADIENTS,
+   /**
+    * The build of the animations, which is performed during the {@link #BUILD_NODES} phase.
+    */
+   ANIMATIONS
+}
@@ -0,0 +1,165 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.util.Locale;
+
+/**
+ * The statistics of the loading of a SVG content: the duration of each phase of the loading, and the number of elements of each
+ * kind which have been built.
+ *
+ * @since 1.6
+ */
+public class LoadStatistics {
+   private final long[] durations = new long[LoadPhase.values().length];
+   private long totalDuration = 0;
+   int elementsCount = 0;
+   int pathsCount = 0;
+   int pathSegmentsCount = 0;
+   int textsCount = 0;
+   int filtersCount = 0;
+   int clipsCount = 0;
+   int imagesCount = 0;
+
+   LoadStatistics() {
+   }
+
+   void addDuration(LoadPhase phase, long duration) {
+      durations[phase.ordinal()] += duration;
+   }
+
+   void setTotalDuration(long totalDuration) {
+      this.totalDuration = totalDuration;
+   }
+
+   /**
+    * Return the duration of a phase, in nanoseconds.
+    *
+    * @param phase the phase
+    * @return the duration
+    */
+   public long getDuration(LoadPhase phase) {
+      return durations[phase.ordinal()];
+   }
+
+   /**
+    * Return the total duration of the loading, in nanoseconds.
+    *
+    * @return the total duration
+    */
+   public long getTotalDuration() {
+      return totalDuration;
+   }
+
+   /**
+    * Return the number of XML elements in the SVG document.
+    *
+    * @return the number of elements
+    */
+   public int getElementsCount() {
+      return elementsCount;
+   }
+
+   /**
+    * Return the number of <code>path</code> elements.
+    *
+    * @return the number of paths
+    */
+   public int getPathsCount() {
+      return pathsCount;
+   }
+
+   /**
+    * Return the number of commands in the <code>path</code> elements. Implicit commands are counted, for example
+    * <code>M0 0 1 1 2 2</code> has three commands.
+    *
+    * @return the number of path segments
+    */
+   public int getPathSegmentsCount() {
+      return pathSegmentsCount;
+   }
+
+   /**
+    * Return the number of <code>text</code> elements.
+    *
+    * @return the number of texts
+    */
+   public int getTextsCount() {
+      return textsCount;
+   }
+
+   /**
+    * Return the number of <code>filter</code> elements.
+    *
+    * @return the number of filters
+    */
+   public int getFiltersCount() {
+      return filtersCount;
+   }
+
+   /**
+    * Return the number of <code>clipPath</code> and <code>mask</code> elements.
+    *
+    * @return the number of clips
+    */
+   public int getClipsCount() {
+      return clipsCount;
+   }
+
+   /**
+    * Return the number of <code>image</code> elements.
+    *
+    * @return the number of images
+    */
+   public int getImagesCount() {
+      return imagesCount;
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder buf = new StringBuilder();
+      buf.append("total=").append(totalDuration / 1000).append("us");
+      LoadPhase[] phases = LoadPhase.values();
+      for (int i = 0; i < phases.length; i++) {
+         buf.append(", ").append(phases[i].name().toLowerCase(Locale.ROOT)).append('=').append(durations[i] / 1000).append("us");
+      }
+      buf.append(", elements=").append(elementsCount);
+      buf.append(", paths=").append(pathsCount);
+      buf.append(", pathSegments=").append(pathSegmentsCount);
+      buf.append(", texts=").append(textsCount);
+      buf.append(", filters=").append(filtersCount);
+      buf.append(", clips=").append(clipsCount);
+      buf.append(", images=").append(imagesCount);
+      return buf.toString();
+   }
+}
@@ -1,5 +1,5 @@
 /*
-Copyright (c) 2021, 2025 Hervé Girod
+Copyright (c) 2021, 2025, 2026 Hervé Girod
 All rights reserved.
 
 Redistribution and use in source and binary forms, with or without
@@ -32,6 +32,9 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
  */
 package org.girod.javafx.svgimage;
 
+import org.girod.javafx.svgimage.xml.parsers.xmltree.StAXTreeReader;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLTreeReader;
+
 /**
  * The parameters used for loading a SVG file or URL. By default:
  * <ul>
@@ -41,9 +44,14 @@ package org.girod.javafx.svgimage;
  * <li>The animations are auto started</li>
  * <li>The resulting image is not centered</li>
  * <li>Ther viewPort position is taken into account</li>
+ * <li>The SVG content is parsed and the Nodes tree is built on the JavaFX Platform Thread</li>
+ * <li>The parsed SVG document is kept in the resulting image</li>
+ * <li>The SVG content is not considered as trusted</li>
+ * <li>There is no load listener</li>
+ * <li>The XML content is read with a SAX parser</li>
  * </ul>
  *
- * @version 1.3
+ * @version 1.6
  */
 public class LoaderParameters implements Cloneable {
    private static final double DEFAULT_MIN_TEXT_SIZE = 1d;
@@ -79,7 +87,78 @@ public class LoaderParameters implements Cloneable {
     * The minimum font size to create complete texts. The default is {@link #DEFAULT_MIN_TEXT_SIZE}. If the font of a text is smaller than this value, then
     * the text will be crrated by concatenating a text primitive for each letter in the text.
     */
-   public double minTextSize = DEFAULT_MIN_TEXT_SIZE;      
+   public double minTextSize = DEFAULT_MIN_TEXT_SIZE;
+   /**
+    * True if the SVG content must be parsed and the Nodes tree built on the calling thread rather than on the JavaFX Platform Thread.
+    * The default is false.
+    * <p>
+    * The JavaFX Nodes may be created on any thread as long as they are not attached to a live Scene, so this allows to avoid to
+    * block the JavaFX Platform Thread while parsing large documents. Only the probing of the effects support and the start of the
+    * animations are performed on the JavaFX Platform Thread. Note that the resulting image must still be attached to a Scene
+    * on the JavaFX Platform Thread.</p>
+    *
+    * @since 1.6
+    */
+   public boolean buildOnCallingThread = false;
+   /**
+    * True if the parsed SVG document must be kept in the resulting image. The default is false.
+    * <p>
+    * Keeping the parsed document allows to scale the image with the {@link ScaleQuality#RENDER_QUALITY} quality, or to create the
+    * instances of a {@link SVGTemplate}, without reading and parsing the SVG content again, at the cost of keeping the parsed XML
+    * tree in memory for the lifetime of the image. If the document is not kept, the SVG content is read and parsed again.</p>
+    *
+    * @since 1.6
+    */
+   public boolean retainDocument = false;
+   /**
+    * True if the SVG content comes from a trusted source. The default is false.
+    * <p>
+    * For trusted inputs, the XML parser does not process the namespaces and the external entities, and the secure processing limits
+    * of the parser (such as the entity expansion accounting) are disabled, which reduces the parsing overhead for each document.
+    * This must not be used for SVG content coming from an untrusted source.</p>
+    *
+    * @since 1.6
+    */
+   public boolean trustedInput = false;
+   /**
+    * The listener notified of the phases of the loading. The default is null. This listener is notified in addition to the
+    * global listener (see {@link GlobalConfig#setLoadListener(LoadListener)}).
+    *
+    * @since 1.6
+    */
+   public LoadListener loadListener = null;
+   /**
+    * The reader of the XML content. The default is null, which means that the content is read with a SAX parser. The
+    * {@link StAXTreeReader} skips the elements which are not used for the rendering.
+    *
+    * @since 1.6
+    */
+   public XMLTreeReader xmlReader = null;
+   /**
+    * True if the "path" elements must be built as {@link javafx.scene.shape.Path} Nodes whose elements are created directly
+    * from the parsed path data, rather than as {@link javafx.scene.shape.SVGPath} Nodes. The default is false.
+    * <p>
+    * The content of a SVGPath is a String which is parsed again by JavaFX, so this avoids to serialize the parsed path data
+    * and to parse it a second time. All the elements of the resulting paths are absolute.</p>
+    *
+    * @since 1.6
+    */
+   public boolean buildPathElements = false;
+   /**
+    * The tolerance of the simplification of the "path", "polyline" and "polygon" elements, in the coordinates of the shapes
+    * after the viewport scaling and the scaling of the viewBox of the "symbol" which contains them. These are device
+    * pixels if the image is not scaled afterwards and the shapes have no "transform" attribute, because the transforms of the
+    * elements and their parents are not taken into account. The tolerance must be positive or 0, and the default is 0, which
+    * means that the shapes are not simplified.
+    * <p>
+    * The curves which do not deviate from their chord by more than the tolerance are replaced by lines, and the lines are
+    * simplified with the Douglas-Peucker algorithm, see {@link org.girod.javafx.svgimage.xml.parsers.PathGeometry#simplify(double)}.
+    * This allows to avoid to create the segments which would be smaller than a pixel for a large geometry such as a map. The
+    * image can be rebuilt later at another level of detail with {@link SVGImage#setSimplificationTolerance(double)}.</p>
+    *
+    * @since 1.6
+    */
+   public double simplificationTolerance = 0;
 
    /**
     * Create loader parameters with default values.
@@ -0,0 +1,289 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.QuadCurveTo;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import javafx.scene.shape.VLineTo;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Transform;
+
+/**
+ * Clones the Nodes trees built by the {@link SVGLoader}. The immutable resources ({@link javafx.scene.paint.Paint},
+ * {@link javafx.scene.image.Image}, {@link javafx.scene.text.Font}) and the effects are shared between the original Nodes and their
+ * clones, the Nodes, the clips and the transforms are copied.
+ *
+ * @since 1.6
+ */
+class NodeCloner {
+   private NodeCloner() {
+   }
+
+   /**
+    * Return true if all the Nodes of a tree can be cloned.
+    *
+    * @param node the root of the tree
+    * @return true if all the Nodes of the tree can be cloned
+    */
+   static boolean isClonable(Node node) {
+      if (node.getClip() != null && !isClonable(node.getClip())) {
+         return false;
+      }
+      if (node instanceof Group) {
+         Iterator<Node> it = ((Group) node).getChildren().iterator();
+         while (it.hasNext()) {
+            if (!isClonable(it.next())) {
+               return false;
+            }
+         }
+         return node.getClass() == Group.class || node.getClass() == SVGImage.class;
+      }
+      Class<?> clazz = node.getClass();
+      return clazz == Rectangle.class || clazz == Circle.class || clazz == Ellipse.class || clazz == Line.class || clazz == Polyline.class
+         || clazz == Polygon.class || clazz == SVGPath.class || clazz == Path.class || clazz == Text.class || clazz == ImageView.class;
+   }
+
+   /**
+    * Clone an image. All the Nodes of the image must be clonable, and the image must not have any animation.
+    *
+    * @param image the image
+    * @return the clone
+    */
+   static SVGImage cloneImage(SVGImage image) {
+      SVGImage clone = new SVGImage(image.getSVGContent());
+      clone.setFile(image.getFile());
+      clone.setViewport(image.getViewport());
+      clone.setSVGStylesheets(image.getSVGStylesheets());
+      clone.setDocument(image.getDocument());
+      clone.setCurrentScale(image.getCurrentScale());
+      Map<Node, Node> clones = new IdentityHashMap<>();
+      cloneChildren(image, clone, clones);
+      copyNodeProperties(image, clone, clones);
+      if (!image.getStylesheets().isEmpty()) {
+         clone.getStylesheets().setAll(image.getStylesheets());
+      }
+      Iterator<Map.Entry<String, Node>> it = image.getNodes().entrySet().iterator();
+      while (it.hasNext()) {
+         Map.Entry<String, Node> entry = it.next();
+         Node node = clones.get(entry.getValue());
+         if (node != null) {
+            clone.putNode(entry.getKey(), node);
+         }
+      }
+      return clone;
+   }
+
+   private static void cloneChildren(Group from, Group to, Map<Node, Node> clones) {
+      Iterator<Node> it = from.getChildren().iterator();
+      while (it.hasNext()) {
+         to.getChildren().add(cloneNode(it.next(), clones));
+      }
+   }
+
+   private static Node cloneNode(Node node, Map<Node, Node> clones) {
+      Node clone;
+      if (node instanceof Group) {
+         Group group = new Group();
+         group.setAutoSizeChildren(((Group) node).isAutoSizeChildren());
+         cloneChildren((Group) node, group, clones);
+         clone = group;
+      } else if (node instanceof ImageView) {
+         ImageView view = (ImageView) node;
+         ImageView view2 = new ImageView(view.getImage());
+         view2.setX(view.getX());
+         view2.setY(view.getY());
+         view2.setFitWidth(view.getFitWidth());
+         view2.setFitHeight(view.getFitHeight());
+         view2.setPreserveRatio(view.isPreserveRatio());
+         view2.setSmooth(view.isSmooth());
+         view2.setViewport(view.getViewport());
+         clone = view2;
+      } else {
+         Shape shape = cloneShape((Shape) node);
+         copyShapeProperties((Shape) node, shape);
+         clone = shape;
+      }
+      copyNodeProperties(node, clone, clones);
+      clones.put(node, clone);
+      return clone;
+   }
+
+   private static Shape cloneShape(Shape shape) {
+      if (shape instanceof Rectangle) {
+         Rectangle rect = (Rectangle) shape;
+         Rectangle rect2 = new Rectangle(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight());
+         rect2.setArcWidth(rect.getArcWidth());
+         rect2.setArcHeight(rect.getArcHeight());
+         return rect2;
+      } else if (shape instanceof Circle) {
+         Circle circle = (Circle) shape;
+         return new Circle(circle.getCenterX(), circle.getCenterY(), circle.getRadius());
+      } else if (shape instanceof Ellipse) {
+         Ellipse ellipse = (Ellipse) shape;
+         return new Ellipse(ellipse.getCenterX(), ellipse.getCenterY(), ellipse.getRadiusX(), ellipse.getRadiusY());
+      } else if (shape instanceof Line) {
+         Line line = (Line) shape;
+         return new Line(line.getStartX(), line.getStartY(), line.getEndX(), line.getEndY());
+      } else if (shape instanceof Polyline) {
+         Polyline polyline = new Polyline();
+         polyline.getPoints().setAll(((Polyline) shape).getPoints());
+         return polyline;
+      } else if (shape instanceof Polygon) {
+         Polygon polygon = new Polygon();
+         polygon.getPoints().setAll(((Polygon) shape).getPoints());
+         return polygon;
+      } else if (shape instanceof SVGPath) {
+         SVGPath svgPath = (SVGPath) shape;
+         SVGPath svgPath2 = new SVGPath();
+         svgPath2.setContent(svgPath.getContent());
+         svgPath2.setFillRule(svgPath.getFillRule());
+         return svgPath2;
+      } else if (shape instanceof Path) {
+         Path path = (Path) shape;
+         Path path2 = new Path();
+         Iterator<PathElement> it = path.getElements().iterator();
+         while (it.hasNext()) {
+            path2.getElements().add(clonePathElement(it.next()));
+         }
+         path2.setFillRule(path.getFillRule());
+         return path2;
+      } else {
+         Text text = (Text) shape;
+         Text text2 = new Text(text.getX(), text.getY(), text.getText());
+         text2.setFont(text.getFont());
+         text2.setTextAlignment(text.getTextAlignment());
+         text2.setTextOrigin(text.getTextOrigin());
+         text2.setBoundsType(text.getBoundsType());
+         text2.setWrappingWidth(text.getWrappingWidth());
+         text2.setUnderline(text.isUnderline());
+         text2.setStrikethrough(text.isStrikethrough());
+         text2.setFontSmoothingType(text.getFontSmoothingType());
+         text2.setLineSpacing(text.getLineSpacing());
+         return text2;
+      }
+   }
+
+   private static PathElement clonePathElement(PathElement element) {
+      PathElement clone;
+      if (element instanceof MoveTo) {
+         MoveTo moveTo = (MoveTo) element;
+         clone = new MoveTo(moveTo.getX(), moveTo.getY());
+      } else if (element instanceof LineTo) {
+         LineTo lineTo = (LineTo) element;
+         clone = new LineTo(lineTo.getX(), lineTo.getY());
+      } else if (element instanceof HLineTo) {
+         clone = new HLineTo(((HLineTo) element).getX());
+      } else if (element instanceof VLineTo) {
+         clone = new VLineTo(((VLineTo) element).getY());
+      } else if (element instanceof CubicCurveTo) {
+         CubicCurveTo curveTo = (CubicCurveTo) element;
+         clone = new CubicCurveTo(curveTo.getControlX1(), curveTo.getControlY1(), curveTo.getControlX2(), curveTo.getControlY2(),
+            curveTo.getX(), curveTo.getY());
+      } else if (element instanceof QuadCurveTo) {
+         QuadCurveTo curveTo = (QuadCurveTo) element;
+         clone = new QuadCurveTo(curveTo.getControlX(), curveTo.getControlY(), curveTo.getX(), curveTo.getY());
+      } else if (element instanceof ArcTo) {
+         ArcTo arcTo = (ArcTo) element;
+         clone = new ArcTo(arcTo.getRadiusX(), arcTo.getRadiusY(), arcTo.getXAxisRotation(), arcTo.getX(), arcTo.getY(),
+            arcTo.isLargeArcFlag(), arcTo.isSweepFlag());
+      } else {
+         clone = new ClosePath();
+      }
+      clone.setAbsolute(element.isAbsolute());
+      return clone;
+   }
+
+   private static void copyShapeProperties(Shape from, Shape to) {
+      to.setFill(from.getFill());
+      to.setStroke(from.getStroke());
+      to.setStrokeWidth(from.getStrokeWidth());
+      to.setStrokeType(from.getStrokeType());
+      to.setStrokeLineCap(from.getStrokeLineCap());
+      to.setStrokeLineJoin(from.getStrokeLineJoin());
+      to.setStrokeMiterLimit(from.getStrokeMiterLimit());
+      to.setStrokeDashOffset(from.getStrokeDashOffset());
+      if (!from.getStrokeDashArray().isEmpty()) {
+         to.getStrokeDashArray().setAll(from.getStrokeDashArray());
+      }
+      to.setSmooth(from.isSmooth());
+   }
+
+   private static void copyNodeProperties(Node from, Node to, Map<Node, Node> clones) {
+      to.setId(from.getId());
+      to.setStyle(from.getStyle());
+      if (!from.getStyleClass().isEmpty()) {
+         to.getStyleClass().setAll(from.getStyleClass());
+      }
+      to.setVisible(from.isVisible());
+      to.setOpacity(from.getOpacity());
+      to.setBlendMode(from.getBlendMode());
+      to.setEffect(from.getEffect());
+      to.setCache(from.isCache());
+      to.setCacheHint(from.getCacheHint());
+      to.setLayoutX(from.getLayoutX());
+      to.setLayoutY(from.getLayoutY());
+      to.setTranslateX(from.getTranslateX());
+      to.setTranslateY(from.getTranslateY());
+      to.setScaleX(from.getScaleX());
+      to.setScaleY(from.getScaleY());
+      to.setRotate(from.getRotate());
+      if (from.getClip() != null) {
+         to.setClip(cloneNode(from.getClip(), clones));
+      }
+      Iterator<Transform> it = from.getTransforms().iterator();
+      while (it.hasNext()) {
+         to.getTransforms().add(it.next().clone());
+      }
+   }
+}
@@ -0,0 +1,148 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of the loading of a batch of SVG documents. The results are ordered as the URLs of the batch. A document which could not
+ * be loaded has no image but an error, the other documents of the batch are not affected.
+ *
+ * @since 1.6
+ * @see SVGLoader#loadAll(java.util.Collection, LoaderParameters)
+ */
+public class SVGBatch {
+   private final List<URL> urls;
+   private final SVGImage[] images;
+   private final Throwable[] errors;
+
+   SVGBatch(List<URL> urls) {
+      this.urls = Collections.unmodifiableList(urls);
+      this.images = new SVGImage[urls.size()];
+      this.errors = new Throwable[urls.size()];
+   }
+
+   void setImage(int index, SVGImage image) {
+      images[index] = image;
+   }
+
+   void setError(int index, Throwable error) {
+      errors[index] = error;
+   }
+
+   /**
+    * Return the number of documents in the batch.
+    *
+    * @return the number of documents
+    */
+   public int size() {
+      return images.length;
+   }
+
+   /**
+    * Return the URLs of the documents in the batch.
+    *
+    * @return the URLs
+    */
+   public List<URL> getURLs() {
+      return urls;
+   }
+
+   /**
+    * Return the URL of a document.
+    *
+    * @param index the document index
+    * @return the URL
+    */
+   public URL getURL(int index) {
+      return urls.get(index);
+   }
+
+   /**
+    * Return the image of a document. Return null if the document could not be loaded.
+    *
+    * @param index the document index
+    * @return the image
+    */
+   public SVGImage getImage(int index) {
+      return images[index];
+   }
+
+   /**
+    * Return the error which occurred when loading a document. Return null if the document was loaded successfully.
+    *
+    * @param index the document index
+    * @return the error
+    */
+   public Throwable getError(int index) {
+      return errors[index];
+   }
+
+   /**
+    * Return true if a document was loaded successfully.
+    *
+    * @param index the document index
+    * @return true if the document was loaded successfully
+    */
+   public boolean isLoaded(int index) {
+      return errors[index] == null && images[index] != null;
+   }
+
+   /**
+    * Return true if at least one document of the batch could not be loaded.
+    *
+    * @return true if at least one document could not be loaded
+    */
+   public boolean hasErrors() {
+      for (int i = 0; i < errors.length; i++) {
+         if (errors[i] != null) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Return the images of the batch, ordered as the URLs. The image of a document which could not be loaded is null.
+    *
+    * @return the images
+    */
+   public List<SVGImage> getImages() {
+      List<SVGImage> list = new ArrayList<>(images.length);
+      Collections.addAll(list, images);
+      return list;
+   }
+}
@@ -0,0 +1,248 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.girod.javafx.svgimage.xml.parsers.SVGParsingException;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLRoot;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLTreeCodec;
+
+/**
+ * Compiles parsed SVG documents in a compact binary form, and reads them back without parsing the XML content again.
+ * <p>
+ * The compiled form begins with a header which contains the version of the format and the key of the source of the document (see
+ * {@link SVGDocumentCache#getKey(URL)}). The {@link #getDocument(URL, Path)} method uses this header to compile the source again
+ * if the compiled file was written with another version of the format, or if the source has been modified since.</p>
+ * <p>
+ * The compiled documents can be loaded with {@link SVGLoader#load(SVGDocument, URL, LoaderParameters)}.</p>
+ *
+ * @since 1.6
+ */
+public class SVGCompiler {
+   /**
+    * The version of the compiled format.
+    */
+   public static final int VERSION = 2;
+   private static final int MAGIC = 0x46585356;
+   /**
+    * The minimum size of a compiled file for it to be memory-mapped rather than read in a heap buffer.
+    */
+   private static final long MAPPING_THRESHOLD = 64 * 1024;
+
+   private SVGCompiler() {
+   }
+
+   /**
+    * Write a compiled document.
+    *
+    * @param document the document
+    * @param stream the stream
+    * @throws IOException if the document could not be written
+    */
+   public static void compile(SVGDocument document, OutputStream stream) throws IOException {
+      compile(document, null, stream);
+   }
+
+   private static void compile(SVGDocument document, String sourceKey, OutputStream stream) throws IOException {
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      writeString(out, sourceKey == null ? "" : sourceKey);
+      out.writeInt(document.getElementsCount());
+      out.writeLong(document.getEstimatedSize());
+      List<URL> stylesheets = document.getStylesheets();
+      out.writeInt(stylesheets.size());
+      for (URL stylesheet : stylesheets) {
+         writeString(out, stylesheet.toExternalForm());
+      }
+      XMLTreeCodec.encode(document.getRoot(), out);
+      out.flush();
+   }
+
+   /**
+    * Parse a svg URL and write the compiled document in a file. The file is replaced atomically if possible, so that concurrent
+    * readers never see a partially written file.
+    *
+    * @param source the URL of the SVG content
+    * @param target the compiled file
+    * @return the parsed document
+    * @throws SVGParsingException if the URL could not be parsed
+    * @throws IOException if the compiled file could not be written
+    */
+   public static SVGDocument compile(URL source, Path target) throws SVGParsingException, IOException {
+      String key = SVGDocumentCache.getKey(source);
+      SVGDocument document = SVGLoader.parse(source);
+      if (document == null) {
+         return null;
+      }
+      Path absolute = target.toAbsolutePath();
+      Path tmp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+      try {
+         try (OutputStream stream = Files.newOutputStream(tmp)) {
+            compile(document, key, stream);
+         }
+         try {
+            Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+         } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING);
+         }
+      } finally {
+         Files.deleteIfExists(tmp);
+      }
+      return document;
+   }
+
+   /**
+    * Read a compiled document from the remaining bytes of a buffer.
+    *
+    * @param buffer the buffer
+    * @return the document
+    * @throws IOException if the buffer does not contain a compiled document of the current version
+    */
+   public static SVGDocument read(ByteBuffer buffer) throws IOException {
+      ByteBuffer theBuffer = buffer.duplicate();
+      if (readHeader(theBuffer) == null) {
+         throw new IOException("Not a compiled SVG document of version " + VERSION);
+      }
+      return readBody(theBuffer);
+   }
+
+   /**
+    * Read a compiled file. Large files are memory-mapped.
+    *
+    * @param path the compiled file
+    * @return the document
+    * @throws IOException if the file does not contain a compiled document of the current version
+    */
+   public static SVGDocument read(Path path) throws IOException {
+      return read(open(path));
+   }
+
+   /**
+    * Return the document of a svg URL, read from its compiled file if the file is up to date. Else the URL is parsed, and the
+    * compiled file is written again.
+    *
+    * @param source the URL of the SVG content
+    * @param compiled the compiled file
+    * @return the document
+    * @throws SVGParsingException if the URL could not be parsed
+    * @throws IOException if the compiled file could not be written
+    */
+   public static SVGDocument getDocument(URL source, Path compiled) throws SVGParsingException, IOException {
+      if (Files.isRegularFile(compiled)) {
+         ByteBuffer buffer = open(compiled);
+         String key = readHeader(buffer);
+         if (key != null && key.equals(SVGDocumentCache.getKey(source))) {
+            try {
+               return readBody(buffer);
+            } catch (IOException ex) {
+               // the compiled file is corrupted, it will be written again
+            }
+         }
+      }
+      return compile(source, compiled);
+   }
+
+   private static ByteBuffer open(Path path) throws IOException {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+         long size = channel.size();
+         if (size < MAPPING_THRESHOLD || size > Integer.MAX_VALUE) {
+            return ByteBuffer.wrap(Files.readAllBytes(path));
+         }
+         return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      }
+   }
+
+   /**
+    * Read the header of a compiled document.
+    *
+    * @return the key of the source, or null if the buffer does not contain a compiled document of the current version
+    */
+   private static String readHeader(ByteBuffer buffer) {
+      try {
+         if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return null;
+         }
+         return readString(buffer);
+      } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+         return null;
+      }
+   }
+
+   private static SVGDocument readBody(ByteBuffer buffer) throws IOException {
+      try {
+         int elementsCount = buffer.getInt();
+         long estimatedSize = buffer.getLong();
+         int count = buffer.getInt();
+         List<URL> stylesheets = new ArrayList<>(count);
+         for (int i = 0; i < count; i++) {
+            stylesheets.add(new URL(readString(buffer)));
+         }
+         XMLRoot root = XMLTreeCodec.decode(buffer);
+         return new SVGDocument(root, stylesheets, elementsCount, estimatedSize);
+      } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+         throw new IOException("Invalid compiled SVG document", ex);
+      }
+   }
+
+   private static void writeString(DataOutputStream out, String value) throws IOException {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+   }
+
+   private static String readString(ByteBuffer buffer) {
+      int length = buffer.getInt();
+      if (length < 0 || length > buffer.remaining()) {
+         throw new BufferUnderflowException();
+      }
+      byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+   }
+}
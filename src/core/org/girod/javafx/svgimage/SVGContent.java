@@ -35,9 +35,10 @@ package org.girod.javafx.svgimage;
 import java.net.URL;
 
 /**
- * Represents the SVG content origin.
+ * Represents the SVG content origin. If the content was read from an InputStream or a ByteBuffer, both the URL and the String
+ * content are null.
  *
- * @since 1.0
+ * @version 1.6
  */
 public class SVGContent {
    /**
@@ -0,0 +1,101 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.net.URL;
+import java.util.List;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLRoot;
+
+/**
+ * The parsed content of a SVG document, before the JavaFX Nodes tree has been built. The same document can be used to build several
+ * Nodes trees, so it can be shared by a {@link SVGDocumentCache}.
+ *
+ * @since 1.6
+ */
+public class SVGDocument {
+   private final XMLRoot root;
+   private final List<URL> stylesheets;
+   private final int elementsCount;
+   private final long estimatedSize;
+
+   /**
+    * Constructor.
+    *
+    * @param root the root of the parsed XML tree
+    * @param stylesheets the stylesheets declared in the document
+    * @param elementsCount the number of elements in the document
+    * @param estimatedSize the estimated memory size of the document, in bytes
+    */
+   public SVGDocument(XMLRoot root, List<URL> stylesheets, int elementsCount, long estimatedSize) {
+      this.root = root;
+      this.stylesheets = stylesheets;
+      this.elementsCount = elementsCount;
+      this.estimatedSize = estimatedSize;
+   }
+
+   /**
+    * Return the root of the parsed XML tree.
+    *
+    * @return the root
+    */
+   public XMLRoot getRoot() {
+      return root;
+   }
+
+   /**
+    * Return the stylesheets declared in the document.
+    *
+    * @return the stylesheets
+    */
+   public List<URL> getStylesheets() {
+      return stylesheets;
+   }
+
+   /**
+    * Return the number of elements in the document.
+    *
+    * @return the number of elements
+    */
+   public int getElementsCount() {
+      return elementsCount;
+   }
+
+   /**
+    * Return a rough estimate of the memory size of the document, in bytes.
+    *
+    * @return the estimated size
+    */
+   public long getEstimatedSize() {
+      return estimatedSize;
+   }
+}
@@ -0,0 +1,279 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of parsed SVG documents, which allows to skip the parsing of documents which are loaded several times. The cache is
+ * bounded by an estimate of the memory size of the documents, and the least recently used documents are evicted first. The documents
+ * are held through soft references, so they can also be reclaimed by the garbage collector under memory pressure.
+ * <p>
+ * Documents loaded from an URL are identified by the URL and its last modification time, documents loaded from a String are
+ * identified by a hash of their content.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>
+ * GlobalConfig.getInstance().setDocumentCache(new SVGDocumentCache(32 * 1024 * 1024));
+ * </pre>
+ *
+ * @since 1.6
+ */
+public class SVGDocumentCache {
+   /**
+    * The default maximum size of the cache, in bytes.
+    */
+   public static final long DEFAULT_MAX_SIZE = 64L * 1024L * 1024L;
+   /**
+    * The connect and read timeout of the requests for the last modification time of an http URL, in milliseconds.
+    */
+   public static final int TIMEOUT = 5000;
+   private final long maxSize;
+   private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+   private long currentSize = 0;
+   private long hits = 0;
+   private long misses = 0;
+   private long evictions = 0;
+
+   /**
+    * Create a cache with the {@link #DEFAULT_MAX_SIZE} maximum size.
+    */
+   public SVGDocumentCache() {
+      this(DEFAULT_MAX_SIZE);
+   }
+
+   /**
+    * Create a cache.
+    *
+    * @param maxSize the maximum estimated size of the cached documents, in bytes
+    */
+   public SVGDocumentCache(long maxSize) {
+      this.maxSize = maxSize;
+   }
+
+   /**
+    * Return the maximum estimated size of the cached documents, in bytes.
+    *
+    * @return the maximum size
+    */
+   public long getMaxSize() {
+      return maxSize;
+   }
+
+   /**
+    * Return the key identifying a document loaded from an URL. For a file or an http URL, the key depends on the last modification
+    * time of the URL, so a modified document will not be found in the cache. The last modification time of an http URL is
+    * obtained with a HEAD request, with a timeout of {@link #TIMEOUT} milliseconds. If this time is unknown, for example because
+    * the server does not send it, the key is null and the document must not be cached. Other URLs, such as the resources of a
+    * jar file, are identified by the URL only.
+    *
+    * @param url the URL
+    * @return the key, or null if the last modification time of the URL is unknown
+    */
+   public static String getKey(URL url) {
+      long lastModified = 0;
+      String protocol = url.getProtocol();
+      if (protocol.equals("file")) {
+         try {
+            lastModified = new File(url.toURI()).lastModified();
+         } catch (URISyntaxException | IllegalArgumentException ex) {
+            lastModified = 0;
+         }
+      } else if (protocol.equals("http") || protocol.equals("https")) {
+         HttpURLConnection connection = null;
+         try {
+            connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setRequestMethod("HEAD");
+            lastModified = connection.getLastModified();
+         } catch (IOException | ClassCastException ex) {
+            lastModified = 0;
+         } finally {
+            if (connection != null) {
+               connection.disconnect();
+            }
+         }
+      } else {
+         return url.toExternalForm();
+      }
+      return lastModified == 0 ? null : url.toExternalForm() + "@" + lastModified;
+   }
+
+   /**
+    * Return the key identifying a document loaded from a String content.
+    *
+    * @param content the content
+    * @return the key
+    */
+   public static String getKey(String content) {
+      try {
+         MessageDigest digest = MessageDigest.getInstance("SHA-256");
+         byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+         StringBuilder buf = new StringBuilder(hash.length * 2 + 1);
+         buf.append('#');
+         for (int i = 0; i < hash.length; i++) {
+            int b = hash[i] & 0xFF;
+            buf.append(Character.forDigit(b >> 4, 16)).append(Character.forDigit(b & 0xF, 16));
+         }
+         return buf.toString();
+      } catch (NoSuchAlgorithmException ex) {
+         // SHA-256 is always available, we should never go there
+         return "#" + content.length() + ":" + content.hashCode();
+      }
+   }
+
+   /**
+    * Return the document of a specified key. Return null if there is no document for this key or if the document has been reclaimed
+    * by the garbage collector.
+    *
+    * @param key the key
+    * @return the document
+    */
+   public synchronized SVGDocument get(String key) {
+      CacheEntry entry = entries.get(key);
+      if (entry != null) {
+         SVGDocument document = entry.document.get();
+         if (document != null) {
+            hits++;
+            return document;
+         }
+         entries.remove(key);
+         currentSize -= entry.size;
+         evictions++;
+      }
+      misses++;
+      return null;
+   }
+
+   /**
+    * Put a document in the cache. The least recently used documents are evicted if the maximum size of the cache is exceeded. Documents
+    * which are larger than the maximum size of the cache are not cached.
+    *
+    * @param key the key
+    * @param document the document
+    */
+   public synchronized void put(String key, SVGDocument document) {
+      long size = document.getEstimatedSize();
+      if (size > maxSize) {
+         return;
+      }
+      CacheEntry previous = entries.put(key, new CacheEntry(document, size));
+      if (previous != null) {
+         currentSize -= previous.size;
+      }
+      currentSize += size;
+      Iterator<CacheEntry> it = entries.values().iterator();
+      while (currentSize > maxSize && it.hasNext()) {
+         CacheEntry entry = it.next();
+         it.remove();
+         currentSize -= entry.size;
+         evictions++;
+      }
+   }
+
+   /**
+    * Remove all the documents from the cache. The statistics are not reset.
+    */
+   public synchronized void clear() {
+      entries.clear();
+      currentSize = 0;
+   }
+
+   /**
+    * Return the number of cached documents.
+    *
+    * @return the number of cached documents
+    */
+   public synchronized int size() {
+      return entries.size();
+   }
+
+   /**
+    * Return the estimated size of the cached documents, in bytes.
+    *
+    * @return the estimated size
+    */
+   public synchronized long getEstimatedSize() {
+      return currentSize;
+   }
+
+   /**
+    * Return the number of times a document was found in the cache.
+    *
+    * @return the number of hits
+    */
+   public synchronized long getHitCount() {
+      return hits;
+   }
+
+   /**
+    * Return the number of times a document was not found in the cache.
+    *
+    * @return the number of misses
+    */
+   public synchronized long getMissCount() {
+      return misses;
+   }
+
+   /**
+    * Return the number of documents which have been evicted from the cache, either because the maximum size was exceeded or because
+    * they had been reclaimed by the garbage collector.
+    *
+    * @return the number of evictions
+    */
+   public synchronized long getEvictionCount() {
+      return evictions;
+   }
+
+   private static class CacheEntry {
+      private final SoftReference<SVGDocument> document;
+      private final long size;
+
+      private CacheEntry(SVGDocument document, long size) {
+         this.document = new SoftReference<>(document);
+         this.size = size;
+      }
+   }
+}
@@ -43,20 +43,30 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.FutureTask;
 import javafx.animation.Animation;
 import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.embed.swing.JFXPanel;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.image.Image;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import org.girod.javafx.svgimage.jfr.SVGEvents;
+import org.girod.javafx.svgimage.xml.parsers.PathGeometry;
 import org.girod.javafx.svgimage.xml.parsers.SVGLibraryException;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
 
 /**
  * The resulting SVG image. It is a JavaFX Nodes tree.
  *
- * @version 1.5
+ * @version 1.6
  */
 public class SVGImage extends Group {
    private static SVGSnapshotParameters SNAPSHOT_PARAMS = null;
@@ -64,6 +74,8 @@ public class SVGImage extends Group {
    private List<Animation> animations = new ArrayList<>();
    private List<URL> stylesheets = new ArrayList<>();
    private final SVGContent content;
+   private SVGDocument document = null;
+   private LoadStatistics loadStatistics = null;
    private double currentScale = 1d;
    private Viewport viewport = null;
    private File file;
@@ -153,6 +165,63 @@ public class SVGImage extends Group {
       return region;
    }
 
+   /**
+    * Set the parsed SVG document.
+    *
+    * @param document the parsed document
+    */
+   void setDocument(SVGDocument document) {
+      this.document = document;
+   }
+
+   /**
+    * Return the parsed SVG document. Return null if the document was not kept when loading the image.
+    *
+    * @return the parsed document
+    * @see LoaderParameters#retainDocument
+    * @since 1.6
+    */
+   public SVGDocument getDocument() {
+      return document;
+   }
+
+   /**
+    * Set the statistics of the loading of the image.
+    *
+    * @param loadStatistics the statistics
+    */
+   void setLoadStatistics(LoadStatistics loadStatistics) {
+      this.loadStatistics = loadStatistics;
+   }
+
+   /**
+    * Return the statistics of the loading of the image. Return null if the image was not created by the {@link SVGLoader}.
+    *
+    * @return the statistics
+    * @since 1.6
+    */
+   public LoadStatistics getLoadStatistics() {
+      return loadStatistics;
+   }
+
+   /**
+    * Set the current scale of the image.
+    *
+    * @param scale the scale
+    */
+   void setCurrentScale(double scale) {
+      this.currentScale = scale;
+   }
+
+   /**
+    * Return the current scale of the image.
+    *
+    * @return the scale
+    */
+   double getCurrentScale() {
+      return currentScale;
+   }
+
    /**
     * Return the SVG content origin.
     *
@@ -195,6 +264,15 @@ public class SVGImage extends Group {
       nodes.put(id, node);
    }
 
+   /**
+    * Return the Nodes indicated by their id.
+    *
+    * @return the Nodes
+    */
+   Map<String, Node> getNodes() {
+      return nodes;
+   }
+
    /**
     * Return true if there is a Node indicated by an id.
     *
@@ -215,6 +293,78 @@ public class SVGImage extends Group {
       return nodes.get(id);
    }
 
+   /**
+    * Rebuild the paths, polylines and polygons of the image at another level of detail, for example after a zoom. The shapes are
+    * rebuilt from their geometry before any simplification, so a smaller tolerance restores the details which were removed by
+    * the {@link LoaderParameters#simplificationTolerance} or by a previous call, and a tolerance of 0 restores all the details.
+    * <p>
+    * The tolerance is expressed as for the {@link LoaderParameters#simplificationTolerance}, after the viewport scaling and the
+    * scaling of the viewBox of the "symbol" which contains the shapes. For example if the image was loaded with a tolerance of 0.5
+    * and is then displayed with a scale of 4, the tolerance for the same quality at the new scale is 0.125, including for the
+    * shapes in a "symbol".</p>
+    *
+    * @param tolerance the tolerance
+    * @throws IllegalArgumentException if the tolerance is negative or NaN
+    * @since 1.6
+    */
+   public void setSimplificationTolerance(double tolerance) {
+      PathGeometry.checkTolerance(tolerance);
+      setSimplificationTolerance(this, tolerance);
+   }
+
+   private static void setSimplificationTolerance(Parent parent, double tolerance) {
+      Iterator<Node> it = parent.getChildrenUnmodifiable().iterator();
+      while (it.hasNext()) {
+         Node node = it.next();
+         if (node instanceof Parent) {
+            setSimplificationTolerance((Parent) node, tolerance);
+         } else if (node instanceof Path || node instanceof SVGPath) {
+            SVGPathParser parser = (SVGPathParser) node.getProperties().get("PathParser");
+            if (parser != null) {
+               double localTolerance = getLocalTolerance(node, tolerance);
+               if (node instanceof Path) {
+                  ((Path) node).getElements().setAll(parser.getGeometry().simplify(localTolerance).createElements());
+               } else {
+                  ((SVGPath) node).setContent(parser.getContent(localTolerance));
+               }
+            }
+         } else if (node instanceof Polyline) {
+            simplifyPoints((Shape) node, ((Polyline) node).getPoints(), getLocalTolerance(node, tolerance));
+         } else if (node instanceof Polygon) {
+            simplifyPoints((Shape) node, ((Polygon) node).getPoints(), getLocalTolerance(node, tolerance));
+         }
+      }
+   }
+
+   /**
+    * Return the tolerance of the simplification in the coordinates of a shape, before the scaling of the viewBox of the
+    * "symbol" which contains it. The scale of the viewBox is kept in the "ViewboxScale" property of the shape.
+    */
+   private static double getLocalTolerance(Node node, double tolerance) {
+      Double scale = (Double) node.getProperties().get("ViewboxScale");
+      return scale == null ? tolerance : tolerance / scale;
+   }
+
+   /**
+    * Simplify the points of a polyline or a polygon. The points which have never been simplified are kept in the
+    * "PathGeometry" property of the shape, as for a shape which has been simplified when loading the image.
+    */
+   private static void simplifyPoints(Shape shape, ObservableList<Double> points, double tolerance) {
+      PathGeometry geometry = (PathGeometry) shape.getProperties().get("PathGeometry");
+      if (geometry == null) {
+         if (tolerance == 0) {
+            return;
+         }
+         geometry = new PathGeometry();
+         for (int i = 0; i < points.size() - 1; i += 2) {
+            geometry.addPoint(points.get(i), points.get(i + 1));
+         }
+         geometry.trimToSize();
+         shape.getProperties().put("PathGeometry", geometry);
+      }
+      geometry.simplify(tolerance).fillPoints(points);
+   }
+
    /**
     * Set the list of animations.
     *
@@ -224,6 +374,15 @@ public class SVGImage extends Group {
       this.animations = animations;
    }
 
+   /**
+    * Return the list of animations.
+    *
+    * @return the animations
+    */
+   List<Animation> getAnimations() {
+      return animations;
+   }
+
    /**
     * Play the animations.
     */
@@ -537,17 +696,24 @@ public class SVGImage extends Group {
     * @return the new image
     */
    public SVGImage scale(double scale, boolean createNew) {
-      if (content == null) {
+      if (content == null || (document == null && !content.isFromURL() && !content.isFromString())) {
+         // the SVG content can not be parsed again if it was read from a stream and the parsed document was not kept
          this.setScaleX(scale);
          this.setScaleY(scale);
          this.currentScale = this.currentScale * scale;
          return this;
       } else {
          SVGImage image;
-         if (content.params != null) {
+         this.currentScale = this.currentScale * scale;
+         if (document != null) {
+            // the parsed document was kept, so only the Nodes tree must be built again for the new scale
+            LoaderParameters params = content.params != null ? content.params.clone() : new LoaderParameters();
+            params.width = -1;
+            params.scale = this.currentScale;
+            image = SVGLoader.rebuild(this, params);
+         } else if (content.params != null) {
             LoaderParameters params = content.params.clone();
             params.width = -1;
-            this.currentScale = this.currentScale * scale;
             params.scale = this.currentScale;
             if (content.isFromURL()) {
                image = SVGLoader.load(content.url, params);
@@ -555,7 +721,6 @@ public class SVGImage extends Group {
                image = SVGLoader.load(content.content, params);
             }
          } else {
-            this.currentScale = this.currentScale * scale;
             if (content.isFromURL()) {
                image = SVGLoader.loadScaled(content.url, this.currentScale);
             } else {
@@ -656,24 +821,35 @@ public class SVGImage extends Group {
    }
 
    private WritableImage snapshotImpl(final SnapshotParameters params) {
+      Object event = SVGEvents.beginRasterize();
+      WritableImage image;
+      long platformWait = 0;
       if (Platform.isFxApplicationThread()) {
-         return snapshotImplInJFX(params);
+         image = snapshotImplInJFX(params);
       } else {
          // the next instruction is only there to initialize the JavaFX platform
          new JFXPanel();
+         long[] waitStart = new long[] { System.nanoTime() };
          FutureTask<WritableImage> future = new FutureTask<>(new Callable<WritableImage>() {
             @Override
             public WritableImage call() throws Exception {
+               waitStart[0] = System.nanoTime() - waitStart[0];
                WritableImage img = snapshotImplInJFX(params);
                return img;
             }
          });
          Platform.runLater(future);
          try {
-            return future.get();
+            image = future.get();
+            platformWait = waitStart[0];
          } catch (Exception ex) {
             return null;
          }
       }
+      if (image != null) {
+         URL url = content != null ? content.url : null;
+         SVGEvents.commitRasterize(event, url, SVGEvents.JAVAFX_RENDERER, (int) image.getWidth(), (int) image.getHeight(), platformWait);
+      }
+      return image;
    }
 }
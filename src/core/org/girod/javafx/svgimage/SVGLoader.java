@@ -32,20 +32,34 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
  */
 package org.girod.javafx.svgimage;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.FutureTask;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
 import javafx.animation.Animation;
 import javafx.application.ConditionalFeature;
 import javafx.application.Platform;
@@ -56,8 +70,7 @@ import javafx.scene.effect.Effect;
 import javafx.scene.text.Text;
 import javafx.scene.transform.Transform;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
+import org.girod.javafx.svgimage.jfr.SVGEvents;
 import org.girod.javafx.svgimage.xml.builders.AnimationBuilder;
 import org.girod.javafx.svgimage.xml.builders.BuilderUtils;
 import org.girod.javafx.svgimage.xml.specs.FilterSpec;
@@ -67,6 +80,7 @@ import org.girod.javafx.svgimage.xml.specs.MarkerContext;
 import org.girod.javafx.svgimage.xml.specs.MarkerSpec;
 import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
 import org.girod.javafx.svgimage.xml.parsers.SVGParsingException;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
 import org.girod.javafx.svgimage.xml.builders.SVGShapeBuilder;
 import org.girod.javafx.svgimage.xml.builders.SVGStyleBuilder;
 import org.girod.javafx.svgimage.xml.builders.SVGTextBuilder;
@@ -77,33 +91,64 @@ import org.girod.javafx.svgimage.xml.parsers.TransformUtils;
 import org.girod.javafx.svgimage.xml.parsers.xmltree.ElementNode;
 import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLNode;
 import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLRoot;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.SAXTreeReader;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.StAXTreeReader;
 import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLTreeHandler;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLTreeReader;
 import org.girod.javafx.svgimage.xml.specs.Styles;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
- * This class allows to load a svg file and convert it to an Image or a JavaFX tree.
+ * This class allows to load a svg file and convert it to an Image or a JavaFX tree. Gzip compressed contents (svgz files) are
+ * detected and decompressed on the fly, except for the String contents.
  *
- * @version 1.5
+ * @version 1.6
  */
 public class SVGLoader implements SVGTags {
+   /**
+    * The minimum size of a file for it to be memory-mapped rather than read through a stream.
+    */
+   private static final long MAPPING_THRESHOLD = 1024 * 1024;
+   /**
+    * The reader used when only the viewport of a SVG content is needed.
+    */
+   private static final XMLTreeReader ROOT_READER = new StAXTreeReader(true, true);
    private final SVGContent content;
+   private final StreamSupplier input;
    private final SVGImage root;
    private Viewport viewport = null;
    private final LoaderContext context;
+   private BooleanSupplier cancellation = null;
+   private SVGDocument document = null;
+   private final LoadStatistics statistics = new LoadStatistics();
+   private long platformWaitStart = 0;
 
    private SVGLoader(URL url, LoaderParameters params) {
       this.content = new SVGContent(url, params);
+      this.input = null;
       this.root = new SVGImage(content);
       this.context = new LoaderContext(root, params, url);
    }
 
    private SVGLoader(String content, LoaderParameters params) {
       this.content = new SVGContent(content, params);
+      this.input = null;
       this.root = new SVGImage(this.content);
       this.context = new LoaderContext(root, params, this.content.url);
    }
 
+   /**
+    * Constructor for a SVG content which is read from a stream. The URL is only used to resolve the relative references in the
+    * content, and as the key of the documents cache.
+    */
+   private SVGLoader(URL url, StreamSupplier input, LoaderParameters params) {
+      this.content = url != null ? new SVGContent(url, params) : new SVGContent((String) null, params);
+      this.input = input;
+      this.root = new SVGImage(this.content);
+      this.context = new LoaderContext(root, params, url);
+   }
+
    /**
     * Load a svg File.
     *
@@ -412,6 +457,165 @@ public class SVGLoader implements SVGTags {
    public static SVGImage load(URL url, LoaderParameters params) throws SVGParsingException {
       SVGLoader loader = new SVGLoader(url, params);
       SVGImage img = loader.loadImpl();
+      applyParameters(img, params);
+      return img;
+   }
+
+   /**
+    * Load asynchronously a svg File, and set the parameters of the associated JavaFX Node. The SVG content is parsed and the Nodes tree
+    * is built on the specified executor.
+    *
+    * @param file the file
+    * @param params the parameters
+    * @param executor the executor used to parse the SVG content and build the Nodes tree
+    * @return the future which will be completed with the SVGImage
+    * @see #loadAsync(URL, LoaderParameters, Executor)
+    */
+   public static CompletableFuture<SVGImage> loadAsync(File file, LoaderParameters params, Executor executor) {
+      try {
+         URL url = file.toURI().toURL();
+         return loadAsync(url, params, executor);
+      } catch (MalformedURLException ex) {
+         CompletableFuture<SVGImage> future = new CompletableFuture<>();
+         future.completeExceptionally(new SVGParsingException(ex));
+         return future;
+      }
+   }
+
+   /**
+    * Load asynchronously a svg URL, and set the parameters of the associated JavaFX Node. The SVG content is parsed and the Nodes tree
+    * is built on the specified executor, the resulting Nodes tree is not attached to any Scene.
+    * <p>
+    * Cancelling the resulting future stops the parsing of the SVG content before the next XML element. If the parsing fails, the future
+    * is completed exceptionally, regardless of the {@link GlobalConfig#getExceptionsHandling()} value.</p>
+    *
+    * @param url the URL
+    * @param params the parameters
+    * @param executor the executor used to parse the SVG content and build the Nodes tree
+    * @return the future which will be completed with the SVGImage
+    */
+   public static CompletableFuture<SVGImage> loadAsync(URL url, LoaderParameters params, Executor executor) {
+      SVGLoader loader = new SVGLoader(url, params);
+      return loader.loadAsyncImpl(executor);
+   }
+
+   /**
+    * Load asynchronously a svg String content, and set the parameters of the associated JavaFX Node. The SVG content is parsed and the
+    * Nodes tree is built on the specified executor.
+    *
+    * @param content the String content
+    * @param params the parameters
+    * @param executor the executor used to parse the SVG content and build the Nodes tree
+    * @return the future which will be completed with the SVGImage
+    * @see #loadAsync(URL, LoaderParameters, Executor)
+    */
+   public static CompletableFuture<SVGImage> loadAsync(String content, LoaderParameters params, Executor executor) {
+      SVGLoader loader = new SVGLoader(content, params);
+      return loader.loadAsyncImpl(executor);
+   }
+
+   /**
+    * Load a batch of svg URLs in parallel on the common fork/join pool.
+    *
+    * @param urls the URLs
+    * @param params the parameters
+    * @return the future which will be completed with the batch result on the JavaFX Platform Thread
+    * @see #loadAll(Collection, LoaderParameters, ForkJoinPool)
+    */
+   public static CompletableFuture<SVGBatch> loadAll(Collection<URL> urls, LoaderParameters params) {
+      return loadAll(urls, params, ForkJoinPool.commonPool());
+   }
+
+   /**
+    * Load a batch of svg URLs in parallel on a fork/join pool. The SVG contents are parsed and the Nodes trees are built in parallel on
+    * the pool, then the whole batch is handed to the JavaFX Platform Thread at once: the animations are started if needed, and the
+    * resulting future is completed there.
+    * <p>
+    * A document which can not be loaded does not abort the batch, its error is reported in the resulting {@link SVGBatch},
+    * regardless of the {@link GlobalConfig#getExceptionsHandling()} value.</p>
+    *
+    * @param urls the URLs
+    * @param params the parameters
+    * @param pool the fork/join pool
+    * @return the future which will be completed with the batch result on the JavaFX Platform Thread
+    */
+   public static CompletableFuture<SVGBatch> loadAll(Collection<URL> urls, LoaderParameters params, ForkJoinPool pool) {
+      // the next instruction is only there to initialize the JavaFX platform, once for the whole batch
+      new JFXPanel();
+      GlobalConfig.getInstance().isEffectsSupported();
+      CompletableFuture<SVGBatch> future = new CompletableFuture<>();
+      SVGBatch batch = new SVGBatch(new ArrayList<>(urls));
+      // the animations of the batch are started at once on the JavaFX Platform Thread
+      LoaderParameters batchParams = params.clone();
+      batchParams.autoStartAnimations = false;
+      pool.execute(new Runnable() {
+         @Override
+         public void run() {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+               final int index = i;
+               tasks.add(ForkJoinTask.adapt(new Runnable() {
+                  @Override
+                  public void run() {
+                     try {
+                        SVGLoader loader = new SVGLoader(batch.getURL(index), batchParams);
+                        SVGImage img = loader.loadImplInCallingThread();
+                        applyParameters(img, batchParams);
+                        batch.setImage(index, img);
+                     } catch (Throwable th) {
+                        batch.setError(index, th);
+                     }
+                  }
+               }));
+            }
+            ForkJoinTask.invokeAll(tasks);
+            Platform.runLater(new Runnable() {
+               @Override
+               public void run() {
+                  if (params.autoStartAnimations) {
+                     for (int i = 0; i < batch.size(); i++) {
+                        SVGImage img = batch.getImage(i);
+                        if (img != null) {
+                           img.playAnimations();
+                        }
+                     }
+                  }
+                  future.complete(batch);
+               }
+            });
+         }
+      });
+      return future;
+   }
+
+   /**
+    * Build a new image from the parsed document kept in an image, without parsing the SVG content again.
+    *
+    * @param image the image
+    * @param params the parameters
+    * @return the new image
+    */
+   static SVGImage rebuild(SVGImage image, LoaderParameters params) throws SVGParsingException {
+      SVGContent origin = image.getSVGContent();
+      SVGLoader loader;
+      if (origin.isFromURL()) {
+         loader = new SVGLoader(origin.url, params);
+      } else {
+         loader = new SVGLoader(origin.content, params);
+      }
+      loader.document = image.getDocument();
+      SVGImage img = loader.loadImpl();
+      applyParameters(img, params);
+      if (img != null) {
+         img.setFile(image.getFile());
+      }
+      return img;
+   }
+
+   private static void applyParameters(SVGImage img, LoaderParameters params) {
+      if (img == null) {
+         return;
+      }
       if (params.centerImage) {
          double theWidth = img.getLayoutBounds().getWidth();
          double theHeight = img.getLayoutBounds().getHeight();
@@ -421,7 +625,6 @@ public class SVGLoader implements SVGTags {
       if (params.styleSheets != null) {
          img.getStylesheets().add(params.styleSheets);
       }
-      return img;
    }
 
    private void setViewportScaleImpl(Viewport viewport, LoaderParameters params) {
@@ -445,18 +648,105 @@ public class SVGLoader implements SVGTags {
    public static SVGImage load(String content, LoaderParameters params) throws SVGParsingException {
       SVGLoader loader = new SVGLoader(content, params);
       SVGImage img = loader.loadImpl();
-      if (params.centerImage) {
-         double theWidth = img.getLayoutBounds().getWidth();
-         double theHeight = img.getLayoutBounds().getHeight();
-         img.setTranslateX(-theWidth / 2);
-         img.setTranslateY(-theHeight / 2);
-      }
-      if (params.styleSheets != null) {
-         img.getStylesheets().add(params.styleSheets);
+      applyParameters(img, params);
+      return img;
+   }
+
+   /**
+    * Load a svg content from an InputStream, and set the parameters of the associated JavaFX Node. The content is parsed directly
+    * from the stream, and the stream is closed after the parsing.
+    * <p>
+    * As the content can not be read again, the image can only be scaled with the {@link ScaleQuality#RENDER_QUALITY} quality
+    * if the parsed document is kept in the image (see {@link LoaderParameters#retainDocument}).</p>
+    *
+    * @param stream the InputStream
+    * @param params the parameters
+    * @return the SVGImage
+    * @throws SVGParsingException if the SVGLoader cannot be initialized
+    * @since 1.6
+    */
+   public static SVGImage load(InputStream stream, LoaderParameters params) throws SVGParsingException {
+      SVGLoader loader = new SVGLoader(null, () -> stream, params);
+      SVGImage img = loader.loadImpl();
+      applyParameters(img, params);
+      return img;
+   }
+
+   /**
+    * Load a svg content from the remaining bytes of a ByteBuffer, and set the parameters of the associated JavaFX Node. The content
+    * is parsed directly from the buffer, without copying it first. The position of the buffer is not modified.
+    * <p>
+    * As for {@link #load(InputStream, LoaderParameters)}, the image can only be scaled with the
+    * {@link ScaleQuality#RENDER_QUALITY} quality if the parsed document is kept in the image.</p>
+    *
+    * @param buffer the buffer
+    * @param params the parameters
+    * @return the SVGImage
+    * @throws SVGParsingException if the SVGLoader cannot be initialized
+    * @since 1.6
+    */
+   public static SVGImage load(ByteBuffer buffer, LoaderParameters params) throws SVGParsingException {
+      SVGLoader loader = new SVGLoader(null, () -> new ByteBufferInputStream(buffer.duplicate()), params);
+      SVGImage img = loader.loadImpl();
+      applyParameters(img, params);
+      return img;
+   }
+
+   /**
+    * Load a svg file from a Path, and set the parameters of the associated JavaFX Node. Large files are memory-mapped rather than
+    * read through a stream, so that their content is not copied on the heap before being parsed.
+    *
+    * @param path the path
+    * @param params the parameters
+    * @return the SVGImage
+    * @throws SVGParsingException if the path cannot be converted to a URL
+    * @since 1.6
+    */
+   public static SVGImage load(Path path, LoaderParameters params) throws SVGParsingException {
+      try {
+         URL url = path.toUri().toURL();
+         SVGLoader loader = new SVGLoader(url, () -> openPath(path), params);
+         SVGImage img = loader.loadImpl();
+         applyParameters(img, params);
+         return img;
+      } catch (MalformedURLException ex) {
+         throw new SVGParsingException(ex);
       }
+   }
+
+   /**
+    * Load an already parsed SVG document, and set the parameters of the associated JavaFX Node. The document can come from
+    * {@link #parse(URL)} or from a compiled file read by the {@link SVGCompiler}.
+    *
+    * @param document the document
+    * @param url the URL of the document, used to resolve the relative references in the content (may be null)
+    * @param params the parameters
+    * @return the SVGImage
+    * @throws SVGParsingException if the SVGLoader cannot be initialized
+    * @since 1.6
+    */
+   public static SVGImage load(SVGDocument document, URL url, LoaderParameters params) throws SVGParsingException {
+      SVGLoader loader = new SVGLoader(url, null, params);
+      loader.document = document;
+      SVGImage img = loader.loadImpl();
+      applyParameters(img, params);
       return img;
    }
 
+   /**
+    * Open a file. Large files are memory-mapped. Note that the mapping is still valid after the channel has been closed.
+    */
+   private static InputStream openPath(Path path) throws IOException {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+         long size = channel.size();
+         if (size < MAPPING_THRESHOLD || size > Integer.MAX_VALUE) {
+            return Files.newInputStream(path);
+         }
+         MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+         return new ByteBufferInputStream(buffer);
+      }
+   }
+
    private SVGImage loadImpl() throws SVGParsingException {
       if (Platform.isFxApplicationThread()) {
          try {
@@ -465,12 +755,21 @@ public class SVGLoader implements SVGTags {
             GlobalConfig.getInstance().handleParsingException(ex);
             return null;
          }
+      } else if (content.params.buildOnCallingThread) {
+         try {
+            return loadImplInCallingThread();
+         } catch (Exception ex) {
+            GlobalConfig.getInstance().handleParsingException(ex);
+            return null;
+         }
       } else {
          // the next instruction is only there to initialize the JavaFX platform
          new JFXPanel();
+         platformWaitStart = System.nanoTime();
          FutureTask<SVGImage> future = new FutureTask<>(new Callable<SVGImage>() {
             @Override
             public SVGImage call() throws Exception {
+               phaseCompleted(LoadPhase.PLATFORM_WAIT, platformWaitStart);
                SVGImage img = loadImplInJFX();
                return img;
             }
@@ -488,42 +787,284 @@ public class SVGLoader implements SVGTags {
       }
    }
 
-   private SVGImage loadImplInJFX() throws IOException {
-      context.effectsSupported = Platform.isSupported(ConditionalFeature.EFFECT);
-      SAXParserFactory saxfactory = SAXParserFactory.newInstance();
-      try {
-         // see https://stackoverflow.com/questions/10257576/how-to-ignore-inline-dtd-when-parsing-xml-file-in-java
-         saxfactory.setFeature("http://xml.org/sax/features/resolve-dtd-uris", false);
-         saxfactory.setFeature("http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
-         saxfactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-         SAXParser parser = saxfactory.newSAXParser();
-         XMLTreeHandler handler = new XMLTreeHandler(content.url);
-         if (content.url != null) {
-            parser.parse(content.url.openStream(), handler);
-         } else {
-            InputStream stream = new ByteArrayInputStream(content.content.getBytes());
-            parser.parse(stream, handler);
-         }
-         SVGImage img = walk(handler.getRoot(), handler.getStylesheets());
-         if (img != null) {
-            if (context.hasAnimations()) {
-               img.setAnimations(context.getAnimations());
-               if (context.params.autoStartAnimations) {
-                  context.playAnimations();
+   private CompletableFuture<SVGImage> loadAsyncImpl(Executor executor) {
+      CompletableFuture<SVGImage> future = new CompletableFuture<>();
+      cancellation = future::isCancelled;
+      executor.execute(new Runnable() {
+         @Override
+         public void run() {
+            if (future.isDone()) {
+               return;
+            }
+            try {
+               SVGImage img;
+               if (Platform.isFxApplicationThread()) {
+                  img = loadImplInJFX();
+               } else {
+                  img = loadImplInCallingThread();
+               }
+               applyParameters(img, content.params);
+               future.complete(img);
+            } catch (Throwable th) {
+               if (!future.isCancelled()) {
+                  future.completeExceptionally(th);
                }
             }
-            if (context.params.applyViewportPosition) {
-               Transform transform = Transform.translate(-viewport.getViewboxX(), -viewport.getViewboxY());
-               img.getTransforms().add(transform);
+         }
+      });
+      return future;
+   }
+
+   private boolean isCancelled() {
+      return cancellation != null && cancellation.getAsBoolean();
+   }
+
+   private SVGImage loadImplInJFX() throws IOException, ParserConfigurationException, SAXException {
+      context.effectsSupported = Platform.isSupported(ConditionalFeature.EFFECT);
+      return parseAndBuild();
+   }
+
+   /**
+    * Parse the SVG content and build the Nodes tree on the calling thread. The resulting Nodes are not attached to a live Scene, so
+    * only the effects support probing and the start of the animations are delegated to the JavaFX Platform Thread.
+    */
+   private SVGImage loadImplInCallingThread() throws IOException, ParserConfigurationException, SAXException {
+      context.effectsSupported = GlobalConfig.getInstance().isEffectsSupported();
+      return parseAndBuild();
+   }
+
+   private SVGImage parseAndBuild() throws IOException, ParserConfigurationException, SAXException {
+      Object event = SVGEvents.beginLoad();
+      long start = System.nanoTime();
+      SVGDocument document = parseDocument();
+      phaseCompleted(LoadPhase.PARSE, start);
+      statistics.elementsCount = document.getElementsCount();
+      SVGImage img = build(document);
+      loadCompleted(img, start);
+      SVGEvents.commitLoad(event, content.url, statistics.getElementsCount(), statistics.getDuration(LoadPhase.PARSE),
+         statistics.getDuration(LoadPhase.PLATFORM_WAIT));
+      return img;
+   }
+
+   /**
+    * Return the listeners notified of the loading phases, which are the listener of the parameters and the global listener.
+    */
+   private LoadListener[] getLoadListeners() {
+      LoadListener listener = content.params.loadListener;
+      LoadListener globalListener = GlobalConfig.getInstance().getLoadListener();
+      if (listener == null && globalListener == null) {
+         return null;
+      } else if (listener == null) {
+         return new LoadListener[]{globalListener};
+      } else if (globalListener == null) {
+         return new LoadListener[]{listener};
+      } else {
+         return new LoadListener[]{listener, globalListener};
+      }
+   }
+
+   private void phaseCompleted(LoadPhase phase, long start) {
+      long duration = System.nanoTime() - start;
+      statistics.addDuration(phase, duration);
+      firePhaseCompleted(phase, duration);
+   }
+
+   private void firePhaseCompleted(LoadPhase phase, long duration) {
+      LoadListener[] listeners = getLoadListeners();
+      if (listeners != null) {
+         for (LoadListener listener : listeners) {
+            listener.phaseCompleted(content, phase, duration);
+         }
+      }
+   }
+
+   private void loadCompleted(SVGImage img, long start) {
+      long end = System.nanoTime();
+      if (platformWaitStart != 0) {
+         start = platformWaitStart;
+      }
+      statistics.setTotalDuration(end - start);
+      if (img != null) {
+         img.setLoadStatistics(statistics);
+      }
+      LoadListener[] listeners = getLoadListeners();
+      if (listeners != null) {
+         for (LoadListener listener : listeners) {
+            listener.loadCompleted(content, statistics);
+         }
+      }
+   }
+
+   /**
+    * Parse the SVG content, or get the parsed document from the documents cache if there is one.
+    */
+   private SVGDocument parseDocument() throws IOException, ParserConfigurationException, SAXException {
+      if (document != null) {
+         return document;
+      }
+      return parseDocument(content.url, content.content, input, cancellation, context.params.trustedInput, context.params.xmlReader);
+   }
+
+   /**
+    * Parse a SVG content. The content is read from the input if it is not null, else from the URL if it is not null, else from
+    * the String content.
+    */
+   private static SVGDocument parseDocument(URL url, String content, StreamSupplier input, BooleanSupplier cancellation, boolean trusted,
+      XMLTreeReader reader) throws IOException, ParserConfigurationException, SAXException {
+      if (reader == null) {
+         reader = SAXTreeReader.INSTANCE;
+      }
+      SVGDocumentCache cache = reader.isReadingRootOnly() ? null : GlobalConfig.getInstance().getDocumentCache();
+      String key = null;
+      if (cache != null) {
+         if (url != null) {
+            key = SVGDocumentCache.getKey(url);
+            if (key == null) {
+               // the document could not be identified if it is modified
+               cache = null;
             }
+         } else if (content != null) {
+            key = SVGDocumentCache.getKey(content);
+         } else {
+            // a content which is only available as a stream can not be identified without reading it
+            cache = null;
          }
-         return img;
-      } catch (ParserConfigurationException | SAXException ex) {
+      }
+      if (cache != null) {
+         SVGDocument document = cache.get(key);
+         if (document != null) {
+            return document;
+         }
+      }
+      XMLTreeHandler handler = new XMLTreeHandler(url);
+      handler.setCancellation(cancellation);
+      try (InputStream stream = openStream(url, input)) {
+         if (stream != null) {
+            reader.read(new InputSource(stream), handler, trusted);
+         } else {
+            // the String content is parsed from a Reader, so that it is not encoded again in bytes
+            reader.read(new InputSource(new StringReader(content)), handler, trusted);
+         }
+      }
+      SVGDocument document = new SVGDocument(handler.getRoot(), handler.getStylesheets(), handler.getElementsCount(), handler.getEstimatedSize());
+      if (cache != null) {
+         cache.put(key, document);
+      }
+      return document;
+   }
+
+   private static InputStream openStream(URL url, StreamSupplier input) throws IOException {
+      InputStream stream;
+      if (input != null) {
+         stream = input.open();
+      } else if (url != null) {
+         stream = url.openStream();
+      } else {
+         return null;
+      }
+      try {
+         return decompressIfNeeded(stream);
+      } catch (IOException ex) {
+         stream.close();
+         throw ex;
+      }
+   }
+
+   /**
+    * Return a stream decompressing the content on the fly if it begins with the gzip magic bytes (which is the case for svgz
+    * files), else return a stream with the same content.
+    */
+   private static InputStream decompressIfNeeded(InputStream stream) throws IOException {
+      if (!stream.markSupported()) {
+         stream = new BufferedInputStream(stream);
+      }
+      stream.mark(2);
+      int b1 = stream.read();
+      int b2 = stream.read();
+      stream.reset();
+      if (b1 == 0x1f && b2 == 0x8b) {
+         return new GZIPInputStream(stream);
+      } else {
+         return stream;
+      }
+   }
+
+   /**
+    * Parse a svg URL without building the JavaFX Nodes tree. The JavaFX Platform is not used by this method.
+    *
+    * @param url the URL
+    * @return the parsed document
+    * @throws SVGParsingException if the URL could not be parsed
+    * @since 1.6
+    */
+   public static SVGDocument parse(URL url) throws SVGParsingException {
+      try {
+         return parseDocument(url, null, null, null, false, null);
+      } catch (IOException | ParserConfigurationException | SAXException ex) {
+         GlobalConfig.getInstance().handleParsingException(ex);
+         return null;
+      }
+   }
+
+   /**
+    * Parse a svg String content without building the JavaFX Nodes tree. The JavaFX Platform is not used by this method.
+    *
+    * @param content the String content
+    * @return the parsed document
+    * @throws SVGParsingException if the content could not be parsed
+    * @since 1.6
+    */
+   public static SVGDocument parse(String content) throws SVGParsingException {
+      try {
+         return parseDocument(null, content, null, null, false, null);
+      } catch (IOException | ParserConfigurationException | SAXException ex) {
          GlobalConfig.getInstance().handleParsingException(ex);
          return null;
       }
    }
 
+   /**
+    * Return the viewport of a svg URL. Only the root element of the SVG content is read, and the JavaFX Platform is not used by
+    * this method.
+    *
+    * @param url the URL
+    * @return the viewport
+    * @throws SVGParsingException if the URL could not be parsed
+    * @since 1.6
+    */
+   public static Viewport readViewport(URL url) throws SVGParsingException {
+      try {
+         SVGDocument document = parseDocument(url, null, null, null, false, ROOT_READER);
+         return ParserUtils.parseViewport(document.getRoot());
+      } catch (IOException | ParserConfigurationException | SAXException ex) {
+         GlobalConfig.getInstance().handleParsingException(ex);
+         return null;
+      }
+   }
+
+   private SVGImage build(SVGDocument document) {
+      Object event = SVGEvents.beginBuild();
+      SVGImage img = walk(document.getRoot(), document.getStylesheets());
+      SVGEvents.commitBuild(event, content.url, document.getElementsCount());
+      if (img != null) {
+         if (context.params.retainDocument) {
+            img.setDocument(document);
+         }
+         if (context.hasAnimations()) {
+            img.setAnimations(context.getAnimations());
+            if (context.params.autoStartAnimations) {
+               // the animations will be started on the JavaFX Platform Thread if we are not already on it
+               img.playAnimations();
+            }
+         }
+         if (context.params.applyViewportPosition) {
+            Transform transform = Transform.translate(-viewport.getViewboxX(), -viewport.getViewboxY());
+            img.getTransforms().add(transform);
+         }
+      }
+      return img;
+   }
+
    private void preparseStyles(XMLNode xmlNode) {
       Iterator<XMLNode> it = xmlNode.getChildren().iterator();
       while (it.hasNext()) {
@@ -550,6 +1091,7 @@ public class SVGLoader implements SVGTags {
          switch (name) {
             case CLIP_PATH_SPEC:
             case MASK:
+               statistics.clipsCount++;
                buildClipPath(childNode);
                break;
          }
@@ -571,9 +1113,18 @@ public class SVGLoader implements SVGTags {
          }
       }
       root.setSVGStylesheets(styleSheets);
+      long start = System.nanoTime();
       preparseStyles(xmlRoot);
+      phaseCompleted(LoadPhase.PREPARSE_STYLES, start);
+      start = System.nanoTime();
       preparseClipping(xmlRoot);
+      phaseCompleted(LoadPhase.PREPARSE_CLIPPING, start);
+      start = System.nanoTime();
       buildNode(xmlRoot, root);
+      phaseCompleted(LoadPhase.BUILD_NODES, start);
+      // the gradients and animations are built during the build of the Nodes tree, so they are notified with their accumulated duration
+      firePhaseCompleted(LoadPhase.GRADIENTS, statistics.getDuration(LoadPhase.GRADIENTS));
+      firePhaseCompleted(LoadPhase.ANIMATIONS, statistics.getDuration(LoadPhase.ANIMATIONS));
       return root;
    }
 
@@ -581,6 +1132,25 @@ public class SVGLoader implements SVGTags {
       buildNode(xmlNode, group, false);
    }
 
+   /**
+    * Count the commands of the paths built for a path element, for the loading statistics. The commands are read from the
+    * geometry of the parser kept in the "PathParser" property of the paths, so the implicit commands are counted.
+    */
+   private static int countPathSegments(List<? extends Node> nodes) {
+      if (nodes == null) {
+         return 0;
+      }
+      int count = 0;
+      Iterator<? extends Node> it = nodes.iterator();
+      while (it.hasNext()) {
+         SVGPathParser parser = (SVGPathParser) it.next().getProperties().get("PathParser");
+         if (parser != null) {
+            count += parser.getGeometry().getOpsCount();
+         }
+      }
+      return count;
+   }
+
    private void addMarker(XMLNode xmlNode) {
       if (xmlNode.hasAttribute(ID)) {
          String id = xmlNode.getAttributeValue(ID);
@@ -642,6 +1212,9 @@ public class SVGLoader implements SVGTags {
       List<XMLNode> animations = new ArrayList<>();
       Iterator<XMLNode> it = xmlNode.getChildren().iterator();
       while (it.hasNext()) {
+         if (isCancelled()) {
+            return;
+         }
          XMLNode childNode = it.next();
          List<? extends Node> nodes = null;
          SpanGroup spanGroup = null;
@@ -667,7 +1240,9 @@ public class SVGLoader implements SVGTags {
                break;
             case PATH:
                boolean hasFill = SVGStyleBuilder.hasFill(childNode);
-               nodes = SVGShapeBuilder.buildPath(childNode, null, null, viewport, hasFill);
+               nodes = SVGShapeBuilder.buildPath(childNode, null, null, viewport, hasFill, context.params.buildPathElements, context.params.simplificationTolerance);
+               statistics.pathsCount++;
+               statistics.pathSegmentsCount += countPathSegments(nodes);
                if (nodes != null) {
                   Iterator<? extends Node> it2 = nodes.iterator();
                   while (it2.hasNext()) {
@@ -678,7 +1253,7 @@ public class SVGLoader implements SVGTags {
                }
                break;
             case POLYGON:
-               node = SVGShapeBuilder.buildPolygon(childNode, null, null, viewport);
+               node = SVGShapeBuilder.buildPolygon(childNode, null, null, viewport, context.params.simplificationTolerance);
                addNamedNode(childNode, node);
                animations = lookForAnimations(childNode, node, viewport);
                nodes = ParserUtils.createNodeList(node);
@@ -690,7 +1265,7 @@ public class SVGLoader implements SVGTags {
                nodes = ParserUtils.createNodeList(node);
                break;
             case POLYLINE:
-               node = SVGShapeBuilder.buildPolyline(childNode, null, null, viewport);
+               node = SVGShapeBuilder.buildPolyline(childNode, null, null, viewport, context.params.simplificationTolerance);
                addNamedNode(childNode, node);
                animations = lookForAnimations(childNode, node, viewport);
                nodes = ParserUtils.createNodeList(node);
@@ -699,6 +1274,7 @@ public class SVGLoader implements SVGTags {
                nodes = SVGShapeBuilder.buildUse(childNode, context, null, viewport, minTextSize);
                break;
             case TEXT:
+               statistics.textsCount++;
                node = SVGTextBuilder.buildTextAsNode(childNode, null, null, viewport, minTextSize);
                if (node == null) {
                   spanGroup = SVGTextBuilder.buildTSpanGroup(childNode, null, null, viewport, minTextSize);
@@ -724,6 +1300,7 @@ public class SVGLoader implements SVGTags {
                }
                break;
             case IMAGE:
+               statistics.imagesCount++;
                node = SVGShapeBuilder.buildImage(childNode, content.url, null, null, viewport);
                addNamedNode(childNode, node);
                animations = lookForAnimations(childNode, node, viewport);
@@ -759,6 +1336,7 @@ public class SVGLoader implements SVGTags {
                buildClipPath(childNode);
                break;
             case LINEAR_GRADIENT: {
+               long start = System.nanoTime();
                GradientSpec spec = SVGShapeBuilder.buildLinearGradient(context.gradientSpecs, context.gradients, childNode, viewport);
                if (spec != null) {
                   if (!acceptDefs) {
@@ -766,9 +1344,11 @@ public class SVGLoader implements SVGTags {
                   }
                   context.gradients.put(spec.getID(), spec.getPaint());
                }
+               statistics.addDuration(LoadPhase.GRADIENTS, System.nanoTime() - start);
                break;
             }
             case RADIAL_GRADIENT: {
+               long start = System.nanoTime();
                GradientSpec spec = SVGShapeBuilder.buildRadialGradient(context.gradientSpecs, context.gradients, childNode, viewport);
                if (spec != null) {
                   if (!acceptDefs) {
@@ -776,6 +1356,7 @@ public class SVGLoader implements SVGTags {
                   }
                   context.gradients.put(spec.getID(), spec.getPaint());
                }
+               statistics.addDuration(LoadPhase.GRADIENTS, System.nanoTime() - start);
                break;
             }
             case FILTER:
@@ -789,7 +1370,9 @@ public class SVGLoader implements SVGTags {
                group.getChildren().add(node);
                addStyles(group, node, childNode, false);
                if (!animations.isEmpty()) {
+                  long start = System.nanoTime();
                   List<Animation> animationsList = AnimationBuilder.buildAnimations(childNode, node, animations, viewport);
+                  statistics.addDuration(LoadPhase.ANIMATIONS, System.nanoTime() - start);
                   if (animationsList != null) {
                      context.addAnimations(animationsList);
                   }
@@ -801,14 +1384,11 @@ public class SVGLoader implements SVGTags {
             }
          } else if (spanGroup != null) {
             TransformUtils.setTransforms(spanGroup.getTextGroup(), childNode, viewport);
-            Map<String, String> theStylesMap = ParserUtils.getStyles(childNode);
             Iterator<SpanGroup.TSpan> it2 = spanGroup.getSpans().iterator();
             SpanGroup.TSpan previous = null;
             while (it2.hasNext()) {
                SpanGroup.TSpan tspan = it2.next();
                Node tspanText = tspan.node;
-               String theStyles = ParserUtils.mergeStyles(theStylesMap, tspan.elementNode);
-               tspan.addAttribute(STYLE, theStyles);
                addStyles(group, tspanText, tspan.elementNode, true);
                if (tspan.hasAttribute(BASELINE_SHIFT)) {
                   // http://www.svgbasics.com/font_effects_italic.html
@@ -881,6 +1461,7 @@ public class SVGLoader implements SVGTags {
       if (xmlNode.hasAttribute(ID)) {
          String id = xmlNode.getAttributeValue(ID);
          FilterSpec spec = new FilterSpec();
+         statistics.filtersCount++;
          context.filterSpecs.put(id, spec);
          buildFilterEffects(spec, xmlNode);
       }
@@ -954,4 +1535,11 @@ public class SVGLoader implements SVGTags {
          return null;
       }
    }
+
+   /**
+    * Opens the stream of a SVG content which is not read from its URL or from a String.
+    */
+   private interface StreamSupplier {
+      InputStream open() throws IOException;
+   }
 }
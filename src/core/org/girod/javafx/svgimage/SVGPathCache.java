@@ -0,0 +1,287 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
+
+/**
+ * A cache of parsed SVG path data, which allows to skip the parsing of the paths which appear several times in the same document
+ * or in several documents, such as the glyphs of icon sets or the pins of maps. The cache is bounded by an estimate of the memory
+ * size of the parsed paths, and the least recently used paths are evicted first.
+ * <p>
+ * The paths are identified by their path data and the scale of the viewport, and also by the size of the viewport if the path data
+ * has percentage lengths. The parsers returned by the cache are shared by all the Nodes built from the same path data, so they
+ * must not be used to parse another path content. The coordinates of the cached paths can be stored as floats rather than doubles,
+ * which halves the memory size of the cached paths at the cost of the precision of the coordinates.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>
+ * GlobalConfig.getInstance().setPathCache(new SVGPathCache());
+ * </pre>
+ *
+ * @since 1.6
+ */
+public class SVGPathCache {
+   /**
+    * The default maximum size of the cache, in bytes.
+    */
+   public static final long DEFAULT_MAX_SIZE = 16L * 1024L * 1024L;
+   private final long maxSize;
+   private final boolean floatPrecision;
+   private final Map<PathKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+   private long currentSize = 0;
+   private long hits = 0;
+   private long misses = 0;
+   private long evictions = 0;
+
+   /**
+    * Create a cache with the {@link #DEFAULT_MAX_SIZE} maximum size.
+    */
+   public SVGPathCache() {
+      this(DEFAULT_MAX_SIZE);
+   }
+
+   /**
+    * Create a cache.
+    *
+    * @param maxSize the maximum estimated size of the cached paths, in bytes
+    */
+   public SVGPathCache(long maxSize) {
+      this(maxSize, false);
+   }
+
+   /**
+    * Create a cache.
+    *
+    * @param maxSize the maximum estimated size of the cached paths, in bytes
+    * @param floatPrecision true if the coordinates of the cached paths must be stored as floats
+    */
+   public SVGPathCache(long maxSize, boolean floatPrecision) {
+      this.maxSize = maxSize;
+      this.floatPrecision = floatPrecision;
+   }
+
+   /**
+    * Return the maximum estimated size of the cached paths, in bytes.
+    *
+    * @return the maximum size
+    */
+   public long getMaxSize() {
+      return maxSize;
+   }
+
+   /**
+    * Return true if the coordinates of the cached paths are stored as floats.
+    *
+    * @return true if the coordinates are stored as floats
+    */
+   public boolean isFloatPrecision() {
+      return floatPrecision;
+   }
+
+   /**
+    * Return the parser of a path content. If the path content has already been parsed for the same viewport scale, the cached parser
+    * is returned, else the content is parsed and the parser is put in the cache. The parsing is performed outside of the lock of the
+    * cache, so several threads can parse different paths at the same time.
+    *
+    * @param content the path content
+    * @param viewport the viewport
+    * @return the parser
+    * @throws IllegalArgumentException if the path content is invalid
+    */
+   public SVGPathParser getParser(String content, Viewport viewport) {
+      PathKey key = new PathKey(content, viewport);
+      synchronized (this) {
+         CacheEntry entry = entries.get(key);
+         if (entry != null) {
+            hits++;
+            return entry.parser;
+         }
+         misses++;
+      }
+      SVGPathParser parser = new SVGPathParser(floatPrecision);
+      parser.parse(content, viewport);
+      parser.trimToSize();
+      put(key, parser);
+      return parser;
+   }
+
+   private synchronized void put(PathKey key, SVGPathParser parser) {
+      long size = parser.getEstimatedSize() + key.content.length() * 4L;
+      if (size > maxSize) {
+         return;
+      }
+      CacheEntry previous = entries.put(key, new CacheEntry(parser, size));
+      if (previous != null) {
+         currentSize -= previous.size;
+      }
+      currentSize += size;
+      Iterator<CacheEntry> it = entries.values().iterator();
+      while (currentSize > maxSize && it.hasNext()) {
+         CacheEntry entry = it.next();
+         it.remove();
+         currentSize -= entry.size;
+         evictions++;
+      }
+   }
+
+   /**
+    * Remove all the paths from the cache. The statistics are not reset.
+    */
+   public synchronized void clear() {
+      entries.clear();
+      currentSize = 0;
+   }
+
+   /**
+    * Return the number of cached paths.
+    *
+    * @return the number of cached paths
+    */
+   public synchronized int size() {
+      return entries.size();
+   }
+
+   /**
+    * Return the estimated size of the cached paths, in bytes.
+    *
+    * @return the estimated size
+    */
+   public synchronized long getEstimatedSize() {
+      return currentSize;
+   }
+
+   /**
+    * Return the number of times a path was found in the cache.
+    *
+    * @return the number of hits
+    */
+   public synchronized long getHitCount() {
+      return hits;
+   }
+
+   /**
+    * Return the number of times a path was not found in the cache.
+    *
+    * @return the number of misses
+    */
+   public synchronized long getMissCount() {
+      return misses;
+   }
+
+   /**
+    * Return the ratio of the number of times a path was found in the cache to the number of requests. Return 0 if there has been no
+    * request.
+    *
+    * @return the hit rate, between 0 and 1
+    */
+   public synchronized double getHitRate() {
+      long requests = hits + misses;
+      if (requests == 0) {
+         return 0;
+      }
+      return (double) hits / requests;
+   }
+
+   /**
+    * Return the number of paths which have been evicted from the cache because the maximum size was exceeded.
+    *
+    * @return the number of evictions
+    */
+   public synchronized long getEvictionCount() {
+      return evictions;
+   }
+
+   private static class PathKey {
+      private final String content;
+      private final double scale;
+      private final double width;
+      private final double height;
+      private final int hashCode;
+
+      private PathKey(String content, Viewport viewport) {
+         this.content = content;
+         if (viewport == null) {
+            this.scale = 1;
+            this.width = 0;
+            this.height = 0;
+         } else {
+            this.scale = viewport.isScaled() ? viewport.getScale() : 1;
+            // the size of the viewport is only used for percentage lengths
+            if (content.indexOf('%') != -1) {
+               this.width = viewport.getBestWidth();
+               this.height = viewport.getBestHeight();
+            } else {
+               this.width = 0;
+               this.height = 0;
+            }
+         }
+         int hash = content.hashCode();
+         hash = 31 * hash + Double.hashCode(scale);
+         hash = 31 * hash + Double.hashCode(width);
+         hash = 31 * hash + Double.hashCode(height);
+         this.hashCode = hash;
+      }
+
+      @Override
+      public int hashCode() {
+         return hashCode;
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (this == obj) {
+            return true;
+         }
+         if (!(obj instanceof PathKey)) {
+            return false;
+         }
+         PathKey other = (PathKey) obj;
+         return hashCode == other.hashCode && scale == other.scale && width == other.width && height == other.height
+                 && content.equals(other.content);
+      }
+   }
+
+   private static class CacheEntry {
+      private final SVGPathParser parser;
+      private final long size;
+
+      private CacheEntry(SVGPathParser parser, long size) {
+         this.parser = parser;
+         this.size = size;
+      }
+   }
+}
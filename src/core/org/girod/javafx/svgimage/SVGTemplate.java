@@ -0,0 +1,120 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import org.girod.javafx.svgimage.xml.parsers.SVGParsingException;
+
+/**
+ * A template allowing to create many copies of the same SVG image. A JavaFX Node can only have one parent, so the same
+ * {@link SVGImage} can not be shown in several places of a scene graph at the same time.
+ *
+ * <h2>Usage</h2>
+ * <pre>
+ * SVGTemplate template = new SVGTemplate(SVGLoader.load(url));
+ * SVGImage image1 = template.newInstance();
+ * SVGImage image2 = template.newInstance();
+ * </pre>
+ *
+ * <h2>Instances creation</h2>
+ * If all the Nodes of the image can be cloned and the image has no animation, the instances are created by cloning the
+ * Nodes tree of the image, without parsing the XML content or resolving the styles again. The {@link javafx.scene.paint.Paint}s,
+ * {@link javafx.scene.effect.Effect}s and {@link javafx.scene.image.Image}s are shared by all the instances. Else the instances are
+ * built again from the parsed document of the image if it was kept (see {@link LoaderParameters#retainDocument}), or loaded again
+ * from the URL or the String content of the image.
+ *
+ * @since 1.6
+ */
+public class SVGTemplate {
+   private final SVGImage prototype;
+   private final boolean clonable;
+
+   /**
+    * Constructor. The image can be used normally after the creation of the template.
+    *
+    * @param image the image
+    * @throws IllegalArgumentException if the image can not be cloned, its parsed document was not kept, and its content can not
+    * be read again
+    */
+   public SVGTemplate(SVGImage image) {
+      this.clonable = image.getAnimations().isEmpty() && NodeCloner.isClonable(image);
+      if (clonable) {
+         this.prototype = NodeCloner.cloneImage(image);
+      } else if (image.getSVGContent() != null && (image.getDocument() != null || image.getSVGContent().isFromURL()
+         || image.getSVGContent().isFromString())) {
+         this.prototype = image;
+      } else {
+         throw new IllegalArgumentException("The image can not be cloned, its parsed document was not kept, and its content can not be read again");
+      }
+   }
+
+   /**
+    * Return true if the instances are created by cloning the Nodes tree of the image.
+    *
+    * @return true if the instances are created by cloning the Nodes tree of the image
+    */
+   public boolean isClonable() {
+      return clonable;
+   }
+
+   /**
+    * Create a new instance of the image.
+    *
+    * @return the new instance
+    * @throws SVGParsingException if the image could not be built again from its parsed document or its content
+    */
+   public SVGImage newInstance() throws SVGParsingException {
+      if (clonable) {
+         return NodeCloner.cloneImage(prototype);
+      } else {
+         SVGContent content = prototype.getSVGContent();
+         LoaderParameters params = content.params != null ? content.params.clone() : new LoaderParameters();
+         double scale = prototype.getCurrentScale();
+         if (scale != 1d) {
+            params.width = -1;
+            params.scale = scale;
+         }
+         SVGImage image;
+         if (prototype.getDocument() != null) {
+            image = SVGLoader.rebuild(prototype, params);
+         } else if (content.isFromURL()) {
+            image = SVGLoader.load(content.url, params);
+         } else {
+            image = SVGLoader.load(content.content, params);
+         }
+         if (image != null) {
+            image.setCurrentScale(scale);
+         }
+         return image;
+      }
+   }
+}
@@ -37,7 +37,7 @@ import javafx.scene.Node;
 /**
  * Represents a viewbox.
  *
- * @version 1.2
+ * @version 1.6
  */
 public class Viewbox {
    /**
@@ -148,6 +148,26 @@ public class Viewbox {
       }
    }
 
+   /**
+    * Return the scale applied to a Node by {@link #scaleNode(Node)}. If the aspect ratio is not preserved, the largest of the
+    * x and y scales is returned.
+    *
+    * @return the scale
+    * @since 1.6
+    */
+   public double getNodeScale() {
+      if (hasWidthAndHeight) {
+         if (!preserveAspectRatio) {
+            if (viewboxWidth != 0 && viewboxHeight != 0) {
+               return Math.max(Math.abs(width / viewboxWidth), Math.abs(height / viewboxHeight));
+            }
+         } else if (viewboxWidth != 0) {
+            return Math.abs(width / viewboxWidth);
+         }
+      }
+      return 1;
+   }
+
    /**
     * Scale a SVG element attribute value. The value will only be scaled if the
     * {@link #isPreservingAspectRatio()} returns true.
@@ -0,0 +1,674 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.awt;
+
+import java.awt.AlphaComposite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.transform.Transform;
+import org.girod.javafx.svgimage.Viewbox;
+import org.girod.javafx.svgimage.Viewport;
+import org.girod.javafx.svgimage.xml.parsers.LengthParser;
+import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
+import org.girod.javafx.svgimage.xml.parsers.PathGeometry;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
+import org.girod.javafx.svgimage.xml.parsers.SVGTags;
+import org.girod.javafx.svgimage.xml.parsers.TransformUtils;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.ElementNode;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLNode;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLTextNode;
+import org.girod.javafx.svgimage.xml.specs.MarkerSpec;
+
+/**
+ * Paint the elements of a SVG document on a Java2D graphics. A new instance is used for each rendering.
+ *
+ * @since 1.6
+ */
+class AwtNodeRenderer implements SVGTags {
+   private static final int MAX_USE_DEPTH = 32;
+   private final AwtRenderContext context;
+   private final Viewport viewport;
+   private AwtStyle contextStyle = null;
+   private int useDepth = 0;
+
+   /**
+    * Constructor.
+    *
+    * @param context the rendering context
+    */
+   AwtNodeRenderer(AwtRenderContext context) {
+      this.context = context;
+      this.viewport = context.getViewport();
+   }
+
+   /**
+    * Render the children of an element.
+    *
+    * @param g the graphics
+    * @param xmlNode the element
+    * @param style the style of the element
+    */
+   void renderChildren(Graphics2D g, XMLNode xmlNode, AwtStyle style) {
+      Iterator<XMLNode> it = xmlNode.getChildren().iterator();
+      while (it.hasNext()) {
+         renderElement(g, it.next(), style);
+      }
+   }
+
+   /**
+    * Create the style of an element.
+    *
+    * @param declarations the presentation properties declared for the element
+    * @param parentStyle the style of the parent element
+    * @return the style
+    */
+   AwtStyle createStyle(Map<String, String> declarations, AwtStyle parentStyle) {
+      AwtStyle style = parentStyle.copy();
+      Iterator<Map.Entry<String, String>> it = declarations.entrySet().iterator();
+      while (it.hasNext()) {
+         Map.Entry<String, String> entry = it.next();
+         style.apply(entry.getKey(), entry.getValue(), viewport);
+      }
+      return style;
+   }
+
+   private void renderElement(Graphics2D g, XMLNode xmlNode, AwtStyle parentStyle) {
+      String name = xmlNode.getName();
+      switch (name) {
+         case RECT:
+         case CIRCLE:
+         case ELLIPSE:
+         case LINE:
+         case POLYLINE:
+         case POLYGON:
+         case PATH:
+         case TEXT:
+         case IMAGE:
+         case G:
+         case SVG:
+         case USE:
+            break;
+         default:
+            return;
+      }
+      Map<String, String> declarations = context.getDeclarations(xmlNode);
+      if (NONE.equals(declarations.get(DISPLAY))) {
+         return;
+      }
+      double opacity = 1d;
+      if (declarations.containsKey(OPACITY)) {
+         opacity = ParserUtils.parseOpacity(declarations.get(OPACITY).trim());
+         if (opacity < 0) {
+            opacity = 1d;
+         } else if (opacity == 0) {
+            return;
+         }
+      }
+      AwtStyle style = createStyle(declarations, parentStyle);
+      SVGPathParser pathParser = null;
+      Shape shape = null;
+      switch (name) {
+         case RECT:
+         case CIRCLE:
+         case ELLIPSE:
+            shape = createBasicShape(xmlNode);
+            break;
+         case LINE:
+         case POLYLINE:
+         case POLYGON:
+         case PATH:
+            pathParser = createPathParser(xmlNode);
+            if (pathParser != null) {
+               shape = AwtPaths.createPath(pathParser.getGeometry(), style.evenOdd ? Path2D.WIND_EVEN_ODD : Path2D.WIND_NON_ZERO);
+            }
+            break;
+      }
+      if (shape == null && pathParser == null && (name.equals(RECT) || name.equals(CIRCLE) || name.equals(ELLIPSE))) {
+         return;
+      }
+      Graphics2D g2 = (Graphics2D) g.create();
+      try {
+         if (declarations.containsKey(TRANSFORM)) {
+            applyTransforms(g2, declarations.get(TRANSFORM));
+         }
+         String clipSpec = declarations.containsKey(CLIP_PATH) ? declarations.get(CLIP_PATH) : declarations.get(MASK);
+         if (clipSpec != null) {
+            Shape clip = createClip(clipSpec, shape != null ? shape.getBounds2D() : null);
+            if (clip != null) {
+               g2.clip(clip);
+            }
+         }
+         boolean isContainer = name.equals(G) || name.equals(SVG) || name.equals(USE);
+         if (opacity < 1d && isContainer) {
+            renderLayer(g2, xmlNode, style, opacity);
+         } else {
+            if (opacity < 1d) {
+               g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opacity));
+            }
+            if (shape != null) {
+               if (style.visible) {
+                  paintShape(g2, shape, style);
+               }
+               if (pathParser != null && style.hasMarkers()) {
+                  renderMarkers(g2, pathParser, style);
+               }
+            } else {
+               renderContent(g2, xmlNode, style);
+            }
+         }
+      } finally {
+         g2.dispose();
+      }
+   }
+
+   /**
+    * Render a container with an opacity. The container is first rendered in an offscreen image, so that the opacity
+    * is applied to the container as a whole. The offscreen image covers the current clip, which is never null because
+    * the content is clipped by the viewport of the root element.
+    */
+   private void renderLayer(Graphics2D g, XMLNode xmlNode, AwtStyle style, double opacity) {
+      Rectangle deviceBounds = g.getTransform().createTransformedShape(g.getClip()).getBounds();
+      if (deviceBounds.width <= 0 || deviceBounds.height <= 0) {
+         return;
+      }
+      BufferedImage layer = new BufferedImage(deviceBounds.width, deviceBounds.height, BufferedImage.TYPE_INT_ARGB);
+      Graphics2D layerGraphics = layer.createGraphics();
+      try {
+         layerGraphics.setRenderingHints(g.getRenderingHints());
+         layerGraphics.translate(-deviceBounds.x, -deviceBounds.y);
+         layerGraphics.transform(g.getTransform());
+         layerGraphics.clip(g.getClip());
+         renderContent(layerGraphics, xmlNode, style);
+      } finally {
+         layerGraphics.dispose();
+      }
+      Graphics2D g2 = (Graphics2D) g.create();
+      try {
+         g2.setTransform(new AffineTransform());
+         g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opacity));
+         g2.drawImage(layer, deviceBounds.x, deviceBounds.y, null);
+      } finally {
+         g2.dispose();
+      }
+   }
+
+   private void renderContent(Graphics2D g, XMLNode xmlNode, AwtStyle style) {
+      switch (xmlNode.getName()) {
+         case G:
+            renderChildren(g, xmlNode, style);
+            break;
+         case SVG:
+            renderNestedSVG(g, xmlNode, style);
+            break;
+         case USE:
+            renderUse(g, xmlNode, style);
+            break;
+         case TEXT:
+            if (style.visible || xmlNode.hasChildren()) {
+               renderText(g, xmlNode, style);
+            }
+            break;
+         case IMAGE:
+            if (style.visible) {
+               renderImage(g, xmlNode);
+            }
+            break;
+      }
+   }
+
+   private void applyTransforms(Graphics2D g, String value) {
+      List<Transform> transforms = TransformUtils.extractTransforms(value, viewport);
+      Iterator<Transform> it = transforms.iterator();
+      while (it.hasNext()) {
+         g.transform(AwtPaints.toAwtTransform(it.next()));
+      }
+   }
+
+   private AffineTransform getTransform(String value) {
+      AffineTransform transform = new AffineTransform();
+      List<Transform> transforms = TransformUtils.extractTransforms(value, viewport);
+      Iterator<Transform> it = transforms.iterator();
+      while (it.hasNext()) {
+         transform.concatenate(AwtPaints.toAwtTransform(it.next()));
+      }
+      return transform;
+   }
+
+   private Shape createBasicShape(XMLNode xmlNode) {
+      switch (xmlNode.getName()) {
+         case RECT: {
+            double x = xmlNode.getPositionValue(X, true, viewport);
+            double y = xmlNode.getPositionValue(Y, false, viewport);
+            double width = xmlNode.getLengthValue(WIDTH, true, viewport);
+            double height = xmlNode.getLengthValue(HEIGHT, false, viewport);
+            if (width <= 0 || height <= 0) {
+               return null;
+            }
+            double rx = xmlNode.getLengthValue(RX, true, null, viewport, -1);
+            double ry = xmlNode.getLengthValue(RY, false, null, viewport, -1);
+            if (rx < 0) {
+               rx = ry;
+            } else if (ry < 0) {
+               ry = rx;
+            }
+            if (rx > 0 && ry > 0) {
+               rx = Math.min(rx, width / 2);
+               ry = Math.min(ry, height / 2);
+               return new RoundRectangle2D.Double(x, y, width, height, 2 * rx, 2 * ry);
+            } else {
+               return new Rectangle2D.Double(x, y, width, height);
+            }
+         }
+         case CIRCLE: {
+            double cx = xmlNode.getPositionValue(CX, true, viewport);
+            double cy = xmlNode.getPositionValue(CY, false, viewport);
+            double r = xmlNode.getLengthValue(R, true, viewport);
+            if (r <= 0) {
+               return null;
+            }
+            return new Ellipse2D.Double(cx - r, cy - r, 2 * r, 2 * r);
+         }
+         case ELLIPSE: {
+            double cx = xmlNode.getPositionValue(CX, true, viewport);
+            double cy = xmlNode.getPositionValue(CY, false, viewport);
+            double rx = xmlNode.getLengthValue(RX, true, viewport);
+            double ry = xmlNode.getLengthValue(RY, false, viewport);
+            if (rx <= 0 || ry <= 0) {
+               return null;
+            }
+            return new Ellipse2D.Double(cx - rx, cy - ry, 2 * rx, 2 * ry);
+         }
+         default:
+            return null;
+      }
+   }
+
+   /**
+    * Create the path parser for an element. The lines, polylines and polygons are converted to paths, so that the
+    * vertices for the markers are computed in the same way for all these elements. Return null if the element has no
+    * path content, or if its path content is invalid.
+    */
+   private SVGPathParser createPathParser(XMLNode xmlNode) {
+      String content;
+      switch (xmlNode.getName()) {
+         case PATH:
+            if (!xmlNode.hasAttribute(D)) {
+               return null;
+            }
+            PathGeometry geometry = xmlNode.getPathGeometry(D);
+            if (geometry != null) {
+               // the path data has already been parsed in a compiled document
+               SVGPathParser pathParser = new SVGPathParser();
+               pathParser.parse(geometry, viewport);
+               return pathParser;
+            }
+            content = xmlNode.getAttributeValue(D);
+            break;
+         case LINE: {
+            double x1 = xmlNode.getPositionValue(X1, true, viewport);
+            double y1 = xmlNode.getPositionValue(Y1, false, viewport);
+            double x2 = xmlNode.getPositionValue(X2, true, viewport);
+            double y2 = xmlNode.getPositionValue(Y2, false, viewport);
+            content = "M" + x1 + "," + y1 + " L" + x2 + "," + y2;
+            break;
+         }
+         default:
+            if (!xmlNode.hasAttribute(POINTS)) {
+               return null;
+            }
+            String points = xmlNode.getAttributeValue(POINTS).trim();
+            if (points.isEmpty()) {
+               return null;
+            }
+            content = "M" + points + (xmlNode.getName().equals(POLYGON) ? "Z" : "");
+            break;
+      }
+      SVGPathParser pathParser = new SVGPathParser();
+      try {
+         pathParser.parse(content, viewport);
+      } catch (IllegalArgumentException ex) {
+         return null;
+      }
+      return pathParser.getGeometry().isEmpty() ? null : pathParser;
+   }
+
+   private void paintShape(Graphics2D g, Shape shape, AwtStyle style) {
+      Rectangle2D bounds = shape.getBounds2D();
+      java.awt.Paint fill = getPaint(style.fill, style.fillOpacity, bounds);
+      if (fill != null) {
+         g.setPaint(fill);
+         g.fill(shape);
+      }
+      if (style.hasStroke()) {
+         java.awt.Paint stroke = getPaint(style.stroke, style.strokeOpacity, bounds);
+         if (stroke != null) {
+            g.setPaint(stroke);
+            g.setStroke(style.createStroke());
+            g.draw(shape);
+         }
+      }
+   }
+
+   private java.awt.Paint getPaint(String value, double opacity, Rectangle2D bounds) {
+      if (value == null || value.equals(NONE)) {
+         return null;
+      } else if (value.equals(CONTEXT_FILL)) {
+         return contextStyle != null ? getPaint(contextStyle.fill, opacity * contextStyle.fillOpacity, bounds) : null;
+      } else if (value.equals(CONTEXT_STROKE)) {
+         return contextStyle != null ? getPaint(contextStyle.stroke, opacity * contextStyle.strokeOpacity, bounds) : null;
+      } else if (value.startsWith("url(")) {
+         Paint gradient = context.getGradient(ParserUtils.getURL(value));
+         return AwtPaints.toAwtPaint(gradient, bounds, opacity);
+      } else {
+         Color color = ParserUtils.getColor(value);
+         return color != null ? AwtPaints.toAwtColor(color, opacity) : null;
+      }
+   }
+
+   private Shape createClip(String clipSpec, Rectangle2D bounds) {
+      XMLNode clipNode = context.getNamedNode(ParserUtils.getURL(clipSpec));
+      if (clipNode == null || !(clipNode.getName().equals(CLIP_PATH_SPEC) || clipNode.getName().equals(MASK))) {
+         return null;
+      }
+      Area area = new Area();
+      Iterator<XMLNode> it = clipNode.getChildren().iterator();
+      while (it.hasNext()) {
+         XMLNode childNode = it.next();
+         Shape shape = createBasicShape(childNode);
+         if (shape == null) {
+            SVGPathParser pathParser = createPathParser(childNode);
+            if (pathParser != null) {
+               int windingRule = EVEN_ODD.equals(childNode.getAttributeValue(CLIP_RULE)) ? Path2D.WIND_EVEN_ODD : Path2D.WIND_NON_ZERO;
+               shape = AwtPaths.createPath(pathParser.getGeometry(), windingRule);
+            }
+         }
+         if (shape != null) {
+            if (childNode.hasAttribute(TRANSFORM)) {
+               shape = getTransform(childNode.getAttributeValue(TRANSFORM)).createTransformedShape(shape);
+            }
+            area.add(new Area(shape));
+         }
+      }
+      AffineTransform transform = new AffineTransform();
+      if (OBJECT_BOUNDINGBOX.equals(clipNode.getAttributeValue(CLIP_PATH_UNITS))) {
+         if (bounds == null) {
+            return null;
+         }
+         transform.translate(bounds.getX(), bounds.getY());
+         transform.scale(bounds.getWidth(), bounds.getHeight());
+      }
+      if (clipNode.hasAttribute(TRANSFORM)) {
+         transform.concatenate(getTransform(clipNode.getAttributeValue(TRANSFORM)));
+      }
+      return transform.isIdentity() ? area : transform.createTransformedShape(area);
+   }
+
+   private void renderMarkers(Graphics2D g, SVGPathParser pathParser, AwtStyle style) {
+      int size = pathParser.getVerticesCount();
+      for (int i = 0; i < size; i++) {
+         String id;
+         if (i == 0) {
+            id = style.markerStart;
+         } else if (i == size - 1) {
+            id = style.markerEnd;
+         } else {
+            id = style.markerMid;
+         }
+         MarkerSpec marker = id != null ? context.getMarker(id) : null;
+         if (marker == null) {
+            continue;
+         }
+         double angle;
+         switch (marker.getOrientType()) {
+            case MarkerSpec.SPEC_ORIENT_AUTO:
+               angle = pathParser.getVertexAngle(i);
+               break;
+            case MarkerSpec.SPEC_ORIENT_AUTO_REVERSE:
+               angle = i == 0 ? pathParser.getVertexAngle(i) + 180d : pathParser.getVertexAngle(i);
+               break;
+            default:
+               angle = marker.getOrientationAngle();
+               break;
+         }
+         renderMarker(g, marker, pathParser.getVertexX(i), pathParser.getVertexY(i), angle, style);
+      }
+   }
+
+   private void renderMarker(Graphics2D g, MarkerSpec marker, double x, double y, double angle, AwtStyle style) {
+      XMLNode markerNode = marker.getXMLNode();
+      Graphics2D g2 = (Graphics2D) g.create();
+      AwtStyle previousContext = contextStyle;
+      try {
+         g2.translate(x, y);
+         g2.rotate(Math.toRadians(angle));
+         if (!USERSPACE_ON_USE.equals(markerNode.getAttributeValue(MARKER_UNITS))) {
+            g2.scale(style.strokeWidth, style.strokeWidth);
+         }
+         if (marker.hasViewbox()) {
+            Viewbox viewbox = marker.getViewbox();
+            double width = marker.getWidth() > 0 ? marker.getWidth() : 3d;
+            double height = marker.getHeight() > 0 ? marker.getHeight() : 3d;
+            if (viewbox.getViewboxWidth() > 0 && viewbox.getViewboxHeight() > 0) {
+               double scaleX = width / viewbox.getViewboxWidth();
+               double scaleY = height / viewbox.getViewboxHeight();
+               if (viewbox.isPreservingAspectRatio()) {
+                  scaleX = Math.min(scaleX, scaleY);
+                  scaleY = scaleX;
+               }
+               g2.scale(scaleX, scaleY);
+            }
+         }
+         g2.translate(marker.getRefX(), marker.getRefY());
+         contextStyle = style;
+         AwtStyle markerStyle = createStyle(context.getDeclarations(markerNode), new AwtStyle());
+         markerStyle.markerStart = null;
+         markerStyle.markerMid = null;
+         markerStyle.markerEnd = null;
+         renderChildren(g2, markerNode, markerStyle);
+      } finally {
+         contextStyle = previousContext;
+         g2.dispose();
+      }
+   }
+
+   private void renderNestedSVG(Graphics2D g, XMLNode xmlNode, AwtStyle style) {
+      g.translate(xmlNode.getPositionValue(X, true, viewport), xmlNode.getPositionValue(Y, false, viewport));
+      Viewbox viewbox = ParserUtils.parseViewbox(xmlNode, viewport);
+      if (viewbox != null) {
+         g.transform(getViewboxTransform(viewbox, viewbox.getWidth(), viewbox.getHeight()));
+      }
+      renderChildren(g, xmlNode, style);
+   }
+
+   private void renderUse(Graphics2D g, XMLNode xmlNode, AwtStyle style) {
+      String href = xmlNode.hasAttribute(XLINK_HREF) ? xmlNode.getAttributeValue(XLINK_HREF) : xmlNode.getAttributeValue(HREF);
+      if (href == null || !href.startsWith("#") || useDepth >= MAX_USE_DEPTH) {
+         return;
+      }
+      XMLNode refNode = context.getNamedNode(href.substring(1));
+      if (refNode == null) {
+         return;
+      }
+      useDepth++;
+      try {
+         g.translate(xmlNode.getPositionValue(X, true, viewport), xmlNode.getPositionValue(Y, false, viewport));
+         if (refNode.getName().equals(SYMBOL)) {
+            AwtStyle symbolStyle = createStyle(context.getDeclarations(refNode), style);
+            Viewbox viewbox = ParserUtils.parseViewbox(refNode, viewport);
+            if (viewbox != null) {
+               double width = xmlNode.getLengthValue(WIDTH, true, null, viewport, viewbox.getWidth());
+               double height = xmlNode.getLengthValue(HEIGHT, false, null, viewport, viewbox.getHeight());
+               g.transform(getViewboxTransform(viewbox, width, height));
+            }
+            renderChildren(g, refNode, symbolStyle);
+         } else {
+            renderElement(g, refNode, style);
+         }
+      } finally {
+         useDepth--;
+      }
+   }
+
+   /**
+    * Return the transform mapping a viewBox to a viewport. The content is centered if the aspect ratio is preserved.
+    *
+    * @param viewbox the viewbox
+    * @param width the width of the viewport
+    * @param height the height of the viewport
+    * @return the transform
+    */
+   static AffineTransform getViewboxTransform(Viewbox viewbox, double width, double height) {
+      AffineTransform transform = new AffineTransform();
+      double viewboxWidth = viewbox.getViewboxWidth();
+      double viewboxHeight = viewbox.getViewboxHeight();
+      if (viewboxWidth > 0 && viewboxHeight > 0) {
+         double scaleX = width / viewboxWidth;
+         double scaleY = height / viewboxHeight;
+         if (viewbox.isPreservingAspectRatio()) {
+            double scale = Math.min(scaleX, scaleY);
+            transform.translate((width - viewboxWidth * scale) / 2, (height - viewboxHeight * scale) / 2);
+            scaleX = scale;
+            scaleY = scale;
+         }
+         transform.scale(scaleX, scaleY);
+      }
+      transform.translate(-viewbox.getViewboxX(), -viewbox.getViewboxY());
+      return transform;
+   }
+
+   private void renderImage(Graphics2D g, XMLNode xmlNode) {
+      String href = xmlNode.hasAttribute(XLINK_HREF) ? xmlNode.getAttributeValue(XLINK_HREF) : xmlNode.getAttributeValue(HREF);
+      if (href == null) {
+         return;
+      }
+      BufferedImage image = context.getImage(href);
+      if (image == null) {
+         return;
+      }
+      double x = xmlNode.getPositionValue(X, true, viewport);
+      double y = xmlNode.getPositionValue(Y, false, viewport);
+      double width = xmlNode.getLengthValue(WIDTH, true, null, viewport, image.getWidth());
+      double height = xmlNode.getLengthValue(HEIGHT, false, null, viewport, image.getHeight());
+      if (width <= 0 || height <= 0) {
+         return;
+      }
+      // the aspect ratio of the image is preserved, and the image is centered in its viewport
+      double scale = Math.min(width / image.getWidth(), height / image.getHeight());
+      AffineTransform transform = new AffineTransform();
+      transform.translate(x + (width - image.getWidth() * scale) / 2, y + (height - image.getHeight() * scale) / 2);
+      transform.scale(scale, scale);
+      g.drawImage(image, transform, null);
+   }
+
+   private void renderText(Graphics2D g, XMLNode xmlNode, AwtStyle style) {
+      double[] position = new double[2];
+      position[0] = getFirstPosition(xmlNode, X, true, 0);
+      position[1] = getFirstPosition(xmlNode, Y, false, 0);
+      renderTextContent(g, xmlNode, style, position);
+   }
+
+   private void renderTextContent(Graphics2D g, XMLNode xmlNode, AwtStyle style, double[] position) {
+      position[0] += getFirstPosition(xmlNode, DX, true, 0);
+      position[1] += getFirstPosition(xmlNode, DY, false, 0);
+      Iterator<ElementNode> it = xmlNode.getAllChildren().iterator();
+      while (it.hasNext()) {
+         ElementNode elementNode = it.next();
+         if (elementNode instanceof XMLTextNode) {
+            if (style.visible) {
+               renderTextRun(g, elementNode.getText(), style, position);
+            }
+         } else {
+            XMLNode childNode = (XMLNode) elementNode;
+            if (childNode.getName().equals(TSPAN)) {
+               Map<String, String> declarations = context.getDeclarations(childNode);
+               if (NONE.equals(declarations.get(DISPLAY))) {
+                  continue;
+               }
+               AwtStyle tspanStyle = createStyle(declarations, style);
+               position[0] = getFirstPosition(childNode, X, true, position[0]);
+               position[1] = getFirstPosition(childNode, Y, false, position[1]);
+               renderTextContent(g, childNode, tspanStyle, position);
+            }
+         }
+      }
+   }
+
+   private void renderTextRun(Graphics2D g, String text, AwtStyle style, double[] position) {
+      if (text.isEmpty()) {
+         return;
+      }
+      Font font = style.createFont();
+      TextLayout layout = new TextLayout(text, font, g.getFontRenderContext());
+      double advance = layout.getAdvance();
+      double x = position[0];
+      if (MIDDLE.equals(style.textAnchor)) {
+         x -= advance / 2;
+      } else if (END.equals(style.textAnchor)) {
+         x -= advance;
+      }
+      Shape outline = layout.getOutline(AffineTransform.getTranslateInstance(x, position[1]));
+      paintShape(g, outline, style);
+      position[0] = x + advance;
+   }
+
+   private double getFirstPosition(XMLNode xmlNode, String attrName, boolean isWidth, double defaultValue) {
+      if (!xmlNode.hasAttribute(attrName)) {
+         return defaultValue;
+      }
+      StringTokenizer tok = new StringTokenizer(xmlNode.getAttributeValue(attrName), " ,");
+      if (!tok.hasMoreTokens()) {
+         return defaultValue;
+      }
+      try {
+         return LengthParser.parsePosition(tok.nextToken(), isWidth, null, viewport);
+      } catch (NumberFormatException e) {
+         return defaultValue;
+      }
+   }
+}
@@ -0,0 +1,173 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.awt;
+
+import java.awt.MultipleGradientPaint;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.transform.Transform;
+
+/**
+ * Convert the JavaFX paints and transforms created from the SVG document to their Java2D counterparts.
+ *
+ * @since 1.6
+ */
+class AwtPaints {
+   private AwtPaints() {
+   }
+
+   /**
+    * Convert a JavaFX color.
+    *
+    * @param color the color
+    * @param opacity the opacity to apply on the color
+    * @return the Java2D color
+    */
+   static java.awt.Color toAwtColor(Color color, double opacity) {
+      float alpha = (float) Math.max(0, Math.min(1, color.getOpacity() * opacity));
+      return new java.awt.Color((float) color.getRed(), (float) color.getGreen(), (float) color.getBlue(), alpha);
+   }
+
+   /**
+    * Convert a JavaFX transform.
+    *
+    * @param transform the transform
+    * @return the Java2D transform
+    */
+   static AffineTransform toAwtTransform(Transform transform) {
+      return new AffineTransform(transform.getMxx(), transform.getMyx(), transform.getMxy(), transform.getMyy(), transform.getTx(), transform.getTy());
+   }
+
+   /**
+    * Convert a JavaFX paint.
+    *
+    * @param paint the paint
+    * @param bounds the bounds of the painted shape, used by the proportional gradients
+    * @param opacity the opacity to apply on the paint
+    * @return the Java2D paint, or null if the paint can not be converted
+    */
+   static java.awt.Paint toAwtPaint(Paint paint, Rectangle2D bounds, double opacity) {
+      if (paint instanceof Color) {
+         return toAwtColor((Color) paint, opacity);
+      } else if (paint instanceof LinearGradient) {
+         return toLinearGradient((LinearGradient) paint, bounds, opacity);
+      } else if (paint instanceof RadialGradient) {
+         return toRadialGradient((RadialGradient) paint, bounds, opacity);
+      } else {
+         return null;
+      }
+   }
+
+   private static java.awt.Paint toLinearGradient(LinearGradient gradient, Rectangle2D bounds, double opacity) {
+      List<Stop> stops = gradient.getStops();
+      if (stops.size() < 2) {
+         return stops.isEmpty() ? null : toAwtColor(stops.get(0).getColor(), opacity);
+      }
+      Point2D start = new Point2D.Double(gradient.getStartX(), gradient.getStartY());
+      Point2D end = new Point2D.Double(gradient.getEndX(), gradient.getEndY());
+      if (start.equals(end)) {
+         return toAwtColor(stops.get(stops.size() - 1).getColor(), opacity);
+      }
+      float[] fractions = new float[stops.size()];
+      java.awt.Color[] colors = new java.awt.Color[stops.size()];
+      convertStops(stops, opacity, fractions, colors);
+      return new java.awt.LinearGradientPaint(start, end, fractions, colors, toCycleMethod(gradient.getCycleMethod()),
+         MultipleGradientPaint.ColorSpaceType.SRGB, getGradientTransform(gradient.isProportional(), bounds));
+   }
+
+   private static java.awt.Paint toRadialGradient(RadialGradient gradient, Rectangle2D bounds, double opacity) {
+      List<Stop> stops = gradient.getStops();
+      if (stops.size() < 2 || gradient.getRadius() <= 0) {
+         return stops.isEmpty() ? null : toAwtColor(stops.get(stops.size() - 1).getColor(), opacity);
+      }
+      double radius = gradient.getRadius();
+      Point2D center = new Point2D.Double(gradient.getCenterX(), gradient.getCenterY());
+      double angle = Math.toRadians(gradient.getFocusAngle());
+      double distance = gradient.getFocusDistance() * radius;
+      Point2D focus = new Point2D.Double(center.getX() + distance * Math.cos(angle), center.getY() + distance * Math.sin(angle));
+      float[] fractions = new float[stops.size()];
+      java.awt.Color[] colors = new java.awt.Color[stops.size()];
+      convertStops(stops, opacity, fractions, colors);
+      return new java.awt.RadialGradientPaint(center, (float) radius, focus, fractions, colors, toCycleMethod(gradient.getCycleMethod()),
+         MultipleGradientPaint.ColorSpaceType.SRGB, getGradientTransform(gradient.isProportional(), bounds));
+   }
+
+   private static AffineTransform getGradientTransform(boolean isProportional, Rectangle2D bounds) {
+      AffineTransform transform = new AffineTransform();
+      if (isProportional && bounds != null && bounds.getWidth() > 0 && bounds.getHeight() > 0) {
+         transform.translate(bounds.getX(), bounds.getY());
+         transform.scale(bounds.getWidth(), bounds.getHeight());
+      }
+      return transform;
+   }
+
+   /**
+    * Convert the gradient stops. The Java2D gradients need strictly increasing fractions, but JavaFX allows two stops at
+    * the same offset.
+    */
+   private static void convertStops(List<Stop> stops, double opacity, float[] fractions, java.awt.Color[] colors) {
+      for (int i = 0; i < stops.size(); i++) {
+         Stop stop = stops.get(i);
+         float fraction = (float) Math.max(0, Math.min(1, stop.getOffset()));
+         if (i > 0 && fraction <= fractions[i - 1]) {
+            if (fractions[i - 1] < 1f) {
+               fraction = Math.nextUp(fractions[i - 1]);
+            } else {
+               fractions[i - 1] = Math.nextDown(1f);
+               fraction = 1f;
+            }
+         }
+         fractions[i] = fraction;
+         colors[i] = toAwtColor(stop.getColor(), opacity);
+      }
+   }
+
+   private static MultipleGradientPaint.CycleMethod toCycleMethod(CycleMethod cycleMethod) {
+      switch (cycleMethod) {
+         case REFLECT:
+            return MultipleGradientPaint.CycleMethod.REFLECT;
+         case REPEAT:
+            return MultipleGradientPaint.CycleMethod.REPEAT;
+         default:
+            return MultipleGradientPaint.CycleMethod.NO_CYCLE;
+      }
+   }
+}
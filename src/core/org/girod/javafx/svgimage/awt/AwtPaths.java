@@ -0,0 +1,245 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.awt;
+
+import java.awt.geom.Path2D;
+import org.girod.javafx.svgimage.xml.parsers.PathGeometry;
+
+/**
+ * Convert the geometry of the paths parsed by {@link org.girod.javafx.svgimage.xml.parsers.SVGPathParser} to Java2D paths.
+ *
+ * @since 1.6
+ */
+class AwtPaths {
+   private AwtPaths() {
+   }
+
+   /**
+    * Create a Java2D path from a path geometry. The elliptical arcs are converted to cubic curves.
+    *
+    * @param geometry the geometry
+    * @param windingRule the winding rule
+    * @return the path
+    */
+   static Path2D.Double createPath(PathGeometry geometry, int windingRule) {
+      Path2D.Double path = new Path2D.Double(windingRule);
+      double currentX = 0;
+      double currentY = 0;
+      double startX = 0;
+      double startY = 0;
+      // the last control point of the previous command, used for the smooth curves
+      double controlX = 0;
+      double controlY = 0;
+      byte previousType = -1;
+      int offset = 0;
+      int opsCount = geometry.getOpsCount();
+      for (int i = 0; i < opsCount; i++) {
+         byte op = geometry.getOp(i);
+         byte type = PathGeometry.getType(op);
+         double dx = 0;
+         double dy = 0;
+         if (PathGeometry.isRelative(op)) {
+            dx = currentX;
+            dy = currentY;
+         }
+         if (type != PathGeometry.MOVETO && path.getCurrentPoint() == null) {
+            path.moveTo(currentX, currentY);
+         }
+         double x1;
+         double y1;
+         switch (type) {
+            case PathGeometry.MOVETO:
+               currentX = geometry.getCoord(offset) + dx;
+               currentY = geometry.getCoord(offset + 1) + dy;
+               startX = currentX;
+               startY = currentY;
+               path.moveTo(currentX, currentY);
+               break;
+            case PathGeometry.LINETO:
+               currentX = geometry.getCoord(offset) + dx;
+               currentY = geometry.getCoord(offset + 1) + dy;
+               path.lineTo(currentX, currentY);
+               break;
+            case PathGeometry.HLINETO:
+               currentX = geometry.getCoord(offset) + dx;
+               path.lineTo(currentX, currentY);
+               break;
+            case PathGeometry.VLINETO:
+               currentY = geometry.getCoord(offset) + dy;
+               path.lineTo(currentX, currentY);
+               break;
+            case PathGeometry.CUBICTO:
+               x1 = geometry.getCoord(offset) + dx;
+               y1 = geometry.getCoord(offset + 1) + dy;
+               controlX = geometry.getCoord(offset + 2) + dx;
+               controlY = geometry.getCoord(offset + 3) + dy;
+               currentX = geometry.getCoord(offset + 4) + dx;
+               currentY = geometry.getCoord(offset + 5) + dy;
+               path.curveTo(x1, y1, controlX, controlY, currentX, currentY);
+               break;
+            case PathGeometry.SMOOTH_CUBICTO:
+               if (previousType == PathGeometry.CUBICTO || previousType == PathGeometry.SMOOTH_CUBICTO) {
+                  x1 = 2 * currentX - controlX;
+                  y1 = 2 * currentY - controlY;
+               } else {
+                  x1 = currentX;
+                  y1 = currentY;
+               }
+               controlX = geometry.getCoord(offset) + dx;
+               controlY = geometry.getCoord(offset + 1) + dy;
+               currentX = geometry.getCoord(offset + 2) + dx;
+               currentY = geometry.getCoord(offset + 3) + dy;
+               path.curveTo(x1, y1, controlX, controlY, currentX, currentY);
+               break;
+            case PathGeometry.QUADTO:
+               controlX = geometry.getCoord(offset) + dx;
+               controlY = geometry.getCoord(offset + 1) + dy;
+               currentX = geometry.getCoord(offset + 2) + dx;
+               currentY = geometry.getCoord(offset + 3) + dy;
+               path.quadTo(controlX, controlY, currentX, currentY);
+               break;
+            case PathGeometry.SMOOTH_QUADTO:
+               if (previousType == PathGeometry.QUADTO || previousType == PathGeometry.SMOOTH_QUADTO) {
+                  controlX = 2 * currentX - controlX;
+                  controlY = 2 * currentY - controlY;
+               } else {
+                  controlX = currentX;
+                  controlY = currentY;
+               }
+               currentX = geometry.getCoord(offset) + dx;
+               currentY = geometry.getCoord(offset + 1) + dy;
+               path.quadTo(controlX, controlY, currentX, currentY);
+               break;
+            case PathGeometry.ARCTO: {
+               double x = geometry.getCoord(offset + 5) + dx;
+               double y = geometry.getCoord(offset + 6) + dy;
+               arcTo(path, currentX, currentY, geometry.getCoord(offset), geometry.getCoord(offset + 1), geometry.getCoord(offset + 2),
+                  geometry.getCoord(offset + 3) != 0, geometry.getCoord(offset + 4) != 0, x, y);
+               currentX = x;
+               currentY = y;
+               break;
+            }
+            default:
+               path.closePath();
+               currentX = startX;
+               currentY = startY;
+               break;
+         }
+         previousType = type;
+         offset += PathGeometry.getCoordsCount(type);
+      }
+      return path;
+   }
+
+   /**
+    * Convert an elliptical arc to cubic curves. See https://www.w3.org/TR/SVG11/implnote.html#ArcImplementationNotes.
+    */
+   private static void arcTo(Path2D.Double path, double currentX, double currentY, double rx, double ry, double angle, boolean largeArc,
+      boolean sweep, double x, double y) {
+      if (x == currentX && y == currentY) {
+         return;
+      }
+      if (rx == 0 || ry == 0) {
+         path.lineTo(x, y);
+         return;
+      }
+      rx = Math.abs(rx);
+      ry = Math.abs(ry);
+      double phi = Math.toRadians(angle % 360d);
+      double cos = Math.cos(phi);
+      double sin = Math.sin(phi);
+      double dx2 = (currentX - x) / 2d;
+      double dy2 = (currentY - y) / 2d;
+      double x1p = cos * dx2 + sin * dy2;
+      double y1p = -sin * dx2 + cos * dy2;
+      double lambda = (x1p * x1p) / (rx * rx) + (y1p * y1p) / (ry * ry);
+      if (lambda > 1) {
+         double s = Math.sqrt(lambda);
+         rx *= s;
+         ry *= s;
+      }
+      double rx2 = rx * rx;
+      double ry2 = ry * ry;
+      double num = rx2 * ry2 - rx2 * y1p * y1p - ry2 * x1p * x1p;
+      double den = rx2 * y1p * y1p + ry2 * x1p * x1p;
+      double coef = den == 0 ? 0 : Math.sqrt(Math.max(0, num / den));
+      if (largeArc == sweep) {
+         coef = -coef;
+      }
+      double cxp = coef * rx * y1p / ry;
+      double cyp = -coef * ry * x1p / rx;
+      double cx = cos * cxp - sin * cyp + (currentX + x) / 2d;
+      double cy = sin * cxp + cos * cyp + (currentY + y) / 2d;
+      double ux = (x1p - cxp) / rx;
+      double uy = (y1p - cyp) / ry;
+      double vx = (-x1p - cxp) / rx;
+      double vy = (-y1p - cyp) / ry;
+      double theta1 = Math.atan2(uy, ux);
+      double dtheta = Math.atan2(ux * vy - uy * vx, ux * vx + uy * vy);
+      if (!sweep && dtheta > 0) {
+         dtheta -= 2 * Math.PI;
+      } else if (sweep && dtheta < 0) {
+         dtheta += 2 * Math.PI;
+      }
+      int segments = (int) Math.ceil(Math.abs(dtheta) / (Math.PI / 2) - 1e-7);
+      segments = Math.max(segments, 1);
+      double delta = dtheta / segments;
+      double t = 4d / 3d * Math.tan(delta / 4d);
+      double theta = theta1;
+      for (int i = 0; i < segments; i++) {
+         double cos1 = Math.cos(theta);
+         double sin1 = Math.sin(theta);
+         double cos2 = Math.cos(theta + delta);
+         double sin2 = Math.sin(theta + delta);
+         double ex1 = cos1 - t * sin1;
+         double ey1 = sin1 + t * cos1;
+         double ex2 = cos2 + t * sin2;
+         double ey2 = sin2 - t * cos2;
+         double c1x = cx + rx * ex1 * cos - ry * ey1 * sin;
+         double c1y = cy + rx * ex1 * sin + ry * ey1 * cos;
+         double c2x = cx + rx * ex2 * cos - ry * ey2 * sin;
+         double c2y = cy + rx * ex2 * sin + ry * ey2 * cos;
+         double px;
+         double py;
+         if (i == segments - 1) {
+            px = x;
+            py = y;
+         } else {
+            px = cx + rx * cos2 * cos - ry * sin2 * sin;
+            py = cy + rx * cos2 * sin + ry * sin2 * cos;
+         }
+         path.curveTo(c1x, c1y, c2x, c2y, px, py);
+         theta += delta;
+      }
+   }
+}
@@ -0,0 +1,294 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.awt;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.FontPosture;
+import javafx.scene.text.FontWeight;
+import javax.imageio.ImageIO;
+import org.girod.javafx.svgimage.GlobalConfig;
+import org.girod.javafx.svgimage.Viewbox;
+import org.girod.javafx.svgimage.Viewport;
+import org.girod.javafx.svgimage.xml.builders.SVGShapeBuilder;
+import org.girod.javafx.svgimage.xml.builders.SVGStyleBuilder;
+import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
+import org.girod.javafx.svgimage.xml.parsers.SVGTags;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.ComputedStyle;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLNode;
+import org.girod.javafx.svgimage.xml.specs.ExtendedFontPosture;
+import org.girod.javafx.svgimage.xml.specs.GradientSpec;
+import org.girod.javafx.svgimage.xml.specs.MarkerSpec;
+import org.girod.javafx.svgimage.xml.specs.Styles;
+
+/**
+ * The definitions of a parsed SVG document used by the Java2D renderer: the named elements, the gradients, the markers
+ * and the styles. The context is created once for a document, and is only read during the rendering, so it can be
+ * used by several renderings at the same time.
+ *
+ * @since 1.6
+ */
+class AwtRenderContext implements SVGTags {
+   private final URL url;
+   private final Viewport viewport;
+   private final Map<String, XMLNode> namedNodes = new HashMap<>();
+   private final Map<String, GradientSpec> gradientSpecs = new HashMap<>();
+   private final Map<String, MarkerSpec> markers = new HashMap<>();
+   private final Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+   private Styles svgStyle = null;
+
+   /**
+    * Constructor.
+    *
+    * @param root the root of the document
+    * @param url the URL of the document (may be null)
+    * @param viewport the viewport
+    */
+   AwtRenderContext(XMLNode root, URL url, Viewport viewport) {
+      this.url = url;
+      this.viewport = viewport;
+      collectDefinitions(root);
+      Iterator<GradientSpec> it = gradientSpecs.values().iterator();
+      while (it.hasNext()) {
+         it.next().resolve(gradientSpecs, viewport);
+      }
+   }
+
+   private void collectDefinitions(XMLNode xmlNode) {
+      Iterator<XMLNode> it = xmlNode.getChildren().iterator();
+      while (it.hasNext()) {
+         XMLNode childNode = it.next();
+         if (childNode.hasAttribute(ID)) {
+            namedNodes.put(childNode.getAttributeValue(ID), childNode);
+         }
+         switch (childNode.getName()) {
+            case LINEAR_GRADIENT:
+               SVGShapeBuilder.buildLinearGradient(gradientSpecs, new HashMap<>(), childNode, viewport);
+               break;
+            case RADIAL_GRADIENT:
+               SVGShapeBuilder.buildRadialGradient(gradientSpecs, new HashMap<>(), childNode, viewport);
+               break;
+            case MARKER:
+               if (childNode.hasAttribute(ID)) {
+                  MarkerSpec marker = new MarkerSpec(childNode);
+                  marker.computeRefPosition(viewport);
+                  Viewbox viewbox = ParserUtils.parseMarkerViewbox(childNode, viewport);
+                  if (viewbox != null) {
+                     marker.setViewbox(viewbox);
+                  }
+                  markers.put(childNode.getAttributeValue(ID), marker);
+               }
+               break;
+            case STYLE:
+               String cdata = childNode.getCDATA();
+               if (cdata != null) {
+                  if (svgStyle == null) {
+                     svgStyle = new Styles();
+                  }
+                  SVGStyleBuilder.parseStyle(svgStyle, cdata, viewport);
+               }
+               break;
+         }
+         collectDefinitions(childNode);
+      }
+   }
+
+   /**
+    * Return the viewport of the document.
+    *
+    * @return the viewport
+    */
+   Viewport getViewport() {
+      return viewport;
+   }
+
+   /**
+    * Return the element with a specified id.
+    *
+    * @param id the id
+    * @return the element, or null if there is no element with this id
+    */
+   XMLNode getNamedNode(String id) {
+      return namedNodes.get(id);
+   }
+
+   /**
+    * Return the gradient with a specified id.
+    *
+    * @param id the id
+    * @return the gradient, or null if there is no gradient with this id
+    */
+   Paint getGradient(String id) {
+      GradientSpec spec = gradientSpecs.get(id);
+      return spec != null ? spec.getPaint() : null;
+   }
+
+   /**
+    * Return the marker with a specified id.
+    *
+    * @param id the id
+    * @return the marker, or null if there is no marker with this id
+    */
+   MarkerSpec getMarker(String id) {
+      return markers.get(id);
+   }
+
+   /**
+    * Return the presentation properties declared for an element. The properties defined in the style attribute
+    * have precedence over the style classes rules, which have precedence over the attributes.
+    *
+    * @param xmlNode the element
+    * @return the properties
+    */
+   Map<String, String> getDeclarations(XMLNode xmlNode) {
+      Map<String, String> declarations = new HashMap<>(xmlNode.getAttributes());
+      if (svgStyle != null) {
+         addRule(declarations, xmlNode.getName());
+         if (xmlNode.hasAttribute(CLASS)) {
+            StringTokenizer tok = new StringTokenizer(xmlNode.getAttributeValue(CLASS), " ");
+            while (tok.hasMoreTokens()) {
+               addRule(declarations, tok.nextToken());
+            }
+         }
+      }
+      ComputedStyle style = xmlNode.getComputedStyle();
+      for (int i = 0; i < style.size(); i++) {
+         declarations.put(style.getName(i), style.getValue(i));
+      }
+      return declarations;
+   }
+
+   private void addRule(Map<String, String> declarations, String styleClass) {
+      if (!svgStyle.hasRule(styleClass)) {
+         return;
+      }
+      Iterator<Map.Entry<String, Styles.Property>> it = svgStyle.getRule(styleClass).getProperties().entrySet().iterator();
+      while (it.hasNext()) {
+         Map.Entry<String, Styles.Property> entry = it.next();
+         Object value = entry.getValue().value;
+         String valueS = null;
+         switch (entry.getValue().type) {
+            case Styles.FILL:
+            case Styles.STROKE:
+               valueS = value == null ? NONE : value.toString();
+               break;
+            case Styles.STROKE_WIDTH:
+            case Styles.FONT_SIZE:
+            case Styles.OPACITY:
+            case Styles.FILL_OPACITY:
+            case Styles.FONT_FAMILY:
+            case Styles.TEXT_DECORATION:
+               valueS = value.toString();
+               break;
+            case Styles.FONT_WEIGHT:
+               valueS = Integer.toString(((FontWeight) value).getWeight());
+               break;
+            case Styles.FONT_STYLE: {
+               ExtendedFontPosture posture = (ExtendedFontPosture) value;
+               valueS = posture.isOblique ? OBLIQUE : (posture.posture == FontPosture.ITALIC ? ITALIC : NORMAL);
+               break;
+            }
+            case Styles.STROKE_DASHARRAY: {
+               StringBuilder buf = new StringBuilder();
+               Iterator<?> it2 = ((List<?>) value).iterator();
+               while (it2.hasNext()) {
+                  buf.append(it2.next());
+                  if (it2.hasNext()) {
+                     buf.append(',');
+                  }
+               }
+               valueS = buf.toString();
+               break;
+            }
+            default:
+               // the transforms defined in style classes are not supported by the Java2D renderer
+               break;
+         }
+         if (valueS != null) {
+            declarations.put(entry.getKey(), valueS);
+         }
+      }
+   }
+
+   /**
+    * Return an image referenced by an image element. The images are loaded once for the document.
+    *
+    * @param href the image reference
+    * @return the image, or null if the image could not be loaded
+    */
+   BufferedImage getImage(String href) {
+      BufferedImage image = images.get(href);
+      if (image == null) {
+         image = loadImage(href);
+         if (image != null) {
+            images.put(href, image);
+         }
+      }
+      return image;
+   }
+
+   private BufferedImage loadImage(String href) {
+      try {
+         if (href.startsWith("data:")) {
+            int index = href.indexOf(',');
+            if (index == -1 || !href.substring(0, index).endsWith(";base64")) {
+               return null;
+            }
+            byte[] array = Base64.getMimeDecoder().decode(href.substring(index + 1));
+            return ImageIO.read(new ByteArrayInputStream(array));
+         } else {
+            URL imageURL;
+            try {
+               imageURL = new URL(href);
+            } catch (MalformedURLException ex) {
+               imageURL = new URL(url, href);
+            }
+            return ImageIO.read(imageURL);
+         }
+      } catch (IOException | IllegalArgumentException ex) {
+         GlobalConfig.getInstance().handleParsingError("Image " + href + " could not be loaded");
+         return null;
+      }
+   }
+}
@@ -0,0 +1,321 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.awt;
+
+import java.awt.BasicStroke;
+import java.awt.Font;
+import java.util.Iterator;
+import java.util.List;
+import java.util.StringTokenizer;
+import org.girod.javafx.svgimage.Viewport;
+import org.girod.javafx.svgimage.xml.parsers.LengthParser;
+import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
+import org.girod.javafx.svgimage.xml.parsers.SVGTags;
+
+/**
+ * The inherited presentation properties of an element, for the Java2D renderer.
+ *
+ * @since 1.6
+ */
+class AwtStyle implements SVGTags {
+   String fill = "black";
+   String stroke = null;
+   double strokeWidth = 1d;
+   double fillOpacity = 1d;
+   double strokeOpacity = 1d;
+   int lineCap = BasicStroke.CAP_BUTT;
+   int lineJoin = BasicStroke.JOIN_MITER;
+   float miterLimit = 4f;
+   float[] dashArray = null;
+   float dashOffset = 0f;
+   boolean evenOdd = false;
+   String fontFamily = null;
+   double fontSize = 12d;
+   boolean bold = false;
+   boolean italic = false;
+   String textAnchor = START;
+   boolean visible = true;
+   String markerStart = null;
+   String markerMid = null;
+   String markerEnd = null;
+
+   /**
+    * Create a copy of this style, to be used by a child element.
+    *
+    * @return the copy
+    */
+   AwtStyle copy() {
+      AwtStyle style = new AwtStyle();
+      style.fill = fill;
+      style.stroke = stroke;
+      style.strokeWidth = strokeWidth;
+      style.fillOpacity = fillOpacity;
+      style.strokeOpacity = strokeOpacity;
+      style.lineCap = lineCap;
+      style.lineJoin = lineJoin;
+      style.miterLimit = miterLimit;
+      style.dashArray = dashArray;
+      style.dashOffset = dashOffset;
+      style.evenOdd = evenOdd;
+      style.fontFamily = fontFamily;
+      style.fontSize = fontSize;
+      style.bold = bold;
+      style.italic = italic;
+      style.textAnchor = textAnchor;
+      style.visible = visible;
+      style.markerStart = markerStart;
+      style.markerMid = markerMid;
+      style.markerEnd = markerEnd;
+      return style;
+   }
+
+   /**
+    * Return true if the element must be stroked.
+    *
+    * @return true if the element must be stroked
+    */
+   boolean hasStroke() {
+      return stroke != null && !stroke.equals(NONE) && strokeWidth > 0;
+   }
+
+   /**
+    * Return true if the element has markers.
+    *
+    * @return true if the element has markers
+    */
+   boolean hasMarkers() {
+      return markerStart != null || markerMid != null || markerEnd != null;
+   }
+
+   /**
+    * Create the Java2D stroke.
+    *
+    * @return the stroke
+    */
+   BasicStroke createStroke() {
+      return new BasicStroke((float) strokeWidth, lineCap, lineJoin, Math.max(1f, miterLimit), dashArray, dashOffset);
+   }
+
+   /**
+    * Create the Java2D font.
+    *
+    * @return the font
+    */
+   Font createFont() {
+      int fontStyle = Font.PLAIN;
+      if (bold) {
+         fontStyle |= Font.BOLD;
+      }
+      if (italic) {
+         fontStyle |= Font.ITALIC;
+      }
+      return new Font(getFontName(), fontStyle, 1).deriveFont((float) fontSize);
+   }
+
+   private String getFontName() {
+      if (fontFamily == null) {
+         return Font.SANS_SERIF;
+      }
+      StringTokenizer tok = new StringTokenizer(fontFamily, ",");
+      String family = tok.nextToken().replace("'", "").replace("\"", "").trim();
+      switch (family) {
+         case "serif":
+            return Font.SERIF;
+         case "sans-serif":
+            return Font.SANS_SERIF;
+         case "monospace":
+            return Font.MONOSPACED;
+         default:
+            return family;
+      }
+   }
+
+   /**
+    * Apply a presentation property. The properties which are not inherited are ignored.
+    *
+    * @param name the property name
+    * @param value the property value
+    * @param viewport the viewport
+    */
+   void apply(String name, String value, Viewport viewport) {
+      value = value.trim();
+      try {
+         switch (name) {
+            case FILL:
+               fill = value;
+               break;
+            case STROKE:
+               stroke = value;
+               break;
+            case STROKE_WIDTH:
+               strokeWidth = LengthParser.parseLineWidth(value, viewport);
+               break;
+            case FILL_OPACITY: {
+               double opacity = ParserUtils.parseOpacity(value);
+               if (opacity >= 0) {
+                  fillOpacity = opacity;
+               }
+               break;
+            }
+            case STROKE_OPACITY: {
+               double opacity = ParserUtils.parseOpacity(value);
+               if (opacity >= 0) {
+                  strokeOpacity = opacity;
+               }
+               break;
+            }
+            case STROKE_LINECAP:
+               switch (value) {
+                  case ROUND:
+                     lineCap = BasicStroke.CAP_ROUND;
+                     break;
+                  case SQUARE:
+                     lineCap = BasicStroke.CAP_SQUARE;
+                     break;
+                  default:
+                     lineCap = BasicStroke.CAP_BUTT;
+                     break;
+               }
+               break;
+            case STROKE_LINEJOIN:
+               switch (value) {
+                  case ROUND:
+                     lineJoin = BasicStroke.JOIN_ROUND;
+                     break;
+                  case BEVEL:
+                     lineJoin = BasicStroke.JOIN_BEVEL;
+                     break;
+                  default:
+                     lineJoin = BasicStroke.JOIN_MITER;
+                     break;
+               }
+               break;
+            case STROKE_MITERLIMIT:
+               miterLimit = (float) ParserUtils.parseDoubleProtected(value);
+               break;
+            case STROKE_DASHARRAY:
+               dashArray = toDashArray(ParserUtils.parseDashArray(value, viewport));
+               break;
+            case STROKE_DASHOFFSET:
+               dashOffset = (float) LengthParser.parseLength(value, viewport);
+               break;
+            case FILL_RULE:
+               evenOdd = value.equals(EVEN_ODD);
+               break;
+            case FONT_FAMILY:
+               fontFamily = value;
+               break;
+            case FONT_SIZE:
+               fontSize = ParserUtils.parseFontSize(value);
+               break;
+            case FONT_WEIGHT:
+               bold = isBold(value);
+               break;
+            case FONT_STYLE:
+               italic = value.equals(ITALIC) || value.equals(OBLIQUE);
+               break;
+            case TEXT_ANCHOR:
+               textAnchor = value;
+               break;
+            case VISIBILITY:
+               visible = value.equals(VISIBLE);
+               break;
+            case MARKER_START:
+               markerStart = getMarker(value);
+               break;
+            case MARKER_MID:
+               markerMid = getMarker(value);
+               break;
+            case MARKER_END:
+               markerEnd = getMarker(value);
+               break;
+            default:
+               break;
+         }
+      } catch (NumberFormatException e) {
+         // the property is ignored
+      }
+   }
+
+   private static boolean isBold(String value) {
+      switch (value) {
+         case BOLD:
+         case BOLDER:
+            return true;
+         case NORMAL:
+         case LIGHTER:
+            return false;
+         default:
+            try {
+               return Integer.parseInt(value) >= 600;
+            } catch (NumberFormatException e) {
+               return false;
+            }
+      }
+   }
+
+   private static String getMarker(String value) {
+      if (value.equals(NONE)) {
+         return null;
+      } else {
+         return ParserUtils.getURL(value);
+      }
+   }
+
+   private static float[] toDashArray(List<Double> list) {
+      if (list == null || list.isEmpty()) {
+         return null;
+      }
+      // an odd number of values is repeated to yield an even number of values
+      int size = list.size() % 2 == 0 ? list.size() : list.size() * 2;
+      float[] array = new float[size];
+      float total = 0;
+      Iterator<Double> it = list.iterator();
+      int i = 0;
+      while (it.hasNext()) {
+         array[i] = it.next().floatValue();
+         if (array[i] < 0) {
+            return null;
+         }
+         total += array[i];
+         i++;
+      }
+      if (total == 0) {
+         return null;
+      }
+      for (int j = i; j < size; j++) {
+         array[j] = array[j - i];
+      }
+      return array;
+   }
+}
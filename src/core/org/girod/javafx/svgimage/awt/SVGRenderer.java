@@ -0,0 +1,188 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.awt;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import org.girod.javafx.svgimage.SVGDocument;
+import org.girod.javafx.svgimage.SVGLoader;
+import org.girod.javafx.svgimage.Viewport;
+import org.girod.javafx.svgimage.jfr.SVGEvents;
+import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLNode;
+
+/**
+ * A headless renderer which paints a parsed SVG document on a Java2D graphics, without using the JavaFX Platform or
+ * Swing. It can be used with <code>java.awt.headless=true</code>.
+ *
+ * <h2>Usage</h2>
+ * <pre>
+ * SVGDocument document = SVGLoader.parse(url);
+ * SVGRenderer renderer = new SVGRenderer(document, url);
+ * BufferedImage image = renderer.render(2);
+ * </pre>
+ *
+ * <h2>Threading</h2>
+ * The renderer only reads the parsed document, so the same renderer can be used by several threads at the same time.
+ * Each rendering uses its own state.
+ *
+ * <h2>Limitations</h2>
+ * The filters, the animations and the transforms defined in style classes are not rendered, and the masks are
+ * rendered as clips, as for the JavaFX Nodes tree.
+ *
+ * @since 1.6
+ */
+public class SVGRenderer {
+   private final XMLNode root;
+   private final AwtRenderContext context;
+   private final double width;
+   private final double height;
+   private final AffineTransform viewboxTransform;
+   private final URL url;
+
+   /**
+    * Constructor.
+    *
+    * @param document the parsed document
+    */
+   public SVGRenderer(SVGDocument document) {
+      this(document, null);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param document the parsed document
+    * @param url the URL of the document, used to resolve the relative URLs of the images (may be null)
+    */
+   public SVGRenderer(SVGDocument document, URL url) {
+      this.root = document.getRoot();
+      this.url = url;
+      Viewport viewport = ParserUtils.parseViewport(root);
+      // the default size of a SVG content without width, height or viewBox
+      this.width = viewport.getBestWidth() > 0 ? viewport.getBestWidth() : 300d;
+      this.height = viewport.getBestHeight() > 0 ? viewport.getBestHeight() : 150d;
+      this.viewboxTransform = AwtNodeRenderer.getViewboxTransform(viewport, width, height);
+      this.context = new AwtRenderContext(root, url, viewport);
+   }
+
+   /**
+    * Parse a svg URL and create the associated renderer.
+    *
+    * @param url the URL
+    * @return the renderer, or null if the URL could not be parsed
+    * @see SVGLoader#parse(URL)
+    */
+   public static SVGRenderer create(URL url) {
+      SVGDocument document = SVGLoader.parse(url);
+      return document != null ? new SVGRenderer(document, url) : null;
+   }
+
+   /**
+    * Return the width of the SVG content.
+    *
+    * @return the width
+    */
+   public double getWidth() {
+      return width;
+   }
+
+   /**
+    * Return the height of the SVG content.
+    *
+    * @return the height
+    */
+   public double getHeight() {
+      return height;
+   }
+
+   /**
+    * Render the SVG content in a new image.
+    *
+    * @return the image
+    */
+   public BufferedImage render() {
+      return render(1d);
+   }
+
+   /**
+    * Render the SVG content in a new image, with a scale factor.
+    *
+    * @param scale the scale factor
+    * @return the image
+    */
+   public BufferedImage render(double scale) {
+      Object event = SVGEvents.beginRasterize();
+      int imageWidth = Math.max(1, (int) Math.ceil(width * scale));
+      int imageHeight = Math.max(1, (int) Math.ceil(height * scale));
+      BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+      Graphics2D g = image.createGraphics();
+      try {
+         g.scale(scale, scale);
+         render(g);
+      } finally {
+         g.dispose();
+      }
+      SVGEvents.commitRasterize(event, url, SVGEvents.JAVA2D_RENDERER, imageWidth, imageHeight, 0);
+      return image;
+   }
+
+   /**
+    * Render the SVG content on a graphics. The content is rendered in the current coordinates of the graphics, with one
+    * unit for each pixel of the SVG content.
+    *
+    * @param g the graphics
+    */
+   public void render(Graphics2D g) {
+      Graphics2D g2 = (Graphics2D) g.create();
+      try {
+         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+         g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+         g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+         g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+         g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+         // the content is clipped by the viewport of the root element
+         g2.clip(new Rectangle2D.Double(0, 0, width, height));
+         g2.transform(viewboxTransform);
+         AwtNodeRenderer renderer = new AwtNodeRenderer(context);
+         AwtStyle style = renderer.createStyle(context.getDeclarations(root), new AwtStyle());
+         renderer.renderChildren(g2, root, style);
+      } finally {
+         g2.dispose();
+      }
+   }
+}
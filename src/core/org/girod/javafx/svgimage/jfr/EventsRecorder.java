@@ -0,0 +1,139 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.jfr;
+
+import java.io.File;
+import java.net.URL;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Creates and commits the Flight Recorder events. This class is only loaded if the Flight Recorder API is available on the
+ * Java runtime.
+ *
+ * @since 1.6
+ */
+class EventsRecorder {
+   private EventsRecorder() {
+   }
+
+   static boolean isAvailable() {
+      return FlightRecorder.isAvailable();
+   }
+
+   private static String toString(URL url) {
+      return url != null ? url.toExternalForm() : null;
+   }
+
+   static Object beginLoad() {
+      LoadEvent event = new LoadEvent();
+      if (!event.isEnabled()) {
+         return null;
+      }
+      event.begin();
+      return event;
+   }
+
+   static void commitLoad(Object event, URL url, int elementsCount, long parseDuration, long platformWait) {
+      LoadEvent loadEvent = (LoadEvent) event;
+      loadEvent.end();
+      if (loadEvent.shouldCommit()) {
+         loadEvent.url = toString(url);
+         loadEvent.elementsCount = elementsCount;
+         loadEvent.parseDuration = parseDuration;
+         loadEvent.platformWait = platformWait;
+         loadEvent.commit();
+      }
+   }
+
+   static Object beginBuild() {
+      BuildEvent event = new BuildEvent();
+      if (!event.isEnabled()) {
+         return null;
+      }
+      event.begin();
+      return event;
+   }
+
+   static void commitBuild(Object event, URL url, int elementsCount) {
+      BuildEvent buildEvent = (BuildEvent) event;
+      buildEvent.end();
+      if (buildEvent.shouldCommit()) {
+         buildEvent.url = toString(url);
+         buildEvent.elementsCount = elementsCount;
+         buildEvent.commit();
+      }
+   }
+
+   static Object beginRasterize() {
+      RasterizeEvent event = new RasterizeEvent();
+      if (!event.isEnabled()) {
+         return null;
+      }
+      event.begin();
+      return event;
+   }
+
+   static void commitRasterize(Object event, URL url, String renderer, int width, int height, long platformWait) {
+      RasterizeEvent rasterizeEvent = (RasterizeEvent) event;
+      rasterizeEvent.end();
+      if (rasterizeEvent.shouldCommit()) {
+         rasterizeEvent.url = toString(url);
+         rasterizeEvent.renderer = renderer;
+         rasterizeEvent.width = width;
+         rasterizeEvent.height = height;
+         rasterizeEvent.platformWait = platformWait;
+         rasterizeEvent.commit();
+      }
+   }
+
+   static Object beginImageWrite() {
+      ImageWriteEvent event = new ImageWriteEvent();
+      if (!event.isEnabled()) {
+         return null;
+      }
+      event.begin();
+      return event;
+   }
+
+   static void commitImageWrite(Object event, String format, File file, int width, int height) {
+      ImageWriteEvent writeEvent = (ImageWriteEvent) event;
+      writeEvent.end();
+      if (writeEvent.shouldCommit()) {
+         writeEvent.format = format;
+         writeEvent.file = file != null ? file.getPath() : null;
+         writeEvent.width = width;
+         writeEvent.height = height;
+         writeEvent.commit();
+      }
+   }
+}
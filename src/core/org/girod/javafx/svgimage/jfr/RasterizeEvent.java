@@ -0,0 +1,67 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The event emitted for the rasterization of a SVG content, by a JavaFX snapshot or by the Java2D renderer.
+ *
+ * @since 1.6
+ */
+@Name("org.girod.fxsvgimage.Rasterize")
+@Label("SVG Rasterize")
+@Category("fxsvgimage")
+@Description("Rasterization of a SVG content in an image")
+class RasterizeEvent extends jdk.jfr.Event {
+   @Label("URL")
+   @Description("The URL of the SVG content, or null if it was not loaded from an URL")
+   String url;
+   @Label("Renderer")
+   @Description("The renderer used for the rasterization, JavaFX or Java2D")
+   String renderer;
+   @Label("Width")
+   @Description("The width of the resulting image in pixels")
+   int width;
+   @Label("Height")
+   @Description("The height of the resulting image in pixels")
+   int height;
+   @Label("Platform Thread Wait")
+   @Description("The time spent waiting for the JavaFX Platform Thread before the rasterization")
+   @Timespan(Timespan.NANOSECONDS)
+   long platformWait;
+}
@@ -0,0 +1,187 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.jfr;
+
+import java.io.File;
+import java.net.URL;
+
+/**
+ * Emits the Java Flight Recorder events of the library. The events are emitted for:
+ * <ul>
+ * <li>The loading of a SVG content (<code>org.girod.fxsvgimage.Load</code>)</li>
+ * <li>The build of the Nodes tree (<code>org.girod.fxsvgimage.Build</code>)</li>
+ * <li>The rasterization of a SVG content by a JavaFX snapshot or by the Java2D renderer (<code>org.girod.fxsvgimage.Rasterize</code>)</li>
+ * <li>The writing of a snapshot in a file (<code>org.girod.fxsvgimage.ImageWrite</code>)</li>
+ * </ul>
+ *
+ * <h2>Cost</h2>
+ * The Flight Recorder API is not referenced by this class, so the library can still be used on a Java runtime without the Flight
+ * Recorder. In that case, or if an event type is not enabled in the current recordings, the <code>begin</code> methods return null
+ * and the <code>commit</code> methods do nothing.
+ *
+ * <h2>Usage</h2>
+ * <pre>
+ * Object event = SVGEvents.beginLoad();
+ * // load the content
+ * SVGEvents.commitLoad(event, url, elementsCount, parseDuration, platformWait);
+ * </pre>
+ *
+ * @since 1.6
+ */
+public final class SVGEvents {
+   /**
+    * The name of the JavaFX renderer.
+    */
+   public static final String JAVAFX_RENDERER = "JavaFX";
+   /**
+    * The name of the Java2D renderer.
+    */
+   public static final String JAVA2D_RENDERER = "Java2D";
+   private static final boolean AVAILABLE = checkAvailable();
+
+   private SVGEvents() {
+   }
+
+   private static boolean checkAvailable() {
+      try {
+         Class.forName("jdk.jfr.FlightRecorder");
+         return EventsRecorder.isAvailable();
+      } catch (ClassNotFoundException | LinkageError ex) {
+         return false;
+      }
+   }
+
+   /**
+    * Return true if the Flight Recorder is available on the Java runtime.
+    *
+    * @return true if the Flight Recorder is available
+    */
+   public static boolean isAvailable() {
+      return AVAILABLE;
+   }
+
+   /**
+    * Begin a loading event.
+    *
+    * @return the event, or null if the event is not enabled
+    */
+   public static Object beginLoad() {
+      return AVAILABLE ? EventsRecorder.beginLoad() : null;
+   }
+
+   /**
+    * Commit a loading event.
+    *
+    * @param event the event returned by {@link #beginLoad()} (may be null)
+    * @param url the URL of the SVG content (may be null)
+    * @param elementsCount the number of XML elements
+    * @param parseDuration the duration of the XML parsing in nanoseconds
+    * @param platformWait the time spent waiting for the JavaFX Platform Thread in nanoseconds
+    */
+   public static void commitLoad(Object event, URL url, int elementsCount, long parseDuration, long platformWait) {
+      if (event != null) {
+         EventsRecorder.commitLoad(event, url, elementsCount, parseDuration, platformWait);
+      }
+   }
+
+   /**
+    * Begin a build event.
+    *
+    * @return the event, or null if the event is not enabled
+    */
+   public static Object beginBuild() {
+      return AVAILABLE ? EventsRecorder.beginBuild() : null;
+   }
+
+   /**
+    * Commit a build event.
+    *
+    * @param event the event returned by {@link #beginBuild()} (may be null)
+    * @param url the URL of the SVG content (may be null)
+    * @param elementsCount the number of XML elements
+    */
+   public static void commitBuild(Object event, URL url, int elementsCount) {
+      if (event != null) {
+         EventsRecorder.commitBuild(event, url, elementsCount);
+      }
+   }
+
+   /**
+    * Begin a rasterization event.
+    *
+    * @return the event, or null if the event is not enabled
+    */
+   public static Object beginRasterize() {
+      return AVAILABLE ? EventsRecorder.beginRasterize() : null;
+   }
+
+   /**
+    * Commit a rasterization event.
+    *
+    * @param event the event returned by {@link #beginRasterize()} (may be null)
+    * @param url the URL of the SVG content (may be null)
+    * @param renderer the renderer ({@link #JAVAFX_RENDERER} or {@link #JAVA2D_RENDERER})
+    * @param width the width of the image in pixels
+    * @param height the height of the image in pixels
+    * @param platformWait the time spent waiting for the JavaFX Platform Thread in nanoseconds
+    */
+   public static void commitRasterize(Object event, URL url, String renderer, int width, int height, long platformWait) {
+      if (event != null) {
+         EventsRecorder.commitRasterize(event, url, renderer, width, height, platformWait);
+      }
+   }
+
+   /**
+    * Begin an image writing event.
+    *
+    * @return the event, or null if the event is not enabled
+    */
+   public static Object beginImageWrite() {
+      return AVAILABLE ? EventsRecorder.beginImageWrite() : null;
+   }
+
+   /**
+    * Commit an image writing event.
+    *
+    * @param event the event returned by {@link #beginImageWrite()} (may be null)
+    * @param format the image format
+    * @param file the file
+    * @param width the width of the image in pixels
+    * @param height the height of the image in pixels
+    */
+   public static void commitImageWrite(Object event, String format, File file, int width, int height) {
+      if (event != null) {
+         EventsRecorder.commitImageWrite(event, format, file, width, height);
+      }
+   }
+}
@@ -61,7 +61,7 @@ import javafx.scene.shape.Line;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Polyline;
 import javafx.scene.shape.Rectangle;
-import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Path;
 import javafx.scene.shape.Shape;
 import javafx.util.Duration;
 import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
@@ -74,7 +74,7 @@ import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
 /**
  * The animation builder.
  *
- * @version 1.
+ * @version 1.6
  */
 public class AnimationBuilder implements SVGTags {
    private static final short TYPE_TRANSLATE = 0;
@@ -369,7 +369,7 @@ public class AnimationBuilder implements SVGTags {
                   break;
             }
          case PATH:
-            SVGPath thePath = (SVGPath) node;
+            Shape thePath = (Shape) node;
             switch (attrName) {
                case OPACITY:
                   value = thePath.opacityProperty();
@@ -480,12 +480,11 @@ public class AnimationBuilder implements SVGTags {
       String content = xmlAnim.getAttributeValue(PATH);
       content = content.replace('−', '-');
       SVGPathParser pathParser = new SVGPathParser();
-      List<SVGPath> list = pathParser.parsePathContent(content, viewport);
+      Path path = pathParser.parsePath(content, viewport);
       Duration duration = Duration.ZERO;
       if (xmlAnim.hasAttribute(DUR)) {
          duration = parseDuration(xmlAnim.getAttributeValue(DUR));
       }
-      SVGPath path = list.get(0);
       PathTransition transition;
       if (parallel != null) {
          transition = new PathTransition(duration, path);
@@ -38,6 +38,7 @@ import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.layout.HBox;
+import javafx.scene.shape.ArcTo;
 import javafx.scene.shape.ClosePath;
 import javafx.scene.shape.CubicCurveTo;
 import javafx.scene.shape.Line;
@@ -53,6 +54,7 @@ import javafx.scene.text.Text;
 /**
  * Utilities for builders.
  *
+ * @version 1.6
  * @since 1.3
  */
 public class BuilderUtils {
@@ -237,6 +239,9 @@ public class BuilderUtils {
          } else if (lastElement instanceof QuadCurveTo) {
             lastIndex--;
             lastElement = list.get(lastIndex);
+         } else if (lastElement instanceof ArcTo) {
+            lastIndex--;
+            lastElement = list.get(lastIndex);
          } else {
             break;
          }
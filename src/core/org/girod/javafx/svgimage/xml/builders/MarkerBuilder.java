@@ -33,7 +33,6 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
 package org.girod.javafx.svgimage.xml.builders;
 
 import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
-import static org.girod.javafx.svgimage.xml.parsers.SVGPathParser.MarkerType;
 import org.girod.javafx.svgimage.xml.specs.MarkerContext;
 import org.girod.javafx.svgimage.xml.specs.MarkerSpec;
 import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLNode;
@@ -41,24 +40,12 @@ import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
 import java.util.Iterator;
 import java.util.List;
 import javafx.collections.ObservableList;
-import javafx.geometry.Point2D;
 import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.shape.ArcTo;
-import javafx.scene.shape.CubicCurveTo;
-import javafx.scene.shape.HLineTo;
 import javafx.scene.shape.Line;
-import javafx.scene.shape.LineTo;
-import javafx.scene.shape.MoveTo;
-import javafx.scene.shape.Path;
-import javafx.scene.shape.PathElement;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Polyline;
-import javafx.scene.shape.QuadCurveTo;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.shape.SVGPath;
 import javafx.scene.shape.Shape;
-import javafx.scene.shape.VLineTo;
 import javafx.scene.transform.Transform;
 import org.girod.javafx.svgimage.LoaderContext;
 import org.girod.javafx.svgimage.xml.parsers.SVGTags;
@@ -77,7 +64,7 @@ import org.girod.javafx.svgimage.xml.parsers.xmltree.ElementNode;
 /**
  * A builder for markers.
  *
- * @version 1.3
+ * @version 1.6
  */
 public class MarkerBuilder implements SVGTags {
    private MarkerBuilder() {
@@ -112,7 +99,7 @@ public class MarkerBuilder implements SVGTags {
                buildMarkers(parent, (Line) node, transforms, markerContext, context, viewport, visible);
                break;
             case PATH:
-               buildMarkers(parent, (SVGPath) node, transforms, markerContext, context, viewport, visible);
+               buildMarkers(parent, (Shape) node, transforms, markerContext, context, viewport, visible);
                break;
          }
       }
@@ -222,25 +209,25 @@ public class MarkerBuilder implements SVGTags {
    }
 
    private static double getOrientationAngle(MarkerSpec spec, Node node) {
-      switch (spec.getOrientType()) {
-         case MarkerSpec.SPEC_ORIENT_NONE:
-            return 0;
-         case MarkerSpec.SPEC_ORIENT_ANGLE:
-            return spec.getOrientationAngle();
-         case MarkerSpec.SPEC_ORIENT_AUTO:
-         case MarkerSpec.SPEC_ORIENT_AUTO_REVERSE:
-            if (node instanceof Line) {
-               return BuilderUtils.computeAngle((Line) node);
-            } else if (node instanceof Polyline) {
-               return BuilderUtils.computeAngle((Polyline) node);
-            } else if (node instanceof Path) {
-               return BuilderUtils.computeAngle((Path) node);
-            } else {
-               return 0;
-            }
-         default:
-            return 0;
+      double angle = 0;
+      if (node instanceof Line) {
+         Line line = (Line) node;
+         angle = getDirection(line.getStartX(), line.getStartY(), line.getEndX(), line.getEndY());
+      } else if (node instanceof Polyline) {
+         ObservableList<Double> points = ((Polyline) node).getPoints();
+         int size = points.size();
+         if (size >= 4) {
+            angle = getDirection(points.get(size - 4), points.get(size - 3), points.get(size - 2), points.get(size - 1));
+         }
       }
+      return getOrientationAngle(spec, angle, false);
+   }
+
+   /**
+    * Return the direction of a segment in degrees, as a clockwise rotation from the x axis (the y axis points downwards).
+    */
+   private static double getDirection(double x1, double y1, double x2, double y2) {
+      return Math.toDegrees(Math.atan2(y2 - y1, x2 - x1));
    }
 
    private static double getLength(MarkerSpec spec, double length, boolean isWidth) {
@@ -251,123 +238,50 @@ public class MarkerBuilder implements SVGTags {
       }
    }
 
-   private static void buildMarkers(Group parent, SVGPath svgPath, List<Transform> transforms, MarkerContext markerContext, LoaderContext context, Viewport viewport, boolean visible) {
-      markerContext.setContextNode(svgPath);
-      Path path = getPath(svgPath);
-      if (markerContext.hasMarkerStart()) {
-         MarkerSpec spec = markerContext.getMarkerStart();
-         getMarkerList(MarkerType.START, svgPath).forEach(point -> {
-           Node markerNode = createMarker(parent, spec, markerContext, context, viewport);
-           if (markerNode != null)
-           {
-             markerNode.setLayoutX(point.getX() + getLength(spec, spec.getRefX(), true));
-             markerNode.setLayoutY(point.getY() + getLength(spec, spec.getRefY(), false));
-             if (transforms != null)
-             {
-               markerNode.getTransforms().addAll(transforms);
-             }
-           }
-        });
+   private static void buildMarkers(Group parent, Shape pathShape, List<Transform> transforms, MarkerContext markerContext, LoaderContext context, Viewport viewport, boolean visible) {
+      markerContext.setContextNode(pathShape);
+      SVGPathParser parser = (SVGPathParser) pathShape.getProperties().get("PathParser");
+      int countVertices = parser.getVerticesCount();
+      if (markerContext.hasMarkerStart() && countVertices >= 1) {
+         buildMarker(parent, markerContext.getMarkerStart(), parser, 0, true, transforms, markerContext, context, viewport);
       }
-
-      if (markerContext.hasMarkerEnd()) {
-         MarkerSpec spec = markerContext.getMarkerEnd();
-         getMarkerList(MarkerType.START, svgPath).forEach(point -> {
-           Node markerNode = createMarker(parent, spec, markerContext, context, viewport);
-        if (markerNode != null) {
-          markerNode.setLayoutX(point.getX() + getLength(spec, spec.getRefX(), true));
-          markerNode.setLayoutY(point.getY() + getLength(spec, spec.getRefY(), false));
-          if (transforms != null) {
-            markerNode.getTransforms().addAll(transforms);
-          }
-          if (spec.hasOrientation()) {
-            double angle = getOrientationAngle(spec, path);
-            markerNode.getTransforms().add(Transform.rotate(angle, 0, 0));
-          }
-        }
-      });
-    }
-
-    if (markerContext.hasMarkerMid()) {
-      MarkerSpec spec = markerContext.getMarkerMid();
-
-      getMarkerList(MarkerType.MID, svgPath).forEach(point -> {
-        Node markerNode = createMarker(parent, spec, markerContext, context, viewport);
-        if (markerNode != null) {
-          markerNode.setLayoutX(point.getX() + getLength(spec, spec.getRefX(), true));
-          markerNode.setLayoutY(point.getY() + getLength(spec, spec.getRefY(), false));
-          if (transforms != null) {
-            markerNode.getTransforms().addAll(transforms);
-          }
-          if (spec.hasOrientation()) {
-               double angle = getOrientationAngle(spec, path);
-               markerNode.getTransforms().add(Transform.rotate(angle, 0, 0));
-          }
-        }
-      });
-    }
-  }
-
-  private static List<Point2D> getMarkerList(MarkerType markerType, SVGPath svgPath) {
-    SVGPathParser parser;
-    parser = (SVGPathParser) svgPath.getProperties().get("PathParser");
-    return parser.getMarkerList(markerType);
-  }
-
-
-   private static MoveTo getEnd(Path path) {
-      double x = 0;
-      double y = 0;
-      Iterator<PathElement> it = path.getElements().iterator();
-      while (it.hasNext()) {
-         PathElement elt = it.next();
-         if (elt instanceof MoveTo) {
-            MoveTo moveTo = (MoveTo) elt;
-            x = moveTo.getX();
-            y = moveTo.getY();
-         } else if (elt instanceof LineTo) {
-            LineTo lineTo = (LineTo) elt;
-            x = lineTo.getX();
-            y = lineTo.getY();
-         } else if (elt instanceof HLineTo) {
-            HLineTo lineTo = (HLineTo) elt;
-            x = lineTo.getX();
-         } else if (elt instanceof VLineTo) {
-            VLineTo lineTo = (VLineTo) elt;
-            y = lineTo.getY();
-         } else if (elt instanceof ArcTo) {
-            ArcTo arcTo = (ArcTo) elt;
-            x = arcTo.getX();
-            y = arcTo.getY();
-         } else if (elt instanceof CubicCurveTo) {
-            CubicCurveTo curveTo = (CubicCurveTo) elt;
-            x = curveTo.getX();
-            y = curveTo.getY();
-         } else if (elt instanceof QuadCurveTo) {
-            QuadCurveTo curveTo = (QuadCurveTo) elt;
-            x = curveTo.getX();
-            y = curveTo.getY();
+      if (markerContext.hasMarkerEnd() && countVertices >= 2) {
+         buildMarker(parent, markerContext.getMarkerEnd(), parser, countVertices - 1, false, transforms, markerContext, context, viewport);
+      }
+      if (markerContext.hasMarkerMid()) {
+         MarkerSpec spec = markerContext.getMarkerMid();
+         for (int i = 1; i < countVertices - 1; i++) {
+            buildMarker(parent, spec, parser, i, false, transforms, markerContext, context, viewport);
          }
       }
-      return new MoveTo(x, y);
    }
 
-   private static MoveTo getStart(Path path) {
-      Iterator<PathElement> it = path.getElements().iterator();
-      while (it.hasNext()) {
-         PathElement elt = it.next();
-         if (elt instanceof MoveTo) {
-            return (MoveTo) elt;
-         } else {
-            return new MoveTo(0, 0);
+   private static void buildMarker(Group parent, MarkerSpec spec, SVGPathParser parser, int index, boolean isStart, List<Transform> transforms, MarkerContext markerContext, LoaderContext context, Viewport viewport) {
+      Node markerNode = createMarker(parent, spec, markerContext, context, viewport);
+      if (markerNode != null) {
+         markerNode.setLayoutX(parser.getVertexX(index) + getLength(spec, spec.getRefX(), true));
+         markerNode.setLayoutY(parser.getVertexY(index) + getLength(spec, spec.getRefY(), false));
+         if (transforms != null) {
+            markerNode.getTransforms().addAll(transforms);
+         }
+         if (spec.hasOrientation()) {
+            double angle = getOrientationAngle(spec, parser.getVertexAngle(index), isStart);
+            markerNode.getTransforms().add(Transform.rotate(angle, 0, 0));
          }
       }
-      return new MoveTo(0, 0);
    }
 
-   private static Path getPath(SVGPath svgPath) {
-      Path path = (Path) (Shape.subtract(svgPath, new Rectangle(0, 0)));
-      return path;
+   private static double getOrientationAngle(MarkerSpec spec, double vertexAngle, boolean isStart) {
+      switch (spec.getOrientType()) {
+         case MarkerSpec.SPEC_ORIENT_ANGLE:
+            return spec.getOrientationAngle();
+         case MarkerSpec.SPEC_ORIENT_AUTO:
+            return vertexAngle;
+         case MarkerSpec.SPEC_ORIENT_AUTO_REVERSE:
+            return isStart ? vertexAngle + 180 : vertexAngle;
+         default:
+            return 0;
+      }
    }
 
    private static Node createMarker(Group parent, MarkerSpec spec, MarkerContext markerContext, LoaderContext context, Viewport viewport) {
@@ -394,7 +308,7 @@ public class MarkerBuilder implements SVGTags {
                break;
             case PATH:
                boolean hasFill = SVGStyleBuilder.hasFill(childNode);
-               nodes = SVGShapeBuilder.buildPath(childNode, null, viewbox, viewport, hasFill);
+               nodes = SVGShapeBuilder.buildPath(childNode, null, viewbox, viewport, hasFill, context.params.buildPathElements);
                break;
             case POLYGON:
                node = SVGShapeBuilder.buildPolygon(childNode, null, viewbox, viewport);
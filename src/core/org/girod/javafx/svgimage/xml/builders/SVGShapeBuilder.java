@@ -61,6 +61,7 @@ import javafx.scene.shape.Circle;
 import javafx.scene.shape.Ellipse;
 import javafx.scene.shape.FillRule;
 import javafx.scene.shape.Line;
+import javafx.scene.shape.Path;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Polyline;
 import javafx.scene.shape.Rectangle;
@@ -75,18 +76,20 @@ import org.girod.javafx.svgimage.xml.specs.FilterSpec.FEDiffuseLighting;
 import org.girod.javafx.svgimage.xml.specs.FilterSpec.FESpecularLighting;
 import org.girod.javafx.svgimage.LoaderContext;
 import org.girod.javafx.svgimage.GlobalConfig;
+import org.girod.javafx.svgimage.SVGPathCache;
 import org.girod.javafx.svgimage.xml.parsers.SVGTags;
 import org.girod.javafx.svgimage.xml.specs.SpanGroup;
 import org.girod.javafx.svgimage.xml.parsers.TransformUtils;
 import org.girod.javafx.svgimage.Viewbox;
 import org.girod.javafx.svgimage.Viewport;
+import org.girod.javafx.svgimage.xml.parsers.PathGeometry;
 import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
 import org.girod.javafx.svgimage.xml.parsers.xmltree.ElementNode;
 
 /**
  * The shape builder.
  *
- * @version 1.
+ * @version 1.6
  */
 public class SVGShapeBuilder implements SVGTags {
    private static final Pattern NUMBER = Pattern.compile("\\d+");
@@ -459,10 +462,10 @@ public class SVGShapeBuilder implements SVGTags {
                break;
             case PATH:
                boolean hasFill = SVGStyleBuilder.hasFill(namedNode);
-               nodesFromUse = buildPath(namedNode, null, viewbox, viewport, hasFill);
+               nodesFromUse = buildPath(namedNode, null, viewbox, viewport, hasFill, context.params.buildPathElements, context.params.simplificationTolerance);
                break;
             case POLYGON:
-               node = buildPolygon(namedNode, null, viewbox, viewport);
+               node = buildPolygon(namedNode, null, viewbox, viewport, context.params.simplificationTolerance);
                nodesFromUse = ParserUtils.createNodeList(node);
                break;
             case LINE:
@@ -470,7 +473,7 @@ public class SVGShapeBuilder implements SVGTags {
                nodesFromUse = ParserUtils.createNodeList(node);
                break;
             case POLYLINE:
-               node = buildPolyline(namedNode, null, viewbox, viewport);
+               node = buildPolyline(namedNode, null, viewbox, viewport, context.params.simplificationTolerance);
                nodesFromUse = ParserUtils.createNodeList(node);
                break;
             case IMAGE:
@@ -506,14 +509,11 @@ public class SVGShapeBuilder implements SVGTags {
             }
             return nodesFromUse;
          } else if (spanGroup != null) {
-            Map<String, String> theStylesMap = ParserUtils.getStyles(namedNode);
             Iterator<SpanGroup.TSpan> it2 = spanGroup.getSpans().iterator();
             SpanGroup.TSpan previous = null;
             while (it2.hasNext()) {
                SpanGroup.TSpan tspan = it2.next();
                Node tspanText = tspan.node;
-               String theStyles = ParserUtils.mergeStyles(theStylesMap, tspan.elementNode);
-               tspan.addAttribute(STYLE, theStyles);
                addStyles(context, null, tspanText, tspan.elementNode, viewport);
                if (tspan.hasAttribute(BASELINE_SHIFT)) {
                   // http://www.svgbasics.com/font_effects_italic.html
@@ -560,10 +560,10 @@ public class SVGShapeBuilder implements SVGTags {
                break;
             case PATH:
                boolean hasFill = SVGStyleBuilder.hasFill(childNode);
-               nodes = buildPath(childNode, null, viewbox, viewport, hasFill);
+               nodes = buildPath(childNode, null, viewbox, viewport, hasFill, context.params.buildPathElements, context.params.simplificationTolerance);
                break;
             case POLYGON:
-               node = buildPolygon(childNode, null, viewbox, viewport);
+               node = buildPolygon(childNode, null, viewbox, viewport, context.params.simplificationTolerance);
                nodes = ParserUtils.createNodeList(node);
                break;
             case LINE:
@@ -571,7 +571,7 @@ public class SVGShapeBuilder implements SVGTags {
                nodes = ParserUtils.createNodeList(node);
                break;
             case POLYLINE:
-               node = buildPolyline(childNode, null, viewbox, viewport);
+               node = buildPolyline(childNode, null, viewbox, viewport, context.params.simplificationTolerance);
                nodes = ParserUtils.createNodeList(node);
                break;
             case IMAGE:
@@ -597,14 +597,11 @@ public class SVGShapeBuilder implements SVGTags {
                group.getChildren().add(node);
             }
          } else if (spanGroup != null) {
-            Map<String, String> theStylesMap = ParserUtils.getStyles(childNode);
             Iterator<SpanGroup.TSpan> it2 = spanGroup.getSpans().iterator();
             SpanGroup.TSpan previous = null;
             while (it2.hasNext()) {
                SpanGroup.TSpan tspan = it2.next();
                Node tspanText = tspan.node;
-               String theStyles = ParserUtils.mergeStyles(theStylesMap, tspan.elementNode);
-               tspan.addAttribute(STYLE, theStyles);
                addStyles(context, group, tspanText, tspan.elementNode, viewport);
                if (tspan.hasAttribute(BASELINE_SHIFT)) {
                   // http://www.svgbasics.com/font_effects_italic.html
@@ -721,23 +718,104 @@ public class SVGShapeBuilder implements SVGTags {
       FillRule rule = ParserUtils.getFillRule(xmlNode);
 
       content = content.replace('−', '-');
-      SVGPathParser pathParser = new SVGPathParser();
-      List<SVGPath> list = pathParser.parsePathContent(content, viewport);
-      if (list != null) {
-         Iterator<SVGPath> it = list.iterator();
-         while (it.hasNext()) {
-            SVGPath path = it.next();
-            if (rule != null) {
-               path.setFillRule(rule);
-            }
-            if (viewbox != null) {
-               viewbox.scaleNode(path);
-            }
+      SVGPathParser pathParser = getPathParser(xmlNode, content, viewport);
+      SVGPath path = pathParser.createSVGPath();
+      if (rule != null) {
+         path.setFillRule(rule);
+      }
+      if (viewbox != null) {
+         viewbox.scaleNode(path);
+         setViewboxScale(path, viewbox);
+      }
+      List<SVGPath> list = new ArrayList<>(1);
+      list.add(path);
+      return list;
+   }
+
+   /**
+    * Build an "path" element.
+    *
+    * @param xmlNode the node
+    * @param bounds an optional bounds for an object to specify the coordinates of the object relative to it
+    * @param viewbox the viewbox of the element (may be null)
+    * @param viewport the viewport
+    * @param hasFill true if the parsed shaped are filled
+    * @param buildPathElements true if the path must be built as a Path whose elements are created directly from the
+    * parsed path data rather than as a SVGPath
+    * @return the shape
+    * @since 1.6
+    */
+   public static List<? extends Shape> buildPath(XMLNode xmlNode, Bounds bounds, Viewbox viewbox, Viewport viewport, boolean hasFill, boolean buildPathElements) {
+      return buildPath(xmlNode, bounds, viewbox, viewport, hasFill, buildPathElements, 0);
+   }
+
+   /**
+    * Build an "path" element, simplified with a tolerance. See {@link PathGeometry#simplify(double)}.
+    *
+    * @param xmlNode the node
+    * @param bounds an optional bounds for an object to specify the coordinates of the object relative to it
+    * @param viewbox the viewbox of the element (may be null)
+    * @param viewport the viewport
+    * @param hasFill true if the parsed shaped are filled
+    * @param buildPathElements true if the path must be built as a Path whose elements are created directly from the
+    * parsed path data rather than as a SVGPath
+    * @param tolerance the tolerance of the simplification after the scaling of the viewbox, or 0 if the path must not be simplified
+    * @return the shape
+    * @since 1.6
+    */
+   public static List<? extends Shape> buildPath(XMLNode xmlNode, Bounds bounds, Viewbox viewbox, Viewport viewport, boolean hasFill, boolean buildPathElements, double tolerance) {
+      tolerance = getLocalTolerance(viewbox, tolerance);
+      if (!buildPathElements && tolerance == 0) {
+         return buildPath(xmlNode, bounds, viewbox, viewport, hasFill);
+      }
+      String content = xmlNode.getAttributeValue(D);
+      FillRule rule = ParserUtils.getFillRule(xmlNode);
+
+      content = content.replace('−', '-');
+      SVGPathParser pathParser = getPathParser(xmlNode, content, viewport);
+      Shape shape;
+      if (buildPathElements) {
+         Path path = pathParser.createPath(tolerance);
+         if (rule != null) {
+            path.setFillRule(rule);
          }
+         shape = path;
+      } else {
+         SVGPath path = pathParser.createSVGPath(tolerance);
+         if (rule != null) {
+            path.setFillRule(rule);
+         }
+         shape = path;
+      }
+      if (viewbox != null) {
+         viewbox.scaleNode(shape);
+         setViewboxScale(shape, viewbox);
       }
+      List<Shape> list = new ArrayList<>(1);
+      list.add(shape);
       return list;
    }
 
+   /**
+    * Return the parser of a path content. The parser is shared with the other paths which have the same content if there is a
+    * {@link SVGPathCache}. Else if the path data has already been parsed in a compiled document, the parsed commands are
+    * only scaled by the viewport.
+    */
+   private static SVGPathParser getPathParser(XMLNode xmlNode, String content, Viewport viewport) {
+      SVGPathCache cache = GlobalConfig.getInstance().getPathCache();
+      if (cache != null) {
+         return cache.getParser(content, viewport);
+      }
+      SVGPathParser pathParser = new SVGPathParser();
+      PathGeometry geometry = xmlNode.getPathGeometry(D);
+      if (geometry != null) {
+         pathParser.parse(geometry, viewport);
+      } else {
+         pathParser.parse(content, viewport);
+      }
+      return pathParser;
+   }
+
    /**
     * Build a "polygon" element.
     *
@@ -748,33 +826,96 @@ public class SVGShapeBuilder implements SVGTags {
     * @return the shape
     */
    public static Polygon buildPolygon(XMLNode xmlNode, Bounds bounds, Viewbox viewbox, Viewport viewport) {
-      String pointsAttribute = xmlNode.getAttributeValue(POINTS);
+      return buildPolygon(xmlNode, bounds, viewbox, viewport, 0);
+   }
+
+   /**
+    * Build a "polygon" element, simplified with a tolerance. See {@link PathGeometry#simplify(double)}.
+    *
+    * @param xmlNode the node
+    * @param bounds an optional bounds for an object to specify the coordinates of the object relative to it
+    * @param viewbox the viewbox
+    * @param viewport the viewport
+    * @param tolerance the tolerance of the simplification after the scaling of the viewbox, or 0 if the polygon must not be
+    * simplified
+    * @return the shape
+    * @since 1.6
+    */
+   public static Polygon buildPolygon(XMLNode xmlNode, Bounds bounds, Viewbox viewbox, Viewport viewport, double tolerance) {
+      tolerance = getLocalTolerance(viewbox, tolerance);
       Polygon polygon = new Polygon();
+      PathGeometry geometry = parsePoints(xmlNode, bounds, viewbox, viewport);
+      simplifyPoints(polygon, geometry, tolerance).fillPoints(polygon.getPoints());
+      if (viewbox != null) {
+         viewbox.scaleNode(polygon);
+         setViewboxScale(polygon, viewbox);
+      }
+      return polygon;
+   }
+
+   /**
+    * Return the tolerance of the simplification in the coordinates of a shape, before the scaling of its viewbox.
+    */
+   private static double getLocalTolerance(Viewbox viewbox, double tolerance) {
+      if (viewbox == null) {
+         return tolerance;
+      }
+      double scale = viewbox.getNodeScale();
+      return scale == 0 ? tolerance : tolerance / scale;
+   }
+
+   /**
+    * Keep the scale of the viewbox of a shape which can be simplified in its "ViewboxScale" property, so that the tolerance
+    * of a later simplification is converted in the coordinates of the shape in the same way as when loading the image.
+    */
+   private static void setViewboxScale(Shape shape, Viewbox viewbox) {
+      double scale = viewbox.getNodeScale();
+      if (scale != 0 && scale != 1) {
+         shape.getProperties().put("ViewboxScale", scale);
+      }
+   }
+
+   /**
+    * Simplify the points of a polygon or a polyline. The geometry before the simplification is kept in the "PathGeometry"
+    * property of the shape, so that the shape can be rebuilt at another level of detail.
+    */
+   private static PathGeometry simplifyPoints(Shape shape, PathGeometry geometry, double tolerance) {
+      if (tolerance == 0) {
+         return geometry;
+      }
+      geometry.trimToSize();
+      shape.getProperties().put("PathGeometry", geometry);
+      return geometry.simplify(tolerance);
+   }
+
+   /**
+    * Parse the "points" attribute of a polygon or a polyline. A last coordinate which has no y coordinate is ignored.
+    */
+   private static PathGeometry parsePoints(XMLNode xmlNode, Bounds bounds, Viewbox viewbox, Viewport viewport) {
+      String pointsAttribute = xmlNode.getAttributeValue(POINTS);
+      PathGeometry geometry = new PathGeometry();
 
       StringTokenizer tokenizer = new StringTokenizer(pointsAttribute, " ,");
       boolean isX = true;
+      double x = 0;
       while (tokenizer.hasMoreTokens()) {
          String point = tokenizer.nextToken();
          if (isX) {
-            double x = ParserUtils.parsePositionValue(point, true, bounds, viewport);
+            x = ParserUtils.parsePositionValue(point, true, bounds, viewport);
             if (viewbox != null) {
                x = viewbox.scaleValue(true, x);
             }
-            polygon.getPoints().add(x);
          } else {
             double y = ParserUtils.parsePositionValue(point, false, bounds, viewport);
             if (viewbox != null) {
                y = viewbox.scaleValue(false, y);
             }
-            polygon.getPoints().add(y);
+            geometry.addPoint(x, y);
          }
          isX = !isX;
       }
-      if (viewbox != null) {
-         viewbox.scaleNode(polygon);
-      }
-      return polygon;
-   }   
+      return geometry;
+   }
 
    /**
     * Build a "line" element.
@@ -826,30 +967,29 @@ public class SVGShapeBuilder implements SVGTags {
     * @return the shape
     */
    public static Polyline buildPolyline(XMLNode xmlNode, Bounds bounds, Viewbox viewbox, Viewport viewport) {
-      Polyline polyline = new Polyline();
-      String pointsAttribute = xmlNode.getAttributeValue(POINTS);
+      return buildPolyline(xmlNode, bounds, viewbox, viewport, 0);
+   }
 
-      StringTokenizer tokenizer = new StringTokenizer(pointsAttribute, " ,");
-      boolean isX = true;
-      while (tokenizer.hasMoreTokens()) {
-         String point = tokenizer.nextToken();
-         if (isX) {
-            double x = ParserUtils.parsePositionValue(point, true, bounds, viewport);
-            if (viewbox != null) {
-               x = viewbox.scaleValue(true, x);
-            }
-            polyline.getPoints().add(x);
-         } else {
-            double y = ParserUtils.parsePositionValue(point, false, bounds, viewport);
-            if (viewbox != null) {
-               y = viewbox.scaleValue(false, y);
-            }
-            polyline.getPoints().add(y);
-         }
-         isX = !isX;
-      }
+   /**
+    * Build a "polyline" element, simplified with a tolerance. See {@link PathGeometry#simplify(double)}.
+    *
+    * @param xmlNode the node
+    * @param bounds an optional bounds for an object to specify the coordinates of the object relative to it
+    * @param viewbox the viewbox of the element (may be null)
+    * @param viewport the viewport
+    * @param tolerance the tolerance of the simplification after the scaling of the viewbox, or 0 if the polyline must not be
+    * simplified
+    * @return the shape
+    * @since 1.6
+    */
+   public static Polyline buildPolyline(XMLNode xmlNode, Bounds bounds, Viewbox viewbox, Viewport viewport, double tolerance) {
+      tolerance = getLocalTolerance(viewbox, tolerance);
+      Polyline polyline = new Polyline();
+      PathGeometry geometry = parsePoints(xmlNode, bounds, viewbox, viewport);
+      simplifyPoints(polyline, geometry, tolerance).fillPoints(polyline.getPoints());
       if (viewbox != null) {
          viewbox.scaleNode(polyline);
+         setViewboxScale(polyline, viewbox);
       }      
 
       return polyline;
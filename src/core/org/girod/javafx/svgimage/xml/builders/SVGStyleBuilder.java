@@ -37,6 +37,7 @@ import org.girod.javafx.svgimage.xml.specs.MarkerContext;
 import org.girod.javafx.svgimage.xml.specs.MarkerSpec;
 import org.girod.javafx.svgimage.xml.specs.FilterSpec;
 import org.girod.javafx.svgimage.xml.specs.ExtendedFontPosture;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.ComputedStyle;
 import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLNode;
 import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
 import org.girod.javafx.svgimage.xml.parsers.LengthParser;
@@ -71,7 +72,7 @@ import org.girod.javafx.svgimage.xml.parsers.xmltree.ElementNode;
 /**
  * This class parse a style declaration.
  *
- * @version 1.3
+ * @version 1.6
  */
 public class SVGStyleBuilder implements SVGTags {
    private static final Pattern STYLES = Pattern.compile("[^{]*\\s*\\{[a-zA-Z0-9_\\-+\\.\\s,:\\#;]+\\}\\s*");
@@ -260,32 +261,9 @@ public class SVGStyleBuilder implements SVGTags {
          return true;
       } else if (xmlNode.hasAttribute(CLIP_PATH)) {
          return true;
-      } else if (xmlNode.hasAttribute(STYLE)) {
-         String styles = xmlNode.getAttributeValue(STYLE);
-         StringTokenizer tokenizer = new StringTokenizer(styles, ";");
-         while (tokenizer.hasMoreTokens()) {
-            String style = tokenizer.nextToken();
-
-            StringTokenizer tokenizer2 = new StringTokenizer(style, ":");
-            String styleName = tokenizer2.nextToken().trim();
-            String styleValue = null;
-            if (tokenizer2.hasMoreTokens()) {
-               styleValue = tokenizer2.nextToken().trim();
-            }
-            if (styleValue == null) {
-               continue;
-            }
-
-            switch (styleName) {
-               case CLIP_PATH:
-                  return true;
-               case FILL:
-                  return true;
-            }
-         }
-         return false;
       } else {
-         return false;
+         ComputedStyle style = xmlNode.getComputedStyle();
+         return style.hasProperty(FILL) || style.hasProperty(CLIP_PATH);
       }
    }
 
@@ -376,25 +354,17 @@ public class SVGStyleBuilder implements SVGTags {
          setClipPath(node, content, context.clippingFactory, viewport);
       }
 
-      if (xmlNode.hasAttribute(STYLE)) {
+      ComputedStyle style = xmlNode.getComputedStyle();
+      if (!style.isEmpty()) {
          FontWeight fontWeight = FontWeight.NORMAL;
          FontPosture fontPosture = FontPosture.REGULAR;
          double fontSize = 12d;
          String fontFamily = null;
-         String styles = xmlNode.getAttributeValue(STYLE);
-         StringTokenizer tokenizer = new StringTokenizer(styles, ";");
-         while (tokenizer.hasMoreTokens()) {
-            String style = tokenizer.nextToken();
-
-            StringTokenizer tokenizer2 = new StringTokenizer(style, ":");
-            String styleName = tokenizer2.nextToken().trim();
-            String styleValue = null;
-            if (tokenizer2.hasMoreTokens()) {
-               styleValue = tokenizer2.nextToken().trim();
-            }
-            if (styleValue == null) {
-               continue;
-            }
+         for (int i = 0; i < style.size(); i++) {
+            String styleName = style.getName(i);
+            String styleValue = style.getValue(i);
+            // the value which has been parsed once with the shared style, or null if it must be parsed here
+            Object parsedValue = style.getParsedValue(i);
 
             switch (styleName) {
                case CLIP_PATH:
@@ -402,7 +372,7 @@ public class SVGStyleBuilder implements SVGTags {
                   break;
                case FONT_FAMILY:
                   if (node instanceof Text) {
-                     fontFamily = styleValue.replace("'", "");
+                     fontFamily = (String) parsedValue;
                   }
                   break;
                case FONT_WEIGHT:
@@ -422,7 +392,7 @@ public class SVGStyleBuilder implements SVGTags {
                   break;
                case FONT_SIZE:
                   if (node instanceof Text) {
-                     fontSize = ParserUtils.parseFontSize(styleValue);
+                     fontSize = parsedValue != null ? (Double) parsedValue : ParserUtils.parseFontSize(styleValue);
                      fontSize = viewport.scaleLength(fontSize);
                   }
                   break;
@@ -452,7 +422,7 @@ public class SVGStyleBuilder implements SVGTags {
                }
                case FILL:
                   if (node instanceof Shape) {
-                     Paint fill = ParserUtils.expressPaint(contextNode, context.gradients, styleValue);
+                     Paint fill = parsedValue != null ? (Color) parsedValue : ParserUtils.expressPaint(contextNode, context.gradients, styleValue);
                      ((Shape) node).setFill(fill);
                      if (markerContextR != null) {
                         markerContextR.setContextFill(fill);
@@ -461,7 +431,7 @@ public class SVGStyleBuilder implements SVGTags {
                   break;
                case STROKE:
                   if (node instanceof Shape) {
-                     Paint stroke = ParserUtils.expressPaint(contextNode, context.gradients, styleValue);
+                     Paint stroke = parsedValue != null ? (Color) parsedValue : ParserUtils.expressPaint(contextNode, context.gradients, styleValue);
                      ((Shape) node).setStroke(stroke);
                      if (markerContextR != null) {
                         markerContextR.setContextStroke(stroke);
@@ -470,7 +440,8 @@ public class SVGStyleBuilder implements SVGTags {
                   break;
                case STROKE_WIDTH:
                   if (node instanceof Shape) {
-                     double strokeWidth = LengthParser.parseLineWidth(styleValue, viewport);
+                     double strokeWidth = parsedValue != null ? LengthParser.toLineWidth((Double) parsedValue, viewport)
+                             : LengthParser.parseLineWidth(styleValue, viewport);
                      ((Shape) node).setStrokeWidth(strokeWidth);
                   }
                   break;
@@ -481,7 +452,8 @@ public class SVGStyleBuilder implements SVGTags {
                   break;
                case STROKE_DASHOFFSET:
                   if (node instanceof Shape) {
-                     double offset = LengthParser.parseLength(styleValue, viewport);
+                     double offset = parsedValue != null ? LengthParser.toLength((Double) parsedValue, true, null, viewport)
+                             : LengthParser.parseLength(styleValue, viewport);
                      ((Shape) node).setStrokeDashOffset(offset);
                   }
                   break;
@@ -501,7 +473,7 @@ public class SVGStyleBuilder implements SVGTags {
                   }
                   break;
                case OPACITY: {
-                  double opacity = ParserUtils.parseOpacity(styleValue);
+                  double opacity = parsedValue != null ? (Double) parsedValue : ParserUtils.parseOpacity(styleValue);
                   if (opacity >= 0) {
                      node.setOpacity(opacity);
                   }
@@ -509,7 +481,7 @@ public class SVGStyleBuilder implements SVGTags {
                }
                case FILL_OPACITY: {
                   if (node instanceof Shape) {
-                     double fillOpacity = ParserUtils.parseOpacity(styleValue);
+                     double fillOpacity = parsedValue != null ? (Double) parsedValue : ParserUtils.parseOpacity(styleValue);
                      if (fillOpacity >= 0) {
                         ParserUtils.setFillOpacity(node, fillOpacity);
                      }
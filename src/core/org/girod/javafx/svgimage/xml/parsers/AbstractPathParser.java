@@ -39,8 +39,11 @@ import java.util.regex.Pattern;
 /**
  * An abstract path parser.
  *
- * @version 1.1
+ * @version 1.6
+ * @deprecated the markers of a path are computed by {@link SVGPathParser} in the same pass as the path, see
+ * {@link SVGPathParser#getVertexAngle(int)}
  */
+@Deprecated
 public abstract class AbstractPathParser {
    /**
     * Path command type when no command has been parsed.
@@ -41,7 +41,7 @@ import org.girod.javafx.svgimage.Viewport;
 /**
  * This utility class parse a length value.
  *
- * @version 1.3
+ * @version 1.6
  */
 public class LengthParser {
    private static final Pattern ZERO = Pattern.compile("[\\-−+]?0+");
@@ -154,13 +154,7 @@ public class LengthParser {
       lengthValue = lengthValue.replace('−', '-');
       Matcher m = NUMBER.matcher(lengthValue);
       if (m.matches()) {
-         if (bounds == null) {
-            return viewport.scalePosition(Double.parseDouble(lengthValue), isWidth);
-         } else if (isWidth) {
-            return viewport.scalePosition(bounds.getMinX() + Double.parseDouble(lengthValue) * bounds.getWidth(), isWidth);
-         } else {
-            return viewport.scalePosition(bounds.getMinY() + Double.parseDouble(lengthValue) * bounds.getHeight(), isWidth);
-         }
+         return toPosition(Double.parseDouble(lengthValue), isWidth, bounds, viewport);
       }
       m = NUMBER_UNIT.matcher(lengthValue);
       if (m.matches()) {
@@ -217,11 +211,7 @@ public class LengthParser {
       lengthValue = lengthValue.replace('−', '-');
       Matcher m = NUMBER.matcher(lengthValue);
       if (m.matches()) {
-         if (viewport == null) {
-            return Double.parseDouble(lengthValue);
-         } else {
-            return viewport.scaleLineWidth(Double.parseDouble(lengthValue));
-         }
+         return toLineWidth(Double.parseDouble(lengthValue), viewport);
       }
       m = NUMBER_UNIT.matcher(lengthValue);
       if (m.matches()) {
@@ -293,15 +283,7 @@ public class LengthParser {
       lengthValue = lengthValue.replace('−', '-');
       Matcher m = NUMBER.matcher(lengthValue);
       if (m.matches()) {
-         if (viewport == null) {
-            return Double.parseDouble(lengthValue);
-         } else if (bounds == null) {
-            return viewport.scaleLength(Double.parseDouble(lengthValue));
-         } else if (isWidth) {
-            return viewport.scaleLength(Double.parseDouble(lengthValue) * bounds.getWidth());
-         } else {
-            return viewport.scaleLength(Double.parseDouble(lengthValue) * bounds.getHeight());
-         }
+         return toLength(Double.parseDouble(lengthValue), isWidth, bounds, viewport);
       }
       m = NUMBER_UNIT.matcher(lengthValue);
       if (m.matches()) {
@@ -346,4 +328,80 @@ public class LengthParser {
       }
       return 0d;
    }
+
+   /**
+    * Parse a value which is a number without unit.
+    *
+    * @param value the value
+    * @return the number, or null if the value is not a number without unit
+    * @since 1.6
+    */
+   public static Double parseNumber(String value) {
+      value = value.trim().replace('−', '-');
+      if (value.isEmpty() || value.equals("-") || !NUMBER.matcher(value).matches()) {
+         return null;
+      }
+      return Double.parseDouble(value);
+   }
+
+   /**
+    * Return the length value of a number without unit.
+    *
+    * @param value the number
+    * @param isWidth true for a width length
+    * @param bounds the optional bounds of the figure for which it is relative to
+    * @param viewport the viewport
+    * @return the value
+    * @since 1.6
+    */
+   public static double toLength(double value, boolean isWidth, Bounds bounds, Viewport viewport) {
+      if (viewport == null) {
+         viewport = DEFAULT_VIEWPORT;
+      }
+      if (bounds == null) {
+         return viewport.scaleLength(value);
+      } else if (isWidth) {
+         return viewport.scaleLength(value * bounds.getWidth());
+      } else {
+         return viewport.scaleLength(value * bounds.getHeight());
+      }
+   }
+
+   /**
+    * Return the position value of a number without unit.
+    *
+    * @param value the number
+    * @param isWidth true for a width length
+    * @param bounds the optional bounds of the figure for which it is relative to
+    * @param viewport the viewport
+    * @return the value
+    * @since 1.6
+    */
+   public static double toPosition(double value, boolean isWidth, Bounds bounds, Viewport viewport) {
+      if (viewport == null) {
+         viewport = DEFAULT_VIEWPORT;
+      }
+      if (bounds == null) {
+         return viewport.scalePosition(value, isWidth);
+      } else if (isWidth) {
+         return viewport.scalePosition(bounds.getMinX() + value * bounds.getWidth(), isWidth);
+      } else {
+         return viewport.scalePosition(bounds.getMinY() + value * bounds.getHeight(), isWidth);
+      }
+   }
+
+   /**
+    * Return the line width value of a number without unit.
+    *
+    * @param value the number
+    * @param viewport the viewport
+    * @return the value
+    * @since 1.6
+    */
+   public static double toLineWidth(double value, Viewport viewport) {
+      if (viewport == null) {
+         viewport = DEFAULT_VIEWPORT;
+      }
+      return viewport.scaleLineWidth(value);
+   }
 }
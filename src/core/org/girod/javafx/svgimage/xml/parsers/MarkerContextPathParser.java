@@ -41,8 +41,11 @@ import org.girod.javafx.svgimage.Viewport;
 /**
  * This class parse a path content specification.
  *
- * @version 1.0
+ * @version 1.6
+ * @deprecated the markers of a path are computed by {@link SVGPathParser} in the same pass as the path, see
+ * {@link SVGPathParser#getVertexAngle(int)}
  */
+@Deprecated
 public class MarkerContextPathParser extends AbstractPathParser {
 
    /**
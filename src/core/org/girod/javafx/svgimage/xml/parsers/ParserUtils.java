@@ -32,6 +32,7 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
  */
 package org.girod.javafx.svgimage.xml.parsers;
 
+import org.girod.javafx.svgimage.xml.parsers.xmltree.ComputedStyle;
 import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLNode;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -73,7 +74,7 @@ import org.girod.javafx.svgimage.xml.parsers.xmltree.ElementNode;
 /**
  * Several utilities for shape parsing.
  *
- * @version 1.3
+ * @version 1.6
  */
 public class ParserUtils implements SVGTags {
    private static final Pattern ANGLE = Pattern.compile("(<value>?-?\\d+(\\.\\d+)?)(<unit>?[a-z]+)?");
@@ -648,28 +649,10 @@ public class ParserUtils implements SVGTags {
     *
     * @param node the XML node
     * @return the style map
+    * @see XMLNode#getComputedStyle()
     */
    public static Map<String, String> getStyles(XMLNode node) {
-      Map<String, String> styles = new HashMap<>();
-      if (node.hasAttribute(STYLE)) {
-         String styleValue = node.getAttributeValue(STYLE);
-         StringTokenizer tok = new StringTokenizer(styleValue, ";");
-         while (tok.hasMoreTokens()) {
-            String tk = tok.nextToken().trim();
-            if (tk.isEmpty()) {
-               continue;
-            }
-            int index = tk.indexOf(':');
-            if (index != -1) {
-               String key = tk.substring(0, index);
-               if (index < tk.length() - 1) {
-                  String value = tk.substring(index + 1);
-                  styles.put(key, value);
-               }
-            }
-         }
-      }
-      return styles;
+      return node.getComputedStyle().toMap();
    }
 
    /**
@@ -678,28 +661,16 @@ public class ParserUtils implements SVGTags {
     * @param styles the base styles
     * @param node the element node
     * @return the merged style string
+    * @deprecated the computed style of a tspan element already merges the style of its parent, see
+    * {@link XMLNode#getComputedStyle()}
     */
+   @Deprecated
    public static String mergeStyles(Map<String, String> styles, ElementNode node) {
       if (node instanceof XMLNode) {
-         XMLNode xmlNode = (XMLNode) node;
+         ComputedStyle style = ((XMLNode) node).getComputedStyle();
          styles = new HashMap<>(styles);
-         if (xmlNode.hasAttribute(STYLE)) {
-            String styleValue = xmlNode.getAttributeValue(STYLE);
-            StringTokenizer tok = new StringTokenizer(styleValue, ";");
-            while (tok.hasMoreTokens()) {
-               String tk = tok.nextToken().trim();
-               if (tk.isEmpty()) {
-                  continue;
-               }
-               int index = tk.indexOf(':');
-               if (index != -1) {
-                  String key = tk.substring(0, index);
-                  if (index < tk.length() - 1) {
-                     String value = tk.substring(index + 1);
-                     styles.put(key, value);
-                  }
-               }
-            }
+         for (int i = 0; i < style.size(); i++) {
+            styles.put(style.getName(i), style.getValue(i));
          }
       }
       StringBuilder buf = new StringBuilder();
@@ -712,11 +683,15 @@ public class ParserUtils implements SVGTags {
    }
 
    /**
-    * Propagate style attributes from a parent to a child node.
+    * Propagate style attributes from a parent to a child node. Note that this is not necessary for the nodes created
+    * with {@link XMLNode#XMLNode(XMLNode, String)}, which look up these attributes through their parent nodes.
     *
     * @param parentNode the parent node
     * @param childNode the child node
+    * @deprecated the nodes look up the inherited style attributes through their parent nodes, see
+    * {@link XMLNode#getComputedStyle()}
     */
+   @Deprecated
    public static void propagateStyleAttributes(XMLNode parentNode, XMLNode childNode) {
       if (childNode.getName().equals(TSPAN)) {
          return;
@@ -0,0 +1,735 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers;
+
+import java.util.Arrays;
+import javafx.collections.ObservableList;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.QuadCurveTo;
+
+/**
+ * A packed representation of the geometry of a path, a polyline or a polygon. The commands are stored in an array of
+ * opcodes, and their coordinates in a single array of coordinates, so that no Object is allocated for each command or
+ * coordinate. The coordinates can be stored as floats rather than doubles, which halves the memory size of the geometry
+ * at the cost of the precision of the coordinates.
+ * <p>
+ * The opcodes follow the SVG path commands. A relative command has the {@link #RELATIVE} flag set on its opcode, and its
+ * coordinates are relative to the current point, as in the SVG path data.</p>
+ *
+ * @since 1.6
+ */
+public final class PathGeometry {
+   /**
+    * The move to opcode, with 2 coordinates.
+    */
+   public static final byte MOVETO = 0;
+   /**
+    * The line to opcode, with 2 coordinates.
+    */
+   public static final byte LINETO = 1;
+   /**
+    * The horizontal line to opcode, with 1 coordinate.
+    */
+   public static final byte HLINETO = 2;
+   /**
+    * The vertical line to opcode, with 1 coordinate.
+    */
+   public static final byte VLINETO = 3;
+   /**
+    * The cubic curve opcode, with 6 coordinates.
+    */
+   public static final byte CUBICTO = 4;
+   /**
+    * The smooth cubic curve opcode, with 4 coordinates.
+    */
+   public static final byte SMOOTH_CUBICTO = 5;
+   /**
+    * The quadratic curve opcode, with 4 coordinates.
+    */
+   public static final byte QUADTO = 6;
+   /**
+    * The smooth quadratic curve opcode, with 2 coordinates.
+    */
+   public static final byte SMOOTH_QUADTO = 7;
+   /**
+    * The arc opcode, with 7 values: the two radii, the rotation, the large arc and sweep flags, and the end point.
+    */
+   public static final byte ARCTO = 8;
+   /**
+    * The close path opcode, without coordinates.
+    */
+   public static final byte CLOSEPATH = 9;
+   /**
+    * The flag of the relative commands.
+    */
+   public static final byte RELATIVE = 0x10;
+   private static final byte TYPE_MASK = 0x0F;
+   private static final int[] COORDS_COUNT = {2, 2, 1, 1, 6, 4, 4, 2, 7, 0};
+   private static final char[] SYMBOLS = {'M', 'L', 'H', 'V', 'C', 'S', 'Q', 'T', 'A', 'Z'};
+   private final boolean floatPrecision;
+   private byte[] ops;
+   private double[] coords;
+   private float[] floatCoords;
+   private int opsCount = 0;
+   private int coordsCount = 0;
+
+   /**
+    * Create a geometry whose coordinates are stored as doubles.
+    */
+   public PathGeometry() {
+      this(false);
+   }
+
+   /**
+    * Create a geometry.
+    *
+    * @param floatPrecision true if the coordinates must be stored as floats
+    */
+   public PathGeometry(boolean floatPrecision) {
+      this.floatPrecision = floatPrecision;
+      this.ops = new byte[16];
+      if (floatPrecision) {
+         this.floatCoords = new float[64];
+      } else {
+         this.coords = new double[64];
+      }
+   }
+
+   /**
+    * Return the number of coordinates of an opcode.
+    *
+    * @param op the opcode
+    * @return the number of coordinates
+    */
+   public static int getCoordsCount(byte op) {
+      return COORDS_COUNT[op & TYPE_MASK];
+   }
+
+   /**
+    * Return the SVG path command symbol of an opcode.
+    *
+    * @param op the opcode
+    * @return the symbol
+    */
+   public static char getSymbol(byte op) {
+      char symbol = SYMBOLS[op & TYPE_MASK];
+      return isRelative(op) ? Character.toLowerCase(symbol) : symbol;
+   }
+
+   /**
+    * Return the type of an opcode, without the {@link #RELATIVE} flag.
+    *
+    * @param op the opcode
+    * @return the type
+    */
+   public static byte getType(byte op) {
+      return (byte) (op & TYPE_MASK);
+   }
+
+   /**
+    * Return true if an opcode is relative.
+    *
+    * @param op the opcode
+    * @return true if the opcode is relative
+    */
+   public static boolean isRelative(byte op) {
+      return (op & RELATIVE) != 0;
+   }
+
+   /**
+    * Return true if the coordinates are stored as floats.
+    *
+    * @return true if the coordinates are stored as floats
+    */
+   public boolean isFloatPrecision() {
+      return floatPrecision;
+   }
+
+   /**
+    * Remove all the commands.
+    */
+   public void clear() {
+      opsCount = 0;
+      coordsCount = 0;
+   }
+
+   /**
+    * Return true if there is no command.
+    *
+    * @return true if there is no command
+    */
+   public boolean isEmpty() {
+      return opsCount == 0;
+   }
+
+   /**
+    * Return the number of commands.
+    *
+    * @return the number of commands
+    */
+   public int getOpsCount() {
+      return opsCount;
+   }
+
+   /**
+    * Return the opcode of a command.
+    *
+    * @param index the index of the command
+    * @return the opcode
+    */
+   public byte getOp(int index) {
+      return ops[index];
+   }
+
+   /**
+    * Return the number of coordinates.
+    *
+    * @return the number of coordinates
+    */
+   public int getCoordsCount() {
+      return coordsCount;
+   }
+
+   /**
+    * Return a coordinate.
+    *
+    * @param index the index of the coordinate
+    * @return the coordinate
+    */
+   public double getCoord(int index) {
+      if (floatPrecision) {
+         return floatCoords[index];
+      } else {
+         return coords[index];
+      }
+   }
+
+   /**
+    * Add a command. Its coordinates must be added with {@link #addCoord(double)}.
+    *
+    * @param op the opcode
+    */
+   public void addOp(byte op) {
+      if (opsCount == ops.length) {
+         ops = Arrays.copyOf(ops, opsCount * 2);
+      }
+      ops[opsCount++] = op;
+   }
+
+   /**
+    * Add a coordinate of the last command.
+    *
+    * @param value the coordinate
+    */
+   public void addCoord(double value) {
+      if (floatPrecision) {
+         if (coordsCount == floatCoords.length) {
+            floatCoords = Arrays.copyOf(floatCoords, coordsCount * 2);
+         }
+         floatCoords[coordsCount++] = (float) value;
+      } else {
+         if (coordsCount == coords.length) {
+            coords = Arrays.copyOf(coords, coordsCount * 2);
+         }
+         coords[coordsCount++] = value;
+      }
+   }
+
+   /**
+    * Add a point of a polyline or a polygon. The first point is a move to, and the next points are lines to.
+    *
+    * @param x the x coordinate
+    * @param y the y coordinate
+    */
+   public void addPoint(double x, double y) {
+      addOp(opsCount == 0 ? MOVETO : LINETO);
+      addCoord(x);
+      addCoord(y);
+   }
+
+   /**
+    * Reduce the size of the arrays to the number of commands and coordinates. This should be called for a geometry which is kept
+    * after it has been built.
+    */
+   public void trimToSize() {
+      if (ops.length != opsCount) {
+         ops = Arrays.copyOf(ops, opsCount);
+      }
+      if (floatPrecision) {
+         if (floatCoords.length != coordsCount) {
+            floatCoords = Arrays.copyOf(floatCoords, coordsCount);
+         }
+      } else if (coords.length != coordsCount) {
+         coords = Arrays.copyOf(coords, coordsCount);
+      }
+   }
+
+   /**
+    * Return an estimate of the memory size of the geometry, in bytes.
+    *
+    * @return the estimated size
+    */
+   public long getEstimatedSize() {
+      long size = 48L + ops.length;
+      if (floatPrecision) {
+         size += floatCoords.length * 4L;
+      } else {
+         size += coords.length * 8L;
+      }
+      return size;
+   }
+
+   /**
+    * Set the coordinates of the geometry as the points of a polyline or a polygon, in one operation. Only the coordinates of the move
+    * to and line to commands are used.
+    *
+    * @param points the points
+    */
+   public void fillPoints(ObservableList<Double> points) {
+      Double[] values = new Double[coordsCount];
+      int count = 0;
+      int offset = 0;
+      for (int i = 0; i < opsCount; i++) {
+         byte type = getType(ops[i]);
+         if (type == MOVETO || type == LINETO) {
+            values[count++] = getCoord(offset);
+            values[count++] = getCoord(offset + 1);
+         }
+         offset += COORDS_COUNT[type];
+      }
+      if (count == values.length) {
+         points.setAll(values);
+      } else {
+         points.setAll(Arrays.copyOf(values, count));
+      }
+   }
+
+   /**
+    * Return a simplified copy of the geometry, for a level of detail where the deviations smaller than a tolerance are not
+    * visible. All the commands of the result are absolute.
+    * <ul>
+    * <li>The curves and arcs which do not deviate from their chord by more than the tolerance are replaced by lines</li>
+    * <li>The consecutive lines are simplified with the Douglas-Peucker algorithm, which keeps the vertices deviating from the
+    * simplified lines by more than the tolerance</li>
+    * </ul>
+    * The other curves and arcs are kept, so the simplified geometry never has more commands than the initial one.
+    *
+    * @param tolerance the tolerance, in the coordinates of the geometry
+    * @return the simplified geometry, or this geometry if the tolerance is 0
+    * @throws IllegalArgumentException if the tolerance is negative or NaN
+    */
+   public PathGeometry simplify(double tolerance) {
+      checkTolerance(tolerance);
+      if (tolerance == 0) {
+         return this;
+      }
+      PathGeometry result = new PathGeometry(floatPrecision);
+      double toleranceSq = tolerance * tolerance;
+      // the vertices joined by lines which have not been added to the result yet. The first vertex of the run is the last
+      // point of the result
+      double[] run = new double[64];
+      int runCount = 0;
+      double currentX = 0;
+      double currentY = 0;
+      double startX = 0;
+      double startY = 0;
+      // the last control point of the previous command, used for the smooth curves
+      double controlX = 0;
+      double controlY = 0;
+      byte previousType = -1;
+      int offset = 0;
+      for (int i = 0; i < opsCount; i++) {
+         byte op = ops[i];
+         byte type = getType(op);
+         double dx = 0;
+         double dy = 0;
+         if (isRelative(op)) {
+            dx = currentX;
+            dy = currentY;
+         }
+         double x;
+         double y;
+         double x1;
+         double y1;
+         boolean isLine = true;
+         switch (type) {
+            case MOVETO:
+               x = getCoord(offset) + dx;
+               y = getCoord(offset + 1) + dy;
+               startX = x;
+               startY = y;
+               isLine = false;
+               flushRun(result, run, runCount, toleranceSq);
+               result.addOp(MOVETO);
+               result.addCoord(x);
+               result.addCoord(y);
+               break;
+            case LINETO:
+               x = getCoord(offset) + dx;
+               y = getCoord(offset + 1) + dy;
+               break;
+            case HLINETO:
+               x = getCoord(offset) + dx;
+               y = currentY;
+               break;
+            case VLINETO:
+               x = currentX;
+               y = getCoord(offset) + dy;
+               break;
+            case CUBICTO:
+            case SMOOTH_CUBICTO:
+               if (type == CUBICTO) {
+                  x1 = getCoord(offset) + dx;
+                  y1 = getCoord(offset + 1) + dy;
+                  controlX = getCoord(offset + 2) + dx;
+                  controlY = getCoord(offset + 3) + dy;
+                  x = getCoord(offset + 4) + dx;
+                  y = getCoord(offset + 5) + dy;
+               } else {
+                  if (previousType == CUBICTO || previousType == SMOOTH_CUBICTO) {
+                     x1 = 2 * currentX - controlX;
+                     y1 = 2 * currentY - controlY;
+                  } else {
+                     x1 = currentX;
+                     y1 = currentY;
+                  }
+                  controlX = getCoord(offset) + dx;
+                  controlY = getCoord(offset + 1) + dy;
+                  x = getCoord(offset + 2) + dx;
+                  y = getCoord(offset + 3) + dy;
+               }
+               // the curve is in the convex hull of its points, so it does not deviate from its chord by more than its control points
+               if (getDistanceSq(x1, y1, currentX, currentY, x, y) > toleranceSq
+                  || getDistanceSq(controlX, controlY, currentX, currentY, x, y) > toleranceSq) {
+                  isLine = false;
+                  flushRun(result, run, runCount, toleranceSq);
+                  result.addOp(CUBICTO);
+                  result.addCoord(x1);
+                  result.addCoord(y1);
+                  result.addCoord(controlX);
+                  result.addCoord(controlY);
+                  result.addCoord(x);
+                  result.addCoord(y);
+               }
+               break;
+            case QUADTO:
+            case SMOOTH_QUADTO:
+               if (type == QUADTO) {
+                  controlX = getCoord(offset) + dx;
+                  controlY = getCoord(offset + 1) + dy;
+                  x = getCoord(offset + 2) + dx;
+                  y = getCoord(offset + 3) + dy;
+               } else {
+                  if (previousType == QUADTO || previousType == SMOOTH_QUADTO) {
+                     controlX = 2 * currentX - controlX;
+                     controlY = 2 * currentY - controlY;
+                  } else {
+                     controlX = currentX;
+                     controlY = currentY;
+                  }
+                  x = getCoord(offset) + dx;
+                  y = getCoord(offset + 1) + dy;
+               }
+               if (getDistanceSq(controlX, controlY, currentX, currentY, x, y) > toleranceSq) {
+                  isLine = false;
+                  flushRun(result, run, runCount, toleranceSq);
+                  result.addOp(QUADTO);
+                  result.addCoord(controlX);
+                  result.addCoord(controlY);
+                  result.addCoord(x);
+                  result.addCoord(y);
+               }
+               break;
+            case ARCTO:
+               x = getCoord(offset + 5) + dx;
+               y = getCoord(offset + 6) + dy;
+               // the arc is in the bounds of its ellipse, whose radii are enlarged if they are too small to join the two points
+               double extent = Math.max(Math.max(Math.abs(getCoord(offset)), Math.abs(getCoord(offset + 1))) * 2,
+                  Math.hypot(x - currentX, y - currentY));
+               if (extent > tolerance) {
+                  isLine = false;
+                  flushRun(result, run, runCount, toleranceSq);
+                  result.addOp(ARCTO);
+                  for (int j = 0; j < 5; j++) {
+                     result.addCoord(getCoord(offset + j));
+                  }
+                  result.addCoord(x);
+                  result.addCoord(y);
+               }
+               break;
+            default:
+               x = startX;
+               y = startY;
+               isLine = false;
+               flushRun(result, run, runCount, toleranceSq);
+               result.addOp(CLOSEPATH);
+               break;
+         }
+         if (!isLine) {
+            // the next run starts at the end of the command
+            runCount = 0;
+         } else if (runCount == 0) {
+            run[runCount++] = currentX;
+            run[runCount++] = currentY;
+         } else if (runCount + 2 > run.length) {
+            run = Arrays.copyOf(run, run.length * 2);
+         }
+         run[runCount++] = x;
+         run[runCount++] = y;
+         currentX = x;
+         currentY = y;
+         previousType = type;
+         offset += COORDS_COUNT[type];
+      }
+      flushRun(result, run, runCount, toleranceSq);
+      return result;
+   }
+
+   /**
+    * Check that a simplification tolerance is positive or 0.
+    *
+    * @param tolerance the tolerance
+    * @throws IllegalArgumentException if the tolerance is negative or NaN
+    */
+   public static void checkTolerance(double tolerance) {
+      // NaN is rejected too, because all the comparisons with NaN are false
+      if (!(tolerance >= 0)) {
+         throw new IllegalArgumentException("Invalid simplification tolerance: " + tolerance);
+      }
+   }
+
+   /**
+    * Add the vertices of a run of lines to a simplified geometry, with the Douglas-Peucker algorithm. The first vertex of the
+    * run is not added because it is already the last point of the geometry.
+    */
+   private static void flushRun(PathGeometry result, double[] run, int runCount, double toleranceSq) {
+      int count = runCount / 2;
+      if (count < 2) {
+         return;
+      } else if (count == 2) {
+         result.addOp(LINETO);
+         result.addCoord(run[2]);
+         result.addCoord(run[3]);
+         return;
+      }
+      boolean[] kept = new boolean[count];
+      kept[count - 1] = true;
+      // the ranges of vertices to simplify, as pairs of first and last index. A stack is used rather than a recursion because
+      // the runs of a large geometry can have millions of vertices
+      int[] ranges = new int[64];
+      int top = 0;
+      ranges[top++] = 0;
+      ranges[top++] = count - 1;
+      while (top > 0) {
+         int last = ranges[--top];
+         int first = ranges[--top];
+         double ax = run[first * 2];
+         double ay = run[first * 2 + 1];
+         double bx = run[last * 2];
+         double by = run[last * 2 + 1];
+         double maxDistanceSq = toleranceSq;
+         int farthest = -1;
+         for (int i = first + 1; i < last; i++) {
+            double distanceSq = getDistanceSq(run[i * 2], run[i * 2 + 1], ax, ay, bx, by);
+            if (distanceSq > maxDistanceSq) {
+               maxDistanceSq = distanceSq;
+               farthest = i;
+            }
+         }
+         if (farthest != -1) {
+            kept[farthest] = true;
+            if (top + 4 > ranges.length) {
+               ranges = Arrays.copyOf(ranges, ranges.length * 2);
+            }
+            ranges[top++] = first;
+            ranges[top++] = farthest;
+            ranges[top++] = farthest;
+            ranges[top++] = last;
+         }
+      }
+      for (int i = 1; i < count; i++) {
+         if (kept[i]) {
+            result.addOp(LINETO);
+            result.addCoord(run[i * 2]);
+            result.addCoord(run[i * 2 + 1]);
+         }
+      }
+   }
+
+   /**
+    * Return the square of the distance between a point and a segment.
+    */
+   private static double getDistanceSq(double x, double y, double ax, double ay, double bx, double by) {
+      double dx = bx - ax;
+      double dy = by - ay;
+      double lengthSq = dx * dx + dy * dy;
+      if (lengthSq != 0) {
+         double t = ((x - ax) * dx + (y - ay) * dy) / lengthSq;
+         if (t >= 1) {
+            ax = bx;
+            ay = by;
+         } else if (t > 0) {
+            ax += t * dx;
+            ay += t * dy;
+         }
+      }
+      return (x - ax) * (x - ax) + (y - ay) * (y - ay);
+   }
+
+   /**
+    * Create a Path from the geometry. All the elements of the path are absolute. The horizontal and vertical lines are
+    * converted to lines, and the control points of the smooth curves are computed from the previous curves. The elements are
+    * added to the Path in one operation.
+    *
+    * @return the path
+    */
+   public Path createPath() {
+      Path path = new Path();
+      path.getElements().setAll(createElements());
+      return path;
+   }
+
+   /**
+    * Create the elements of a Path from the geometry. See {@link #createPath()}.
+    *
+    * @return the elements
+    */
+   public PathElement[] createElements() {
+      PathElement[] elements = new PathElement[opsCount];
+      double currentX = 0;
+      double currentY = 0;
+      double startX = 0;
+      double startY = 0;
+      // the last control point of the previous command, used for the smooth curves
+      double controlX = 0;
+      double controlY = 0;
+      byte previousType = -1;
+      int offset = 0;
+      for (int i = 0; i < opsCount; i++) {
+         byte op = ops[i];
+         byte type = getType(op);
+         double dx = 0;
+         double dy = 0;
+         if (isRelative(op)) {
+            dx = currentX;
+            dy = currentY;
+         }
+         double x1;
+         double y1;
+         switch (type) {
+            case MOVETO:
+               currentX = getCoord(offset) + dx;
+               currentY = getCoord(offset + 1) + dy;
+               startX = currentX;
+               startY = currentY;
+               elements[i] = new MoveTo(currentX, currentY);
+               break;
+            case LINETO:
+               currentX = getCoord(offset) + dx;
+               currentY = getCoord(offset + 1) + dy;
+               elements[i] = new LineTo(currentX, currentY);
+               break;
+            case HLINETO:
+               currentX = getCoord(offset) + dx;
+               elements[i] = new LineTo(currentX, currentY);
+               break;
+            case VLINETO:
+               currentY = getCoord(offset) + dy;
+               elements[i] = new LineTo(currentX, currentY);
+               break;
+            case CUBICTO:
+               x1 = getCoord(offset) + dx;
+               y1 = getCoord(offset + 1) + dy;
+               controlX = getCoord(offset + 2) + dx;
+               controlY = getCoord(offset + 3) + dy;
+               currentX = getCoord(offset + 4) + dx;
+               currentY = getCoord(offset + 5) + dy;
+               elements[i] = new CubicCurveTo(x1, y1, controlX, controlY, currentX, currentY);
+               break;
+            case SMOOTH_CUBICTO:
+               if (previousType == CUBICTO || previousType == SMOOTH_CUBICTO) {
+                  x1 = 2 * currentX - controlX;
+                  y1 = 2 * currentY - controlY;
+               } else {
+                  x1 = currentX;
+                  y1 = currentY;
+               }
+               controlX = getCoord(offset) + dx;
+               controlY = getCoord(offset + 1) + dy;
+               currentX = getCoord(offset + 2) + dx;
+               currentY = getCoord(offset + 3) + dy;
+               elements[i] = new CubicCurveTo(x1, y1, controlX, controlY, currentX, currentY);
+               break;
+            case QUADTO:
+               controlX = getCoord(offset) + dx;
+               controlY = getCoord(offset + 1) + dy;
+               currentX = getCoord(offset + 2) + dx;
+               currentY = getCoord(offset + 3) + dy;
+               elements[i] = new QuadCurveTo(controlX, controlY, currentX, currentY);
+               break;
+            case SMOOTH_QUADTO:
+               if (previousType == QUADTO || previousType == SMOOTH_QUADTO) {
+                  controlX = 2 * currentX - controlX;
+                  controlY = 2 * currentY - controlY;
+               } else {
+                  controlX = currentX;
+                  controlY = currentY;
+               }
+               currentX = getCoord(offset) + dx;
+               currentY = getCoord(offset + 1) + dy;
+               elements[i] = new QuadCurveTo(controlX, controlY, currentX, currentY);
+               break;
+            case ARCTO:
+               currentX = getCoord(offset + 5) + dx;
+               currentY = getCoord(offset + 6) + dy;
+               elements[i] = new ArcTo(getCoord(offset), getCoord(offset + 1), getCoord(offset + 2), currentX, currentY,
+                       getCoord(offset + 3) != 0, getCoord(offset + 4) != 0);
+               break;
+            default:
+               currentX = startX;
+               currentY = startY;
+               elements[i] = new ClosePath();
+               break;
+         }
+         previousType = type;
+         offset += COORDS_COUNT[type];
+      }
+      return elements;
+   }
+}
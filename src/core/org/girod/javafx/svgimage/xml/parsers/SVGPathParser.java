@@ -1,29 +1,18 @@
 package org.girod.javafx.svgimage.xml.parsers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.girod.javafx.svgimage.Viewport;
 import javafx.geometry.Point2D;
-import javafx.scene.shape.ArcTo;
-import javafx.scene.shape.ClosePath;
-import javafx.scene.shape.CubicCurveTo;
-import javafx.scene.shape.LineTo;
-import javafx.scene.shape.MoveTo;
-import javafx.scene.shape.PathElement;
-import javafx.scene.shape.QuadCurveTo;
+import javafx.scene.shape.Path;
 import javafx.scene.shape.SVGPath;
 
 /**
  * A JavaFX Path that parses and renders SVG path data. Supports M, L, H, V, C, Q, S, T, A, Z commands (absolute and relative).
  *
+ * @version 1.6
  * @since 1.4
  */
 public class SVGPathParser {
@@ -49,40 +38,33 @@ public class SVGPathParser {
     * Enum representing SVG path commands.
     */
    private enum CommandType {
-      MOVETO('M', 2, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
-      LINETO('L', 2, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
-      HORIZONTAL_LINETO('H', 1, ParameterConverter.PARSE_LENGTH_WIDTH),
-      VERTICAL_LINETO('V', 1, ParameterConverter.PARSE_LENGTH_HEIGHT),
-      CUBIC_CURVETO('C', 6, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
+      MOVETO('M', PathGeometry.MOVETO, 2, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
+      LINETO('L', PathGeometry.LINETO, 2, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
+      HORIZONTAL_LINETO('H', PathGeometry.HLINETO, 1, ParameterConverter.PARSE_LENGTH_WIDTH),
+      VERTICAL_LINETO('V', PathGeometry.VLINETO, 1, ParameterConverter.PARSE_LENGTH_HEIGHT),
+      CUBIC_CURVETO('C', PathGeometry.CUBICTO, 6, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
               ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
               ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
-      SMOOTH_CUBIC_CURVETO('S', 4, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
+      SMOOTH_CUBIC_CURVETO('S', PathGeometry.SMOOTH_CUBICTO, 4, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
               ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
-      QUADRATIC_CURVETO('Q', 4, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
+      QUADRATIC_CURVETO('Q', PathGeometry.QUADTO, 4, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
               ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
-      SMOOTH_QUADRATIC_CURVETO('T', 2, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
-              ParameterConverter.PARSE_NOT, ParameterConverter.PARSE_LENGTH_HEIGHT),
-      ARC('A', 7, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
-              ParameterConverter.PARSE_DOUBLE_PROTECTED, ParameterConverter.PARSE_NOT, ParameterConverter.PARSE_NOT,
+      SMOOTH_QUADRATIC_CURVETO('T', PathGeometry.SMOOTH_QUADTO, 2, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
+      ARC('A', PathGeometry.ARCTO, 7, ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT,
+              ParameterConverter.PARSE_DOUBLE_PROTECTED, ParameterConverter.PARSE_FLAG, ParameterConverter.PARSE_FLAG,
               ParameterConverter.PARSE_LENGTH_WIDTH, ParameterConverter.PARSE_LENGTH_HEIGHT),
-      CLOSEPATH('Z', 0);
+      CLOSEPATH('Z', PathGeometry.CLOSEPATH, 0);
 
       private final char symbol;
+      private final byte op;
       private final int paramCount;
       private final ParameterConverter[] numberConverters;
 
-      private static final Map<Character, CommandType> SYMBOL_TO_COMMAND = Stream.of(values())
-              .collect(Collectors.toMap(type -> type.symbol, Function.identity()));
-
-      CommandType(char symbol, int paramCount, ParameterConverter... converters) {
+      CommandType(char symbol, byte op, int paramCount, ParameterConverter... converters) {
          this.symbol = symbol;
+         this.op = op;
          this.paramCount = paramCount;
          this.numberConverters = converters;
-
-         /*
-         Removed because the assert lead to exceptions in some valid real-world use cases
-         */
-         //assert this.numberConverters.length != paramCount : "The paramcount should be the same as the length of the number converter array";
       }
 
       private char getSymbol() {
@@ -93,12 +75,52 @@ public class SVGPathParser {
          return paramCount;
       }
 
+      /**
+       * Return the command of an opcode.
+       */
+      private static CommandType fromOp(byte op) {
+         // the commands are declared in the order of the opcodes
+         return COMMANDS[PathGeometry.getType(op)];
+      }
+
+      /**
+       * Return the command for a symbol, or null if the character is not a command symbol.
+       */
       private static CommandType fromSymbol(char symbol) {
-         CommandType type = SYMBOL_TO_COMMAND.get(Character.toUpperCase(symbol));
-         if (type == null) {
-            throw new IllegalArgumentException("Unknown command: " + symbol);
+         switch (symbol) {
+            case 'M':
+            case 'm':
+               return MOVETO;
+            case 'L':
+            case 'l':
+               return LINETO;
+            case 'H':
+            case 'h':
+               return HORIZONTAL_LINETO;
+            case 'V':
+            case 'v':
+               return VERTICAL_LINETO;
+            case 'C':
+            case 'c':
+               return CUBIC_CURVETO;
+            case 'S':
+            case 's':
+               return SMOOTH_CUBIC_CURVETO;
+            case 'Q':
+            case 'q':
+               return QUADRATIC_CURVETO;
+            case 'T':
+            case 't':
+               return SMOOTH_QUADRATIC_CURVETO;
+            case 'A':
+            case 'a':
+               return ARC;
+            case 'Z':
+            case 'z':
+               return CLOSEPATH;
+            default:
+               return null;
          }
-         return type;
       }
 
       ParameterConverter getParameterConverter(int index) {
@@ -107,25 +129,73 @@ public class SVGPathParser {
    }
 
    private enum ParameterConverter {
-      PARSE_NOT,
+      PARSE_FLAG,
       PARSE_LENGTH_WIDTH,
       PARSE_LENGTH_HEIGHT,
       PARSE_DOUBLE_PROTECTED;
    }
 
-   private static final Pattern COMMAND_PATTERN = Pattern.compile("([MLHVCSQTAZmlhvcsqtaz])([^MLHVCSQTAZmlhvcsqtaz]*)",
-           Pattern.CASE_INSENSITIVE);
-   private static final Pattern NUMBER_PATTERN = Pattern.compile("[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?([a-zA-Z%]+)?",
-           Pattern.CASE_INSENSITIVE);
+   /**
+    * The powers of ten which are exactly represented as doubles.
+    */
+   private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14,
+      1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+   /**
+    * The maximum value of a mantissa which is exactly represented as a double.
+    */
+   private static final long MAX_EXACT_MANTISSA = 1L << 53;
+   private static final Viewport DEFAULT_VIEWPORT = new Viewport();
+   private static final CommandType[] COMMANDS = CommandType.values();
 
-   private final List<Point2D> markerList = new ArrayList<>();
-   private List<PathCommand> commandList = new ArrayList<>();
+   /**
+    * The marker vertices, with three values for each vertex: the x and y coordinates and the direction of the path at the
+    * vertex in degrees.
+    */
+   private double[] vertices = new double[48];
+   private int verticesCount = 0;
+   /**
+    * The directions of the path at the start and at the end of the last arc, as x and y components.
+    */
+   private final double[] arcDirections = new double[4];
+   /**
+    * The parsed commands and their converted parameters. The implicit commands have their own opcode.
+    */
+   private final PathGeometry geometry;
    private String content;
+   /**
+    * The position of the scanner in the path data being parsed.
+    */
+   private int position = 0;
+   /**
+    * The index of the first character of the unit of the last scanned number.
+    */
+   private int unitStart = 0;
 
    /**
     * Create a path parser.
     */
    public SVGPathParser() {
+      this(false);
+   }
+
+   /**
+    * Create a path parser.
+    *
+    * @param floatPrecision true if the parsed coordinates must be stored as floats rather than doubles
+    * @since 1.6
+    */
+   public SVGPathParser(boolean floatPrecision) {
+      geometry = new PathGeometry(floatPrecision);
+   }
+
+   /**
+    * Return the geometry of the last parsed commands.
+    *
+    * @return the geometry
+    * @since 1.6
+    */
+   public PathGeometry getGeometry() {
+      return geometry;
    }
    
    /**
@@ -138,12 +208,83 @@ public class SVGPathParser {
    public List<SVGPath> parsePathContent(String content, Viewport viewport) {
       List<SVGPath> listPath = new ArrayList<>();
       parse(content, viewport);
-      SVGPath path = new SVGPath();
+      listPath.add(createSVGPath());
+      return listPath;
+   }
 
+   /**
+    * Create a SVGPath from the last parsed commands. The parser is kept in the "PathParser" property of the SVGPath.
+    *
+    * @return the path
+    * @since 1.6
+    */
+   public SVGPath createSVGPath() {
+      SVGPath path = new SVGPath();
       path.getProperties().put("PathParser", this);
       path.setContent(getContent());
-      listPath.add(path);
-      return listPath;
+      return path;
+   }
+
+   /**
+    * Create a SVGPath from the last parsed commands simplified with a tolerance. See {@link PathGeometry#simplify(double)}.
+    * The parser is kept in the "PathParser" property of the SVGPath, so the markers are still placed on the vertices of the
+    * path before the simplification.
+    *
+    * @param tolerance the tolerance, in the coordinates of the path after the viewport has been taken into account
+    * @return the path
+    * @throws IllegalArgumentException if the tolerance is negative or NaN
+    * @since 1.6
+    */
+   public SVGPath createSVGPath(double tolerance) {
+      SVGPath path = new SVGPath();
+      path.getProperties().put("PathParser", this);
+      path.setContent(getContent(tolerance));
+      return path;
+   }
+
+   /**
+    * Parse a path content and create a Path whose elements are built directly from the parsed commands. Contrary to
+    * {@link #parsePathContent(String, Viewport)}, the parsed commands are not serialized in a String which would be
+    * parsed again by JavaFX.
+    *
+    * @param content the path content
+    * @param viewport the viewport
+    * @return the path taking into account the viewport and the units
+    * @since 1.6
+    */
+   public Path parsePath(String content, Viewport viewport) {
+      parse(content, viewport);
+      return createPath();
+   }
+
+   /**
+    * Create a Path from the last parsed commands. All the elements of the path are absolute. The horizontal and vertical
+    * lines are converted to lines, and the control points of the smooth curves are computed from the previous curves. The
+    * parser is kept in the "PathParser" property of the Path.
+    *
+    * @return the path
+    * @since 1.6
+    */
+   public Path createPath() {
+      Path path = geometry.createPath();
+      path.getProperties().put("PathParser", this);
+      return path;
+   }
+
+   /**
+    * Create a Path from the last parsed commands simplified with a tolerance. See {@link PathGeometry#simplify(double)}.
+    * The parser is kept in the "PathParser" property of the Path, so the markers are still placed on the vertices of the
+    * path before the simplification.
+    *
+    * @param tolerance the tolerance, in the coordinates of the path after the viewport has been taken into account
+    * @return the path
+    * @throws IllegalArgumentException if the tolerance is negative or NaN
+    * @since 1.6
+    */
+   public Path createPath(double tolerance) {
+      Path path = geometry.simplify(tolerance).createPath();
+      path.getProperties().put("PathParser", this);
+      return path;
    }
 
    /**
@@ -153,18 +294,130 @@ public class SVGPathParser {
     */
    public String getContent() {
       if (content == null) {
-         content = commandList.stream().map(PathCommand::getContent).collect(Collectors.joining(" "));
+         content = getContent(geometry);
       }
       return content;
    }
 
+   /**
+    * Gets the content string of the last parsed commands simplified with a tolerance. See {@link PathGeometry#simplify(double)}.
+    *
+    * @param tolerance the tolerance, in the coordinates of the path after the viewport has been taken into account
+    * @return The SVG path data string
+    * @throws IllegalArgumentException if the tolerance is negative or NaN
+    * @since 1.6
+    */
+   public String getContent(double tolerance) {
+      PathGeometry.checkTolerance(tolerance);
+      if (tolerance == 0) {
+         return getContent();
+      }
+      return getContent(geometry.simplify(tolerance));
+   }
+
+   private static String getContent(PathGeometry geometry) {
+      int opsCount = geometry.getOpsCount();
+      StringBuilder builder = new StringBuilder(opsCount * 4 + geometry.getCoordsCount() * 8);
+      int offset = 0;
+      for (int i = 0; i < opsCount; i++) {
+         byte op = geometry.getOp(i);
+         char symbol = PathGeometry.getSymbol(op);
+         CommandType type = CommandType.fromOp(op);
+         if (i > 0) {
+            builder.append(' ');
+         }
+         builder.append(symbol);
+         for (int j = 0; j < type.paramCount; j++) {
+            double parameter = geometry.getCoord(offset++);
+            builder.append(' ');
+            if (type.getParameterConverter(j) == ParameterConverter.PARSE_FLAG) {
+               builder.append((int) parameter);
+            } else {
+               builder.append(parameter);
+            }
+         }
+      }
+      return builder.toString();
+   }
+
+   /**
+    * Return an estimate of the memory size of the parsed commands and markers, in bytes.
+    *
+    * @return the estimated size
+    * @since 1.6
+    */
+   public long getEstimatedSize() {
+      return 64L + geometry.getEstimatedSize() + vertices.length * 8L;
+   }
+
+   /**
+    * Trim the buffers of the parser to the size of the last parsed commands and markers.
+    *
+    * @since 1.6
+    */
+   public void trimToSize() {
+      geometry.trimToSize();
+      if (vertices.length > verticesCount * 3) {
+         vertices = Arrays.copyOf(vertices, verticesCount * 3);
+      }
+   }
+
+   /**
+    * Return the number of marker vertices of the path. There is one vertex for each command of the path.
+    *
+    * @return the number of vertices
+    * @since 1.6
+    */
+   public int getVerticesCount() {
+      return verticesCount;
+   }
+
+   /**
+    * Return the x coordinate of a marker vertex.
+    *
+    * @param index the vertex index
+    * @return the x coordinate
+    * @since 1.6
+    */
+   public double getVertexX(int index) {
+      return vertices[index * 3];
+   }
+
+   /**
+    * Return the y coordinate of a marker vertex.
+    *
+    * @param index the vertex index
+    * @return the y coordinate
+    * @since 1.6
+    */
+   public double getVertexY(int index) {
+      return vertices[index * 3 + 1];
+   }
+
+   /**
+    * Return the direction of the path at a marker vertex, in degrees. It is the direction of the incoming segment for the
+    * last vertex, the direction of the outgoing segment for the first vertex, and the bisector of the incoming and outgoing
+    * directions for the other vertices. This is the rotation to apply to a marker whose orientation is "auto".
+    *
+    * @param index the vertex index
+    * @return the angle, in degrees
+    * @since 1.6
+    */
+   public double getVertexAngle(int index) {
+      return vertices[index * 3 + 2];
+   }
+
    /**
     * Return the list of markers.
     *
     * @return the list of markers
     */
    public List<Point2D> getMarkerList() {
-      return markerList;
+      List<Point2D> list = new ArrayList<>(verticesCount);
+      for (int i = 0; i < verticesCount; i++) {
+         list.add(new Point2D(getVertexX(i), getVertexY(i)));
+      }
+      return list;
    }
 
    /**
@@ -177,281 +430,537 @@ public class SVGPathParser {
    public List<Point2D> getMarkerList(MarkerType type) {
       switch (type) {
          case START:
-            return markerList.size() < 1 ? Collections.emptyList()
-                    : new ArrayList<>(Collections.singletonList(markerList.get(0)));
+            return verticesCount < 1 ? Collections.emptyList()
+                    : Collections.singletonList(new Point2D(getVertexX(0), getVertexY(0)));
          case MID:
-            return markerList.size() < 3 ? Collections.emptyList()
-                    : new ArrayList<>(markerList.subList(1, markerList.size() - 1));
+            if (verticesCount < 3) {
+               return Collections.emptyList();
+            }
+            List<Point2D> list = new ArrayList<>(verticesCount - 2);
+            for (int i = 1; i < verticesCount - 1; i++) {
+               list.add(new Point2D(getVertexX(i), getVertexY(i)));
+            }
+            return list;
          case END:
-            return markerList.size() < 2 ? Collections.emptyList()
-                    : new ArrayList<>(Collections.singletonList(markerList.get(markerList.size() - 1)));
+            return verticesCount < 2 ? Collections.emptyList()
+                    : Collections.singletonList(new Point2D(getVertexX(verticesCount - 1), getVertexY(verticesCount - 1)));
          default:
             return Collections.emptyList();
       }
    }
 
    /**
-    * Updates the internal Path and calculates marker coordinates from the SVG path data.
+    * Updates the internal Path and calculates marker coordinates from the SVG path data. The marker vertices and the
+    * direction of the path at each vertex are computed in the same pass over the parsed commands.
     *
     * @param content the path content
     * @param viewport the viewport
     */
    public void parse(String content, Viewport viewport) {
-      markerList.clear();
+      verticesCount = 0;
+      this.content = null;
+      geometry.clear();
 
       if (content == null || content.trim().isEmpty()) {
          return;
       }
 
-      commandList = parse(viewport, content);
-      double currentX = 0, currentY = 0;
+      scan(content, viewport);
+      computeVertices();
+   }
 
-      for (PathCommand cmd : commandList) {
-         double[] params = cmd.getParameters();
-         boolean isRelative = cmd.isRelative();
-         PathElement element;
+   /**
+    * Updates the internal Path and calculates marker coordinates from already parsed path commands. The lengths of the
+    * geometry must not have been scaled, they are scaled here by the viewport. This avoids to scan the path data again
+    * when the same commands are used for several viewports.
+    *
+    * @param unscaled the parsed commands, with lengths which are not scaled
+    * @param viewport the viewport
+    * @since 1.6
+    */
+   public void parse(PathGeometry unscaled, Viewport viewport) {
+      verticesCount = 0;
+      this.content = null;
+      geometry.clear();
+      if (viewport == null) {
+         viewport = DEFAULT_VIEWPORT;
+      }
+      int opsCount = unscaled.getOpsCount();
+      int offset = 0;
+      for (int i = 0; i < opsCount; i++) {
+         byte op = unscaled.getOp(i);
+         geometry.addOp(op);
+         CommandType type = CommandType.fromOp(op);
+         for (int j = 0; j < type.paramCount; j++) {
+            double value = unscaled.getCoord(offset + j);
+            ParameterConverter converter = type.getParameterConverter(j);
+            if (converter == ParameterConverter.PARSE_LENGTH_WIDTH || converter == ParameterConverter.PARSE_LENGTH_HEIGHT) {
+               value = viewport.scaleLength(value);
+            }
+            geometry.addCoord(value);
+         }
+         offset += type.paramCount;
+      }
+      computeVertices();
+   }
+
+   /**
+    * Compute the marker vertices and the direction of the path at each vertex from the parsed commands.
+    */
+   private void computeVertices() {
+      int opsCount = geometry.getOpsCount();
+      if (vertices.length < opsCount * 3) {
+         vertices = new double[opsCount * 3];
+      }
+      double currentX = 0, currentY = 0;
+      double startX = 0, startY = 0;
+      // the last control point of the previous curve, used for the smooth curves
+      double ctrlX = 0, ctrlY = 0;
+      CommandType previousType = null;
+      // the direction of the path at the end of the previous segment
+      double inX = 0, inY = 0;
+      int offset = 0;
+
+      for (int i = 0; i < opsCount; i++) {
+         byte op = geometry.getOp(i);
+         CommandType type = CommandType.fromOp(op);
+         double baseX = PathGeometry.isRelative(op) ? currentX : 0;
+         double baseY = PathGeometry.isRelative(op) ? currentY : 0;
          double x, y;
+         // the directions of the path at the start and at the end of the segment
+         double startDirX, startDirY, endDirX, endDirY;
 
-         switch (cmd.getType()) {
+         switch (type) {
             case MOVETO:
-               x = isRelative ? currentX + params[0] : params[0];
-               y = isRelative ? currentY + params[1] : params[1];
-               element = new MoveTo(x, y);
-               currentX = x;
-               currentY = y;
+               x = baseX + geometry.getCoord(offset);
+               y = baseY + geometry.getCoord(offset + 1);
+               startX = x;
+               startY = y;
+               startDirX = startDirY = endDirX = endDirY = 0;
                break;
             case LINETO:
-               x = isRelative ? currentX + params[0] : params[0];
-               y = isRelative ? currentY + params[1] : params[1];
-               element = new LineTo(x, y);
-               currentX = x;
-               currentY = y;
+               x = baseX + geometry.getCoord(offset);
+               y = baseY + geometry.getCoord(offset + 1);
+               startDirX = endDirX = x - currentX;
+               startDirY = endDirY = y - currentY;
                break;
             case HORIZONTAL_LINETO:
-               x = isRelative ? currentX + params[0] : params[0];
+               x = baseX + geometry.getCoord(offset);
                y = currentY;
-               element = new LineTo(x, y);
-               currentX = x;
+               startDirX = endDirX = x - currentX;
+               startDirY = endDirY = 0;
                break;
             case VERTICAL_LINETO:
                x = currentX;
-               y = isRelative ? currentY + params[0] : params[0];
-               element = new LineTo(x, y);
-               currentY = y;
+               y = baseY + geometry.getCoord(offset);
+               startDirX = endDirX = 0;
+               startDirY = endDirY = y - currentY;
                break;
             case CUBIC_CURVETO:
-               x = isRelative ? currentX + params[4] : params[4];
-               y = isRelative ? currentY + params[5] : params[5];
-               element = new CubicCurveTo(isRelative ? currentX + params[0] : params[0],
-                       isRelative ? currentY + params[1] : params[1], isRelative ? currentX + params[2] : params[2],
-                       isRelative ? currentY + params[3] : params[3], x, y);
-               currentX = x;
-               currentY = y;
-               break;
-            case SMOOTH_CUBIC_CURVETO:
-               x = isRelative ? currentX + params[2] : params[2];
-               y = isRelative ? currentY + params[3] : params[3];
-               element = new CubicCurveTo(currentX, currentY, isRelative ? currentX + params[0] : params[0],
-                       isRelative ? currentY + params[1] : params[1], x, y);
-               currentX = x;
-               currentY = y;
+            case SMOOTH_CUBIC_CURVETO: {
+               double x1, y1;
+               int index = offset;
+               if (type == CommandType.CUBIC_CURVETO) {
+                  x1 = baseX + geometry.getCoord(index++);
+                  y1 = baseY + geometry.getCoord(index++);
+               } else if (previousType == CommandType.CUBIC_CURVETO || previousType == CommandType.SMOOTH_CUBIC_CURVETO) {
+                  x1 = 2 * currentX - ctrlX;
+                  y1 = 2 * currentY - ctrlY;
+               } else {
+                  x1 = currentX;
+                  y1 = currentY;
+               }
+               double x2 = baseX + geometry.getCoord(index++);
+               double y2 = baseY + geometry.getCoord(index++);
+               x = baseX + geometry.getCoord(index++);
+               y = baseY + geometry.getCoord(index);
+               ctrlX = x2;
+               ctrlY = y2;
+               // the tangent at each end uses the nearest control point which does not coincide with the end point
+               if (x1 != currentX || y1 != currentY) {
+                  startDirX = x1 - currentX;
+                  startDirY = y1 - currentY;
+               } else if (x2 != currentX || y2 != currentY) {
+                  startDirX = x2 - currentX;
+                  startDirY = y2 - currentY;
+               } else {
+                  startDirX = x - currentX;
+                  startDirY = y - currentY;
+               }
+               if (x2 != x || y2 != y) {
+                  endDirX = x - x2;
+                  endDirY = y - y2;
+               } else if (x1 != x || y1 != y) {
+                  endDirX = x - x1;
+                  endDirY = y - y1;
+               } else {
+                  endDirX = x - currentX;
+                  endDirY = y - currentY;
+               }
                break;
+            }
             case QUADRATIC_CURVETO:
-               x = isRelative ? currentX + params[2] : params[2];
-               y = isRelative ? currentY + params[3] : params[3];
-               element = new QuadCurveTo(isRelative ? currentX + params[0] : params[0],
-                       isRelative ? currentY + params[1] : params[1], x, y);
-               currentX = x;
-               currentY = y;
-               break;
-            case SMOOTH_QUADRATIC_CURVETO:
-               x = isRelative ? currentX + params[0] : params[0];
-               y = isRelative ? currentY + params[1] : params[1];
-               element = new QuadCurveTo(currentX, currentY, x, y);
-               currentX = x;
-               currentY = y;
+            case SMOOTH_QUADRATIC_CURVETO: {
+               double x1, y1;
+               int index = offset;
+               if (type == CommandType.QUADRATIC_CURVETO) {
+                  x1 = baseX + geometry.getCoord(index++);
+                  y1 = baseY + geometry.getCoord(index++);
+               } else if (previousType == CommandType.QUADRATIC_CURVETO || previousType == CommandType.SMOOTH_QUADRATIC_CURVETO) {
+                  x1 = 2 * currentX - ctrlX;
+                  y1 = 2 * currentY - ctrlY;
+               } else {
+                  x1 = currentX;
+                  y1 = currentY;
+               }
+               x = baseX + geometry.getCoord(index++);
+               y = baseY + geometry.getCoord(index);
+               ctrlX = x1;
+               ctrlY = y1;
+               if (x1 != currentX || y1 != currentY) {
+                  startDirX = x1 - currentX;
+                  startDirY = y1 - currentY;
+               } else {
+                  startDirX = x - currentX;
+                  startDirY = y - currentY;
+               }
+               if (x1 != x || y1 != y) {
+                  endDirX = x - x1;
+                  endDirY = y - y1;
+               } else {
+                  endDirX = x - currentX;
+                  endDirY = y - currentY;
+               }
                break;
+            }
             case ARC:
-               x = isRelative ? currentX + params[5] : params[5];
-               y = isRelative ? currentY + params[6] : params[6];
-               element = new ArcTo(params[0], params[1], params[2], x, y, params[3] == 1, params[4] == 1);
-               currentX = x;
-               currentY = y;
+               x = baseX + geometry.getCoord(offset + 5);
+               y = baseY + geometry.getCoord(offset + 6);
+               computeArcDirections(currentX, currentY, x, y, geometry.getCoord(offset), geometry.getCoord(offset + 1),
+                  geometry.getCoord(offset + 2), geometry.getCoord(offset + 3) != 0, geometry.getCoord(offset + 4) != 0);
+               startDirX = arcDirections[0];
+               startDirY = arcDirections[1];
+               endDirX = arcDirections[2];
+               endDirY = arcDirections[3];
                break;
             case CLOSEPATH:
-               element = new ClosePath();
-               x = markerList.get(0).getX();
-               y = markerList.get(0).getX();
+               x = startX;
+               y = startY;
+               startDirX = endDirX = x - currentX;
+               startDirY = endDirY = y - currentY;
                break;
             default:
-               throw new IllegalArgumentException("Unknown command: " + cmd.getType());
+               throw new IllegalArgumentException("Unknown command: " + PathGeometry.getSymbol(op));
          }
-         markerList.add(new Point2D(x, y));
+         if (i > 0) {
+            // the direction at the start of this segment is the outgoing direction of the previous vertex
+            setVertexAngle(i - 1, inX, inY, startDirX, startDirY);
+         }
+         vertices[i * 3] = x;
+         vertices[i * 3 + 1] = y;
+         inX = endDirX;
+         inY = endDirY;
+         currentX = x;
+         currentY = y;
+         previousType = type;
+         offset += type.paramCount;
+      }
+      verticesCount = opsCount;
+      if (opsCount > 0) {
+         setVertexAngle(opsCount - 1, inX, inY, 0, 0);
       }
    }
 
    /**
-    * Internal class to represent a parsed SVG path command.
+    * Set the angle of a marker vertex from the directions of its incoming and outgoing segments. A null direction means
+    * that there is no segment, or that the segment has a zero length.
     */
-   private static class PathCommand {
-      private final String id;
-      private final CommandType type;
-      private final double[] parameters;
-      private final boolean isRelative;
-
-      public PathCommand(char id, CommandType type, double[] parameters, boolean isRelative) {
-         this.id = Character.toString(id);
-         this.type = type;
-         this.parameters = parameters;
-         this.isRelative = isRelative;
+   private void setVertexAngle(int index, double inX, double inY, double outX, double outY) {
+      double inLength = Math.hypot(inX, inY);
+      double outLength = Math.hypot(outX, outY);
+      double dirX, dirY;
+      if (inLength == 0) {
+         dirX = outX;
+         dirY = outY;
+      } else if (outLength == 0) {
+         dirX = inX;
+         dirY = inY;
+      } else {
+         dirX = inX / inLength + outX / outLength;
+         dirY = inY / inLength + outY / outLength;
+         if (dirX == 0 && dirY == 0) {
+            // the path goes back on itself
+            dirX = inX;
+            dirY = inY;
+         }
       }
+      vertices[index * 3 + 2] = dirX == 0 && dirY == 0 ? 0 : Math.toDegrees(Math.atan2(dirY, dirX));
+   }
 
-      public CommandType getType() {
-         return type;
+   /**
+    * Compute the directions of an elliptical arc at its start and end points, in the {@link #arcDirections} array. See the
+    * implementation notes of the SVG specification for the conversion from the endpoint to the center parameterization.
+    */
+   private void computeArcDirections(double x1, double y1, double x2, double y2, double rx, double ry, double xAxisRotation,
+      boolean largeArc, boolean sweep) {
+      rx = Math.abs(rx);
+      ry = Math.abs(ry);
+      if (x1 == x2 && y1 == y2) {
+         Arrays.fill(arcDirections, 0);
+         return;
+      } else if (rx == 0 || ry == 0) {
+         arcDirections[0] = arcDirections[2] = x2 - x1;
+         arcDirections[1] = arcDirections[3] = y2 - y1;
+         return;
       }
-
-      public double[] getParameters() {
-         return parameters;
+      double phi = Math.toRadians(xAxisRotation);
+      double cosPhi = Math.cos(phi);
+      double sinPhi = Math.sin(phi);
+      double dx = (x1 - x2) / 2;
+      double dy = (y1 - y2) / 2;
+      double x1p = cosPhi * dx + sinPhi * dy;
+      double y1p = -sinPhi * dx + cosPhi * dy;
+      double lambda = (x1p * x1p) / (rx * rx) + (y1p * y1p) / (ry * ry);
+      if (lambda > 1) {
+         rx *= Math.sqrt(lambda);
+         ry *= Math.sqrt(lambda);
       }
-
-      public boolean isRelative() {
-         return isRelative;
+      double num = rx * rx * ry * ry - rx * rx * y1p * y1p - ry * ry * x1p * x1p;
+      double den = rx * rx * y1p * y1p + ry * ry * x1p * x1p;
+      double coef = Math.sqrt(Math.max(0, num / den));
+      if (largeArc == sweep) {
+         coef = -coef;
       }
+      double cxp = coef * rx * y1p / ry;
+      double cyp = -coef * ry * x1p / rx;
+      double theta1 = Math.atan2((y1p - cyp) / ry, (x1p - cxp) / rx);
+      double theta2 = Math.atan2((-y1p - cyp) / ry, (-x1p - cxp) / rx);
+      double sign = sweep ? 1 : -1;
+      setArcTangent(0, theta1, rx, ry, cosPhi, sinPhi, sign);
+      setArcTangent(2, theta2, rx, ry, cosPhi, sinPhi, sign);
+   }
 
-      public String getContent() {
-         StringBuilder builder;
-
-         builder = new StringBuilder("");
-         builder.append(id);
-         for (int i = 0; i < type.paramCount; i++) {
-            double parameter = parameters[i];
-            builder.append(" ");
-            builder.append(type.getParameterConverter(i) == ParameterConverter.PARSE_NOT ? (int) parameter : Double.toString(parameter));
-         }
-
-         return builder.toString();
-      }
+   private void setArcTangent(int index, double theta, double rx, double ry, double cosPhi, double sinPhi, double sign) {
+      double tx = -rx * Math.sin(theta) * sign;
+      double ty = ry * Math.cos(theta) * sign;
+      arcDirections[index] = cosPhi * tx - sinPhi * ty;
+      arcDirections[index + 1] = sinPhi * tx + cosPhi * ty;
    }
 
    /**
-    * Parses an SVG path string into a list of PathCommand objects.
-    *
-    * @param viewport
+    * Scan an SVG path string in one pass, and store the commands and their converted parameters in the buffers of the
+    * parser. The parameters of a command which are repeated are split in several commands. Per SVG spec, extra
+    * coordinate pairs after M/m become implicit L/l commands.
     *
     * @param pathData The SVG path data string
-    * @return List of parsed PathCommand objects
+    * @param viewport the viewport
     * @throws IllegalArgumentException if the path data is invalid
     */
-   private List<PathCommand> parse(Viewport viewport, String pathData) {
-      List<PathCommand> commands = new ArrayList<>();
-      Matcher commandMatcher = COMMAND_PATTERN.matcher(pathData.trim());
-
-      while (commandMatcher.find()) {
-         String command = commandMatcher.group(1);
-         String params = commandMatcher.group(2).trim();
-         char cmdChar = command.charAt(0);
+   private void scan(String pathData, Viewport viewport) {
+      if (viewport == null) {
+         viewport = DEFAULT_VIEWPORT;
+      }
+      int length = pathData.length();
+      position = 0;
+      while (position < length && CommandType.fromSymbol(pathData.charAt(position)) == null) {
+         position++;
+      }
+      while (position < length) {
+         char cmdChar = pathData.charAt(position++);
          boolean isRelative = Character.isLowerCase(cmdChar);
          CommandType cmd = CommandType.fromSymbol(cmdChar);
-
-         double[] parameters = parseParameters(cmdChar, cmd, viewport, params, cmd.getParamCount());
          int paramCount = cmd.getParamCount();
+         int count = 0;
+         while (skipSeparators(pathData)) {
+            if (paramCount == 0) {
+               count++;
+               scanNumber(pathData, false);
+               continue;
+            }
+            int indexInSet = count % paramCount;
+            if (indexInSet == 0) {
+               byte op = cmd.op;
+               if (count > 0 && cmd == CommandType.MOVETO) {
+                  op = PathGeometry.LINETO;
+               }
+               geometry.addOp(isRelative ? (byte) (op | PathGeometry.RELATIVE) : op);
+            }
+            ParameterConverter converter = cmd.getParameterConverter(indexInSet);
+            double value = scanNumber(pathData, converter == ParameterConverter.PARSE_FLAG);
+            if (converter == ParameterConverter.PARSE_LENGTH_WIDTH || converter == ParameterConverter.PARSE_LENGTH_HEIGHT) {
+               value = convertLength(pathData, value, converter == ParameterConverter.PARSE_LENGTH_WIDTH, viewport);
+            }
+            geometry.addCoord(value);
+            count++;
+         }
 
-         if (paramCount == 0 || parameters.length == paramCount) {
-            commands.add(new PathCommand(cmdChar, cmd, parameters, isRelative));
-         } else {
-            // Split repeated parameter groups into separate commands.
-            double[] firstGroup = new double[paramCount];
-            System.arraycopy(parameters, 0, firstGroup, 0, paramCount);
-            commands.add(new PathCommand(cmdChar, cmd, firstGroup, isRelative));
-
-            // Per SVG spec, extra coordinate pairs after M/m become implicit L/l commands.
-            // For all other commands, extra groups repeat the same command.
-            CommandType repeatCmd = cmd;
-            char repeatChar = cmdChar;
-            if (cmd == CommandType.MOVETO) {
-               repeatCmd = CommandType.LINETO;
-               repeatChar = isRelative ? 'l' : 'L';
+         if (paramCount == 0) {
+            if (count != 0) {
+               throw new IllegalArgumentException("Unexpected parameters for command "
+                       + cmdChar + ": got " + count + ", expected 0");
             }
+            geometry.addOp(isRelative ? (byte) (cmd.op | PathGeometry.RELATIVE) : cmd.op);
+         } else if (count == 0) {
+            throw new IllegalArgumentException("Missing parameters for command "
+                    + cmdChar + ": got 0, expected " + paramCount);
+         } else if (count % paramCount != 0) {
+            throw new IllegalArgumentException("Invalid number of parameters for command "
+                    + cmdChar + ": got " + count
+                    + ", expected a multiple of " + paramCount);
+         }
+      }
+   }
 
-            for (int offset = paramCount; offset < parameters.length; offset += paramCount) {
-               double[] group = new double[paramCount];
-               System.arraycopy(parameters, offset, group, 0, paramCount);
-               commands.add(new PathCommand(repeatChar, repeatCmd, group, isRelative));
+   /**
+    * Skip the characters which separate the numbers. Return false if the end of the path data or the next command
+    * has been reached.
+    */
+   private boolean skipSeparators(String pathData) {
+      int length = pathData.length();
+      while (position < length) {
+         char c = pathData.charAt(position);
+         if (c >= '0' && c <= '9') {
+            return true;
+         } else if (c == '.' || c == '-' || c == '+' || c == '−') {
+            if (position + 1 < length) {
+               char next = pathData.charAt(position + 1);
+               if ((next >= '0' && next <= '9') || (c != '.' && next == '.' && position + 2 < length && isDigit(pathData.charAt(position + 2)))) {
+                  return true;
+               }
             }
+         } else if (CommandType.fromSymbol(c) != null) {
+            return false;
          }
+         position++;
       }
+      return false;
+   }
 
-      return commands;
+   private static boolean isDigit(char c) {
+      return c >= '0' && c <= '9';
    }
 
    /**
-    * Parses a string of parameters into a flat double array containing all parameter sets, handling optional units.
+    * Scan a number at the current position. The scanner must be positioned at the start of a number. A flag is a single
+    * 0 or 1 digit, which allows the compact syntax where the flags of an arc are not separated from the next number.
+    * The value is computed directly from the digits when it can be represented exactly, else the number is parsed by
+    * {@link Double#parseDouble(String)}. The unit of the number, if any, is skipped, and its first character index is
+    * kept in {@link #unitStart}.
     */
-   private double[] parseParameters(char cmdChar, CommandType commandType, Viewport viewport, String params, int expectedCount) {
-      List<String> numbers = new ArrayList<>();
-      Matcher numberMatcher = NUMBER_PATTERN.matcher(params);
-      while (numberMatcher.find()) {
-         numbers.add(numberMatcher.group());
+   private double scanNumber(String pathData, boolean isFlag) {
+      int length = pathData.length();
+      int start = position;
+      char c = pathData.charAt(position);
+      if (isFlag && (c == '0' || c == '1')) {
+         position++;
+         unitStart = position;
+         return c == '0' ? 0 : 1;
       }
-
-      if (expectedCount == 0) {
-         if (!numbers.isEmpty()) {
-            throw new IllegalArgumentException("Unexpected parameters for command "
-                    + cmdChar + ": got " + numbers.size() + ", expected 0");
+      boolean negative = false;
+      if (c == '-' || c == '+' || c == '−') {
+         negative = c != '+';
+         position++;
+      }
+      long mantissa = 0;
+      int digits = 0;
+      int exponent = 0;
+      boolean exact = true;
+      while (position < length && isDigit(c = pathData.charAt(position))) {
+         if (mantissa < MAX_EXACT_MANTISSA / 10) {
+            mantissa = mantissa * 10 + (c - '0');
+            digits++;
+         } else {
+            exact = false;
          }
-         return new double[0];
+         position++;
       }
-
-      if (numbers.isEmpty()) {
-         throw new IllegalArgumentException("Missing parameters for command "
-                 + cmdChar + ": got 0, expected " + expectedCount);
+      if (position + 1 < length && pathData.charAt(position) == '.' && isDigit(pathData.charAt(position + 1))) {
+         position++;
+         while (position < length && isDigit(c = pathData.charAt(position))) {
+            if (mantissa < MAX_EXACT_MANTISSA / 10) {
+               mantissa = mantissa * 10 + (c - '0');
+               exponent--;
+               digits++;
+            } else if (c != '0') {
+               exact = false;
+            }
+            position++;
+         }
       }
-
-      if (numbers.size() % expectedCount != 0) {
-         throw new IllegalArgumentException("Invalid number of parameters for command "
-                 + cmdChar + ": got " + numbers.size()
-                 + ", expected a multiple of " + expectedCount);
+      if (position + 1 < length && (pathData.charAt(position) == 'e' || pathData.charAt(position) == 'E')) {
+         int expPosition = position + 1;
+         boolean negativeExp = false;
+         char expChar = pathData.charAt(expPosition);
+         if (expChar == '-' || expChar == '+') {
+            negativeExp = expChar == '-';
+            expPosition++;
+         }
+         if (expPosition < length && isDigit(pathData.charAt(expPosition))) {
+            int exp = 0;
+            position = expPosition;
+            while (position < length && isDigit(c = pathData.charAt(position))) {
+               if (exp < 10000) {
+                  exp = exp * 10 + (c - '0');
+               }
+               position++;
+            }
+            exponent += negativeExp ? -exp : exp;
+         }
       }
-
-      int countOfSets = numbers.size() / expectedCount;
-      if (countOfSets < 1) {
-         throw new IllegalArgumentException("Invalid number of parameters for command, expected multiple of " + expectedCount);
+      int end = position;
+      unitStart = position;
+      while (position < length) {
+         c = pathData.charAt(position);
+         if ((c == '%' || Character.isLetter(c)) && CommandType.fromSymbol(c) == null) {
+            position++;
+         } else {
+            break;
+         }
       }
-
-      return IntStream.range(0, countOfSets)
-              .mapToObj(setIndex -> parseParametersSet(commandType, viewport, setIndex, expectedCount, numbers))
-              .flatMapToDouble(java.util.Arrays::stream)
-              .toArray();
+      double value;
+      if (exact && exponent >= -22 && exponent <= 22) {
+         value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+         if (negative) {
+            value = -value;
+         }
+      } else {
+         String number = pathData.substring(start, end);
+         if (number.charAt(0) == '−') {
+            number = "-" + number.substring(1);
+         }
+         value = Double.parseDouble(number);
+      }
+      return value;
    }
 
    /**
-    * Parses a single set of parameters from a list of number strings, applying the appropriate
-    * unit conversions based on the command type.
-    *
-    * @param commandType   the SVG path command type, used to determine how each parameter is converted
-    * @param viewport      the current viewport, used for converting length values with units
-    * @param setIndex      the index of the parameter set within the overall list of parameters
-    * @param expectedCount the expected number of parameters in a single set for this command
-    * @param numbers       the complete list of parameter strings extracted from the path data
-    * @return an array of doubles representing the converted parameters for the specified set
-    */
-   private double[] parseParametersSet(CommandType commandType, Viewport viewport, int setIndex, int expectedCount, List<String> numbers) {
-      return IntStream.range(0, expectedCount).mapToDouble(indexInSet -> {
-         int numberIndex = setIndex * expectedCount + indexInSet;
-         String number = numbers.get(numberIndex);
-         switch (commandType.getParameterConverter(indexInSet)) {
-            case PARSE_DOUBLE_PROTECTED:
-               return ParserUtils.parseDoubleProtected(number);
-            case PARSE_LENGTH_HEIGHT:
-               return LengthParser.parseLength(number, false, viewport);
-            case PARSE_LENGTH_WIDTH:
-               return LengthParser.parseLength(number, true, viewport);
-            case PARSE_NOT:
-               return Double.parseDouble(number);
-            default:
-               return 0D;
+    * Convert a length value, taking into account its unit and the viewport.
+    */
+   private double convertLength(String pathData, double value, boolean isWidth, Viewport viewport) {
+      int unitLength = position - unitStart;
+      if (unitLength == 1 && pathData.charAt(unitStart) == '%') {
+         if (isWidth) {
+            return viewport.scaleLength(value * viewport.getBestWidth() / 100);
+         } else {
+            return viewport.scaleLength(value * viewport.getBestHeight() / 100);
          }
-      }).toArray();
+      } else if (unitLength == 2) {
+         char c1 = pathData.charAt(unitStart);
+         char c2 = pathData.charAt(unitStart + 1);
+         if (c1 == 'p' && c2 == 't') {
+            return viewport.scaleLength(value * 96d / 72d);
+         } else if (c1 == 'e' && c2 == 'm') {
+            return viewport.scaleLength(value * 16);
+         } else if (c1 == 'e' && c2 == 'x') {
+            return viewport.scaleLength(value * 16 * (1.5d / 3d));
+         } else if (c1 == 'i' && c2 == 'n') {
+            return viewport.scaleLength(value / (1 / 96d));
+         } else if (c1 == 'c' && c2 == 'm') {
+            return viewport.scaleLength(value * (96 / 2.54));
+         } else if (c1 == 'm' && c2 == 'm') {
+            return viewport.scaleLength(value * (96 / (10 * 2.54)));
+         }
+      }
+      return viewport.scaleLength(value);
    }
-
 }
@@ -35,7 +35,7 @@ package org.girod.javafx.svgimage.xml.parsers;
 /**
  * The list of svg tags handled by the library.
  *
- * @version 1.2
+ * @version 1.6
  */
 public interface SVGTags {
    /**
@@ -202,6 +202,10 @@ public interface SVGTags {
     * SVG constant for MARKER_HEIGHT.
     */
    public static String MARKER_HEIGHT = "markerHeight";
+   /**
+    * SVG constant for MARKER_UNITS.
+    */
+   public static String MARKER_UNITS = "markerUnits";
    /**
     * SVG constant for ORIENT.
     */
@@ -722,6 +726,14 @@ public interface SVGTags {
     * SVG constant for FILL_OPACITY.
     */
    public static String FILL_OPACITY = "fill-opacity";
+   /**
+    * SVG constant for STROKE_OPACITY.
+    */
+   public static String STROKE_OPACITY = "stroke-opacity";
+   /**
+    * SVG constant for DISPLAY.
+    */
+   public static String DISPLAY = "display";
    /**
     * SVG constant for STROKE_WIDTH.
     */
@@ -0,0 +1,179 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.girod.javafx.svgimage.xml.parsers.SVGTags;
+
+/**
+ * The table of the names declared in {@link SVGTags}. Each of these names is mapped to a small integer id, so that the
+ * nodes only need to store the ids of their attributes rather than their names. The table is fixed, so that loading
+ * documents with arbitrary attributes does not make it grow: the nodes store the names which are not in the table as
+ * strings.
+ *
+ * @since 1.6
+ */
+final class AttributeNames {
+   /**
+    * The id returned for the names which are not in the table.
+    */
+   static final int UNKNOWN = -1;
+   private static final String[] NAMES = {
+      SVGTags.VIEWBOX, SVGTags.FILL, SVGTags.CONTEXT_FILL, SVGTags.STROKE, SVGTags.CONTEXT_STROKE, SVGTags.RECT, SVGTags.CIRCLE,
+      SVGTags.ELLIPSE, SVGTags.PATH, SVGTags.MASK, SVGTags.POLYGON, SVGTags.LINE, SVGTags.POLYLINE, SVGTags.TEXT, SVGTags.IMAGE,
+      SVGTags.D, SVGTags.SVG, SVGTags.USE, SVGTags.MARKER, SVGTags.G, SVGTags.SYMBOL, SVGTags.DEFS, SVGTags.NONE,
+      SVGTags.CLIP_PATH_SPEC, SVGTags.CLIP_PATH, SVGTags.LINEAR_GRADIENT, SVGTags.RADIAL_GRADIENT, SVGTags.GRADIENT_UNITS,
+      SVGTags.SPREAD_METHOD, SVGTags.SPREAD_PAD, SVGTags.SPREAD_REFLECT, SVGTags.SPREAD_REPEAT, SVGTags.STOP, SVGTags.STOP_COLOR,
+      SVGTags.STOP_OPACITY, SVGTags.GRADIENT_TRANSFORM, SVGTags.MARKER_START, SVGTags.MARKER_MID, SVGTags.MARKER_END,
+      SVGTags.MARKER_WIDTH, SVGTags.MARKER_HEIGHT, SVGTags.MARKER_UNITS, SVGTags.ORIENT, SVGTags.ORIENT_AUTO,
+      SVGTags.ORIENT_AUTO_REVERSE, SVGTags.REFX, SVGTags.REFY, SVGTags.TSPAN, SVGTags.ID, SVGTags.FILL_RULE, SVGTags.CLIP_RULE,
+      SVGTags.CLIP_PATH_UNITS, SVGTags.USERSPACE_ON_USE, SVGTags.OBJECT_BOUNDINGBOX, SVGTags.NON_ZERO, SVGTags.EVEN_ODD,
+      SVGTags.XLINK_HREF, SVGTags.HREF, SVGTags.ANIMATE, SVGTags.ANIMATE_MOTION, SVGTags.ANIMATE_TRANSFORM, SVGTags.SET,
+      SVGTags.ATTRIBUTE_NAME, SVGTags.REPEAT_COUNT, SVGTags.FROM, SVGTags.TO, SVGTags.VALUES, SVGTags.BEGIN, SVGTags.DUR,
+      SVGTags.TYPE, SVGTags.ADDITIVE, SVGTags.TRANSLATE, SVGTags.SCALE, SVGTags.ROTATE, SVGTags.SKEW_X, SVGTags.SKEW_Y,
+      SVGTags.INDEFINITE, SVGTags.FILTER, SVGTags.FE_GAUSSIAN_BLUR, SVGTags.FE_DROP_SHADOW, SVGTags.FE_FLOOD, SVGTags.FE_IMAGE,
+      SVGTags.FE_OFFSET, SVGTags.FE_MORPHOLOGY, SVGTags.FE_COMPOSITE, SVGTags.FE_MERGE, SVGTags.FE_MERGE_NODE,
+      SVGTags.FE_DISTANT_LIGHT, SVGTags.FE_POINT_LIGHT, SVGTags.FE_SPOT_LIGHT, SVGTags.FE_SPECULAR_LIGHTING,
+      SVGTags.FE_DIFFUSE_LIGHTING, SVGTags.FLOOD_COLOR, SVGTags.FLOOD_OPACITY, SVGTags.STD_DEVIATION,
+      SVGTags.PRESERVE_ASPECT_RATIO, SVGTags.IN, SVGTags.IN2, SVGTags.OPERATOR, SVGTags.OPERATOR_OVER, SVGTags.OPERATOR_IN,
+      SVGTags.OPERATOR_OUT, SVGTags.OPERATOR_ATOP, SVGTags.OPERATOR_XOR, SVGTags.OPERATOR_ARITHMETIC, SVGTags.SURFACE_SCALE,
+      SVGTags.DIFFUSE_CONSTANT, SVGTags.SPECULAR_CONSTANT, SVGTags.SPECULAR_EXPONENT, SVGTags.LIGHTING_COLOR, SVGTags.AZIMUTH,
+      SVGTags.ELEVATION, SVGTags.SOURCE_GRAPHIC, SVGTags.SOURCE_ALPHA, SVGTags.RESULT, SVGTags.FX, SVGTags.FY, SVGTags.CX,
+      SVGTags.CY, SVGTags.DX, SVGTags.DY, SVGTags.RX, SVGTags.RY, SVGTags.R, SVGTags.X, SVGTags.Y, SVGTags.Z, SVGTags.X1,
+      SVGTags.Y1, SVGTags.X2, SVGTags.Y2, SVGTags.POINTS, SVGTags.RADIUS, SVGTags.POINT_AT_X, SVGTags.POINT_AT_Y,
+      SVGTags.POINT_AT_Z, SVGTags.DILATE, SVGTags.OFFSET, SVGTags.STYLE, SVGTags.SQUARE, SVGTags.ROUND, SVGTags.BUTT,
+      SVGTags.BEVEL, SVGTags.MITER, SVGTags.FONT_FAMILY, SVGTags.FONT_STYLE, SVGTags.FONT_SIZE, SVGTags.FONT_WEIGHT,
+      SVGTags.TEXT_DECORATION, SVGTags.TEXT_ANCHOR, SVGTags.START, SVGTags.MIDDLE, SVGTags.END, SVGTags.NORMAL, SVGTags.BOLD,
+      SVGTags.BOLDER, SVGTags.LIGHTER, SVGTags.ITALIC, SVGTags.OBLIQUE, SVGTags.LINE_THROUGH, SVGTags.BASELINE_SHIFT,
+      SVGTags.BASELINE_SUB, SVGTags.BASELINE_SUPER, SVGTags.UNDERLINE, SVGTags.WIDTH, SVGTags.HEIGHT, SVGTags.TRANSFORM,
+      SVGTags.OPACITY, SVGTags.VISIBILITY, SVGTags.VISIBLE, SVGTags.HIDDEN, SVGTags.FILL_OPACITY, SVGTags.STROKE_OPACITY,
+      SVGTags.DISPLAY, SVGTags.STROKE_WIDTH, SVGTags.STROKE_LINECAP, SVGTags.STROKE_MITERLIMIT, SVGTags.STROKE_LINEJOIN,
+      SVGTags.STROKE_DASHARRAY, SVGTags.STROKE_DASHOFFSET, SVGTags.CLASS
+   };
+   private static final Map<String, Integer> IDS = new HashMap<>(NAMES.length * 2);
+   /**
+    * The id of the fill attribute.
+    */
+   static final int FILL;
+   /**
+    * The id of the stroke attribute.
+    */
+   static final int STROKE;
+   /**
+    * The id of the stroke-width attribute.
+    */
+   static final int STROKE_WIDTH;
+   /**
+    * The id of the style attribute.
+    */
+   static final int STYLE;
+   /**
+    * The id of the class attribute.
+    */
+   static final int CLASS;
+   /**
+    * The id of the font-size attribute.
+    */
+   static final int FONT_SIZE;
+   /**
+    * The id of the font-family attribute.
+    */
+   static final int FONT_FAMILY;
+   /**
+    * The id of the font-weight attribute.
+    */
+   static final int FONT_WEIGHT;
+   /**
+    * The id of the font-style attribute.
+    */
+   static final int FONT_STYLE;
+
+   static {
+      for (int i = 0; i < NAMES.length; i++) {
+         // several constants may have the same value, the first one gives the id
+         IDS.putIfAbsent(NAMES[i], i);
+      }
+      FILL = getId(SVGTags.FILL);
+      STROKE = getId(SVGTags.STROKE);
+      STROKE_WIDTH = getId(SVGTags.STROKE_WIDTH);
+      STYLE = getId(SVGTags.STYLE);
+      CLASS = getId(SVGTags.CLASS);
+      FONT_SIZE = getId(SVGTags.FONT_SIZE);
+      FONT_FAMILY = getId(SVGTags.FONT_FAMILY);
+      FONT_WEIGHT = getId(SVGTags.FONT_WEIGHT);
+      FONT_STYLE = getId(SVGTags.FONT_STYLE);
+   }
+
+   private AttributeNames() {
+   }
+
+   /**
+    * Return the id of an attribute name.
+    *
+    * @param name the attribute name
+    * @return the id, or {@link #UNKNOWN} if the name is not in the table
+    */
+   static int getId(String name) {
+      Integer id = IDS.get(name);
+      return id == null ? UNKNOWN : id;
+   }
+
+   /**
+    * Return the canonical attribute name for an id.
+    *
+    * @param id the id
+    * @return the attribute name
+    */
+   static String getName(int id) {
+      return NAMES[id];
+   }
+
+   /**
+    * Return true if the value of an attribute is inherited from the parent node when it is not declared on the node.
+    * The class attribute is not inherited by tspan elements.
+    *
+    * @param id the attribute id
+    * @param isSpan true for a tspan element
+    * @return true if the value of the attribute is inherited
+    */
+   static boolean isInherited(int id, boolean isSpan) {
+      if (id == FILL || id == STROKE || id == STROKE_WIDTH || id == STYLE) {
+         return true;
+      } else if (id == FONT_SIZE || id == FONT_FAMILY || id == FONT_WEIGHT || id == FONT_STYLE) {
+         return true;
+      } else {
+         return id == CLASS && !isSpan;
+      }
+   }
+}
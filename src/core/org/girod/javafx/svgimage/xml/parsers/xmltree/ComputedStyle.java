@@ -0,0 +1,313 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javafx.scene.paint.Color;
+import org.girod.javafx.svgimage.xml.parsers.LengthParser;
+import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.CONTEXT_FILL;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.CONTEXT_STROKE;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.FILL;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.FILL_OPACITY;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.FONT_FAMILY;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.FONT_SIZE;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.NONE;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.OPACITY;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.STROKE;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.STROKE_DASHOFFSET;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.STROKE_WIDTH;
+
+/**
+ * The properties declared by the style attribute which apply to a Node. The style attribute is parsed only once into
+ * a list of property declarations, the names of the known properties being shared with the attribute names, and a Node which does not declare a style attribute shares the computed style of its
+ * parent Node. The computed styles of the Nodes declaring the same style attribute in a document are also shared.
+ * <p>
+ * The values which do not depend on the context where the style is applied are also parsed once: the colors of the
+ * fill and stroke, the numbers without unit of the stroke width and dash offset, the opacities and the font size,
+ * which are scaled by the viewport when the style is applied, and the font family. The paints which refer to a gradient
+ * or to the context element, and the other properties, are parsed when the style is applied.</p>
+ * <p>
+ * The declarations of a tspan element are merged with the computed style of its parent element, the declarations of
+ * the tspan taking precedence.</p>
+ * <p>
+ * Instances of this class are immutable.</p>
+ *
+ * @since 1.6
+ */
+public final class ComputedStyle {
+   /**
+    * The empty computed style.
+    */
+   public static final ComputedStyle EMPTY = new ComputedStyle(new String[0], new String[0], new Object[0]);
+   private final String[] names;
+   private final String[] values;
+   private final Object[] parsedValues;
+
+   private ComputedStyle(String[] names, String[] values, Object[] parsedValues) {
+      this.names = names;
+      this.values = values;
+      this.parsedValues = parsedValues;
+   }
+
+   /**
+    * Parse the value of a style attribute. The declarations are separated by semicolons, and the declarations without a
+    * value are ignored.
+    *
+    * @param style the style attribute value
+    * @return the computed style
+    */
+   public static ComputedStyle parse(String style) {
+      int capacity = 1;
+      for (int i = 0; i < style.length(); i++) {
+         if (style.charAt(i) == ';') {
+            capacity++;
+         }
+      }
+      String[] names = new String[capacity];
+      String[] values = new String[capacity];
+      Object[] parsedValues = new Object[capacity];
+      int count = 0;
+      int start = 0;
+      int length = style.length();
+      while (start < length) {
+         int end = style.indexOf(';', start);
+         if (end == -1) {
+            end = length;
+         }
+         int colon = style.indexOf(':', start);
+         if (colon != -1 && colon < end) {
+            String name = style.substring(start, colon).trim();
+            String value = style.substring(colon + 1, end).trim();
+            if (!name.isEmpty() && !value.isEmpty()) {
+               int id = AttributeNames.getId(name);
+               names[count] = id == AttributeNames.UNKNOWN ? name : AttributeNames.getName(id);
+               values[count] = value;
+               parsedValues[count] = parseValue(names[count], value);
+               count++;
+            }
+         }
+         start = end + 1;
+      }
+      if (count == 0) {
+         return EMPTY;
+      } else if (count < capacity) {
+         return new ComputedStyle(Arrays.copyOf(names, count), Arrays.copyOf(values, count), Arrays.copyOf(parsedValues, count));
+      } else {
+         return new ComputedStyle(names, values, parsedValues);
+      }
+   }
+
+   /**
+    * Parse the value of a declaration which does not depend on the context where the style is applied. Return null if
+    * the value must be parsed when the style is applied, including if it is not valid, so that the error is reported
+    * at this time.
+    */
+   private static Object parseValue(String name, String value) {
+      switch (name) {
+         case FILL:
+         case STROKE:
+            if (value.equals(NONE) || value.equals(CONTEXT_FILL) || value.equals(CONTEXT_STROKE) || value.startsWith("url(")) {
+               return null;
+            }
+            try {
+               return Color.web(value);
+            } catch (IllegalArgumentException ex) {
+               return null;
+            }
+         case STROKE_WIDTH:
+         case STROKE_DASHOFFSET:
+         case OPACITY:
+         case FILL_OPACITY:
+            return LengthParser.parseNumber(value);
+         case FONT_SIZE:
+            try {
+               return ParserUtils.parseFontSize(value);
+            } catch (NumberFormatException ex) {
+               return null;
+            }
+         case FONT_FAMILY:
+            return value.replace("'", "");
+         default:
+            return null;
+      }
+   }
+
+   /**
+    * Return the computed style resulting of the merge of this style with the declarations of another style. The
+    * declarations of the other style take precedence.
+    *
+    * @param style the other style
+    * @return the merged style
+    */
+   public ComputedStyle merge(ComputedStyle style) {
+      if (style.names.length == 0) {
+         return this;
+      } else if (names.length == 0) {
+         return style;
+      }
+      int capacity = names.length + style.names.length;
+      String[] mergedNames = new String[capacity];
+      String[] mergedValues = new String[capacity];
+      Object[] mergedParsedValues = new Object[capacity];
+      int count = 0;
+      for (int i = 0; i < names.length; i++) {
+         if (style.indexOf(names[i]) == -1) {
+            mergedNames[count] = names[i];
+            mergedValues[count] = values[i];
+            mergedParsedValues[count] = parsedValues[i];
+            count++;
+         }
+      }
+      System.arraycopy(style.names, 0, mergedNames, count, style.names.length);
+      System.arraycopy(style.values, 0, mergedValues, count, style.names.length);
+      System.arraycopy(style.parsedValues, 0, mergedParsedValues, count, style.names.length);
+      count += style.names.length;
+      if (count < capacity) {
+         return new ComputedStyle(Arrays.copyOf(mergedNames, count), Arrays.copyOf(mergedValues, count),
+                 Arrays.copyOf(mergedParsedValues, count));
+      } else {
+         return new ComputedStyle(mergedNames, mergedValues, mergedParsedValues);
+      }
+   }
+
+   /**
+    * Return true if there is no declaration in this style.
+    *
+    * @return true if there is no declaration in this style
+    */
+   public boolean isEmpty() {
+      return names.length == 0;
+   }
+
+   /**
+    * Return the number of declarations in this style. Note that a property may be declared several times.
+    *
+    * @return the number of declarations
+    */
+   public int size() {
+      return names.length;
+   }
+
+   /**
+    * Return the name of the property of a declaration.
+    *
+    * @param index the index of the declaration
+    * @return the property name
+    */
+   public String getName(int index) {
+      return names[index];
+   }
+
+   /**
+    * Return the value of a declaration.
+    *
+    * @param index the index of the declaration
+    * @return the value
+    */
+   public String getValue(int index) {
+      return values[index];
+   }
+
+   /**
+    * Return the value of a declaration which has been parsed with the style. It is:
+    * <ul>
+    * <li>a Color for a fill or stroke color</li>
+    * <li>a Double for a stroke width or a stroke dash offset without unit, which must still be scaled by the viewport</li>
+    * <li>a Double for an opacity or fill opacity which is not a percentage</li>
+    * <li>a Double for a font size, which must still be scaled by the viewport</li>
+    * <li>the String without quotes for a font family</li>
+    * </ul>
+    * Return null if the value of the declaration must be parsed when the style is applied.
+    *
+    * @param index the index of the declaration
+    * @return the parsed value, or null
+    */
+   public Object getParsedValue(int index) {
+      return parsedValues[index];
+   }
+
+   /**
+    * Return true if a property is declared in this style.
+    *
+    * @param name the property name
+    * @return true if the property is declared
+    */
+   public boolean hasProperty(String name) {
+      return indexOf(name) != -1;
+   }
+
+   /**
+    * Return the value of a property. If the property is declared several times, the last declaration is used.
+    *
+    * @param name the property name
+    * @return the value, or null if the property is not declared
+    */
+   public String getValue(String name) {
+      int index = indexOf(name);
+      return index == -1 ? null : values[index];
+   }
+
+   private int indexOf(String name) {
+      for (int i = names.length - 1; i >= 0; i--) {
+         if (names[i].equals(name)) {
+            return i;
+         }
+      }
+      return -1;
+   }
+
+   /**
+    * Return the declarations of this style as a map of property names to values.
+    *
+    * @return the map
+    */
+   public Map<String, String> toMap() {
+      Map<String, String> map = new HashMap<>();
+      for (int i = 0; i < names.length; i++) {
+         map.put(names[i], values[i]);
+      }
+      return map;
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder buf = new StringBuilder();
+      for (int i = 0; i < names.length; i++) {
+         buf.append(names[i]).append(':').append(values[i]).append(';');
+      }
+      return buf.toString();
+   }
+}
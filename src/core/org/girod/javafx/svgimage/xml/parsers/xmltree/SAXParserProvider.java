@@ -0,0 +1,129 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+
+/**
+ * Provides the SAX parsers used to parse the SVG content. Creating a SAXParserFactory and a SAXParser for each document is costly
+ * (the factory lookup scans the classpath and the parser allocates its internal buffers and symbol tables), so the parsers are
+ * created once per thread and reset between two documents.
+ * <p>
+ * Two configurations are available:</p>
+ * <ul>
+ * <li>The default configuration, which does not load the external DTDs</li>
+ * <li>The trusted configuration, which additionally disables the namespaces processing, the external entities resolution and the
+ * secure processing limits (such as the entity expansion accounting). It must only be used for inputs which are known to be safe</li>
+ * </ul>
+ * <p>
+ * A parser returned by {@link #getParser(boolean)} must be used on the calling thread only, and must be given back with
+ * {@link #release(SAXParser)} after the parsing, so that it does not keep a reference to the handler of the last parsed document.</p>
+ *
+ * @since 1.6
+ */
+public class SAXParserProvider {
+   private static final ThreadLocal<SAXParser> PARSER = new ThreadLocal<>();
+   private static final ThreadLocal<SAXParser> TRUSTED_PARSER = new ThreadLocal<>();
+
+   private SAXParserProvider() {
+   }
+
+   /**
+    * Return the parser to use on the current thread.
+    *
+    * @param trusted true if the input is trusted
+    * @return the parser
+    * @throws ParserConfigurationException if the parser could not be created
+    * @throws SAXException if a feature of the parser could not be set
+    */
+   public static SAXParser getParser(boolean trusted) throws ParserConfigurationException, SAXException {
+      ThreadLocal<SAXParser> local = trusted ? TRUSTED_PARSER : PARSER;
+      SAXParser parser = local.get();
+      if (parser == null) {
+         parser = createFactory(trusted).newSAXParser();
+         local.set(parser);
+      }
+      return parser;
+   }
+
+   /**
+    * Reset a parser after the parsing of a document. The parser is reset to the configuration it had when it was created.
+    *
+    * @param parser the parser
+    */
+   public static void release(SAXParser parser) {
+      parser.reset();
+   }
+
+   /**
+    * Create a new SAXParserFactory. This method does not use the per-thread parsers, and is only useful if the parser must be
+    * configured differently by the caller.
+    *
+    * @param trusted true if the input is trusted
+    * @return the factory
+    * @throws ParserConfigurationException if a feature of the factory could not be set
+    * @throws SAXException if a feature of the factory could not be set
+    */
+   public static SAXParserFactory createFactory(boolean trusted) throws ParserConfigurationException, SAXException {
+      SAXParserFactory saxfactory = SAXParserFactory.newInstance();
+      // see https://stackoverflow.com/questions/10257576/how-to-ignore-inline-dtd-when-parsing-xml-file-in-java
+      saxfactory.setFeature("http://xml.org/sax/features/resolve-dtd-uris", false);
+      saxfactory.setFeature("http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
+      saxfactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+      if (trusted) {
+         saxfactory.setNamespaceAware(false);
+         saxfactory.setValidating(false);
+         setOptionalFeature(saxfactory, "http://xml.org/sax/features/namespaces", false);
+         setOptionalFeature(saxfactory, "http://xml.org/sax/features/external-general-entities", false);
+         setOptionalFeature(saxfactory, "http://xml.org/sax/features/external-parameter-entities", false);
+         setOptionalFeature(saxfactory, XMLConstants.FEATURE_SECURE_PROCESSING, false);
+      }
+      return saxfactory;
+   }
+
+   /**
+    * Set a feature which is only used as an optimization, and which may not be supported by all the parsers.
+    */
+   private static void setOptionalFeature(SAXParserFactory saxfactory, String feature, boolean value) throws ParserConfigurationException {
+      try {
+         saxfactory.setFeature(feature, value);
+      } catch (SAXNotRecognizedException | SAXNotSupportedException ex) {
+      }
+   }
+}
@@ -0,0 +1,223 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * An {@link XMLTreeReader} using a StAX pull parser.
+ * <p>
+ * As the reader pulls the content, it can skip the elements which are not used for the rendering of the SVG content without
+ * notifying the handler, so that no node is created for these elements and their children. The skipped elements are the
+ * <code>metadata</code>, <code>title</code> and <code>desc</code> elements, and the elements of the <code>sodipodi</code>
+ * and <code>inkscape</code> namespaces.</p>
+ * <p>
+ * The reader can also stop after the root element, which is useful if only the size of the SVG content is needed.</p>
+ * <p>
+ * The external DTDs and entities are never loaded, the content is always parsed with the namespaces processing, whether or not
+ * the content is trusted.</p>
+ *
+ * @since 1.6
+ */
+public class StAXTreeReader implements XMLTreeReader {
+   private static final String SODIPODI = "sodipodi";
+   private static final String INKSCAPE = "inkscape";
+   private static final String METADATA = "metadata";
+   private static final String TITLE = "title";
+   private static final String DESC = "desc";
+   private static final String XMLNS = "xmlns";
+   private static final String XMLNS_PREFIX = "xmlns:";
+   private static final ThreadLocal<XMLInputFactory> FACTORY = new ThreadLocal<>();
+   private final boolean skipUnused;
+   private final boolean rootOnly;
+
+   /**
+    * Constructor. The reader skips the elements which are not used for the rendering.
+    */
+   public StAXTreeReader() {
+      this(true, false);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param skipUnused true if the elements which are not used for the rendering are skipped
+    * @param rootOnly true if only the root element is read
+    */
+   public StAXTreeReader(boolean skipUnused, boolean rootOnly) {
+      this.skipUnused = skipUnused;
+      this.rootOnly = rootOnly;
+   }
+
+   /**
+    * Return true if the elements which are not used for the rendering are skipped.
+    *
+    * @return true if the elements which are not used for the rendering are skipped
+    */
+   public boolean isSkippingUnused() {
+      return skipUnused;
+   }
+
+   @Override
+   public boolean isReadingRootOnly() {
+      return rootOnly;
+   }
+
+   private static XMLInputFactory getFactory() {
+      XMLInputFactory factory = FACTORY.get();
+      if (factory == null) {
+         factory = XMLInputFactory.newInstance();
+         factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+         factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+         factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);
+         factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+         // the internal DTD subset is still processed for the entities it declares, but the external DTDs are never loaded
+         factory.setXMLResolver((publicID, systemID, baseURI, namespace) -> new ByteArrayInputStream(new byte[0]));
+         FACTORY.set(factory);
+      }
+      return factory;
+   }
+
+   @Override
+   public void read(InputSource source, XMLTreeHandler handler, boolean trusted) throws IOException, SAXException {
+      XMLStreamReader reader = null;
+      try {
+         XMLInputFactory factory = getFactory();
+         if (source.getCharacterStream() != null) {
+            reader = factory.createXMLStreamReader(source.getCharacterStream());
+         } else {
+            reader = factory.createXMLStreamReader(source.getByteStream());
+         }
+         read(reader, handler);
+      } catch (XMLStreamException ex) {
+         if (ex.getNestedException() instanceof IOException) {
+            throw (IOException) ex.getNestedException();
+         }
+         throw new SAXException(ex.getMessage(), ex);
+      } finally {
+         if (reader != null) {
+            try {
+               reader.close();
+            } catch (XMLStreamException ex) {
+            }
+         }
+      }
+   }
+
+   private void read(XMLStreamReader reader, XMLTreeHandler handler) throws XMLStreamException, SAXException {
+      AttributesImpl attributes = new AttributesImpl();
+      int depth = 0;
+      while (reader.hasNext()) {
+         switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+               if (skipUnused && isUnused(reader)) {
+                  skipElement(reader);
+                  break;
+               }
+               attributes.clear();
+               // the namespace declarations are reported as attributes, as the SAX parser does
+               int count = reader.getNamespaceCount();
+               for (int i = 0; i < count; i++) {
+                  String prefix = reader.getNamespacePrefix(i);
+                  String qname = prefix == null || prefix.isEmpty() ? XMLNS : XMLNS_PREFIX + prefix;
+                  attributes.addAttribute("", qname, qname, "CDATA", reader.getNamespaceURI(i));
+               }
+               count = reader.getAttributeCount();
+               for (int i = 0; i < count; i++) {
+                  String qname = getQName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+                  attributes.addAttribute("", reader.getAttributeLocalName(i), qname, "CDATA", reader.getAttributeValue(i));
+               }
+               handler.startElement("", reader.getLocalName(), getQName(reader.getPrefix(), reader.getLocalName()), attributes);
+               if (rootOnly) {
+                  return;
+               }
+               depth++;
+               break;
+            case XMLStreamConstants.END_ELEMENT:
+               handler.endElement("", reader.getLocalName(), getQName(reader.getPrefix(), reader.getLocalName()));
+               depth--;
+               break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+               if (depth > 0) {
+                  handler.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+               }
+               break;
+            case XMLStreamConstants.PROCESSING_INSTRUCTION:
+               handler.processingInstruction(reader.getPITarget(), reader.getPIData());
+               break;
+         }
+      }
+   }
+
+   private static String getQName(String prefix, String localName) {
+      if (prefix == null || prefix.isEmpty()) {
+         return localName;
+      } else {
+         return prefix + ":" + localName;
+      }
+   }
+
+   private static boolean isUnused(XMLStreamReader reader) {
+      String prefix = reader.getPrefix();
+      if (prefix != null && !prefix.isEmpty()) {
+         return prefix.equals(SODIPODI) || prefix.equals(INKSCAPE);
+      }
+      String name = reader.getLocalName();
+      return name.equals(METADATA) || name.equals(TITLE) || name.equals(DESC);
+   }
+
+   /**
+    * Skip the current element and all its children.
+    */
+   private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+      int depth = 1;
+      while (depth > 0) {
+         int event = reader.next();
+         if (event == XMLStreamConstants.START_ELEMENT) {
+            depth++;
+         } else if (event == XMLStreamConstants.END_ELEMENT) {
+            depth--;
+         }
+      }
+   }
+}
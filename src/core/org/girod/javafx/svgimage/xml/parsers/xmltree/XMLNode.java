@@ -33,7 +33,8 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
 package org.girod.javafx.svgimage.xml.parsers.xmltree;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,18 +42,24 @@ import java.util.TreeMap;
 import javafx.geometry.Bounds;
 import org.girod.javafx.svgimage.Viewport;
 import org.girod.javafx.svgimage.xml.parsers.LengthParser;
+import org.girod.javafx.svgimage.xml.parsers.PathGeometry;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.TSPAN;
 
 /**
- * An XML Node in an XML File.
+ * An XML Node in an XML File. The attributes of the Node are stored as parallel arrays of attribute name ids and
+ * values. The presentation attributes which are inherited from the parent nodes are not copied, they are looked up
+ * through the chain of parent nodes.
  *
- * @version 1.3
+ * @version 1.6
  */
 public class XMLNode implements ElementNode {
+   private static final int[] NO_IDS = new int[0];
+   private static final String[] NO_VALUES = new String[0];
    /**
     * The node name.
     */
    protected String name = null;
-   
+
    /**
     * The node parent.
     */
@@ -66,13 +73,40 @@ public class XMLNode implements ElementNode {
     */
    protected final List<XMLNode> children = new ArrayList<>();
    /**
-    * All the children nodes.
+    * All the children nodes, only created if the Node has text children.
+    */
+   private List<ElementNode> allChildren = null;
+   /**
+    * The ids of the attributes declared on this Node.
+    */
+   private int[] attrIds = NO_IDS;
+   /**
+    * The names of the attributes declared on this Node which are not in the table of attribute names, only created if the
+    * Node has such attributes.
+    */
+   private String[] attrNames = null;
+   /**
+    * The values of the attributes declared on this Node.
     */
-   private final List<ElementNode> allChildren = new ArrayList<>();   
+   private String[] attrValues = NO_VALUES;
    /**
-    * The attributes.
+    * The pre-parsed values of the attributes declared on this Node, only created if the Node has been decoded from a
+    * compiled document. A value is a Double for a number without unit, or the unscaled {@link PathGeometry} for a path data.
     */
-   protected final Map<String, String> attributes = new TreeMap<>();
+   private Object[] attrParsed = null;
+   /**
+    * The number of attributes declared on this Node.
+    */
+   private int attrCount = 0;
+   /**
+    * True if the presentation attributes of the parent Node are inherited.
+    */
+   private final boolean inherits;
+   /**
+    * The computed style, resolved the first time it is used. The computed style is immutable, so several threads may at
+    * worst compute it concurrently.
+    */
+   private ComputedStyle computedStyle = null;
 
    /**
     * The CDATA content.
@@ -91,10 +125,12 @@ public class XMLNode implements ElementNode {
       } else {
          this.name = nodeName;
       }
+      this.inherits = false;
    }
 
    /**
-    * Create a Node.
+    * Create a Node. The fill, stroke, stroke-width, style, class and font attributes of the parent are inherited by
+    * this Node if they are not declared on it. The class attribute is not inherited by tspan elements.
     *
     * @param parent the Node parent
     * @param nodeName the Node name
@@ -107,30 +143,7 @@ public class XMLNode implements ElementNode {
          this.name = nodeName;
       }
       this.nodeParent = parent;
-      constructDefaultAttributes();
-   }
-
-   private void constructDefaultAttributes() {
-      if (nodeParent == null) {
-         return;
-      }
-      Iterator<String> it = nodeParent.getAttributes().keySet().iterator();
-      while (it.hasNext()) {
-         String key = it.next();
-         switch (key) {
-            case "fill":
-            case "stroke":
-            case "font-size":
-            case "font-family":
-            case "font-weight":
-            case "font-style":
-            case "stroke-width":
-            case "style":
-               String value = nodeParent.getAttributeValue(key);
-               attributes.put(key, value);
-               break;
-         }
-      }
+      this.inherits = true;
    }
 
    /**
@@ -178,6 +191,9 @@ public class XMLNode implements ElementNode {
     * @return the ordered list of all children of this Node
     */
    public List<ElementNode> getAllChildren() {
+      if (allChildren == null) {
+         return Collections.<ElementNode>unmodifiableList(children);
+      }
       return allChildren;
    }   
 
@@ -213,10 +229,11 @@ public class XMLNode implements ElementNode {
     * @return the first element node child of the Node
     */
    public ElementNode getFirstChildElement() {
-      if (allChildren.isEmpty()) {
+      List<ElementNode> theChildren = getAllChildren();
+      if (theChildren.isEmpty()) {
          return null;
       } else {
-         return allChildren.get(0);
+         return theChildren.get(0);
       }
    }   
    
@@ -226,10 +243,11 @@ public class XMLNode implements ElementNode {
     * @return the last element node child of the Node
     */
    public ElementNode getLastChildElement() {
-      if (allChildren.isEmpty()) {
+      List<ElementNode> theChildren = getAllChildren();
+      if (theChildren.isEmpty()) {
          return null;
       } else {
-         return allChildren.get(allChildren.size() - 1);
+         return theChildren.get(theChildren.size() - 1);
       }
    }   
 
@@ -289,8 +307,14 @@ public class XMLNode implements ElementNode {
          XMLNode node = (XMLNode) child;
          node.setParent(this, children.size());
          children.add(node);
-         allChildren.add(child);
+         if (allChildren != null) {
+            allChildren.add(child);
+         }
       } else if (child instanceof XMLTextNode) {
+         if (allChildren == null) {
+            allChildren = new ArrayList<>(children.size() + 2);
+            allChildren.addAll(children);
+         }
          allChildren.add(child);
       }
    }
@@ -319,26 +343,183 @@ public class XMLNode implements ElementNode {
     * @return the number of attributes of the Node
     */
    public int countAttributes() {
-      return attributes.size();
+      int count = attrCount;
+      XMLNode theNode = this;
+      // true if a tspan element is on the inheritance chain, the class attribute is not inherited past it
+      boolean isSpan = false;
+      while (theNode.inherits && theNode.nodeParent != null) {
+         isSpan = isSpan || theNode.name.equals(TSPAN);
+         XMLNode parent = theNode.nodeParent;
+         for (int i = 0; i < parent.attrCount; i++) {
+            int id = parent.attrIds[i];
+            if (AttributeNames.isInherited(id, isSpan) && !isDeclaredBelow(id, parent)) {
+               count++;
+            }
+         }
+         theNode = parent;
+      }
+      return count;
+   }
+
+   /**
+    * Return true if an attribute is declared on this Node or on one of its parents below an ancestor.
+    */
+   private boolean isDeclaredBelow(int id, XMLNode ancestor) {
+      XMLNode theNode = this;
+      while (theNode != ancestor) {
+         if (theNode.indexOf(id) != -1) {
+            return true;
+         }
+         theNode = theNode.nodeParent;
+      }
+      return false;
    }
 
    /**
-    * Return the Map of attributes for this node.
+    * Return the Map of attributes for this node, including the attributes inherited from the parent nodes. The Map
+    * is a sorted read-only snapshot of the attributes, the attributes must be modified with the addAttribute methods.
     *
     * @return the Map of attributes for this node
     */
    public Map<String, String> getAttributes() {
-      return attributes;
+      Map<String, String> map = new TreeMap<>();
+      XMLNode theNode = this;
+      // true if a tspan element is on the inheritance chain, the class attribute is not inherited past it
+      boolean isSpan = false;
+      boolean inherited = false;
+      while (theNode != null) {
+         for (int i = 0; i < theNode.attrCount; i++) {
+            int id = theNode.attrIds[i];
+            if (!inherited || AttributeNames.isInherited(id, isSpan)) {
+               map.putIfAbsent(theNode.getDeclaredAttributeName(i), theNode.attrValues[i]);
+            }
+         }
+         if (!theNode.inherits) {
+            break;
+         }
+         isSpan = isSpan || theNode.name.equals(TSPAN);
+         theNode = theNode.nodeParent;
+         inherited = true;
+      }
+      return Collections.unmodifiableMap(map);
    }
 
    /**
-    * Return the value of an attribute of a specified name.
+    * Return the value of an attribute of a specified name. If the attribute is not declared on the node, the value
+    * of an inherited attribute is looked up on the parent nodes.
     *
     * @param attrName the attribute name
     * @return the value of the attribute
     */
    public String getAttributeValue(String attrName) {
-      return attributes.get(attrName);
+      return (String) lookupAttribute(attrName, false);
+   }
+
+   /**
+    * Return the unscaled geometry of a path data attribute declared on this Node, if the Node has been decoded from a
+    * compiled document where the path data has been parsed.
+    *
+    * @param attrName the attribute name
+    * @return the geometry, or null if the attribute has not been parsed
+    * @since 1.6
+    */
+   public PathGeometry getPathGeometry(String attrName) {
+      if (attrParsed == null) {
+         return null;
+      }
+      int id = AttributeNames.getId(attrName);
+      int index = id == AttributeNames.UNKNOWN ? indexOfName(attrName) : indexOf(id);
+      if (index != -1 && attrParsed[index] instanceof PathGeometry) {
+         return (PathGeometry) attrParsed[index];
+      }
+      return null;
+   }
+
+   /**
+    * Look up the value of an attribute on this Node and the parent nodes.
+    *
+    * @param attrName the attribute name
+    * @param parsed true if the pre-parsed value must be returned rather than the string value if there is one
+    * @return the value
+    */
+   private Object lookupAttribute(String attrName, boolean parsed) {
+      int id = AttributeNames.getId(attrName);
+      if (id == AttributeNames.UNKNOWN) {
+         // the attributes which are not in the table of attribute names are never inherited
+         int index = indexOfName(attrName);
+         return index == -1 ? null : getDeclaredValue(index, parsed);
+      }
+      XMLNode theNode = this;
+      while (true) {
+         int index = theNode.indexOf(id);
+         if (index != -1) {
+            return theNode.getDeclaredValue(index, parsed);
+         } else if (!theNode.inherits || theNode.nodeParent == null || !AttributeNames.isInherited(id, theNode.name.equals(TSPAN))) {
+            return null;
+         }
+         theNode = theNode.nodeParent;
+      }
+   }
+
+   /**
+    * Return the computed style of this Node. The computed style is the parsed style attribute declared on this Node, or the
+    * computed style of the parent Node if this Node does not declare a style attribute. For a tspan element, the declarations
+    * of its style attribute are merged with the computed style of the parent Node.
+    *
+    * @return the computed style
+    */
+   public ComputedStyle getComputedStyle() {
+      ComputedStyle style = computedStyle;
+      if (style == null) {
+         style = computeStyle();
+         computedStyle = style;
+      }
+      return style;
+   }
+
+   private ComputedStyle computeStyle() {
+      int index = indexOf(AttributeNames.STYLE);
+      boolean inheritsStyle = inherits && nodeParent != null;
+      if (index == -1) {
+         return inheritsStyle ? nodeParent.getComputedStyle() : ComputedStyle.EMPTY;
+      }
+      String value = attrValues[index];
+      XMLNode root = this;
+      while (root.nodeParent != null) {
+         root = root.nodeParent;
+      }
+      ComputedStyle style = root instanceof XMLRoot ? ((XMLRoot) root).getSharedStyle(value) : ComputedStyle.parse(value);
+      if (inheritsStyle && name.equals(TSPAN)) {
+         style = nodeParent.getComputedStyle().merge(style);
+      }
+      return style;
+   }
+
+   private Object getDeclaredValue(int index, boolean parsed) {
+      if (parsed && attrParsed != null && attrParsed[index] != null) {
+         return attrParsed[index];
+      }
+      return attrValues[index];
+   }
+
+   private int indexOf(int id) {
+      for (int i = 0; i < attrCount; i++) {
+         if (attrIds[i] == id) {
+            return i;
+         }
+      }
+      return -1;
+   }
+
+   private int indexOfName(String attrName) {
+      if (attrNames != null) {
+         for (int i = 0; i < attrCount; i++) {
+            if (attrIds[i] == AttributeNames.UNKNOWN && attrNames[i].equals(attrName)) {
+               return i;
+            }
+         }
+      }
+      return -1;
    }
 
    /**
@@ -359,8 +540,8 @@ public class XMLNode implements ElementNode {
     * @return the value of the attribute
     */
    public boolean getAttributeValueAsBoolean(String attrName, boolean defaultValue) {
-      if (attributes.containsKey(attrName)) {
-         String attrvalue = attributes.get(attrName);
+      String attrvalue = getAttributeValue(attrName);
+      if (attrvalue != null) {
          try {
             return attrvalue.equals("true");
          } catch (NumberFormatException e) {
@@ -389,8 +570,8 @@ public class XMLNode implements ElementNode {
     * @return the value of the attribute
     */
    public float getAttributeValueAsFloat(String attrName, float defaultValue) {
-      if (attributes.containsKey(attrName)) {
-         String attrvalue = attributes.get(attrName);
+      String attrvalue = getAttributeValue(attrName);
+      if (attrvalue != null) {
          attrvalue = attrvalue.replace('−', '-');
          try {
             float f = Float.parseFloat(attrvalue);
@@ -506,9 +687,11 @@ public class XMLNode implements ElementNode {
     * @return the value of the attribute
     */
    public double getLineWidthValue(String attrName, Viewport viewport, double defaultValue) {
-      if (attributes.containsKey(attrName)) {
-         String attrvalue = attributes.get(attrName);
-         attrvalue = attrvalue.replace('−', '-');
+      Object value = lookupAttribute(attrName, true);
+      if (value instanceof Double) {
+         return LengthParser.toLineWidth((Double) value, viewport);
+      } else if (value != null) {
+         String attrvalue = ((String) value).replace('−', '-');
          try {
             double d = LengthParser.parseLineWidth(attrvalue, viewport);
             return d;
@@ -531,9 +714,11 @@ public class XMLNode implements ElementNode {
     * @return the value of the attribute
     */
    public double getLengthValue(String attrName, boolean isWidth, Bounds bounds, Viewport viewport, double defaultValue) {
-      if (attributes.containsKey(attrName)) {
-         String attrvalue = attributes.get(attrName);
-         attrvalue = attrvalue.replace('−', '-');
+      Object value = lookupAttribute(attrName, true);
+      if (value instanceof Double) {
+         return LengthParser.toLength((Double) value, isWidth, bounds, viewport);
+      } else if (value != null) {
+         String attrvalue = ((String) value).replace('−', '-');
          try {
             double d = LengthParser.parseLength(attrvalue, isWidth, bounds, viewport);
             return d;
@@ -556,9 +741,11 @@ public class XMLNode implements ElementNode {
     * @return the value of the attribute
     */
    public double getPositionValue(String attrName, boolean isWidth, Bounds bounds, Viewport viewport, double defaultValue) {
-      if (attributes.containsKey(attrName)) {
-         String attrvalue = attributes.get(attrName);
-         attrvalue = attrvalue.replace('−', '-');
+      Object value = lookupAttribute(attrName, true);
+      if (value instanceof Double) {
+         return LengthParser.toPosition((Double) value, isWidth, bounds, viewport);
+      } else if (value != null) {
+         String attrvalue = ((String) value).replace('−', '-');
          try {
             double d = LengthParser.parsePosition(attrvalue, isWidth, bounds, viewport);
             return d;
@@ -588,8 +775,8 @@ public class XMLNode implements ElementNode {
     * @return the value of the attribute
     */
    public int getAttributeValueAsInt(String attrName, int defaultValue) {
-      if (attributes.containsKey(attrName)) {
-         String attrvalue = attributes.get(attrName);
+      String attrvalue = getAttributeValue(attrName);
+      if (attrvalue != null) {
          try {
             int i = Integer.parseInt(attrvalue);
             return i;
@@ -608,7 +795,7 @@ public class XMLNode implements ElementNode {
     * @param value the attribute value
     */
    public void addAttribute(String attrName, int value) {
-      attributes.put(attrName, Integer.toString(value));
+      putAttribute(attrName, Integer.toString(value));
    }
 
    /**
@@ -618,7 +805,7 @@ public class XMLNode implements ElementNode {
     * @param value the attribute value
     */
    public void addAttribute(String attrName, String value) {
-      attributes.put(attrName, value);
+      putAttribute(attrName, value);
    }
 
    /**
@@ -628,7 +815,7 @@ public class XMLNode implements ElementNode {
     * @param value the attribute value
     */
    public void addAttribute(String attrName, float value) {
-      attributes.put(attrName, format(value));
+      putAttribute(attrName, format(value));
    }
 
    /**
@@ -638,7 +825,111 @@ public class XMLNode implements ElementNode {
     * @param value the attribute value
     */
    public void addAttribute(String attrName, boolean value) {
-      attributes.put(attrName, value ? "true" : "false");
+      putAttribute(attrName, value ? "true" : "false");
+   }
+
+   private void putAttribute(String attrName, String value) {
+      int id = AttributeNames.getId(attrName);
+      if (id == AttributeNames.STYLE) {
+         computedStyle = null;
+      }
+      int index = id == AttributeNames.UNKNOWN ? indexOfName(attrName) : indexOf(id);
+      if (index != -1) {
+         attrValues[index] = value;
+         if (attrParsed != null) {
+            attrParsed[index] = null;
+         }
+         return;
+      }
+      if (attrCount == attrIds.length) {
+         int capacity = attrCount == 0 ? 4 : attrCount * 2;
+         attrIds = Arrays.copyOf(attrIds, capacity);
+         attrValues = Arrays.copyOf(attrValues, capacity);
+         if (attrNames != null) {
+            attrNames = Arrays.copyOf(attrNames, capacity);
+         }
+         if (attrParsed != null) {
+            attrParsed = Arrays.copyOf(attrParsed, capacity);
+         }
+      }
+      if (id == AttributeNames.UNKNOWN) {
+         if (attrNames == null) {
+            attrNames = new String[attrIds.length];
+         }
+         attrNames[attrCount] = attrName;
+      }
+      attrIds[attrCount] = id;
+      attrValues[attrCount] = value;
+      attrCount++;
+   }
+
+   /**
+    * Return the number of attributes declared on this Node, without the inherited attributes.
+    *
+    * @return the number of declared attributes
+    */
+   int countDeclaredAttributes() {
+      return attrCount;
+   }
+
+   /**
+    * Return the name of a declared attribute.
+    *
+    * @param index the index of the attribute
+    * @return the name
+    */
+   String getDeclaredAttributeName(int index) {
+      int id = attrIds[index];
+      return id == AttributeNames.UNKNOWN ? attrNames[index] : AttributeNames.getName(id);
+   }
+
+   /**
+    * Return the value of a declared attribute.
+    *
+    * @param index the index of the attribute
+    * @return the value
+    */
+   String getDeclaredAttributeValue(int index) {
+      return attrValues[index];
+   }
+
+   /**
+    * Set the pre-parsed value of a declared attribute.
+    *
+    * @param index the index of the attribute
+    * @param value the pre-parsed value, a Double for a number without unit, or the unscaled {@link PathGeometry} for a
+    * path data
+    */
+   void setParsedValue(int index, Object value) {
+      if (attrParsed == null) {
+         attrParsed = new Object[attrIds.length];
+      }
+      attrParsed[index] = value;
+   }
+
+   /**
+    * Return true if the presentation attributes of the parent Node are inherited.
+    *
+    * @return true if the presentation attributes of the parent Node are inherited
+    */
+   boolean isInheriting() {
+      return inherits;
+   }
+
+   /**
+    * Trim the attributes storage of this Node to the number of declared attributes.
+    */
+   void trimAttributes() {
+      if (attrCount < attrIds.length) {
+         attrIds = Arrays.copyOf(attrIds, attrCount);
+         attrValues = Arrays.copyOf(attrValues, attrCount);
+         if (attrNames != null) {
+            attrNames = Arrays.copyOf(attrNames, attrCount);
+         }
+         if (attrParsed != null) {
+            attrParsed = Arrays.copyOf(attrParsed, attrCount);
+         }
+      }
    }
 
    /**
@@ -685,7 +976,7 @@ public class XMLNode implements ElementNode {
     * @return true if the Node has an attribute of the specified name
     */
    public boolean hasAttribute(String attrName) {
-      return attributes.containsKey(attrName);
+      return getAttributeValue(attrName) != null;
    }
 
    private String format(float f) {
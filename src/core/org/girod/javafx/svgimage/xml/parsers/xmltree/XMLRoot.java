@@ -32,16 +32,17 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
  */
 package org.girod.javafx.svgimage.xml.parsers.xmltree;
 
-import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The root XML Node in an XML File.
  *
- * @version 1.3
+ * @version 1.6
  */
 public class XMLRoot extends XMLNode {
    private String encoding = null;
+   private final ConcurrentHashMap<String, ComputedStyle> styles = new ConcurrentHashMap<>();
 
    /**
     * Create the root Node.
@@ -70,6 +71,25 @@ public class XMLRoot extends XMLNode {
       return encoding;
    }
 
+   /**
+    * Return the parsed style for a style attribute value. The parsed styles are shared by all the Nodes of the document
+    * which declare the same style attribute.
+    *
+    * @param value the style attribute value
+    * @return the parsed style
+    */
+   ComputedStyle getSharedStyle(String value) {
+      ComputedStyle style = styles.get(value);
+      if (style == null) {
+         style = ComputedStyle.parse(value);
+         ComputedStyle previous = styles.putIfAbsent(value, style);
+         if (previous != null) {
+            style = previous;
+         }
+      }
+      return style;
+   }
+
    /**
     * Return true if this node is equal to another Object.
     *
@@ -97,21 +117,9 @@ public class XMLRoot extends XMLNode {
       if (encoding != null && !node.encoding.equals(encoding)) {
          return false;
       }
-      if (node.getAttributes().size() != attributes.size()) {
+      if (!node.getAttributes().equals(getAttributes())) {
          return false;
       }
-      Iterator<String> it = node.getAttributes().keySet().iterator();
-      while (it.hasNext()) {
-         String key = it.next();
-         if (!attributes.containsKey(key)) {
-            return false;
-         }
-         String value = node.getAttributes().get(key);
-         String value2 = attributes.get(key);
-         if (!value.equals(value2)) {
-            return false;
-         }
-      }
       if (node.getChildren().size() != children.size()) {
          return false;
       }
@@ -131,7 +139,7 @@ public class XMLRoot extends XMLNode {
       hash = 59 * hash + Objects.hashCode(this.encoding);
       hash = 59 * hash + Objects.hashCode(this.name);
       hash = 59 * hash + Objects.hashCode(this.children);
-      hash = 59 * hash + Objects.hashCode(this.attributes);
+      hash = 59 * hash + Objects.hashCode(getAttributes());
       return hash;
    }
 }
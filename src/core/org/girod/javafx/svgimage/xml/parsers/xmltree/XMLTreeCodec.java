@@ -0,0 +1,381 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.girod.javafx.svgimage.xml.parsers.LengthParser;
+import org.girod.javafx.svgimage.xml.parsers.PathGeometry;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.D;
+
+/**
+ * Encodes a tree of nodes in a compact binary form, and decodes it without parsing the XML content again.
+ * <p>
+ * All the strings of the tree (the names of the elements and attributes, the values of the attributes and the texts) are
+ * written once in a table at the beginning of the encoded tree, and are referred to by their index in the table. The integers
+ * are written with a variable length encoding. Only the attributes declared on each node are encoded, the inherited attributes
+ * are still looked up through the parent nodes after decoding.</p>
+ * <p>
+ * The attribute values which can be parsed independently of the viewport are also written pre-parsed after the table of
+ * strings: the numbers without unit, and the commands and coordinates of the path data which have no percentage lengths.
+ * These values are not scaled, they are only scaled by the viewport when the nodes are built, so that the path data
+ * does not need to be tokenized again, and the numbers do not need to be parsed again by the {@link LengthParser}.</p>
+ *
+ * @since 1.6
+ */
+public class XMLTreeCodec {
+   private static final int INHERITS = 1;
+   private static final int HAS_CDATA = 2;
+   private static final int ELEMENT = 0;
+   private static final int TEXT = 1;
+   private static final int NUMBER = 0;
+   private static final int PATH = 1;
+   private final Map<String, Integer> indexes = new HashMap<>();
+   private final List<String> strings = new ArrayList<>();
+   /**
+    * The pre-parsed attribute values for encoding, by string value.
+    */
+   private final Map<String, Object> parsedValues = new LinkedHashMap<>();
+   /**
+    * The pre-parsed attribute values for decoding, by index of their string in the table, shifted by one.
+    */
+   private Object[] parsedByIndex = null;
+   private SVGPathParser pathParser = null;
+   private byte[] scratch = null;
+
+   private XMLTreeCodec() {
+   }
+
+   /**
+    * Encode a tree of nodes.
+    *
+    * @param root the root of the tree
+    * @param stream the stream
+    * @throws IOException if the tree could not be written
+    */
+   public static void encode(XMLRoot root, OutputStream stream) throws IOException {
+      XMLTreeCodec codec = new XMLTreeCodec();
+      codec.addString(root.getEncoding());
+      codec.collectStrings(root);
+      codec.writeStrings(stream);
+      codec.writeParsedValues(stream);
+      writeVarInt(stream, codec.indexOf(root.getEncoding()));
+      codec.writeNode(root, stream);
+   }
+
+   /**
+    * Decode a tree of nodes. The buffer position is set after the end of the encoded tree.
+    *
+    * @param buffer the buffer
+    * @return the root of the tree
+    * @throws IOException if the encoded tree is not valid
+    */
+   public static XMLRoot decode(ByteBuffer buffer) throws IOException {
+      XMLTreeCodec codec = new XMLTreeCodec();
+      try {
+         codec.readStrings(buffer);
+         codec.readParsedValues(buffer);
+         String encoding = codec.getString(readVarInt(buffer));
+         XMLRoot root = (XMLRoot) codec.readNode(buffer, null, true);
+         root.setEncoding(encoding);
+         return root;
+      } catch (BufferUnderflowException | IndexOutOfBoundsException | ClassCastException ex) {
+         throw new IOException("Invalid encoded tree", ex);
+      }
+   }
+
+   private void addString(String value) {
+      if (value != null && !indexes.containsKey(value)) {
+         indexes.put(value, strings.size());
+         strings.add(value);
+      }
+   }
+
+   /**
+    * Return the index of a string in the table, shifted by one so that 0 can be used for a null string.
+    */
+   private int indexOf(String value) {
+      return value == null ? 0 : indexes.get(value) + 1;
+   }
+
+   private String getString(int index) {
+      return index == 0 ? null : strings.get(index - 1);
+   }
+
+   private void collectStrings(XMLNode node) {
+      addString(node.getName());
+      addString(node.getCDATA());
+      int count = node.countDeclaredAttributes();
+      for (int i = 0; i < count; i++) {
+         String name = node.getDeclaredAttributeName(i);
+         String value = node.getDeclaredAttributeValue(i);
+         addString(name);
+         addString(value);
+         if (value != null && !parsedValues.containsKey(value)) {
+            Object parsed = name.equals(D) ? parsePath(value) : LengthParser.parseNumber(value);
+            if (parsed != null) {
+               parsedValues.put(value, parsed);
+            }
+         }
+      }
+      for (ElementNode child : node.getAllChildren()) {
+         if (child instanceof XMLNode) {
+            collectStrings((XMLNode) child);
+         } else {
+            addString(child.getText());
+         }
+      }
+   }
+
+   private void writeStrings(OutputStream stream) throws IOException {
+      writeVarInt(stream, strings.size());
+      for (String value : strings) {
+         byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+         writeVarInt(stream, bytes.length);
+         stream.write(bytes);
+      }
+   }
+
+   private void readStrings(ByteBuffer buffer) {
+      int count = readVarInt(buffer);
+      for (int i = 0; i < count; i++) {
+         int length = readVarInt(buffer);
+         if (buffer.hasArray()) {
+            strings.add(new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8));
+            buffer.position(buffer.position() + length);
+         } else {
+            if (scratch == null || scratch.length < length) {
+               scratch = new byte[Math.max(length, 256)];
+            }
+            buffer.get(scratch, 0, length);
+            strings.add(new String(scratch, 0, length, StandardCharsets.UTF_8));
+         }
+      }
+   }
+
+   /**
+    * Parse a path data without scaling it. Return null if the path data has percentage lengths, which depend on the
+    * viewport, or if it is empty or not valid.
+    */
+   private PathGeometry parsePath(String content) {
+      if (content.indexOf('%') != -1) {
+         return null;
+      }
+      if (pathParser == null) {
+         pathParser = new SVGPathParser();
+      }
+      try {
+         pathParser.parse(content.replace('−', '-'), null);
+      } catch (IllegalArgumentException ex) {
+         return null;
+      }
+      PathGeometry parsed = pathParser.getGeometry();
+      if (parsed.isEmpty()) {
+         return null;
+      }
+      PathGeometry geometry = new PathGeometry();
+      for (int i = 0; i < parsed.getOpsCount(); i++) {
+         geometry.addOp(parsed.getOp(i));
+      }
+      for (int i = 0; i < parsed.getCoordsCount(); i++) {
+         geometry.addCoord(parsed.getCoord(i));
+      }
+      return geometry;
+   }
+
+   private void writeParsedValues(OutputStream stream) throws IOException {
+      writeVarInt(stream, parsedValues.size());
+      for (Map.Entry<String, Object> entry : parsedValues.entrySet()) {
+         writeVarInt(stream, indexOf(entry.getKey()));
+         Object value = entry.getValue();
+         if (value instanceof Double) {
+            stream.write(NUMBER);
+            writeDouble(stream, (Double) value);
+         } else {
+            PathGeometry geometry = (PathGeometry) value;
+            stream.write(PATH);
+            int count = geometry.getOpsCount();
+            writeVarInt(stream, count);
+            for (int i = 0; i < count; i++) {
+               stream.write(geometry.getOp(i));
+            }
+            count = geometry.getCoordsCount();
+            writeVarInt(stream, count);
+            for (int i = 0; i < count; i++) {
+               writeDouble(stream, geometry.getCoord(i));
+            }
+         }
+      }
+   }
+
+   private void readParsedValues(ByteBuffer buffer) throws IOException {
+      int count = readVarInt(buffer);
+      if (count == 0) {
+         return;
+      }
+      parsedByIndex = new Object[strings.size() + 1];
+      for (int i = 0; i < count; i++) {
+         int index = readVarInt(buffer);
+         int kind = buffer.get();
+         if (kind == NUMBER) {
+            parsedByIndex[index] = readDouble(buffer);
+         } else if (kind == PATH) {
+            PathGeometry geometry = new PathGeometry();
+            int size = readVarInt(buffer);
+            for (int j = 0; j < size; j++) {
+               geometry.addOp(buffer.get());
+            }
+            size = readVarInt(buffer);
+            for (int j = 0; j < size; j++) {
+               geometry.addCoord(readDouble(buffer));
+            }
+            parsedByIndex[index] = geometry;
+         } else {
+            throw new IOException("Invalid encoded tree");
+         }
+      }
+   }
+
+   private void writeNode(XMLNode node, OutputStream stream) throws IOException {
+      writeVarInt(stream, indexOf(node.getName()));
+      int flags = (node.isInheriting() ? INHERITS : 0) | (node.hasCDATA() ? HAS_CDATA : 0);
+      stream.write(flags);
+      if (node.hasCDATA()) {
+         writeVarInt(stream, indexOf(node.getCDATA()));
+      }
+      int count = node.countDeclaredAttributes();
+      writeVarInt(stream, count);
+      for (int i = 0; i < count; i++) {
+         writeVarInt(stream, indexOf(node.getDeclaredAttributeName(i)));
+         writeVarInt(stream, indexOf(node.getDeclaredAttributeValue(i)));
+      }
+      List<ElementNode> children = node.getAllChildren();
+      writeVarInt(stream, children.size());
+      for (ElementNode child : children) {
+         if (child instanceof XMLNode) {
+            stream.write(ELEMENT);
+            writeNode((XMLNode) child, stream);
+         } else {
+            stream.write(TEXT);
+            writeVarInt(stream, indexOf(child.getText()));
+         }
+      }
+   }
+
+   private XMLNode readNode(ByteBuffer buffer, XMLNode parent, boolean isRoot) throws IOException {
+      String name = getString(readVarInt(buffer));
+      int flags = buffer.get();
+      XMLNode node;
+      if (isRoot) {
+         node = new XMLRoot(name);
+      } else if ((flags & INHERITS) != 0) {
+         node = new XMLNode(parent, name);
+      } else {
+         node = new XMLNode(name);
+      }
+      if ((flags & HAS_CDATA) != 0) {
+         node.setCDATA(getString(readVarInt(buffer)));
+      }
+      int count = readVarInt(buffer);
+      for (int i = 0; i < count; i++) {
+         String attrName = getString(readVarInt(buffer));
+         int valueIndex = readVarInt(buffer);
+         node.addAttribute(attrName, getString(valueIndex));
+         if (parsedByIndex != null && parsedByIndex[valueIndex] != null) {
+            // the path geometries are only used for the path data, and the numbers for the other attributes
+            Object parsed = parsedByIndex[valueIndex];
+            if (attrName.equals(D) == (parsed instanceof PathGeometry)) {
+               node.setParsedValue(i, parsed);
+            }
+         }
+      }
+      node.trimAttributes();
+      count = readVarInt(buffer);
+      for (int i = 0; i < count; i++) {
+         int kind = buffer.get();
+         if (kind == ELEMENT) {
+            node.addChild(readNode(buffer, node, false));
+         } else if (kind == TEXT) {
+            node.addChild(new XMLTextNode(node, getString(readVarInt(buffer))));
+         } else {
+            throw new IOException("Invalid encoded tree");
+         }
+      }
+      return node;
+   }
+
+   private static void writeVarInt(OutputStream stream, int value) throws IOException {
+      while ((value & ~0x7f) != 0) {
+         stream.write((value & 0x7f) | 0x80);
+         value >>>= 7;
+      }
+      stream.write(value);
+   }
+
+   private static void writeDouble(OutputStream stream, double value) throws IOException {
+      long bits = Double.doubleToLongBits(value);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+         stream.write((int) (bits >>> shift));
+      }
+   }
+
+   private static double readDouble(ByteBuffer buffer) {
+      long bits = 0;
+      for (int i = 0; i < 8; i++) {
+         bits = (bits << 8) | (buffer.get() & 0xff);
+      }
+      return Double.longBitsToDouble(bits);
+   }
+
+   private static int readVarInt(ByteBuffer buffer) {
+      int value = 0;
+      int shift = 0;
+      while (true) {
+         int b = buffer.get();
+         value |= (b & 0x7f) << shift;
+         if ((b & 0x80) == 0) {
+            return value;
+         }
+         shift += 7;
+      }
+   }
+}
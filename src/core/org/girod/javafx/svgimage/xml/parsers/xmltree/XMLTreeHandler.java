@@ -33,33 +33,46 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
 package org.girod.javafx.svgimage.xml.parsers.xmltree;
 
 import java.net.URL;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Stack;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.girod.javafx.svgimage.xml.parsers.ParserUtils;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.ext.DefaultHandler2;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.STYLE;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.TEXT;
+import static org.girod.javafx.svgimage.xml.parsers.SVGTags.TSPAN;
 
 /**
  * Parse an XML File and return the associated tree of Nodes.
  *
- * @version 1.5
+ * @version 1.6
  */
 public class XMLTreeHandler extends DefaultHandler2 {
    private static final String STYLESHEET_TARGET = "xml-stylesheet";
    private static final Pattern STYLESHEET_PAT = Pattern.compile("href=\"(?<href>[a-zA-Z_0-9\\.]+)\".*");
-   private static final Pattern TRIM = Pattern.compile("(?<right>\\s+)?\\S.*\\S(?<left>\\s+)?");
+   private static final int MAX_INTERNED_LENGTH = 32;
    private XMLNode node = null;
-   private final Stack<XMLNode> nodes = new Stack<>();
+   private final Deque<XMLNode> nodes = new ArrayDeque<>();
    private XMLRoot root = null;
    private String encoding = null;
-   private StringBuilder buf = null;
+   private char[] text = new char[256];
+   private int textLength = 0;
+   private boolean acceptsText = false;
    private final URL url;
    private final URL parentURL;
    private final List<URL> stylesheets = new ArrayList<>();
+   private BooleanSupplier cancellation = null;
+   private int elementsCount = 0;
+   private long estimatedSize = 0;
+   private final Map<String, String> values = new HashMap<>();
 
    /**
     * Constructor.
@@ -83,6 +96,57 @@ public class XMLTreeHandler extends DefaultHandler2 {
       this.encoding = encoding;
    }
 
+   /**
+    * Set the cancellation condition. The parsing will be stopped with a {@link SAXException} before the next element if the
+    * condition is true.
+    *
+    * @param cancellation the cancellation condition (may be null)
+    * @since 1.6
+    */
+   public void setCancellation(BooleanSupplier cancellation) {
+      this.cancellation = cancellation;
+   }
+
+   /**
+    * Return the number of parsed elements.
+    *
+    * @return the number of parsed elements
+    * @since 1.6
+    */
+   public int getElementsCount() {
+      return elementsCount;
+   }
+
+   /**
+    * Return a rough estimate of the memory size of the parsed tree of nodes, in bytes.
+    *
+    * @return the estimated size
+    * @since 1.6
+    */
+   public long getEstimatedSize() {
+      return estimatedSize;
+   }
+
+   /**
+    * Return the shared instance of an attribute value. Only short values are shared, because long values such as the
+    * path data are rarely repeated in the document.
+    *
+    * @param value the attribute value
+    * @return the shared instance of the value
+    */
+   private String internValue(String value) {
+      if (value.length() > MAX_INTERNED_LENGTH) {
+         estimatedSize += 40 + 2 * value.length();
+         return value;
+      }
+      String interned = values.putIfAbsent(value, value);
+      if (interned == null) {
+         estimatedSize += 40 + 2 * value.length();
+         return value;
+      }
+      return interned;
+   }
+
    /**
     * Return the root node.
     *
@@ -126,59 +190,103 @@ public class XMLTreeHandler extends DefaultHandler2 {
     */
    @Override
    public void startElement(String uri, String localname, String qname, Attributes attr) throws SAXException {
-      if (!nodes.empty() && buf != null) {
-         XMLNode _node = nodes.peek();
-         String cdata = buf.toString();
-         String trimmed = getTrimmedTextContent(cdata);
-         if (!trimmed.isEmpty()) {
-            _node.addChild(new XMLTextNode(_node, trimmed));
-            if (!node.hasCDATA()) {
-               node.setCDATA(trimmed);
-            }
-         }
-         buf = null;
+      if (cancellation != null && cancellation.getAsBoolean()) {
+         throw new SAXException("Parsing cancelled");
+      }
+      if (!nodes.isEmpty()) {
+         addTextContent(nodes.peek());
       }
       parseElement(qname, attr);
    }
 
    @Override
    public void endElement(String uri, String localname, String qname) {
-      if (!nodes.empty()) {
+      if (!nodes.isEmpty()) {
          node = nodes.pop();
-         if (buf != null) {
-            String cdata = buf.toString();
-            String trimmed = getTrimmedTextContent(cdata);
-            if (!trimmed.isEmpty()) {
-               node.addChild(new XMLTextNode(node, trimmed));
-               if (!node.hasCDATA()) {
-                  node.setCDATA(trimmed);
-               }
-            }
-            buf = null;
-         }
+         addTextContent(node);
          node = node.getParent();
+         acceptsText = node != null && acceptsText(node);
       }
    }
 
    @Override
    public void characters(char[] characters, int start, int length) {
-      if (buf != null) {
-         buf.append(characters, start, length);
-      } else {
-         buf = new StringBuilder();
-         buf.append(characters, start, length);
+      if (!acceptsText) {
+         return;
       }
+      if (textLength + length > text.length) {
+         text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+      }
+      System.arraycopy(characters, start, text, textLength, length);
+      textLength += length;
    }
 
-   private String getTrimmedTextContent(String cdata) {
-      String trimmed = cdata.trim();
-      Matcher m = TRIM.matcher(cdata);
-      if (m.matches()) {
-         if (m.group("left") != null) {
-            trimmed = trimmed + " ";
+   /**
+    * Return true if the text content of a node must be kept.
+    *
+    * @param theNode the node
+    * @return true if the text content of the node must be kept
+    */
+   private static boolean acceptsText(XMLNode theNode) {
+      String name = theNode.getName();
+      return name.equals(TEXT) || name.equals(TSPAN) || name.equals(STYLE);
+   }
+
+   /**
+    * Add the text content accumulated since the last element boundary to a node, and clear the text buffer.
+    *
+    * @param theNode the node
+    */
+   private void addTextContent(XMLNode theNode) {
+      if (textLength == 0) {
+         return;
+      }
+      String trimmed = getTrimmedTextContent();
+      textLength = 0;
+      if (trimmed != null) {
+         theNode.addChild(new XMLTextNode(theNode, trimmed));
+         if (!theNode.hasCDATA()) {
+            theNode.setCDATA(trimmed);
          }
       }
-      return trimmed;
+   }
+
+   /**
+    * Return the trimmed text content of the text buffer. A single trailing space is kept if the text had trailing
+    * whitespaces and its content has at least two characters on a single line, so that the text can be followed by
+    * a tspan element.
+    *
+    * @return the trimmed text content, or null if the text content only has whitespaces
+    */
+   private String getTrimmedTextContent() {
+      int begin = 0;
+      int end = textLength;
+      while (begin < end && text[begin] <= ' ') {
+         begin++;
+      }
+      while (end > begin && text[end - 1] <= ' ') {
+         end--;
+      }
+      if (begin == end) {
+         return null;
+      }
+      boolean trailingSpace = end < textLength && end - begin >= 2;
+      for (int i = begin; trailingSpace && i < end; i++) {
+         switch (text[i]) {
+            case '\n':
+            case '\r':
+            case '\u0085':
+            case '\u2028':
+            case '\u2029':
+               trailingSpace = false;
+               break;
+         }
+      }
+      if (trailingSpace) {
+         return new StringBuilder(end - begin + 1).append(text, begin, end - begin).append(' ').toString();
+      } else {
+         return new String(text, begin, end - begin);
+      }
    }
 
    /**
@@ -189,16 +297,6 @@ public class XMLTreeHandler extends DefaultHandler2 {
     */
    private void parseElement(String qname, Attributes attr) {
       XMLNode childNode;
-      if (buf != null && node != null) {
-         String cdata = buf.toString();
-         String trimmed = getTrimmedTextContent(cdata);
-         if (!trimmed.isEmpty()) {
-            if (!node.hasCDATA()) {
-               node.setCDATA(trimmed);
-            }
-         }
-         buf = null;
-      }
       if (node == null) {
          root = new XMLRoot(qname);
          root.setEncoding(encoding);
@@ -206,19 +304,22 @@ public class XMLTreeHandler extends DefaultHandler2 {
       } else {
          childNode = new XMLNode(node, qname);
       }
-      buf = new StringBuilder();
+      textLength = 0;
+      acceptsText = acceptsText(childNode);
       if (node != null) {
          node.addChild(childNode);
       }
+      elementsCount++;
+      // the node itself and its children structure
+      estimatedSize += 96 + 2 * qname.length();
       for (int i = 0; i < attr.getLength(); i++) {
          String attrname = attr.getQName(i);
-         String attrvalue = attr.getValue(i);
+         String attrvalue = internValue(attr.getValue(i));
          childNode.addAttribute(attrname, attrvalue);
+         // the id and value slots, the attribute value is only counted once if it is shared
+         estimatedSize += 8;
       }
-      if (node != null) {
-         // Propagate style attributes from parent nodes to child nodes
-         ParserUtils.propagateStyleAttributes(node, childNode);
-      }
+      childNode.trimAttributes();
       nodes.push(childNode);
       node = childNode;
    }
@@ -0,0 +1,68 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.io.IOException;
+import javax.xml.parsers.ParserConfigurationException;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads an XML content and notifies an {@link XMLTreeHandler} which creates the tree of nodes.
+ * <p>
+ * The implementations must allow to read several documents concurrently on different threads.</p>
+ *
+ * @since 1.6
+ */
+public interface XMLTreeReader {
+   /**
+    * Read an XML content.
+    *
+    * @param source the source of the content, which has either a byte stream or a character stream
+    * @param handler the handler
+    * @param trusted true if the content comes from a trusted source
+    * @throws IOException if the content could not be read
+    * @throws ParserConfigurationException if the parser could not be created
+    * @throws SAXException if the content is not a valid XML content, or if the parsing was cancelled by the handler
+    */
+   public void read(InputSource source, XMLTreeHandler handler, boolean trusted) throws IOException, ParserConfigurationException, SAXException;
+
+   /**
+    * Return true if only the root element is read. The documents read by such a reader must not be cached.
+    *
+    * @return true if only the root element is read
+    */
+   public default boolean isReadingRootOnly() {
+      return false;
+   }
+}
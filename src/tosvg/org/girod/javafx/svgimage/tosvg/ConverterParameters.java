@@ -37,7 +37,7 @@ import javafx.scene.paint.Color;
 /**
  * The parameters used for saving a node hierarchy.
  *
- * @version 1.2
+ * @version 1.6
  */
 public class ConverterParameters {
    /**
@@ -60,6 +60,12 @@ public class ConverterParameters {
     * The background Color.
     */
    public Color background = null;
+   /**
+    * Checked to write a gzip compressed SVG file (svgz). The default is false.
+    *
+    * @since 1.6
+    */
+   public boolean compressed = false;
 
    /**
     * Create parameters with default values.
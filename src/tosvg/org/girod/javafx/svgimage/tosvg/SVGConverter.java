@@ -33,8 +33,11 @@ the project website at the project page on https://github.com/hervegirod/fxsvgim
 package org.girod.javafx.svgimage.tosvg;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
+import java.util.zip.GZIPOutputStream;
 import javafx.scene.Node;
 import javafx.scene.paint.Color;
 import org.girod.javafx.svgimage.tosvg.converters.ConverterDelegate;
@@ -45,7 +48,7 @@ import org.girod.javafx.svgimage.tosvg.xml.XMLRoot;
 /**
  * The JavaFX to SVg converter.
  *
- * @version 1.2
+ * @version 1.6
  */
 public class SVGConverter {
    private ConverterDelegate delegate = null;
@@ -116,8 +119,18 @@ public class SVGConverter {
       }
    }
 
+   private void print(XMLRoot xmlRoot, File file, ConverterParameters params) throws IOException {
+      if (params.compressed) {
+         try (OutputStream stream = new GZIPOutputStream(new FileOutputStream(file))) {
+            XMLNodeUtilities.print(xmlRoot, 2, stream, null);
+         }
+      } else {
+         XMLNodeUtilities.print(xmlRoot, 2, file);
+      }
+   }
+
    /**
-    * Convert a JavaFX Node hierarchy.
+    * Convert a JavaFX Node hierarchy. The SVG file is compressed with gzip if {@link ConverterParameters#compressed} is true.
     *
     * @param root the root Node
     * @param file the file
@@ -131,7 +144,7 @@ public class SVGConverter {
       addRootAttributes(root, xmlRoot, params);
       delegate.convertRoot(root, xmlRoot, params);
 
-      XMLNodeUtilities.print(xmlRoot, 2, file);
+      print(xmlRoot, file, params);
    }
 
    /**
@@ -146,7 +159,7 @@ public class SVGConverter {
    }
 
    /**
-    * Convert a JavaFX Node hierarchy.
+    * Convert a JavaFX Node hierarchy. The SVG file is compressed with gzip if {@link ConverterParameters#compressed} is true.
     *
     * @param root the root Node
     * @param url the url
@@ -160,6 +173,6 @@ public class SVGConverter {
       addRootAttributes(root, xmlRoot, params);
       delegate.convertRoot(root, xmlRoot, params);
 
-      XMLNodeUtilities.print(xmlRoot, 2, url);
+      print(xmlRoot, new File(url.getFile()), params);
    }
 }
@@ -36,7 +36,10 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -45,7 +48,7 @@ import java.util.Map.Entry;
 /**
  * Various utilities concerning XML content.
  *
- * @since 1.0
+ * @version 1.6
  */
 public class XMLNodeUtilities {
    private XMLNodeUtilities() {
@@ -104,6 +107,35 @@ public class XMLNodeUtilities {
       }
    }
 
+   /**
+    * Write the content of an XML file under a root Node to an OutputStream. The stream is flushed but not closed by this method.
+    * If an encoding is defined, the content is written with this encoding, else it is written with the platform charset.
+    *
+    * @param node the root node
+    * @param tab the tabulation for the XML file for each child node
+    * @param stream the output stream
+    * @param encoding the encoding (can be null)
+    * @throws IOException if writing fails
+    * @since 1.6
+    */
+   public static void print(XMLNode node, int tab, OutputStream stream, String encoding) throws IOException {
+      char[] chars = new char[tab];
+      Arrays.fill(chars, ' ');
+      String tabS = new String(chars);
+
+      if (node instanceof XMLRoot && encoding == null) {
+         XMLRoot root = (XMLRoot) node;
+         encoding = root.getEncoding();
+      }
+      Charset charset = encoding != null ? Charset.forName(encoding) : Charset.defaultCharset();
+      BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stream, charset));
+      if (encoding != null) {
+         writeEncoding(writer, encoding);
+      }
+      printNode(writer, node, "", tabS, false, true);
+      writer.flush();
+   }
+
    /**
     * Save the content of an XML file under a root Node to a URL.
     *
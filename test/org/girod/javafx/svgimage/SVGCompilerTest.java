@@ -0,0 +1,218 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.ElementNode;
+import org.girod.javafx.svgimage.xml.parsers.xmltree.XMLNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the SVGCompiler class.
+ *
+ * @since 1.6
+ */
+public class SVGCompilerTest {
+   private Path dir = null;
+
+   public SVGCompilerTest() {
+   }
+
+   @Before
+   public void setUp() throws IOException {
+      dir = Files.createTempDirectory("fxsvgimage");
+   }
+
+   @After
+   public void tearDown() throws IOException {
+      try (Stream<Path> files = Files.list(dir)) {
+         for (Path file : (Iterable<Path>) files::iterator) {
+            Files.delete(file);
+         }
+      }
+      Files.delete(dir);
+   }
+
+   private static void assertSameTree(XMLNode expected, XMLNode actual) {
+      assertEquals("name", expected.getName(), actual.getName());
+      assertEquals("attributes of " + expected.getName(), expected.getAttributes(), actual.getAttributes());
+      assertEquals("text of " + expected.getName(), expected.getCDATA(), actual.getCDATA());
+      List<ElementNode> expectedChildren = expected.getAllChildren();
+      List<ElementNode> actualChildren = actual.getAllChildren();
+      assertEquals("children of " + expected.getName(), expectedChildren.size(), actualChildren.size());
+      for (int i = 0; i < expectedChildren.size(); i++) {
+         ElementNode expectedChild = expectedChildren.get(i);
+         ElementNode actualChild = actualChildren.get(i);
+         if (expectedChild instanceof XMLNode) {
+            assertSameTree((XMLNode) expectedChild, (XMLNode) actualChild);
+         } else {
+            assertEquals("text of " + expected.getName(), expectedChild.getText(), actualChild.getText());
+         }
+      }
+   }
+
+   /**
+    * Test that a compiled document is read back with the same tree.
+    */
+   @Test
+   public void testCompile() throws Exception {
+      System.out.println("SVGCompilerTest : testCompile");
+      String[] resources = {"Ghostscript_Tiger.svg", "xml/parsers/xmltree/tspan.svg", "styleSVGFile.svg"};
+      for (String resource : resources) {
+         URL url = this.getClass().getResource(resource);
+         SVGDocument document = SVGLoader.parse(url);
+         ByteArrayOutputStream stream = new ByteArrayOutputStream();
+         SVGCompiler.compile(document, stream);
+         SVGDocument result = SVGCompiler.read(ByteBuffer.wrap(stream.toByteArray()));
+         assertEquals("elements count", document.getElementsCount(), result.getElementsCount());
+         assertEquals("stylesheets", document.getStylesheets(), result.getStylesheets());
+         assertEquals("encoding", document.getRoot().getEncoding(), result.getRoot().getEncoding());
+         assertSameTree(document.getRoot(), result.getRoot());
+      }
+   }
+
+   /**
+    * Test that a compiled document can be loaded.
+    */
+   @Test
+   public void testLoadCompiled() throws Exception {
+      System.out.println("SVGCompilerTest : testLoadCompiled");
+      URL url = this.getClass().getResource("Ghostscript_Tiger.svg");
+      Path compiled = dir.resolve("tiger.fxsvg");
+      SVGCompiler.compile(url, compiled);
+      SVGDocument document = SVGCompiler.read(compiled);
+
+      LoaderParameters params = new LoaderParameters();
+      params.buildOnCallingThread = true;
+      SVGImage reference = SVGLoader.load(url, params);
+      SVGImage result = SVGLoader.load(document, url, params);
+      assertNotNull("SVGImage should not be null", result);
+      assertEquals("Children", reference.getChildren().size(), result.getChildren().size());
+      assertEquals("Width", reference.getLayoutBounds().getWidth(), result.getLayoutBounds().getWidth(), 0.001d);
+   }
+
+   /**
+    * Test that stale compiled files are compiled again.
+    */
+   @Test
+   public void testGetDocument() throws Exception {
+      System.out.println("SVGCompilerTest : testGetDocument");
+      URL url = this.getClass().getResource("Ghostscript_Tiger.svg");
+      Path compiled = dir.resolve("tiger.fxsvg");
+      SVGDocument document = SVGCompiler.getDocument(url, compiled);
+      assertNotNull("Document should not be null", document);
+      assertTrue("The compiled file must exist", Files.isRegularFile(compiled));
+
+      // an up to date compiled file is not written again
+      FileTime time = FileTime.fromMillis(1000);
+      Files.setLastModifiedTime(compiled, time);
+      document = SVGCompiler.getDocument(url, compiled);
+      assertNotNull("Document should not be null", document);
+      assertEquals("The compiled file must not be written again", time, Files.getLastModifiedTime(compiled));
+
+      // a compiled file of another version is written again
+      byte[] bytes = Files.readAllBytes(compiled);
+      bytes[7] = (byte) (SVGCompiler.VERSION + 1);
+      Files.write(compiled, bytes);
+      try {
+         SVGCompiler.read(compiled);
+         fail("The compiled file must not be read");
+      } catch (IOException ex) {
+      }
+      document = SVGCompiler.getDocument(url, compiled);
+      assertNotNull("Document should not be null", document);
+      assertNotNull("The compiled file must be readable", SVGCompiler.read(compiled));
+   }
+
+   /**
+    * Test that the path data and the numbers without unit are read back pre-parsed, and are scaled by the viewport as
+    * the values which are parsed from the strings.
+    */
+   @Test
+   public void testPreParsedValues() throws Exception {
+      System.out.println("SVGCompilerTest : testPreParsedValues");
+      String content = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"100\" height=\"100\">"
+              + "<path d=\"M 10 20 L 30.5 40 h 5 A 5 5 30 0 1 50 60 z\"/>"
+              + "<path d=\"M 10% 20 L 30 40\"/>"
+              + "<rect x=\"-5\" y=\".5\" width=\"12px\" height=\"1e1\" stroke-width=\"3\"/>"
+              + "</svg>";
+      SVGDocument document = SVGLoader.parse(content);
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      SVGCompiler.compile(document, stream);
+      SVGDocument result = SVGCompiler.read(ByteBuffer.wrap(stream.toByteArray()));
+      assertSameTree(document.getRoot(), result.getRoot());
+
+      Viewport viewport = new Viewport(100, 100);
+      viewport.setScale(2, true);
+      List<XMLNode> expectedChildren = document.getRoot().getChildren();
+      List<XMLNode> actualChildren = result.getRoot().getChildren();
+      XMLNode expectedPath = expectedChildren.get(0);
+      XMLNode actualPath = actualChildren.get(0);
+      assertNull("The parsed document has no pre-parsed path", expectedPath.getPathGeometry("d"));
+      assertNotNull("The compiled document has a pre-parsed path", actualPath.getPathGeometry("d"));
+      SVGPathParser expectedParser = new SVGPathParser();
+      expectedParser.parse(expectedPath.getAttributeValue("d"), viewport);
+      SVGPathParser actualParser = new SVGPathParser();
+      actualParser.parse(actualPath.getPathGeometry("d"), viewport);
+      assertEquals("Path content", expectedParser.getContent(), actualParser.getContent());
+      assertEquals("Vertices count", expectedParser.getVerticesCount(), actualParser.getVerticesCount());
+      for (int i = 0; i < expectedParser.getVerticesCount(); i++) {
+         assertEquals("Vertex angle", expectedParser.getVertexAngle(i), actualParser.getVertexAngle(i), 0.0001d);
+      }
+      assertNull("A path with percentages is not pre-parsed", actualChildren.get(1).getPathGeometry("d"));
+
+      XMLNode expectedRect = expectedChildren.get(2);
+      XMLNode actualRect = actualChildren.get(2);
+      String[] names = {"x", "y", "width", "height"};
+      for (String name : names) {
+         assertEquals(name, expectedRect.getPositionValue(name, true, viewport), actualRect.getPositionValue(name, true, viewport), 0.0001d);
+         assertEquals(name, expectedRect.getLengthValue(name, viewport), actualRect.getLengthValue(name, viewport), 0.0001d);
+      }
+      assertEquals("x", -10, actualRect.getLengthValue("x", viewport), 0.0001d);
+      assertEquals("stroke-width", expectedRect.getLineWidthValue("stroke-width", viewport, 1),
+              actualRect.getLineWidthValue("stroke-width", viewport, 1), 0.0001d);
+      assertEquals("stroke-width", 6, actualRect.getLineWidthValue("stroke-width", viewport, 1), 0.0001d);
+   }
+}
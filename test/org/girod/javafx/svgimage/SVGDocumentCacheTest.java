@@ -0,0 +1,173 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for the cache of parsed SVG documents.
+ *
+ * @since 1.6
+ */
+public class SVGDocumentCacheTest {
+
+   public SVGDocumentCacheTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+      GlobalConfig.getInstance().setDocumentCache(null);
+   }
+
+   /**
+    * Test of the loading of the same URL several times with a documents cache.
+    */
+   @Test
+   public void testLoadURL() throws Exception {
+      System.out.println("SVGDocumentCacheTest : testLoadURL");
+      SVGDocumentCache cache = new SVGDocumentCache();
+      GlobalConfig.getInstance().setDocumentCache(cache);
+      URL url = this.getClass().getResource("Ghostscript_Tiger.svg");
+      SVGImage result = SVGLoader.load(url);
+      assertNotNull("SVGImage should not be null", result);
+      assertEquals("Misses", 1, cache.getMissCount());
+      assertEquals("Hits", 0, cache.getHitCount());
+      assertEquals("Cached documents", 1, cache.size());
+
+      SVGImage result2 = SVGLoader.load(url);
+      assertNotNull("SVGImage should not be null", result2);
+      assertEquals("Misses", 1, cache.getMissCount());
+      assertEquals("Hits", 1, cache.getHitCount());
+      assertEquals("Must have the same children", result.getChildren().size(), result2.getChildren().size());
+      assertEquals("Width", result.getLayoutBounds().getWidth(), result2.getLayoutBounds().getWidth(), 0.001d);
+   }
+
+   /**
+    * Test of the loading of an http URL whose last modification time is unknown, which must not be cached.
+    */
+   @Test
+   public void testLoadURLWithoutLastModified() throws Exception {
+      System.out.println("SVGDocumentCacheTest : testLoadURLWithoutLastModified");
+      byte[] content = "<svg width=\"100\" height=\"100\"><rect width=\"50\" height=\"50\"/></svg>".getBytes(StandardCharsets.UTF_8);
+      HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+      server.createContext("/image.svg", exchange -> {
+         if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(200, -1);
+         } else {
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+               stream.write(content);
+            }
+         }
+         exchange.close();
+      });
+      server.start();
+      try {
+         URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/image.svg");
+         assertNull("The key must be null", SVGDocumentCache.getKey(url));
+         SVGDocumentCache cache = new SVGDocumentCache();
+         GlobalConfig.getInstance().setDocumentCache(cache);
+         assertNotNull("SVGImage should not be null", SVGLoader.load(url));
+         assertNotNull("SVGImage should not be null", SVGLoader.load(url));
+         assertEquals("Hits", 0, cache.getHitCount());
+         assertEquals("Cached documents", 0, cache.size());
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   /**
+    * Test of the loading of the same String content several times with a documents cache.
+    */
+   @Test
+   public void testLoadString() throws Exception {
+      System.out.println("SVGDocumentCacheTest : testLoadString");
+      SVGDocumentCache cache = new SVGDocumentCache();
+      GlobalConfig.getInstance().setDocumentCache(cache);
+      String content = "<svg width=\"100\" height=\"100\"><rect x=\"10\" y=\"10\" width=\"50\" height=\"50\"/></svg>";
+      SVGLoader.load(content);
+      SVGLoader.load(content);
+      SVGLoader.load(content.replace("50", "60"));
+      assertEquals("Misses", 2, cache.getMissCount());
+      assertEquals("Hits", 1, cache.getHitCount());
+      assertEquals("Cached documents", 2, cache.size());
+   }
+
+   /**
+    * Test of the eviction of the least recently used documents.
+    */
+   @Test
+   public void testEviction() throws Exception {
+      System.out.println("SVGDocumentCacheTest : testEviction");
+      String content1 = "<svg width=\"100\" height=\"100\"><rect x=\"10\" y=\"10\" width=\"50\" height=\"50\"/></svg>";
+      String content2 = "<svg width=\"100\" height=\"100\"><circle cx=\"10\" cy=\"10\" r=\"50\"/></svg>";
+      SVGDocumentCache cache = new SVGDocumentCache(1000);
+      GlobalConfig.getInstance().setDocumentCache(cache);
+      SVGLoader.load(content1);
+      long size1 = cache.getEstimatedSize();
+      SVGLoader.load(content2);
+      long size2 = cache.getEstimatedSize() - size1;
+      cache = new SVGDocumentCache(Math.max(size1, size2));
+      GlobalConfig.getInstance().setDocumentCache(cache);
+      SVGLoader.load(content1);
+      SVGLoader.load(content2);
+      assertEquals("Cached documents", 1, cache.size());
+      assertEquals("Evictions", 1, cache.getEvictionCount());
+      SVGLoader.load(content2);
+      assertEquals("Hits", 1, cache.getHitCount());
+   }
+}
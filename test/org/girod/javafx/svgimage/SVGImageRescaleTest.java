@@ -0,0 +1,109 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import javafx.scene.image.Image;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for scaling images from the kept parsed document.
+ *
+ * @since 1.6
+ */
+public class SVGImageRescaleTest {
+   private static double DELTA = 0.001d;
+
+   public SVGImageRescaleTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   /**
+    * Test of scaling an image whose file does not exist anymore, which means that the SVG content is not parsed again.
+    */
+   @Test
+   public void testScaleWithoutFile() throws Exception {
+      System.out.println("SVGImageRescaleTest : testScaleWithoutFile");
+      URL url = this.getClass().getResource("rect50.svg");
+      File file = File.createTempFile("rect50", ".svg");
+      Files.copy(url.openStream(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      LoaderParameters params = new LoaderParameters();
+      params.retainDocument = true;
+      SVGImage result = SVGLoader.load(file, params);
+      assertNotNull("The parsed document must be kept", result.getDocument());
+      assertTrue("The file must be deleted", file.delete());
+
+      Image img = result.toImage(ScaleQuality.RENDER_QUALITY, 100);
+      assertNotNull("Image must exist", img);
+      assertEquals("width", 100, img.getWidth(), DELTA);
+      assertEquals("height", 100, img.getHeight(), DELTA);
+   }
+
+   /**
+    * Test of scaling an image without keeping the parsed document.
+    */
+   @Test
+   public void testScaleWithoutDocument() throws Exception {
+      System.out.println("SVGImageRescaleTest : testScaleWithoutDocument");
+      URL url = this.getClass().getResource("rect50.svg");
+      LoaderParameters params = new LoaderParameters();
+      SVGImage result = SVGLoader.load(url, params);
+      assertNull("The parsed document must not be kept", result.getDocument());
+
+      SVGImage scaled = result.scale(2, true);
+      assertEquals("width", 100, scaled.toImage().getWidth(), DELTA);
+   }
+}
@@ -0,0 +1,122 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for the asynchronous loading of SVG files.
+ *
+ * @since 1.6
+ */
+public class SVGLoaderAsyncTest {
+   private static ExecutorService executor = null;
+
+   public SVGLoaderAsyncTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+      executor = Executors.newFixedThreadPool(2);
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+      executor.shutdown();
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   /**
+    * Test of loadAsync method, of class SVGLoader.
+    */
+   @Test
+   public void testLoadAsync() throws Exception {
+      System.out.println("SVGLoaderAsyncTest : testLoadAsync");
+      URL url = this.getClass().getResource("polygon.svg");
+      CompletableFuture<SVGImage> future = SVGLoader.loadAsync(url, new LoaderParameters(), executor);
+      SVGImage result = future.get(10, TimeUnit.SECONDS);
+      assertNotNull("SVGImage should not be null", result);
+
+      SVGImage reference = SVGLoader.load(url);
+      assertEquals("Must have the same children as a synchronous load", reference.getChildren().size(), result.getChildren().size());
+   }
+
+   /**
+    * Test of loadAsync method, of class SVGLoader, with a String content.
+    */
+   @Test
+   public void testLoadAsyncFromString() throws Exception {
+      System.out.println("SVGLoaderAsyncTest : testLoadAsyncFromString");
+      String content = "<svg width=\"100\" height=\"100\"><rect x=\"10\" y=\"10\" width=\"50\" height=\"50\"/></svg>";
+      CompletableFuture<SVGImage> future = SVGLoader.loadAsync(content, new LoaderParameters(), executor);
+      SVGImage result = future.get(10, TimeUnit.SECONDS);
+      assertNotNull("SVGImage should not be null", result);
+      assertEquals("Must have one child", 1, result.getChildren().size());
+   }
+
+   /**
+    * Test of the cancellation of the loadAsync method, of class SVGLoader.
+    */
+   @Test
+   public void testCancelLoadAsync() throws Exception {
+      System.out.println("SVGLoaderAsyncTest : testCancelLoadAsync");
+      List<Runnable> tasks = new ArrayList<>();
+      URL url = this.getClass().getResource("Ghostscript_Tiger.svg");
+      CompletableFuture<SVGImage> future = SVGLoader.loadAsync(url, new LoaderParameters(), tasks::add);
+      assertEquals("Must have one pending task", 1, tasks.size());
+      assertTrue("Must be cancelled", future.cancel(true));
+      tasks.get(0).run();
+      assertTrue("Must be cancelled", future.isCancelled());
+   }
+}
@@ -0,0 +1,106 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for the loading of a batch of SVG files.
+ *
+ * @since 1.6
+ */
+public class SVGLoaderBatchTest {
+
+   public SVGLoaderBatchTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   /**
+    * Test of loadAll method, of class SVGLoader.
+    */
+   @Test
+   public void testLoadAll() throws Exception {
+      System.out.println("SVGLoaderBatchTest : testLoadAll");
+      List<URL> urls = new ArrayList<>();
+      urls.add(this.getClass().getResource("polygon.svg"));
+      urls.add(new File("notExisting.svg").toURI().toURL());
+      urls.add(this.getClass().getResource("rect.svg"));
+      urls.add(this.getClass().getResource("Ghostscript_Tiger.svg"));
+      CompletableFuture<Boolean> onFXThread = new CompletableFuture<>();
+      CompletableFuture<SVGBatch> future = SVGLoader.loadAll(urls, new LoaderParameters());
+      future.thenAccept(batch -> onFXThread.complete(Platform.isFxApplicationThread()));
+      SVGBatch batch = future.get(30, TimeUnit.SECONDS);
+      assertTrue("The batch must be completed on the JavaFX Platform Thread", onFXThread.get(10, TimeUnit.SECONDS));
+
+      assertEquals("Batch size", 4, batch.size());
+      assertTrue("Must have errors", batch.hasErrors());
+      assertTrue("First document must be loaded", batch.isLoaded(0));
+      assertNotNull("First image", batch.getImage(0));
+      assertNull("Second document must not be loaded", batch.getImage(1));
+      assertNotNull("Second document must have an error", batch.getError(1));
+      assertTrue("Third document must be loaded", batch.isLoaded(2));
+      assertTrue("Fourth document must be loaded", batch.isLoaded(3));
+      assertEquals("Must have the same children as a single load", SVGLoader.load(urls.get(3)).getChildren().size(),
+         batch.getImage(3).getChildren().size());
+   }
+}
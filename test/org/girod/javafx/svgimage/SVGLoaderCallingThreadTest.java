@@ -0,0 +1,93 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import java.net.URL;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for loading a SVG file with the Nodes tree built on the calling thread.
+ *
+ * @since 1.6
+ */
+public class SVGLoaderCallingThreadTest {
+
+   public SVGLoaderCallingThreadTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   /**
+    * Test of load method, of class SVGLoader, building the Nodes tree on the calling thread.
+    */
+   @Test
+   public void testLoadOnCallingThread() throws Exception {
+      System.out.println("SVGLoaderCallingThreadTest : testLoadOnCallingThread");
+      assertFalse("Must not be called on the JavaFX Platform Thread", Platform.isFxApplicationThread());
+      URL url = this.getClass().getResource("polygon.svg");
+      LoaderParameters params = new LoaderParameters();
+      params.buildOnCallingThread = true;
+      SVGImage result = SVGLoader.load(url, params);
+      assertNotNull("SVGImage should not be null", result);
+
+      SVGImage reference = SVGLoader.load(url);
+      ObservableList<Node> children = result.getChildren();
+      assertEquals("Must have the same children as when built on the JavaFX Platform Thread", reference.getChildren().size(), children.size());
+      assertEquals("Width", reference.getLayoutBounds().getWidth(), result.getLayoutBounds().getWidth(), 0.001d);
+      assertEquals("Height", reference.getLayoutBounds().getHeight(), result.getLayoutBounds().getHeight(), 0.001d);
+   }
+}
@@ -0,0 +1,154 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for the loading statistics and the load listeners.
+ *
+ * @since 1.6
+ */
+public class SVGLoaderStatisticsTest {
+
+   public SVGLoaderStatisticsTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+      GlobalConfig.getInstance().setLoadListener(null);
+   }
+
+   /**
+    * Test the statistics of a loading.
+    */
+   @Test
+   public void testStatistics() throws Exception {
+      System.out.println("SVGLoaderStatisticsTest : testStatistics");
+      URL url = this.getClass().getResource("Ghostscript_Tiger.svg");
+      SVGImage result = SVGLoader.load(url);
+      assertNotNull("SVGImage should not be null", result);
+      LoadStatistics statistics = result.getLoadStatistics();
+      assertNotNull("LoadStatistics should not be null", statistics);
+      assertEquals("Paths", 240, statistics.getPathsCount());
+      assertTrue("Path segments", statistics.getPathSegmentsCount() > statistics.getPathsCount());
+      assertTrue("Elements", statistics.getElementsCount() > statistics.getPathsCount());
+      assertEquals("Texts", 0, statistics.getTextsCount());
+      assertTrue("Total duration", statistics.getTotalDuration() > 0);
+      assertTrue("Parse duration", statistics.getDuration(LoadPhase.PARSE) > 0);
+      assertTrue("Build duration", statistics.getDuration(LoadPhase.BUILD_NODES) > 0);
+      assertTrue("Total duration must include the phases",
+         statistics.getTotalDuration() >= statistics.getDuration(LoadPhase.PARSE) + statistics.getDuration(LoadPhase.BUILD_NODES));
+   }
+
+   /**
+    * Test that the implicit commands of the paths are counted in the statistics.
+    */
+   @Test
+   public void testImplicitPathSegments() throws Exception {
+      System.out.println("SVGLoaderStatisticsTest : testImplicitPathSegments");
+      String content = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"100\" height=\"100\">"
+         + "<path d=\"M0 0 1 1 2 2 3 3\" stroke=\"black\"/>"
+         + "<path d=\"M0 0L1 1 2 0Z\" stroke=\"black\"/></svg>";
+      LoaderParameters params = new LoaderParameters();
+      params.buildOnCallingThread = true;
+      SVGImage result = SVGLoader.load(content, params);
+      LoadStatistics statistics = result.getLoadStatistics();
+      assertEquals("Paths", 2, statistics.getPathsCount());
+      assertEquals("Path segments", 8, statistics.getPathSegmentsCount());
+   }
+
+   /**
+    * Test the load listeners.
+    */
+   @Test
+   public void testListeners() throws Exception {
+      System.out.println("SVGLoaderStatisticsTest : testListeners");
+      List<LoadPhase> phases = new ArrayList<>();
+      List<LoadStatistics> completed = new ArrayList<>();
+      List<LoadStatistics> globalCompleted = new ArrayList<>();
+      LoaderParameters params = new LoaderParameters();
+      params.buildOnCallingThread = true;
+      params.loadListener = new LoadListener() {
+         @Override
+         public void phaseCompleted(SVGContent content, LoadPhase phase, long duration) {
+            phases.add(phase);
+         }
+
+         @Override
+         public void loadCompleted(SVGContent content, LoadStatistics statistics) {
+            completed.add(statistics);
+         }
+      };
+      GlobalConfig.getInstance().setLoadListener(new LoadListener() {
+         @Override
+         public void loadCompleted(SVGContent content, LoadStatistics statistics) {
+            globalCompleted.add(statistics);
+         }
+      });
+      URL url = this.getClass().getResource("clip-path-group.svg");
+      SVGImage result = SVGLoader.load(url, params);
+      assertNotNull("SVGImage should not be null", result);
+
+      assertEquals("Phases", 6, phases.size());
+      assertEquals("First phase", LoadPhase.PARSE, phases.get(0));
+      assertEquals("Build phase", LoadPhase.BUILD_NODES, phases.get(3));
+      assertEquals("Must be completed once", 1, completed.size());
+      assertSame("Statistics", result.getLoadStatistics(), completed.get(0));
+      assertEquals("Must be notified to the global listener", 1, globalCompleted.size());
+      assertEquals("Clips", 1, result.getLoadStatistics().getClipsCount());
+   }
+}
@@ -0,0 +1,196 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for loading a SVG content from an InputStream, a ByteBuffer or a Path, and for loading compressed contents.
+ *
+ * @since 1.6
+ */
+public class SVGLoaderStreamTest {
+
+   public SVGLoaderStreamTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   private static LoaderParameters createParameters() {
+      LoaderParameters params = new LoaderParameters();
+      params.buildOnCallingThread = true;
+      return params;
+   }
+
+   /**
+    * Test of load method, of class SVGLoader, from an InputStream.
+    */
+   @Test
+   public void testLoadInputStream() throws Exception {
+      System.out.println("SVGLoaderStreamTest : testLoadInputStream");
+      URL url = this.getClass().getResource("Ghostscript_Tiger.svg");
+      SVGImage reference = SVGLoader.load(url, createParameters());
+      SVGImage result;
+      LoaderParameters params = createParameters();
+      params.retainDocument = true;
+      try (InputStream stream = url.openStream()) {
+         result = SVGLoader.load(stream, params);
+      }
+      assertNotNull("SVGImage should not be null", result);
+      assertEquals("Children", reference.getChildren().size(), result.getChildren().size());
+      assertEquals("Width", reference.getLayoutBounds().getWidth(), result.getLayoutBounds().getWidth(), 0.001d);
+
+      // the parsed document is kept, so the image can be scaled again
+      SVGImage scaled = result.scale(2, true);
+      assertNotNull("Scaled SVGImage should not be null", scaled);
+      assertEquals("Scaled width", 2 * reference.getLayoutBounds().getWidth(), scaled.getLayoutBounds().getWidth(), 10d);
+   }
+
+   /**
+    * Test of load method, of class SVGLoader, from a ByteBuffer.
+    */
+   @Test
+   public void testLoadByteBuffer() throws Exception {
+      System.out.println("SVGLoaderStreamTest : testLoadByteBuffer");
+      URL url = this.getClass().getResource("polygon.svg");
+      byte[] bytes = Files.readAllBytes(Paths.get(url.toURI()));
+      ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 10);
+      buffer.position(10);
+      buffer.put(bytes);
+      buffer.position(10);
+      SVGImage result = SVGLoader.load(buffer, createParameters());
+      assertNotNull("SVGImage should not be null", result);
+      assertEquals("Buffer position must not be modified", 10, buffer.position());
+
+      SVGImage reference = SVGLoader.load(url, createParameters());
+      assertEquals("Children", reference.getChildren().size(), result.getChildren().size());
+      assertEquals("Width", reference.getLayoutBounds().getWidth(), result.getLayoutBounds().getWidth(), 0.001d);
+      assertEquals("Height", reference.getLayoutBounds().getHeight(), result.getLayoutBounds().getHeight(), 0.001d);
+   }
+
+   /**
+    * Test of load method, of class SVGLoader, from a Path.
+    */
+   @Test
+   public void testLoadPath() throws Exception {
+      System.out.println("SVGLoaderStreamTest : testLoadPath");
+      URL url = this.getClass().getResource("polygon.svg");
+      Path path = Paths.get(url.toURI());
+      SVGImage result = SVGLoader.load(path, createParameters());
+      assertNotNull("SVGImage should not be null", result);
+
+      SVGImage reference = SVGLoader.load(url, createParameters());
+      assertEquals("Children", reference.getChildren().size(), result.getChildren().size());
+      assertEquals("Width", reference.getLayoutBounds().getWidth(), result.getLayoutBounds().getWidth(), 0.001d);
+   }
+
+   /**
+    * Test of load method, of class SVGLoader, from a Path for a file which is large enough to be memory-mapped.
+    */
+   @Test
+   public void testLoadMappedPath() throws Exception {
+      System.out.println("SVGLoaderStreamTest : testLoadMappedPath");
+      StringBuilder buf = new StringBuilder();
+      buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+      buf.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"200\" height=\"100\">\n");
+      buf.append("<!-- été -->\n");
+      for (int i = 0; i < 20000; i++) {
+         buf.append("<rect x=\"").append(i % 190).append("\" y=\"").append(i % 90).append("\" width=\"10\" height=\"10\" fill=\"blue\"/>\n");
+      }
+      buf.append("</svg>");
+      File file = File.createTempFile("mapped", ".svg");
+      file.deleteOnExit();
+      Files.write(file.toPath(), buf.toString().getBytes(StandardCharsets.UTF_8));
+      assertEquals("The file must be large enough to be mapped", true, file.length() > 1024 * 1024);
+
+      SVGImage result = SVGLoader.load(file.toPath(), createParameters());
+      assertNotNull("SVGImage should not be null", result);
+      assertEquals("Children", 20000, result.getChildren().size());
+   }
+
+   /**
+    * Test of load method, of class SVGLoader, for a gzip compressed file.
+    */
+   @Test
+   public void testLoadCompressed() throws Exception {
+      System.out.println("SVGLoaderStreamTest : testLoadCompressed");
+      URL url = this.getClass().getResource("polygon.svg");
+      byte[] bytes = Files.readAllBytes(Paths.get(url.toURI()));
+      File file = File.createTempFile("polygon", ".svgz");
+      file.deleteOnExit();
+      try (OutputStream stream = new GZIPOutputStream(new FileOutputStream(file))) {
+         stream.write(bytes);
+      }
+      SVGImage reference = SVGLoader.load(url, createParameters());
+
+      SVGImage result = SVGLoader.load(file, createParameters());
+      assertNotNull("SVGImage should not be null", result);
+      assertEquals("Children", reference.getChildren().size(), result.getChildren().size());
+      assertEquals("Width", reference.getLayoutBounds().getWidth(), result.getLayoutBounds().getWidth(), 0.001d);
+
+      result = SVGLoader.load(ByteBuffer.wrap(Files.readAllBytes(file.toPath())), createParameters());
+      assertNotNull("SVGImage should not be null", result);
+      assertEquals("Children", reference.getChildren().size(), result.getChildren().size());
+   }
+}
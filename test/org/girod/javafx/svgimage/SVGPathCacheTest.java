@@ -0,0 +1,151 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import javafx.scene.Node;
+import javafx.scene.shape.SVGPath;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for the cache of parsed SVG path data.
+ *
+ * @since 1.6
+ */
+public class SVGPathCacheTest {
+
+   public SVGPathCacheTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+      GlobalConfig.getInstance().setPathCache(null);
+   }
+
+   /**
+    * Test that the same path content is parsed only once for the same viewport scale.
+    */
+   @Test
+   public void testGetParser() {
+      System.out.println("SVGPathCacheTest : testGetParser");
+      SVGPathCache cache = new SVGPathCache();
+      Viewport viewport = new Viewport();
+      SVGPathParser parser = cache.getParser("M10 20 L30 40", viewport);
+      SVGPathParser parser2 = cache.getParser("M10 20 L30 40", viewport);
+      assertSame("Parser must be shared", parser, parser2);
+      assertEquals("M 10.0 20.0 L 30.0 40.0", parser2.getContent());
+
+      Viewport scaledViewport = new Viewport();
+      scaledViewport.setScale(2, true);
+      SVGPathParser parser3 = cache.getParser("M10 20 L30 40", scaledViewport);
+      assertNotSame("Parser must depend on the viewport scale", parser, parser3);
+      assertEquals("M 20.0 40.0 L 60.0 80.0", parser3.getContent());
+
+      assertEquals("Misses", 2, cache.getMissCount());
+      assertEquals("Hits", 1, cache.getHitCount());
+      assertEquals("Hit rate", 1d / 3d, cache.getHitRate(), 0.0001d);
+      assertEquals("Cached paths", 2, cache.size());
+   }
+
+   /**
+    * Test a cache storing the coordinates as floats.
+    */
+   @Test
+   public void testFloatPrecision() {
+      System.out.println("SVGPathCacheTest : testFloatPrecision");
+      SVGPathCache cache = new SVGPathCache(SVGPathCache.DEFAULT_MAX_SIZE, true);
+      SVGPathCache doubleCache = new SVGPathCache();
+      String content = "M0 0 L10 10 L20 0 L30 10 L40 0 L50 10 L60 0 L70 10 L80 0 Z";
+      SVGPathParser parser = cache.getParser(content, new Viewport());
+      SVGPathParser doubleParser = doubleCache.getParser(content, new Viewport());
+      assertTrue("Must have float precision", parser.getGeometry().isFloatPrecision());
+      assertEquals(doubleParser.getContent(), parser.getContent());
+      assertTrue("Float geometry must be smaller", parser.getGeometry().getEstimatedSize() < doubleParser.getGeometry().getEstimatedSize());
+   }
+
+   /**
+    * Test of the eviction of the least recently used paths.
+    */
+   @Test
+   public void testEviction() {
+      System.out.println("SVGPathCacheTest : testEviction");
+      SVGPathCache cache = new SVGPathCache(1000);
+      Viewport viewport = new Viewport();
+      for (int i = 0; i < 20; i++) {
+         cache.getParser("M" + i + " 0 L10 10", viewport);
+      }
+      assertTrue("Cache must be bounded", cache.getEstimatedSize() <= 1000);
+      assertTrue("Paths must have been evicted", cache.getEvictionCount() > 0);
+      assertEquals("Cached paths", 20 - cache.getEvictionCount(), cache.size());
+   }
+
+   /**
+    * Test loading a SVG content with the same path several times.
+    */
+   @Test
+   public void testLoad() throws Exception {
+      System.out.println("SVGPathCacheTest : testLoad");
+      SVGPathCache cache = new SVGPathCache();
+      GlobalConfig.getInstance().setPathCache(cache);
+      String content = "<svg width=\"100\" height=\"100\"><path d=\"M10 10 L50 50\"/><path d=\"M10 10 L50 50\"/>"
+              + "<path d=\"M10 10 L50 50\" fill=\"red\"/></svg>";
+      SVGImage result = SVGLoader.load(content);
+      assertEquals("Must have 3 children", 3, result.getChildren().size());
+      assertEquals("Misses", 1, cache.getMissCount());
+      assertEquals("Hits", 2, cache.getHitCount());
+      for (Node child : result.getChildren()) {
+         assertTrue("Child must be a SVGPath", child instanceof SVGPath);
+         assertEquals("M 10.0 10.0 L 50.0 50.0", ((SVGPath) child).getContent());
+      }
+   }
+}
@@ -0,0 +1,367 @@
+/*
+Copyright (c) 2025, Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import java.net.URL;
+import java.util.List;
+import javafx.collections.ObservableList;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.QuadCurveTo;
+import org.girod.javafx.svgimage.xml.parsers.SVGPathParser;
+
+/**
+ * Test the scanning of numbers in SVG path data by the SVGPathParser.
+ *
+ * @since 1.6
+ */
+public class SVGPathParserTest {
+
+   public SVGPathParserTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   /**
+    * Test numbers which are not separated by spaces or commas.
+    */
+   @Test
+   public void testCompactNumbers() {
+      System.out.println("SVGPathParserTest : testCompactNumbers");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      parser.parse("M10-20.5.5.5L-1-2", viewport);
+      assertEquals("M 10.0 -20.5 L 0.5 0.5 L -1.0 -2.0", parser.getContent());
+   }
+
+   /**
+    * Test arc flags which are not separated from the next number.
+    */
+   @Test
+   public void testCompactArcFlags() {
+      System.out.println("SVGPathParserTest : testCompactArcFlags");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      parser.parse("M0 0a25 25 0 01-50 0", viewport);
+      assertEquals("M 0.0 0.0 a 25.0 25.0 0.0 0 1 -50.0 0.0", parser.getContent());
+
+      parser.parse("M0 0a1 1 0 10.5.5", viewport);
+      assertEquals("M 0.0 0.0 a 1.0 1.0 0.0 1 0 0.5 0.5", parser.getContent());
+   }
+
+   /**
+    * Test numbers with an exponent or an explicit sign.
+    */
+   @Test
+   public void testExponentAndSign() {
+      System.out.println("SVGPathParserTest : testExponentAndSign");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      parser.parse("M1e2 -2.5E-1L+3 1e+1", viewport);
+      assertEquals("M 100.0 -0.25 L 3.0 10.0", parser.getContent());
+   }
+
+   /**
+    * Test numbers with a unit.
+    */
+   @Test
+   public void testUnits() {
+      System.out.println("SVGPathParserTest : testUnits");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      parser.parse("M10px .5px L1in 2ex", viewport);
+      assertEquals("M 10.0 0.5 L 96.0 16.0", parser.getContent());
+   }
+
+   /**
+    * Test that the content is updated when the parser is reused.
+    */
+   @Test
+   public void testReuseParser() {
+      System.out.println("SVGPathParserTest : testReuseParser");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      parser.parse("M0 0 L10 10", viewport);
+      assertEquals("M 0.0 0.0 L 10.0 10.0", parser.getContent());
+      parser.parse("M5 5 H20 Z", viewport);
+      assertEquals("M 5.0 5.0 H 20.0 Z", parser.getContent());
+      assertEquals("Must have 3 markers", 3, parser.getMarkerList().size());
+   }
+
+   /**
+    * Test that an invalid number of parameters is reported.
+    */
+   @Test
+   public void testInvalidParameters() {
+      System.out.println("SVGPathParserTest : testInvalidParameters");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      try {
+         parser.parse("M0 0 L10 10 20", viewport);
+         fail("The number of parameters should be invalid");
+      } catch (IllegalArgumentException e) {
+         assertEquals("Invalid number of parameters for command L: got 3, expected a multiple of 2", e.getMessage());
+      }
+   }
+
+   /**
+    * Test the Path created from the parsed commands.
+    */
+   @Test
+   public void testCreatePath() {
+      System.out.println("SVGPathParserTest : testCreatePath");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      parser.parse("M10 20h30v40zl5 5a5 5 0 0 1 10 0", viewport);
+      List<PathElement> elements = parser.createPath().getElements();
+      assertEquals("Must have 6 elements", 6, elements.size());
+      assertPoint(elements.get(0), MoveTo.class, 10, 20);
+      assertPoint(elements.get(1), LineTo.class, 40, 20);
+      assertPoint(elements.get(2), LineTo.class, 40, 60);
+      assertTrue("Must be a ClosePath", elements.get(3) instanceof ClosePath);
+      assertPoint(elements.get(4), LineTo.class, 15, 25);
+      assertPoint(elements.get(5), ArcTo.class, 25, 25);
+      ArcTo arcTo = (ArcTo) elements.get(5);
+      assertTrue("Arc must have the sweep flag", arcTo.isSweepFlag());
+   }
+
+   /**
+    * Test the control points of the smooth curves in the Path created from the parsed commands.
+    */
+   @Test
+   public void testCreatePathSmoothCurves() {
+      System.out.println("SVGPathParserTest : testCreatePathSmoothCurves");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      parser.parse("M0 0C0 10 10 10 10 0s10-10 10 0Q25 10 30 0t10 0", viewport);
+      List<PathElement> elements = parser.createPath().getElements();
+      assertEquals("Must have 5 elements", 5, elements.size());
+      CubicCurveTo curveTo = (CubicCurveTo) elements.get(2);
+      assertEquals(10, curveTo.getControlX1(), 0.0001d);
+      assertEquals(-10, curveTo.getControlY1(), 0.0001d);
+      assertEquals(20, curveTo.getControlX2(), 0.0001d);
+      assertEquals(-10, curveTo.getControlY2(), 0.0001d);
+      assertPoint(curveTo, CubicCurveTo.class, 20, 0);
+      QuadCurveTo quadTo = (QuadCurveTo) elements.get(4);
+      assertEquals(35, quadTo.getControlX(), 0.0001d);
+      assertEquals(-10, quadTo.getControlY(), 0.0001d);
+      assertPoint(quadTo, QuadCurveTo.class, 40, 0);
+   }
+
+   /**
+    * Test loading a SVG file with the paths built as Path Nodes.
+    */
+   @Test
+   public void testLoadPathElements() throws Exception {
+      System.out.println("SVGPathParserTest : testLoadPathElements");
+      URL url = this.getClass().getResource("searchIcon.svg");
+      LoaderParameters params = new LoaderParameters();
+      params.buildPathElements = true;
+      SVGImage result = SVGLoader.load(url, params);
+
+      ObservableList<Node> children = result.getChildren();
+      assertEquals("Must have one child", 1, children.size());
+      Node child = children.get(0);
+      assertTrue("Child must be a Path", child instanceof Path);
+      List<PathElement> elements = ((Path) child).getElements();
+      assertTrue("First element must be a MoveTo", elements.get(0) instanceof MoveTo);
+      assertPoint(elements.get(1), LineTo.class, 532, -372);
+   }
+
+   /**
+    * Test of the marker vertices and of the direction of the path at each vertex.
+    */
+   @Test
+   public void testMarkerVertices() {
+      System.out.println("SVGPathParserTest : testMarkerVertices");
+      SVGPathParser parser = new SVGPathParser();
+      Viewport viewport = new Viewport();
+
+      parser.parse("M5 7h10v10z", viewport);
+      assertEquals("Must have 4 vertices", 4, parser.getVerticesCount());
+      assertVertex(parser, 0, 5, 7, 0);
+      assertVertex(parser, 1, 15, 7, 45);
+      assertVertex(parser, 2, 15, 17, 157.5);
+      assertVertex(parser, 3, 5, 7, -135);
+      List<Point2D> list = parser.getMarkerList(SVGPathParser.MarkerType.END);
+      assertEquals("Must have 1 end marker", 1, list.size());
+      assertEquals(new Point2D(5, 7), list.get(0));
+      assertEquals("Must have 2 mid markers", 2, parser.getMarkerList(SVGPathParser.MarkerType.MID).size());
+
+      parser.parse("M0 0C0-10 20-10 20 0", viewport);
+      assertVertex(parser, 0, 0, 0, -90);
+      assertVertex(parser, 1, 20, 0, 90);
+
+      parser.parse("M0 0A10 10 0 0 1 20 0", viewport);
+      assertVertex(parser, 0, 0, 0, -90);
+      assertVertex(parser, 1, 20, 0, 90);
+   }
+
+   /**
+    * Test of the simplification of the shapes when loading an image, and of the rebuild at another level of detail.
+    */
+   @Test
+   public void testLoadSimplified() throws Exception {
+      System.out.println("SVGPathParserTest : testLoadSimplified");
+      String content = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"100\" height=\"100\">"
+         + "<polyline points=\"0,0 1,0.1 2,0 3,0.1 4,0\" stroke=\"black\"/>"
+         + "<path d=\"M0 10l1 0.1 1-0.1 1 0.1 1-0.1\" stroke=\"black\"/></svg>";
+      LoaderParameters params = new LoaderParameters();
+      params.buildPathElements = true;
+      params.simplificationTolerance = 0.5;
+      SVGImage result = SVGLoader.load(content, params);
+
+      ObservableList<Node> children = result.getChildren();
+      assertEquals("Must have two children", 2, children.size());
+      Polyline polyline = (Polyline) children.get(0);
+      Path path = (Path) children.get(1);
+      assertEquals("Points count", 4, polyline.getPoints().size());
+      assertEquals("Elements count", 2, path.getElements().size());
+      assertPoint(path.getElements().get(1), LineTo.class, 4, 10);
+
+      result.setSimplificationTolerance(0);
+      assertEquals("Points count", 10, polyline.getPoints().size());
+      assertEquals("Elements count", 5, path.getElements().size());
+
+      result.setSimplificationTolerance(0.05);
+      assertEquals("Points count", 10, polyline.getPoints().size());
+      result.setSimplificationTolerance(1);
+      assertEquals("Points count", 4, polyline.getPoints().size());
+   }
+
+   /**
+    * Test of the simplification of a polyline in a symbol, whose viewBox scales the shape.
+    */
+   @Test
+   public void testLoadSimplifiedSymbol() throws Exception {
+      System.out.println("SVGPathParserTest : testLoadSimplifiedSymbol");
+      String content = "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"100\" height=\"100\">"
+         + "<symbol id=\"s\" width=\"100\" height=\"100\" viewBox=\"0 0 10 10\"><polyline points=\"0,0 5,0.01 10,0\" stroke=\"black\"/></symbol>"
+         + "<use xlink:href=\"#s\"/></svg>";
+      LoaderParameters params = new LoaderParameters();
+      params.simplificationTolerance = 0.5;
+      SVGImage result = SVGLoader.load(content, params);
+      Polyline polyline = (Polyline) findNode(result, Polyline.class);
+      // the vertex is at 0.1 in the coordinates of the polyline, but the polyline is scaled by 10 by the viewBox
+      assertEquals("Points count", 6, polyline.getPoints().size());
+
+      // the rebuild converts the tolerance in the coordinates of the polyline as the loading
+      result.setSimplificationTolerance(0.5);
+      assertEquals("Points count", 6, polyline.getPoints().size());
+      result.setSimplificationTolerance(5);
+      assertEquals("Points count", 4, polyline.getPoints().size());
+   }
+
+   private static Node findNode(Parent parent, Class<? extends Node> type) {
+      for (Node node : parent.getChildrenUnmodifiable()) {
+         if (type.isInstance(node)) {
+            return node;
+         } else if (node instanceof javafx.scene.Parent) {
+            Node child = findNode((Parent) node, type);
+            if (child != null) {
+               return child;
+            }
+         }
+      }
+      return null;
+   }
+
+   private static void assertVertex(SVGPathParser parser, int index, double x, double y, double angle) {
+      assertEquals("x of vertex " + index, x, parser.getVertexX(index), 0.0001d);
+      assertEquals("y of vertex " + index, y, parser.getVertexY(index), 0.0001d);
+      assertEquals("angle of vertex " + index, angle, parser.getVertexAngle(index), 0.0001d);
+   }
+
+   private static void assertPoint(PathElement element, Class<? extends PathElement> type, double x, double y) {
+      assertTrue("Element must be a " + type.getSimpleName(), type.isInstance(element));
+      double elementX;
+      double elementY;
+      if (element instanceof MoveTo) {
+         elementX = ((MoveTo) element).getX();
+         elementY = ((MoveTo) element).getY();
+      } else if (element instanceof LineTo) {
+         elementX = ((LineTo) element).getX();
+         elementY = ((LineTo) element).getY();
+      } else if (element instanceof ArcTo) {
+         elementX = ((ArcTo) element).getX();
+         elementY = ((ArcTo) element).getY();
+      } else if (element instanceof CubicCurveTo) {
+         elementX = ((CubicCurveTo) element).getX();
+         elementY = ((CubicCurveTo) element).getY();
+      } else {
+         elementX = ((QuadCurveTo) element).getX();
+         elementY = ((QuadCurveTo) element).getY();
+      }
+      assertEquals(x, elementX, 0.0001d);
+      assertEquals(y, elementY, 0.0001d);
+   }
+}
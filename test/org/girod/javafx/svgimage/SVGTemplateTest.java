@@ -0,0 +1,149 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage;
+
+import java.net.URL;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
+import javafx.scene.shape.Rectangle;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the SVGTemplate class.
+ *
+ * @since 1.6
+ */
+public class SVGTemplateTest {
+   private static double DELTA = 0.001d;
+
+   public SVGTemplateTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   /**
+    * Test of cloning a simple image.
+    */
+   @Test
+   public void testNewInstance() throws Exception {
+      System.out.println("SVGTemplateTest : testNewInstance");
+      URL url = this.getClass().getResource("rect50.svg");
+      SVGImage result = SVGLoader.load(url);
+      SVGTemplate template = new SVGTemplate(result);
+      assertTrue("The image must be clonable", template.isClonable());
+
+      SVGImage instance1 = template.newInstance();
+      SVGImage instance2 = template.newInstance();
+      assertNotSame("The instances must be different", instance1, instance2);
+      assertEquals("Children", 1, instance1.getChildren().size());
+      Node node1 = instance1.getChildren().get(0);
+      Node node2 = instance2.getChildren().get(0);
+      assertNotSame("The Nodes must be different", node1, node2);
+      assertTrue("Node must be a Rectangle", node1 instanceof Rectangle);
+      assertSame("The fill must be shared", ((Rectangle) node1).getFill(), ((Rectangle) node2).getFill());
+      assertSame("The document must be shared", result.getDocument(), instance1.getDocument());
+
+      Image img = instance1.toImage();
+      assertEquals("width", 50, img.getWidth(), DELTA);
+      assertEquals("height", 50, img.getHeight(), DELTA);
+   }
+
+   /**
+    * Test of cloning a complex image.
+    */
+   @Test
+   public void testNewInstanceComplex() throws Exception {
+      System.out.println("SVGTemplateTest : testNewInstanceComplex");
+      URL url = this.getClass().getResource("Ghostscript_Tiger.svg");
+      SVGImage result = SVGLoader.load(url);
+      SVGTemplate template = new SVGTemplate(result);
+
+      SVGImage instance = template.newInstance();
+      assertEquals("width", result.getWidth(), instance.getWidth(), DELTA);
+      assertEquals("height", result.getHeight(), instance.getHeight(), DELTA);
+      assertEquals("Children", result.getChildren().size(), instance.getChildren().size());
+   }
+
+   /**
+    * Test of an image which can not be cloned and whose parsed document was not kept, the instances are loaded again from
+    * the content of the image.
+    */
+   @Test
+   public void testNewInstanceWithoutDocument() throws Exception {
+      System.out.println("SVGTemplateTest : testNewInstanceWithoutDocument");
+      String content = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"50\" height=\"50\">"
+         + "<rect x=\"0\" y=\"0\" width=\"20\" height=\"20\" fill=\"red\">"
+         + "<animate attributeName=\"x\" from=\"0\" to=\"30\" dur=\"1s\"/>"
+         + "</rect></svg>";
+      SVGImage result = SVGLoader.load(content);
+      assertNull("The parsed document must not be kept", result.getDocument());
+      SVGTemplate template = new SVGTemplate(result);
+      assertFalse("The image must not be clonable", template.isClonable());
+
+      SVGImage instance = template.newInstance();
+      assertNotNull("The instance must exist", instance);
+      assertNotSame("The instance must be a new image", result, instance);
+      assertEquals("Children", result.getChildren().size(), instance.getChildren().size());
+   }
+
+   /**
+    * Test of an image which can not be cloned and whose parsed document was not kept.
+    */
+   @Test(expected = IllegalArgumentException.class)
+   public void testNoDocument() throws Exception {
+      System.out.println("SVGTemplateTest : testNoDocument");
+      SVGImage image = new SVGImage();
+      image.getChildren().add(new HBox());
+      new SVGTemplate(image);
+   }
+}
@@ -0,0 +1,148 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.awt;
+
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.girod.javafx.svgimage.SVGDocument;
+import org.girod.javafx.svgimage.SVGLoader;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the SVGRenderer class.
+ *
+ * @since 1.6
+ */
+public class SVGRendererTest {
+   private static double DELTA = 0.001d;
+
+   public SVGRendererTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   /**
+    * Test of rendering a simple rectangle.
+    */
+   @Test
+   public void testRenderRect() throws Exception {
+      System.out.println("SVGRendererTest : testRenderRect");
+      URL url = this.getClass().getResource("/org/girod/javafx/svgimage/rect50.svg");
+      SVGRenderer renderer = SVGRenderer.create(url);
+      assertNotNull("Renderer must exist", renderer);
+      assertEquals("width", 50, renderer.getWidth(), DELTA);
+      assertEquals("height", 50, renderer.getHeight(), DELTA);
+
+      BufferedImage image = renderer.render(2);
+      assertEquals("width", 100, image.getWidth());
+      assertEquals("height", 100, image.getHeight());
+      assertEquals("Color", 0xFFFF0000, image.getRGB(50, 50));
+   }
+
+   /**
+    * Test of rendering a viewBox, a path with arcs, and a group opacity.
+    */
+   @Test
+   public void testRenderViewBox() throws Exception {
+      System.out.println("SVGRendererTest : testRenderViewBox");
+      String content = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"100\" height=\"100\" viewBox=\"0 0 10 10\">"
+         + "<path d=\"M0,0h5a1 1 0 00.5.5v4.5H0z\" fill=\"#00ff00\"/>"
+         + "<g opacity=\"0.5\"><rect x=\"5\" y=\"5\" width=\"5\" height=\"5\" fill=\"blue\"/>"
+         + "<rect x=\"5\" y=\"5\" width=\"5\" height=\"5\" fill=\"blue\"/></g>"
+         + "</svg>";
+      SVGRenderer renderer = new SVGRenderer(SVGLoader.parse(content));
+      BufferedImage image = renderer.render();
+      assertEquals("width", 100, image.getWidth());
+      assertEquals("height", 100, image.getHeight());
+      assertEquals("Path color", 0xFF00FF00, image.getRGB(20, 20));
+      assertEquals("Background", 0, image.getRGB(80, 20));
+      int alpha = image.getRGB(80, 80) >>> 24;
+      assertEquals("Group opacity", 128, alpha, 2);
+   }
+
+   /**
+    * Test of rendering the same document in several threads at the same time.
+    */
+   @Test
+   public void testConcurrentRendering() throws Exception {
+      System.out.println("SVGRendererTest : testConcurrentRendering");
+      URL url = this.getClass().getResource("/org/girod/javafx/svgimage/Ghostscript_Tiger.svg");
+      SVGDocument document = SVGLoader.parse(url);
+      SVGRenderer renderer = new SVGRenderer(document, url);
+      BufferedImage reference = renderer.render();
+
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+         List<Future<BufferedImage>> futures = new ArrayList<>();
+         for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> renderer.render()));
+         }
+         for (Future<BufferedImage> future : futures) {
+            BufferedImage image = future.get();
+            assertEquals("width", reference.getWidth(), image.getWidth());
+            assertEquals("height", reference.getHeight(), image.getHeight());
+            for (int y = 0; y < image.getHeight(); y += 7) {
+               for (int x = 0; x < image.getWidth(); x += 7) {
+                  assertEquals("Pixel", reference.getRGB(x, y), image.getRGB(x, y));
+               }
+            }
+         }
+      } finally {
+         executor.shutdown();
+      }
+   }
+}
@@ -0,0 +1,144 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.girod.javafx.svgimage.LoaderParameters;
+import org.girod.javafx.svgimage.SVGDocument;
+import org.girod.javafx.svgimage.SVGImage;
+import org.girod.javafx.svgimage.SVGLoader;
+import org.girod.javafx.svgimage.awt.SVGRenderer;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for the Flight Recorder events.
+ *
+ * @since 1.6
+ */
+public class SVGEventsTest {
+
+   public SVGEventsTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   private static RecordedEvent getEvent(List<RecordedEvent> events, String name) {
+      for (RecordedEvent event : events) {
+         if (event.getEventType().getName().equals(name)) {
+            return event;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Test that the events are not created if there is no recording.
+    */
+   @Test
+   public void testNoRecording() throws Exception {
+      System.out.println("SVGEventsTest : testNoRecording");
+      assertTrue("The Flight Recorder must be available", SVGEvents.isAvailable());
+      Assume.assumeTrue("There must not be a running recording", FlightRecorder.getFlightRecorder().getRecordings().isEmpty());
+      assertNull("The event must not be created", SVGEvents.beginLoad());
+      // must do nothing
+      SVGEvents.commitLoad(null, null, 0, 0, 0);
+   }
+
+   /**
+    * Test the events emitted during a recording.
+    */
+   @Test
+   public void testRecording() throws Exception {
+      System.out.println("SVGEventsTest : testRecording");
+      URL url = SVGEventsTest.class.getResource("../rect50.svg");
+      File file = File.createTempFile("svgevents", ".jfr");
+      file.deleteOnExit();
+      try (Recording recording = new Recording()) {
+         recording.enable("org.girod.fxsvgimage.Load").withoutThreshold();
+         recording.enable("org.girod.fxsvgimage.Build").withoutThreshold();
+         recording.enable("org.girod.fxsvgimage.Rasterize").withoutThreshold();
+         recording.start();
+         LoaderParameters params = new LoaderParameters();
+         params.buildOnCallingThread = true;
+         SVGImage image = SVGLoader.load(url, params);
+         assertNotNull("SVGImage should not be null", image);
+         SVGDocument document = SVGLoader.parse(url);
+         new SVGRenderer(document, url).render(2);
+         recording.stop();
+         recording.dump(file.toPath());
+      }
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file.toPath());
+
+      RecordedEvent event = getEvent(events, "org.girod.fxsvgimage.Load");
+      assertNotNull("Load event", event);
+      assertEquals("url", url.toExternalForm(), event.getString("url"));
+      assertTrue("elementsCount", event.getInt("elementsCount") > 0);
+
+      event = getEvent(events, "org.girod.fxsvgimage.Build");
+      assertNotNull("Build event", event);
+
+      event = getEvent(events, "org.girod.fxsvgimage.Rasterize");
+      assertNotNull("Rasterize event", event);
+      assertEquals("renderer", SVGEvents.JAVA2D_RENDERER, event.getString("renderer"));
+      assertTrue("width", event.getInt("width") > 0);
+   }
+}
@@ -0,0 +1,218 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.PathElement;
+import org.girod.javafx.svgimage.Viewport;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for the packed geometry of paths, polylines and polygons.
+ *
+ * @since 1.6
+ */
+public class PathGeometryTest {
+
+   public PathGeometryTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   /**
+    * Test the opcodes and coordinates of a parsed path.
+    */
+   @Test
+   public void testParsedGeometry() {
+      System.out.println("PathGeometryTest : testParsedGeometry");
+      SVGPathParser parser = new SVGPathParser();
+      parser.parse("M10 20 30 40h5z", new Viewport());
+      PathGeometry geometry = parser.getGeometry();
+      assertEquals("Ops count", 4, geometry.getOpsCount());
+      assertEquals("Coords count", 5, geometry.getCoordsCount());
+      assertEquals(PathGeometry.MOVETO, geometry.getOp(0));
+      assertEquals(PathGeometry.LINETO, geometry.getOp(1));
+      assertEquals(PathGeometry.HLINETO | PathGeometry.RELATIVE, geometry.getOp(2));
+      assertTrue("Must be relative", PathGeometry.isRelative(geometry.getOp(2)));
+      assertEquals('h', PathGeometry.getSymbol(geometry.getOp(2)));
+      assertEquals(PathGeometry.CLOSEPATH | PathGeometry.RELATIVE, geometry.getOp(3));
+      assertEquals(5, geometry.getCoord(4), 0.0001d);
+   }
+
+   /**
+    * Test the points of a polyline.
+    */
+   @Test
+   public void testFillPoints() {
+      System.out.println("PathGeometryTest : testFillPoints");
+      PathGeometry geometry = new PathGeometry();
+      for (int i = 0; i < 100; i++) {
+         geometry.addPoint(i, 2 * i);
+      }
+      geometry.trimToSize();
+      ObservableList<Double> points = FXCollections.observableArrayList();
+      geometry.fillPoints(points);
+      assertEquals("Points count", 200, points.size());
+      assertEquals(99, points.get(198), 0.0001d);
+      assertEquals(198, points.get(199), 0.0001d);
+
+      List<PathElement> elements = geometry.createPath().getElements();
+      assertEquals("Elements count", 100, elements.size());
+      assertTrue("Must be a MoveTo", elements.get(0) instanceof MoveTo);
+      assertTrue("Must be a LineTo", elements.get(99) instanceof LineTo);
+   }
+
+   /**
+    * Test the coordinates stored as floats.
+    */
+   @Test
+   public void testFloatPrecision() {
+      System.out.println("PathGeometryTest : testFloatPrecision");
+      SVGPathParser parser = new SVGPathParser(true);
+      parser.parse("m0.1 0.2 l10 10z", new Viewport());
+      PathGeometry geometry = parser.getGeometry();
+      assertTrue("Must have float precision", geometry.isFloatPrecision());
+      assertEquals(0.1f, geometry.getCoord(0), 0d);
+      assertEquals(0.2f, geometry.getCoord(1), 0d);
+
+      List<PathElement> elements = parser.createPath().getElements();
+      assertEquals("Elements count", 3, elements.size());
+      LineTo lineTo = (LineTo) elements.get(1);
+      assertEquals(10.1d, lineTo.getX(), 0.0001d);
+      assertEquals(10.2d, lineTo.getY(), 0.0001d);
+      assertTrue("Must be a ClosePath", elements.get(2) instanceof ClosePath);
+   }
+
+   /**
+    * Test the simplification of the lines of a polyline.
+    */
+   @Test
+   public void testSimplifyLines() {
+      System.out.println("PathGeometryTest : testSimplifyLines");
+      PathGeometry geometry = new PathGeometry();
+      geometry.addPoint(0, 0);
+      geometry.addPoint(1, 0.1);
+      geometry.addPoint(2, 0);
+      geometry.addPoint(3, 0.1);
+      geometry.addPoint(4, 0);
+      geometry.addPoint(5, 5);
+      geometry.addPoint(10, 5.2);
+      geometry.addPoint(15, 5);
+      assertTrue("Must be the same geometry", geometry == geometry.simplify(0));
+
+      PathGeometry simplified = geometry.simplify(0.5);
+      ObservableList<Double> points = FXCollections.observableArrayList();
+      simplified.fillPoints(points);
+      assertEquals("Points count", 8, points.size());
+      assertEquals(4, points.get(2), 0.0001d);
+      assertEquals(5, points.get(4), 0.0001d);
+      assertEquals(15, points.get(6), 0.0001d);
+      // the initial geometry is not modified
+      assertEquals("Ops count", 8, geometry.getOpsCount());
+   }
+
+   /**
+    * Test the simplification of the curves of a path.
+    */
+   @Test
+   public void testSimplifyCurves() {
+      System.out.println("PathGeometryTest : testSimplifyCurves");
+      SVGPathParser parser = new SVGPathParser();
+      parser.parse("M0 0c1 0.1 2 0.1 3 0s10 10 10 0q5 -0.2 10 0z", new Viewport());
+      PathGeometry simplified = parser.getGeometry().simplify(0.5);
+      assertEquals("Ops count", 5, simplified.getOpsCount());
+      assertEquals(PathGeometry.MOVETO, simplified.getOp(0));
+      assertEquals(PathGeometry.LINETO, simplified.getOp(1));
+      assertEquals(3, simplified.getCoord(2), 0.0001d);
+      // the smooth curve is converted to an absolute curve, because the previous curve is now a line
+      assertEquals(PathGeometry.CUBICTO, simplified.getOp(2));
+      assertEquals(4, simplified.getCoord(4), 0.0001d);
+      assertEquals(-0.1, simplified.getCoord(5), 0.0001d);
+      assertEquals(13, simplified.getCoord(8), 0.0001d);
+      assertEquals(PathGeometry.LINETO, simplified.getOp(3));
+      assertEquals(23, simplified.getCoord(10), 0.0001d);
+      assertEquals(PathGeometry.CLOSEPATH, simplified.getOp(4));
+
+      simplified = parser.getGeometry().simplify(0.01);
+      assertEquals("Ops count", 5, simplified.getOpsCount());
+      assertEquals(PathGeometry.CUBICTO, simplified.getOp(1));
+      assertEquals(PathGeometry.QUADTO, simplified.getOp(3));
+   }
+
+   /**
+    * Test the simplification with an invalid tolerance.
+    */
+   @Test
+   public void testSimplifyInvalidTolerance() {
+      System.out.println("PathGeometryTest : testSimplifyInvalidTolerance");
+      PathGeometry geometry = new PathGeometry();
+      geometry.addPoint(0, 0);
+      geometry.addPoint(1, 0.1);
+      geometry.addPoint(2, 0);
+      double[] tolerances = {Double.NaN, -1};
+      for (double tolerance : tolerances) {
+         try {
+            geometry.simplify(tolerance);
+            fail("The tolerance " + tolerance + " should be invalid");
+         } catch (IllegalArgumentException e) {
+            assertEquals("Invalid simplification tolerance: " + tolerance, e.getMessage());
+         }
+      }
+   }
+}
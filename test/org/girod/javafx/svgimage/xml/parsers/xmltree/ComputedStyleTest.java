@@ -0,0 +1,125 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.net.URL;
+import javafx.scene.paint.Color;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the ComputedStyle class.
+ *
+ * @since 1.6
+ */
+public class ComputedStyleTest {
+
+   public ComputedStyleTest() {
+   }
+
+   /**
+    * Test the parsing of a style attribute.
+    */
+   @Test
+   public void testParse() {
+      System.out.println("ComputedStyleTest : testParse");
+      ComputedStyle style = ComputedStyle.parse(" fill : red;;stroke-width:;stroke:url(#grad); opacity:0.5 ; fill:blue");
+      assertEquals("declarations", 4, style.size());
+      assertEquals("first name", "fill", style.getName(0));
+      assertEquals("first value", "red", style.getValue(0));
+      assertEquals("stroke", "url(#grad)", style.getValue("stroke"));
+      assertEquals("opacity", "0.5", style.getValue("opacity"));
+      assertEquals("last declaration of fill", "blue", style.getValue("fill"));
+      assertFalse("stroke-width without value", style.hasProperty("stroke-width"));
+      assertSame("empty style", ComputedStyle.EMPTY, ComputedStyle.parse(" ; "));
+   }
+
+   /**
+    * Test the computed styles of the nodes of a document.
+    */
+   @Test
+   public void testComputedStyles() {
+      System.out.println("ComputedStyleTest : testComputedStyles");
+      URL url = ComputedStyleTest.class.getResource("styles.svg");
+      XMLRoot root = XMLParserTestUtils.parse(url);
+      assertNotNull("XMLRoot must not be null", root);
+      assertSame("root style", ComputedStyle.EMPTY, root.getComputedStyle());
+      XMLNode group = root.getChildren().get(0);
+      ComputedStyle groupStyle = group.getComputedStyle();
+      assertEquals("group declarations", 2, groupStyle.size());
+      assertEquals("group stroke", "blue", groupStyle.getValue("stroke"));
+
+      XMLNode rect1 = group.getChildren().get(0);
+      assertSame("inherited style", groupStyle, rect1.getComputedStyle());
+      XMLNode rect2 = group.getChildren().get(1);
+      XMLNode rect3 = group.getChildren().get(2);
+      assertEquals("rect fill", "green", rect2.getComputedStyle().getValue("fill"));
+      assertFalse("style declared on the rect is not merged", rect2.getComputedStyle().hasProperty("stroke"));
+      assertSame("shared style", rect2.getComputedStyle(), rect3.getComputedStyle());
+
+      XMLNode text = group.getChildren().get(3);
+      XMLNode tspan = text.getChildren().get(0);
+      ComputedStyle tspanStyle = tspan.getComputedStyle();
+      assertEquals("tspan fill", "none", tspanStyle.getValue("fill"));
+      assertEquals("tspan font-size", "15", tspanStyle.getValue("font-size"));
+      assertEquals("tspan font-weight", "bold", tspanStyle.getValue("font-weight"));
+      assertEquals("tspan declarations", 3, tspanStyle.size());
+
+      rect1.addAttribute("style", "fill:yellow");
+      assertEquals("updated style", "yellow", rect1.getComputedStyle().getValue("fill"));
+   }
+
+   /**
+    * Test the values which are parsed with the style.
+    */
+   @Test
+   public void testParsedValues() {
+      System.out.println("ComputedStyleTest : testParsedValues");
+      ComputedStyle style = ComputedStyle.parse("fill:#ff0000;stroke:url(#grad);stroke-width:2;stroke-dashoffset:3mm;"
+              + "opacity:0.5;fill-opacity:50%;font-size:15;font-family:'Arial';font-weight:bold");
+      assertEquals("fill", Color.RED, style.getParsedValue(0));
+      assertNull("gradient stroke", style.getParsedValue(1));
+      assertEquals("stroke-width", 2d, style.getParsedValue(2));
+      assertNull("stroke-dashoffset with a unit", style.getParsedValue(3));
+      assertEquals("opacity", 0.5d, style.getParsedValue(4));
+      assertNull("fill-opacity percentage", style.getParsedValue(5));
+      assertEquals("font-size", 15d, style.getParsedValue(6));
+      assertEquals("font-family", "Arial", style.getParsedValue(7));
+      assertNull("font-weight", style.getParsedValue(8));
+
+      ComputedStyle merged = style.merge(ComputedStyle.parse("stroke:blue;fill:notAColor"));
+      assertEquals("merged stroke", Color.BLUE, merged.getParsedValue(merged.size() - 2));
+      assertNull("invalid fill", merged.getParsedValue(merged.size() - 1));
+      assertEquals("merged stroke-width", 2d, merged.getParsedValue(0));
+   }
+}
@@ -0,0 +1,159 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.parsers.SAXParser;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the per-thread SAX parsers.
+ *
+ * @since 1.6
+ */
+public class SAXParserProviderTest {
+
+   public SAXParserProviderTest() {
+   }
+
+   @BeforeClass
+   public static void setUpClass() {
+   }
+
+   @AfterClass
+   public static void tearDownClass() {
+   }
+
+   @Before
+   public void setUp() {
+   }
+
+   @After
+   public void tearDown() {
+   }
+
+   private XMLRoot parse(SAXParser parser, URL url) throws Exception {
+      XMLTreeHandler handler = new XMLTreeHandler(url);
+      try {
+         parser.parse(url.openStream(), handler);
+      } finally {
+         SAXParserProvider.release(parser);
+      }
+      return handler.getRoot();
+   }
+
+   /**
+    * Test that the same parser is reused for several documents on the same thread.
+    */
+   @Test
+   public void testReuseParser() throws Exception {
+      System.out.println("SAXParserProviderTest : testReuseParser");
+      URL url = SAXParserProviderTest.class.getResource("circle.svg");
+      SAXParser parser = SAXParserProvider.getParser(false);
+      XMLRoot root = parse(parser, url);
+      assertNotNull("XMLRoot must not be null", root);
+      assertEquals("Must have 2 children", 2, root.getChildren().size());
+
+      SAXParser parser2 = SAXParserProvider.getParser(false);
+      assertSame("The parser must be reused", parser, parser2);
+      root = parse(parser2, url);
+      assertNotNull("XMLRoot must not be null", root);
+      assertEquals("Must have 2 children", 2, root.getChildren().size());
+      assertEquals("width attribute", "210mm", root.getAttributeValue("width"));
+
+      assertNotSame("The trusted parser must be different", parser, SAXParserProvider.getParser(true));
+   }
+
+   /**
+    * Test that a parser can be reused after a parsing error.
+    */
+   @Test
+   public void testReuseAfterError() throws Exception {
+      System.out.println("SAXParserProviderTest : testReuseAfterError");
+      SAXParser parser = SAXParserProvider.getParser(false);
+      try {
+         parser.parse(new ByteArrayInputStream("<svg><g></svg>".getBytes()), new XMLTreeHandler(null));
+         fail("The parsing must fail");
+      } catch (SAXException ex) {
+      } finally {
+         SAXParserProvider.release(parser);
+      }
+      URL url = SAXParserProviderTest.class.getResource("circle.svg");
+      XMLRoot root = parse(SAXParserProvider.getParser(false), url);
+      assertNotNull("XMLRoot must not be null", root);
+      assertEquals("Must have 2 children", 2, root.getChildren().size());
+   }
+
+   /**
+    * Test the trusted parser, which must produce the same tree as the default parser.
+    */
+   @Test
+   public void testTrustedParser() throws Exception {
+      System.out.println("SAXParserProviderTest : testTrustedParser");
+      URL url = SAXParserProviderTest.class.getResource("circle.svg");
+      XMLRoot root = parse(SAXParserProvider.getParser(true), url);
+      assertNotNull("XMLRoot must not be null", root);
+      assertEquals("Root name", "svg", root.getName());
+      assertEquals("width attribute", "210mm", root.getAttributeValue("width"));
+      assertEquals("Must have 2 children", 2, root.getChildren().size());
+      XMLNode node = root.getChildren().get(1);
+      assertEquals("node name", "g", node.getName());
+      assertEquals("label attribute", "Layer 1", node.getAttributeValue("inkscape:label"));
+   }
+
+   /**
+    * Test that each thread uses its own parser.
+    */
+   @Test
+   public void testParserPerThread() throws Exception {
+      System.out.println("SAXParserProviderTest : testParserPerThread");
+      SAXParser parser = SAXParserProvider.getParser(false);
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+         Future<SAXParser> future = executor.submit(() -> SAXParserProvider.getParser(false));
+         assertNotSame("Each thread must have its own parser", parser, future.get());
+      } finally {
+         executor.shutdown();
+      }
+   }
+}
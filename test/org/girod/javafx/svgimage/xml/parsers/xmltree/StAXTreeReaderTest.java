@@ -0,0 +1,158 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import org.girod.javafx.svgimage.SVGLoader;
+import org.girod.javafx.svgimage.Viewport;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the StAX reader.
+ *
+ * @since 1.6
+ */
+public class StAXTreeReaderTest {
+
+   public StAXTreeReaderTest() {
+   }
+
+   private XMLRoot read(XMLTreeReader reader, URL url) throws Exception {
+      XMLTreeHandler handler = new XMLTreeHandler(url);
+      try (InputStream stream = url.openStream()) {
+         reader.read(new InputSource(stream), handler, false);
+      }
+      return handler.getRoot();
+   }
+
+   private static boolean isUnused(XMLNode node) {
+      String name = node.getName();
+      return name.equals("metadata") || name.equals("title") || name.equals("desc") || name.equals("namedview");
+   }
+
+   private static List<ElementNode> getChildren(XMLNode node, boolean skipUnused) {
+      List<ElementNode> children = new ArrayList<>();
+      for (ElementNode child : node.getAllChildren()) {
+         if (!skipUnused || !(child instanceof XMLNode) || !isUnused((XMLNode) child)) {
+            children.add(child);
+         }
+      }
+      return children;
+   }
+
+   private static void assertSameTree(String path, XMLNode expected, XMLNode actual, boolean skipUnused) {
+      assertEquals("name of " + path, expected.getName(), actual.getName());
+      assertEquals("attributes of " + path, expected.getAttributes(), actual.getAttributes());
+      assertEquals("text of " + path, expected.getCDATA(), actual.getCDATA());
+      List<ElementNode> expectedChildren = getChildren(expected, skipUnused);
+      List<ElementNode> actualChildren = getChildren(actual, false);
+      assertEquals("children count of " + path, expectedChildren.size(), actualChildren.size());
+      for (int i = 0; i < expectedChildren.size(); i++) {
+         ElementNode expectedChild = expectedChildren.get(i);
+         ElementNode actualChild = actualChildren.get(i);
+         if (expectedChild instanceof XMLNode) {
+            assertTrue("child of " + path + " must be a node", actualChild instanceof XMLNode);
+            XMLNode expectedNode = (XMLNode) expectedChild;
+            assertSameTree(path + "/" + expectedNode.getName(), expectedNode, (XMLNode) actualChild, skipUnused);
+         } else {
+            assertEquals("text of " + path, expectedChild.getText(), actualChild.getText());
+         }
+      }
+   }
+
+   /**
+    * Test that the StAX reader creates the same tree as the SAX reader.
+    */
+   @Test
+   public void testSameTree() throws Exception {
+      System.out.println("StAXTreeReaderTest : testSameTree");
+      String[] resources = {"circle.svg", "tspan.svg", "inherited.svg", "/org/girod/javafx/svgimage/Ghostscript_Tiger.svg",
+         "/org/girod/javafx/svgimage/rect.svg"};
+      for (String resource : resources) {
+         URL url = StAXTreeReaderTest.class.getResource(resource);
+         XMLRoot expected = read(SAXTreeReader.INSTANCE, url);
+         assertSameTree(resource, expected, read(new StAXTreeReader(false, false), url), false);
+         assertSameTree(resource, expected, read(new StAXTreeReader(), url), true);
+      }
+   }
+
+   /**
+    * Test that the unused elements are skipped.
+    */
+   @Test
+   public void testSkipUnused() throws Exception {
+      System.out.println("StAXTreeReaderTest : testSkipUnused");
+      URL url = StAXTreeReaderTest.class.getResource("circle.svg");
+      XMLRoot root = read(new StAXTreeReader(), url);
+      for (XMLNode child : root.getChildren()) {
+         assertFalse("unused element " + child.getName() + " must be skipped", isUnused(child));
+      }
+      XMLTreeHandler handler = new XMLTreeHandler(null);
+      String content = "<svg xmlns=\"http://www.w3.org/2000/svg\"><title>Title</title><desc>A <b>rect</b></desc>"
+         + "<rect width=\"10\" height=\"10\"/></svg>";
+      new StAXTreeReader().read(new InputSource(new StringReader(content)), handler, false);
+      assertEquals("Must have 1 child", 1, handler.getRoot().countChildren());
+      assertEquals("child name", "rect", handler.getRoot().getFirstChild().getName());
+      assertEquals("elements count", 2, handler.getElementsCount());
+   }
+
+   /**
+    * Test that the reader stops after the root element, and that the external DTD is not loaded.
+    */
+   @Test
+   public void testRootOnly() throws Exception {
+      System.out.println("StAXTreeReaderTest : testRootOnly");
+      XMLTreeHandler handler = new XMLTreeHandler(null);
+      String content = "<!DOCTYPE svg PUBLIC \"-//W3C//DTD SVG 1.1//EN\" \"http://localhost:1/svg11.dtd\" [\n"
+         + "<!ENTITY width \"200\">]>\n"
+         + "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"&width;\" height=\"100\"><rect width=\"10\" height=\"10\"/></svg>";
+      XMLTreeReader reader = new StAXTreeReader(true, true);
+      assertTrue("Must read the root only", reader.isReadingRootOnly());
+      reader.read(new InputSource(new StringReader(content)), handler, false);
+      XMLRoot root = handler.getRoot();
+      assertEquals("width attribute", "200", root.getAttributeValue("width"));
+      assertEquals("Must have no children", 0, root.countChildren());
+
+      URL url = StAXTreeReaderTest.class.getResource("/org/girod/javafx/svgimage/rect.svg");
+      Viewport viewport = SVGLoader.readViewport(url);
+      assertNotNull("Viewport must not be null", viewport);
+      XMLRoot fullRoot = read(SAXTreeReader.INSTANCE, url);
+      assertEquals("viewport width", fullRoot.getLengthValue("width", null), viewport.getWidth(), 0.001);
+   }
+}
@@ -0,0 +1,154 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.net.URL;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the attributes of the XMLNode class.
+ *
+ * @since 1.6
+ */
+public class XMLNodeAttributesTest {
+
+   public XMLNodeAttributesTest() {
+   }
+
+   /**
+    * Test the attributes inherited from the parent nodes.
+    */
+   @Test
+   public void testInheritedAttributes() {
+      System.out.println("XMLNodeAttributesTest : testInheritedAttributes");
+      URL url = XMLNodeAttributesTest.class.getResource("inherited.svg");
+      XMLRoot root = XMLParserTestUtils.parse(url);
+      assertNotNull("XMLRoot must not be null", root);
+      XMLNode group = root.getChildren().get(0);
+      assertEquals("fill attribute", "red", group.getAttributeValue("fill"));
+      assertEquals("font-size attribute", "12", group.getAttributeValue("font-size"));
+      assertFalse("width attribute must not be inherited", group.hasAttribute("width"));
+
+      XMLNode rect = group.getChildren().get(0);
+      assertEquals("fill attribute", "green", rect.getAttributeValue("fill"));
+      assertEquals("stroke attribute", "blue", rect.getAttributeValue("stroke"));
+      assertEquals("class attribute", "theClass", rect.getAttributeValue("class"));
+      assertFalse("opacity attribute must not be inherited", rect.hasAttribute("opacity"));
+      assertEquals("x attribute", "10", rect.getAttributeValue("x"));
+
+      XMLNode text = group.getChildren().get(1);
+      XMLNode tspan = text.getChildren().get(0);
+      assertEquals("fill attribute", "none", tspan.getAttributeValue("fill"));
+      assertEquals("stroke attribute", "blue", tspan.getAttributeValue("stroke"));
+      assertFalse("class attribute must not be inherited by a tspan", tspan.hasAttribute("class"));
+      assertFalse("x attribute must not be inherited", tspan.hasAttribute("x"));
+
+      Map<String, String> attributes = rect.getAttributes();
+      assertEquals("attributes count", 8, attributes.size());
+      assertEquals("attributes count", 8, rect.countAttributes());
+      assertEquals("fill attribute", "green", attributes.get("fill"));
+      assertEquals("font-size attribute", "12", attributes.get("font-size"));
+      assertFalse("opacity attribute must not be inherited", attributes.containsKey("opacity"));
+      assertFalse("class attribute must not be inherited by a tspan", tspan.getAttributes().containsKey("class"));
+      assertEquals("attributes count", tspan.getAttributes().size(), tspan.countAttributes());
+      assertEquals("attributes count", group.getAttributes().size(), group.countAttributes());
+      try {
+         attributes.put("fill", "blue");
+         fail("the Map of attributes must be read-only");
+      } catch (UnsupportedOperationException e) {
+      }
+   }
+
+   /**
+    * Test that the attribute values are shared between the nodes.
+    */
+   @Test
+   public void testSharedValues() {
+      System.out.println("XMLNodeAttributesTest : testSharedValues");
+      URL url = XMLNodeAttributesTest.class.getResource("inherited.svg");
+      XMLRoot root = XMLParserTestUtils.parse(url);
+      assertNotNull("XMLRoot must not be null", root);
+      XMLNode rect = root.getChildren().get(0).getChildren().get(0);
+      XMLNode circle = root.getChildren().get(1);
+      assertSame("fill values must be shared", rect.getAttributeValue("fill"), circle.getAttributeValue("fill"));
+   }
+
+   /**
+    * Test the modification of the attributes of a node.
+    */
+   @Test
+   public void testAddAttribute() {
+      System.out.println("XMLNodeAttributesTest : testAddAttribute");
+      XMLNode parent = new XMLNode("g");
+      parent.addAttribute("fill", "red");
+      XMLNode child = new XMLNode(parent, "rect");
+      parent.addChild(child);
+      assertEquals("fill attribute", "red", child.getAttributeValue("fill"));
+      child.addAttribute("fill", "blue");
+      child.addAttribute("width", 10);
+      child.addAttribute("width", 20);
+      assertEquals("fill attribute", "blue", child.getAttributeValue("fill"));
+      assertEquals("width attribute", 20, child.getAttributeValueAsInt("width"));
+      assertEquals("attributes count", 2, child.countAttributes());
+      assertNull("unknown attribute", child.getAttributeValue("an-unknown-attribute"));
+
+      XMLNode orphan = new XMLNode("rect");
+      parent.addChild(orphan);
+      assertFalse("fill attribute must not be inherited", orphan.hasAttribute("fill"));
+   }
+
+   /**
+    * Test the attributes whose names are not declared in SVGTags.
+    */
+   @Test
+   public void testUnknownAttributes() {
+      System.out.println("XMLNodeAttributesTest : testUnknownAttributes");
+      XMLNode parent = new XMLNode("g");
+      parent.addAttribute("inkscape:label", "layer");
+      XMLNode child = new XMLNode(parent, "rect");
+      parent.addChild(child);
+      child.addAttribute("data-id", "1");
+      child.addAttribute("fill", "red");
+      child.addAttribute("data-id", "2");
+      child.addAttribute("sodipodi:nodetypes", "cc");
+      assertEquals("data-id attribute", "2", child.getAttributeValue("data-id"));
+      assertEquals("sodipodi:nodetypes attribute", "cc", child.getAttributeValue("sodipodi:nodetypes"));
+      assertEquals("fill attribute", "red", child.getAttributeValue("fill"));
+      assertFalse("inkscape:label attribute must not be inherited", child.hasAttribute("inkscape:label"));
+      assertEquals("attributes count", 3, child.countAttributes());
+      assertEquals("data-id attribute", "2", child.getAttributes().get("data-id"));
+      assertEquals("the names are not added to the table", AttributeNames.UNKNOWN, AttributeNames.getId("data-id"));
+   }
+}
@@ -0,0 +1,97 @@
+/*
+Copyright (c) 2026 Hervé Girod
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+1. Redistributions of source code must retain the above copyright notice, this
+   list of conditions and the following disclaimer.
+
+2. Redistributions in binary form must reproduce the above copyright notice,
+   this list of conditions and the following disclaimer in the documentation
+   and/or other materials provided with the distribution.
+
+3. Neither the name of the copyright holder nor the names of its
+   contributors may be used to endorse or promote products derived from
+   this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Alternatively if you have any questions about this project, you can visit
+the project website at the project page on https://github.com/hervegirod/fxsvgimage
+ */
+package org.girod.javafx.svgimage.xml.parsers.xmltree;
+
+import java.io.StringReader;
+import java.util.List;
+import javax.xml.parsers.SAXParser;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the text content kept by the XMLTreeHandler.
+ *
+ * @since 1.6
+ */
+public class XMLTreeHandlerTextContentTest {
+
+   public XMLTreeHandlerTextContentTest() {
+   }
+
+   private XMLRoot parse(String content) throws Exception {
+      XMLTreeHandler handler = new XMLTreeHandler(null);
+      SAXParser parser = SAXParserProvider.getParser(false);
+      try {
+         parser.parse(new InputSource(new StringReader(content)), handler);
+      } finally {
+         SAXParserProvider.release(parser);
+      }
+      return handler.getRoot();
+   }
+
+   /**
+    * Test the text content of text, tspan and style elements.
+    */
+   @Test
+   public void testTextContent() throws Exception {
+      System.out.println("XMLTreeHandlerTextContentTest : testTextContent");
+      XMLRoot root = parse("<svg><style>\n  .a { fill: red; }\n</style>"
+         + "<text>  Hello <![CDATA[World]]>  <tspan>a</tspan>\n  b  \n<tspan> c\nd </tspan></text></svg>");
+      XMLNode style = root.getChildren().get(0);
+      assertEquals("style content", ".a { fill: red; } ", style.getCDATA());
+
+      XMLNode text = root.getChildren().get(1);
+      assertEquals("text content", "Hello World ", text.getCDATA());
+      List<ElementNode> children = text.getAllChildren();
+      assertEquals("Must have 4 children", 4, children.size());
+      assertEquals("first text run", "Hello World ", children.get(0).getText());
+      assertEquals("tspan content", "a", children.get(1).getText());
+      assertEquals("second text run", "b", children.get(2).getText());
+      assertEquals("tspan content", "c\nd", children.get(3).getText());
+   }
+
+   /**
+    * Test that the text content of elements which can not have text is not kept.
+    */
+   @Test
+   public void testIgnoredTextContent() throws Exception {
+      System.out.println("XMLTreeHandlerTextContentTest : testIgnoredTextContent");
+      XMLRoot root = parse("<svg>some text<g>other text<rect width=\"10\"/>more text</g></svg>");
+      assertFalse("svg must not have text", root.hasCDATA());
+      assertEquals("svg must have 1 child", 1, root.getAllChildren().size());
+      XMLNode group = root.getChildren().get(0);
+      assertFalse("g must not have text", group.hasCDATA());
+      assertEquals("g must have 1 child", 1, group.getAllChildren().size());
+   }
+}